@@ -0,0 +1,108 @@
+package com.terence.hexadecimalcalculator.benchmarks;
+
+import com.terence.hexadecimalcalculator.server.BinaryProtocolClient;
+import com.terence.hexadecimalcalculator.server.BinaryProtocolServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Benchmarks the round trip of BinaryProtocolClient and BinaryProtocolServer over the
+ * loopback interface, a batch of NUMBER_OF_OPERATIONS mixed operations per invocation, so
+ * the score is in operations per second. Every benchmark thread has its own connection; add
+ * -t 4 (or more) to the command line to load several reactor threads of the server
+ * */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(BinaryProtocolBenchmark.NUMBER_OF_OPERATIONS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2)
+public class BinaryProtocolBenchmark {
+
+    static final int NUMBER_OF_OPERATIONS = 1 << 16;
+
+    private static final long RANDOM_SEED = 0x5EED;
+
+
+    @State(Scope.Benchmark)
+    public static class ServerState {
+
+        private BinaryProtocolServer server;
+
+        private InetSocketAddress address;
+
+
+        @Setup
+        public void startServer() throws IOException {
+
+            server = new BinaryProtocolServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                                              Runtime.getRuntime().availableProcessors());
+            server.start();
+
+            address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+        }
+
+
+        @TearDown
+        public void stopServer() throws IOException {
+            server.close();
+        }
+    }
+
+
+    @State(Scope.Thread)
+    public static class ClientState {
+
+        @Param
+        private OperandDistribution operandDistribution;
+
+        private BinaryProtocolClient client;
+
+        private final byte[] opcodes = new byte[NUMBER_OF_OPERATIONS];
+
+        private final long[] firstDecimalNumbers = new long[NUMBER_OF_OPERATIONS];
+
+        private final long[] secondDecimalNumbers = new long[NUMBER_OF_OPERATIONS];
+
+        private final long[] results = new long[NUMBER_OF_OPERATIONS];
+
+        private final byte[] statuses = new byte[NUMBER_OF_OPERATIONS];
+
+
+        @Setup
+        public void connect(ServerState serverState) throws IOException {
+
+            Random random = new Random(RANDOM_SEED);
+
+            for (int index = 0; index < NUMBER_OF_OPERATIONS; index++){
+                opcodes[index] = (byte) random.nextInt(5);
+                firstDecimalNumbers[index] = operandDistribution.nextDecimalNumber(random);
+                secondDecimalNumbers[index] = operandDistribution.nextDecimalNumber(random);
+            }
+
+            client = new BinaryProtocolClient(serverState.address);
+        }
+
+
+        @TearDown
+        public void disconnect() throws IOException {
+            client.close();
+        }
+    }
+
+
+    @Benchmark
+    public long calculate(ClientState clientState) throws IOException {
+        return clientState.client.calculate(clientState.opcodes, clientState.firstDecimalNumbers,
+                                            clientState.secondDecimalNumbers, clientState.results,
+                                            clientState.statuses);
+    }
+}
@@ -0,0 +1,138 @@
+package com.terence.hexadecimalcalculator.benchmarks;
+
+import com.terence.hexadecimalcalculator.models.ArithmeticMode;
+import com.terence.hexadecimalcalculator.models.BitwiseArithmetic;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Benchmarks the column-at-a-time operations of BitwiseArithmetic, one batch of
+ * NUMBER_OF_OPERANDS values per invocation (divide the score by the batch size for the
+ * time per element), in a narrow, a 32-bit and the 64-bit mode.
+ *
+ * bitCountScalar calls the scalar bitCount once per value, for comparison with the batch
+ * bitCount, which checks the mode once and leaves a plain loop for the JIT to vectorize
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BitwiseArithmeticBenchmark {
+
+    private static final int NUMBER_OF_OPERANDS = 1024;
+
+    private static final long RANDOM_SEED = 0x5EED;
+
+    @Param({"WRAPPING_UNSIGNED_8", "WRAPPING_32", "CHECKED_64"})
+    private ArithmeticMode arithmeticMode;
+
+    private final long[] decimalNumbers = new long[NUMBER_OF_OPERANDS];
+
+    private final long[] masks = new long[NUMBER_OF_OPERANDS];
+
+    private final long[] decimalResults = new long[NUMBER_OF_OPERANDS];
+
+
+    @Setup
+    public void generateOperands(){
+
+        Random random = new Random(RANDOM_SEED);
+        int width = arithmeticMode.getWidth();
+
+        for (int index = 0; index < NUMBER_OF_OPERANDS; index++){
+
+            //the field of the whole width is the random bits as a value of the mode
+            decimalNumbers[index] = BitwiseArithmetic.extractBits(random.nextLong(), 0, width, arithmeticMode);
+            masks[index] = BitwiseArithmetic.extractBits(random.nextLong(), 0, width, arithmeticMode);
+        }
+    }
+
+
+    @Benchmark
+    public long[] and(){
+        BitwiseArithmetic.and(decimalNumbers, masks, decimalResults, arithmeticMode);
+        return decimalResults;
+    }
+
+
+    @Benchmark
+    public long[] not(){
+        BitwiseArithmetic.not(decimalNumbers, decimalResults, arithmeticMode);
+        return decimalResults;
+    }
+
+
+    @Benchmark
+    public long[] shiftLeft(){
+        BitwiseArithmetic.shiftLeft(decimalNumbers, 3, decimalResults, arithmeticMode);
+        return decimalResults;
+    }
+
+
+    @Benchmark
+    public long[] shiftRightArithmetic(){
+        BitwiseArithmetic.shiftRightArithmetic(decimalNumbers, 3, decimalResults, arithmeticMode);
+        return decimalResults;
+    }
+
+
+    @Benchmark
+    public long[] rotateLeft(){
+        BitwiseArithmetic.rotateLeft(decimalNumbers, 3, decimalResults, arithmeticMode);
+        return decimalResults;
+    }
+
+
+    @Benchmark
+    public long bitCount(){
+        return BitwiseArithmetic.bitCount(decimalNumbers, decimalResults, arithmeticMode);
+    }
+
+
+    @Benchmark
+    public long bitCountScalar(){
+
+        long totalBitCount = 0;
+
+        for (long decimalNumber : decimalNumbers){
+            totalBitCount += BitwiseArithmetic.bitCount(decimalNumber, arithmeticMode);
+        }
+
+        return totalBitCount;
+    }
+
+
+    @Benchmark
+    public long[] numberOfLeadingZeros(){
+        BitwiseArithmetic.numberOfLeadingZeros(decimalNumbers, decimalResults, arithmeticMode);
+        return decimalResults;
+    }
+
+
+    @Benchmark
+    public long[] reverseBytes(){
+        BitwiseArithmetic.reverseBytes(decimalNumbers, decimalResults, arithmeticMode);
+        return decimalResults;
+    }
+
+
+    @Benchmark
+    public long[] extractBits(){
+        BitwiseArithmetic.extractBits(decimalNumbers, 2, 4, decimalResults, arithmeticMode);
+        return decimalResults;
+    }
+
+
+    @Benchmark
+    public long[] insertBits(){
+        BitwiseArithmetic.insertBits(decimalNumbers, masks, 2, 4, decimalResults, arithmeticMode);
+        return decimalResults;
+    }
+}
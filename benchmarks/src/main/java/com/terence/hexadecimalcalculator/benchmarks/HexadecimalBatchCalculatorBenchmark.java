@@ -0,0 +1,91 @@
+package com.terence.hexadecimalcalculator.benchmarks;
+
+import com.terence.hexadecimalcalculator.models.HexadecimalBatchCalculator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Benchmarks the column-at-a-time operations of HexadecimalBatchCalculator, one batch of
+ * NUMBER_OF_OPERANDS pairs per invocation (divide the score by the batch size for the
+ * time per element).
+ *
+ * The Vector API module is added to the forked JVMs, so add, subtract and multiply run on
+ * SIMD instructions. Append -jvmArgsAppend -Dhexadecimalcalculator.vector=false to the
+ * command line to benchmark the scalar fallback instead
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class HexadecimalBatchCalculatorBenchmark {
+
+    private static final int NUMBER_OF_OPERANDS = 1024;
+
+    private static final long RANDOM_SEED = 0x5EED;
+
+    @Param
+    private OperandDistribution operandDistribution;
+
+    private final long[] firstDecimalNumbers = new long[NUMBER_OF_OPERANDS];
+
+    private final long[] secondDecimalNumbers = new long[NUMBER_OF_OPERANDS];
+
+    private final long[] decimalResults = new long[NUMBER_OF_OPERANDS];
+
+    private final long[] errorBitmap =
+            new long[HexadecimalBatchCalculator.errorBitmapLength(NUMBER_OF_OPERANDS)];
+
+
+    @Setup
+    public void generateOperands(){
+
+        Random random = new Random(RANDOM_SEED);
+
+        for (int index = 0; index < NUMBER_OF_OPERANDS; index++){
+            firstDecimalNumbers[index] = operandDistribution.nextDecimalNumber(random);
+            secondDecimalNumbers[index] = operandDistribution.nextDecimalNumber(random);
+        }
+    }
+
+
+    @Benchmark
+    public int add(){
+        return HexadecimalBatchCalculator.add(firstDecimalNumbers, secondDecimalNumbers,
+                                              decimalResults, errorBitmap);
+    }
+
+
+    @Benchmark
+    public int subtract(){
+        return HexadecimalBatchCalculator.subtract(firstDecimalNumbers, secondDecimalNumbers,
+                                                   decimalResults, errorBitmap);
+    }
+
+
+    @Benchmark
+    public int multiply(){
+        return HexadecimalBatchCalculator.multiply(firstDecimalNumbers, secondDecimalNumbers,
+                                                   decimalResults, errorBitmap);
+    }
+
+
+    @Benchmark
+    public int divide(){
+        return HexadecimalBatchCalculator.divide(firstDecimalNumbers, secondDecimalNumbers,
+                                                 decimalResults, errorBitmap);
+    }
+
+
+    @Benchmark
+    public int modulus(){
+        return HexadecimalBatchCalculator.modulus(firstDecimalNumbers, secondDecimalNumbers,
+                                                  decimalResults, errorBitmap);
+    }
+}
@@ -0,0 +1,139 @@
+package com.terence.hexadecimalcalculator.benchmarks;
+
+import com.terence.hexadecimalcalculator.models.HexadecimalCalculator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Benchmarks the String API of HexadecimalCalculator (parse both operands, calculate,
+ * format the result) for every operand distribution.
+ *
+ * Each invocation uses the next operand pair from a pre-generated table, so that
+ * the JIT cannot constant-fold the operands and the branch predictor sees a realistic
+ * mix. Failed calculations (invalid input, overflow, division by zero) are part of
+ * what is measured, and their exceptions are consumed like a result
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class HexadecimalCalculatorBenchmark {
+
+    //power of two, so that the index can wrap around with a mask
+    private static final int NUMBER_OF_OPERANDS = 1024;
+
+    private static final long RANDOM_SEED = 0x5EED;
+
+    @Param
+    private OperandDistribution operandDistribution;
+
+    private String[] firstHexadecimalNumbers;
+
+    private String[] secondHexadecimalNumbers;
+
+    private int operandIndex;
+
+
+    @Setup
+    public void generateOperands(){
+
+        Random random = new Random(RANDOM_SEED);
+
+        firstHexadecimalNumbers = new String[NUMBER_OF_OPERANDS];
+        secondHexadecimalNumbers = new String[NUMBER_OF_OPERANDS];
+
+        for (int index = 0; index < NUMBER_OF_OPERANDS; index++){
+            firstHexadecimalNumbers[index] = operandDistribution.nextHexadecimalNumber(random);
+            secondHexadecimalNumbers[index] = operandDistribution.nextHexadecimalNumber(random);
+        }
+    }
+
+
+    @Benchmark
+    public void add(Blackhole blackhole){
+
+        int index = nextOperandIndex();
+
+        try {
+            blackhole.consume(HexadecimalCalculator.add(firstHexadecimalNumbers[index],
+                                                        secondHexadecimalNumbers[index]));
+        }
+        catch (RuntimeException e){
+            blackhole.consume(e);
+        }
+    }
+
+
+    @Benchmark
+    public void subtract(Blackhole blackhole){
+
+        int index = nextOperandIndex();
+
+        try {
+            blackhole.consume(HexadecimalCalculator.subtract(firstHexadecimalNumbers[index],
+                                                             secondHexadecimalNumbers[index]));
+        }
+        catch (RuntimeException e){
+            blackhole.consume(e);
+        }
+    }
+
+
+    @Benchmark
+    public void multiply(Blackhole blackhole){
+
+        int index = nextOperandIndex();
+
+        try {
+            blackhole.consume(HexadecimalCalculator.multiply(firstHexadecimalNumbers[index],
+                                                             secondHexadecimalNumbers[index]));
+        }
+        catch (RuntimeException e){
+            blackhole.consume(e);
+        }
+    }
+
+
+    @Benchmark
+    public void divide(Blackhole blackhole){
+
+        int index = nextOperandIndex();
+
+        try {
+            blackhole.consume(HexadecimalCalculator.divide(firstHexadecimalNumbers[index],
+                                                           secondHexadecimalNumbers[index]));
+        }
+        catch (RuntimeException e){
+            blackhole.consume(e);
+        }
+    }
+
+
+    @Benchmark
+    public void modulus(Blackhole blackhole){
+
+        int index = nextOperandIndex();
+
+        try {
+            blackhole.consume(HexadecimalCalculator.modulus(firstHexadecimalNumbers[index],
+                                                            secondHexadecimalNumbers[index]));
+        }
+        catch (RuntimeException e){
+            blackhole.consume(e);
+        }
+    }
+
+
+    private int nextOperandIndex(){
+
+        return operandIndex = (operandIndex + 1) & (NUMBER_OF_OPERANDS - 1);
+    }
+}
@@ -0,0 +1,113 @@
+package com.terence.hexadecimalcalculator.benchmarks;
+
+import com.terence.hexadecimalcalculator.models.HexadecimalCalculator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Benchmarks the two halves of every calculation on their own: parsing a hexadecimal
+ * operand, and formatting a result as hexadecimal.
+ *
+ * The String formatting path (convertDecimalToHexadecimal(long)) is private, so it is
+ * called through a method handle. The benchmarks run from the uber jar on the class path,
+ * where the calculator is not a named module and its private members are accessible
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class HexadecimalConversionBenchmark {
+
+    //power of two, so that the index can wrap around with a mask
+    private static final int NUMBER_OF_OPERANDS = 1024;
+
+    private static final long RANDOM_SEED = 0x5EED;
+
+    private static final MethodHandle CONVERT_DECIMAL_TO_HEXADECIMAL =
+            findConvertDecimalToHexadecimal();
+
+    @Param
+    private OperandDistribution operandDistribution;
+
+    private String[] hexadecimalNumbers;
+
+    private long[] decimalNumbers;
+
+    private final char[] hexadecimalBuffer =
+            new char[HexadecimalCalculator.MAX_HEXADECIMAL_NUMBER_LENGTH];
+
+    private int operandIndex;
+
+
+    @Setup
+    public void generateOperands(){
+
+        Random random = new Random(RANDOM_SEED);
+
+        hexadecimalNumbers = new String[NUMBER_OF_OPERANDS];
+        decimalNumbers = new long[NUMBER_OF_OPERANDS];
+
+        for (int index = 0; index < NUMBER_OF_OPERANDS; index++){
+            hexadecimalNumbers[index] = operandDistribution.nextHexadecimalNumber(random);
+            decimalNumbers[index] = operandDistribution.nextDecimalNumber(random);
+        }
+    }
+
+
+    @Benchmark
+    public void convertHexadecimalToDecimal(Blackhole blackhole){
+
+        try {
+            blackhole.consume(HexadecimalCalculator.convertHexadecimalToDecimal(
+                                    hexadecimalNumbers[nextOperandIndex()]));
+        }
+        catch (NumberFormatException e){
+            blackhole.consume(e);
+        }
+    }
+
+
+    @Benchmark
+    public String convertDecimalToHexadecimal() throws Throwable {
+
+        return (String) CONVERT_DECIMAL_TO_HEXADECIMAL.invokeExact(decimalNumbers[nextOperandIndex()]);
+    }
+
+
+    @Benchmark
+    public int convertDecimalToHexadecimalIntoCharArray(){
+
+        return HexadecimalCalculator.convertDecimalToHexadecimal(decimalNumbers[nextOperandIndex()],
+                                                                 hexadecimalBuffer, 0);
+    }
+
+
+    private int nextOperandIndex(){
+
+        return operandIndex = (operandIndex + 1) & (NUMBER_OF_OPERANDS - 1);
+    }
+
+
+    private static MethodHandle findConvertDecimalToHexadecimal(){
+
+        try {
+            return MethodHandles.privateLookupIn(HexadecimalCalculator.class, MethodHandles.lookup())
+                    .findStatic(HexadecimalCalculator.class, "convertDecimalToHexadecimal",
+                                MethodType.methodType(String.class, long.class));
+        }
+        catch (ReflectiveOperationException e){
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+}
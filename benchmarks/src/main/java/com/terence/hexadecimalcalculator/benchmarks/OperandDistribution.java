@@ -0,0 +1,94 @@
+package com.terence.hexadecimalcalculator.benchmarks;
+
+import java.util.Random;
+
+
+/**
+ * @author Terence Lee
+ *
+ * The shapes of operands the benchmarks are run against, so that a change that only
+ * speeds up (or slows down) one kind of input shows up in the results
+ * */
+public enum OperandDistribution {
+
+    //1 to 4 digits, e.g. "1A3F" - the typical hand-typed value
+    SHORT,
+
+    //exactly 16 digits, e.g. "7A3F0011BC29D4E0" - hashes, addresses, masks
+    FULL_WIDTH,
+
+    //1 to 16 digits with a leading "-"
+    NEGATIVE,
+
+    //invalid digits or values outside the range of a long, i.e. the exception path
+    INVALID,
+
+    //90% SHORT/FULL_WIDTH/NEGATIVE, 10% INVALID - roughly what a real feed looks like
+    MIXED;
+
+
+    private static final String[] INVALID_HEXADECIMAL_NUMBERS = {
+            "Hello", "1.5", "12G4", "", "-", "8000000000000000", "-8000000000000001",
+            "FFFFFFFFFFFFFFFFF", "0x1F", "1 2"
+    };
+
+
+    /**
+     * Create a hexadecimal operand drawn from this distribution
+     *
+     * @param random the source of randomness (seeded by the caller, so that every fork
+     *               benchmarks the same operands)
+     * */
+    public String nextHexadecimalNumber(Random random){
+
+        return switch (this) {
+            case SHORT -> Long.toHexString(1 + random.nextInt(0xFFFF));
+
+            case FULL_WIDTH -> Long.toHexString(0x1000000000000000L |
+                                    (random.nextLong() & 0x0FFFFFFFFFFFFFFFL)).toUpperCase();
+
+            case NEGATIVE -> "-" + Long.toHexString(nextNegativeMagnitude(random));
+
+            case INVALID -> INVALID_HEXADECIMAL_NUMBERS[
+                                    random.nextInt(INVALID_HEXADECIMAL_NUMBERS.length)];
+
+            case MIXED -> random.nextInt(10) == 0 ?
+                                    INVALID.nextHexadecimalNumber(random) :
+                                    values()[random.nextInt(3)].nextHexadecimalNumber(random);
+        };
+    }
+
+
+    /**
+     * Create a value drawn from this distribution, for the benchmarks that start from
+     * a long rather than from text. An invalid operand has no long value, so INVALID
+     * falls back to full width values
+     *
+     * @param random the source of randomness
+     * */
+    public long nextDecimalNumber(Random random){
+
+        return switch (this) {
+            case SHORT -> 1 + random.nextInt(0xFFFF);
+
+            case FULL_WIDTH, INVALID -> 0x1000000000000000L |
+                                    (random.nextLong() & 0x0FFFFFFFFFFFFFFFL);
+
+            case NEGATIVE -> -nextNegativeMagnitude(random);
+
+            case MIXED -> values()[random.nextInt(3)].nextDecimalNumber(random);
+        };
+    }
+
+
+    /**
+     * Returns the magnitude of a NEGATIVE operand, 1 to 16 digits: from 1 to a maximum of a
+     * random number of bits, so never 0 (which would be "-0", i.e. not a negative number)
+     * */
+    private static long nextNegativeMagnitude(Random random){
+
+        long maximumMagnitude = Long.MAX_VALUE >>> random.nextInt(60);
+
+        return 1 + random.nextLong(maximumMagnitude);
+    }
+}
@@ -0,0 +1,120 @@
+package com.terence.hexadecimalcalculator.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Benchmarks the cold start of the calculator, one new JVM per invocation, started through
+ * the scripts in the launcher directory with and without their class-data sharing archive:
+ *
+ * timeToFirstResult - until the headless calculator writes the result of its first line
+ * timeToFirstFrame - until the window has laid out its first frame (this needs a display)
+ *
+ * The scripts are looked up in the directory given by -Dhexadecimalcalculator.home (the
+ * current directory by default), so build the calculator with -Pcds and run from the root
+ * of the project, e.g.
+ * <pre>
+      java -jar benchmarks/target/benchmarks.jar StartupBenchmark.timeToFirstResult -rf json
+ * </pre>
+ * */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 20)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+    private static final Path HOME = Path.of(System.getProperty("hexadecimalcalculator.home", "."));
+
+    private static final byte[] FIRST_LINE = "1A3F + -FF\n".getBytes(StandardCharsets.US_ASCII);
+
+    @Param({"true", "false"})
+    private boolean classDataSharing;
+
+    private Process process;
+
+
+    @Benchmark
+    public String timeToFirstResult() throws IOException {
+
+        process = start("hexadecimal-calculator");
+
+        try (OutputStream input = process.getOutputStream()){
+            input.write(FIRST_LINE);
+        }
+
+        return readFirstLine(process, "1940");
+    }
+
+
+    @Benchmark
+    public String timeToFirstFrame() throws IOException {
+
+        process = start("hexadecimal-calculator-gui");
+
+        return readFirstLine(process, "first frame");
+    }
+
+
+    /**
+     * Wait for the process of the invocation to exit outside of the measured time, as only
+     * the time to its first line is of interest
+     * */
+    @TearDown(Level.Invocation)
+    public void waitForExit() throws IOException, InterruptedException {
+
+        if (process != null){
+            process.getInputStream().transferTo(OutputStream.nullOutputStream());
+            process.waitFor();
+            process = null;
+        }
+    }
+
+
+    /**
+     * Start one of the launcher scripts, in a new JVM, with or without its class-data
+     * sharing archive
+     * */
+    private Process start(String launcher) throws IOException {
+
+        ProcessBuilder processBuilder = new ProcessBuilder(HOME.resolve("launcher").resolve(launcher).toString());
+
+        processBuilder.environment().put("HEXADECIMAL_CALCULATOR_CDS", classDataSharing ? "on" : "off");
+        processBuilder.environment().put("JAVA_OPTS", "-Dhexadecimalcalculator.exitAfterFirstFrame=true");
+        processBuilder.redirectError(ProcessBuilder.Redirect.INHERIT);
+
+        return processBuilder.start();
+    }
+
+
+    /**
+     * Wait for the first line of the output of a process
+     *
+     * @throws IllegalStateException if the first line is not the expected one, so a broken
+     *                               launcher does not show up as a fast startup
+     * */
+    private static String readFirstLine(Process process, String expectedLine) throws IOException {
+
+        BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.US_ASCII));
+
+        String firstLine = output.readLine();
+
+        if (!expectedLine.equals(firstLine)){
+            process.destroy();
+            throw new IllegalStateException("expected \"" + expectedLine + "\" but the launcher wrote \"" + firstLine + "\"");
+        }
+
+        return firstLine;
+    }
+}
@@ -0,0 +1,298 @@
+package com.terence.hexadecimalcalculator.batch;
+
+import com.terence.hexadecimalcalculator.cli.ByteArrayWriter;
+import com.terence.hexadecimalcalculator.cli.ByteLineReader;
+import com.terence.hexadecimalcalculator.cli.HexadecimalLineEvaluator;
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter;
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter.LetterCase;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Converts between the text lines of the headless mode and the binary batch files, e.g.
+ * <pre>
+      $ java ... BinaryBatchConverter to-binary operations.txt operations.bin
+      $ java ... BinaryBatchProcessor operations.bin results.bin
+      $ java ... BinaryBatchConverter to-text results.bin results.txt
+ * </pre>
+ *
+ * Every text line becomes one record, so the n-th line of results.txt is the result of the
+ * n-th line of operations.txt. A line that is blank or invalid becomes a record with the
+ * INVALID_OPCODE, a line too long to be read a record with the LINE_TOO_LONG_OPCODE, and
+ * the result of either is an error line
+ * */
+public final class BinaryBatchConverter {
+
+    private static final byte[] OVERFLOW_MESSAGE =
+            "error: result overflows a long".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] DIVISION_BY_ZERO_MESSAGE =
+            "error: division by zero".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] INVALID_OPERATION_MESSAGE =
+            "error: invalid operation".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] LINE_TOO_LONG_MESSAGE =
+            ("error: line longer than " + ByteLineReader.BUFFER_SIZE + " bytes").getBytes(StandardCharsets.US_ASCII);
+
+    //number of records buffered per column before they are written to the file
+    private static final int RECORDS_PER_WRITE = 1 << 13;
+
+
+    /**
+     * The constructor is made private as all methods of this class are static, and
+     * therefore the constructor is not required
+     * */
+    private BinaryBatchConverter() {
+
+    }
+
+
+    public static void main(String[] args) throws IOException {
+
+        if (args.length != 3 || !(args[0].equals("to-binary") || args[0].equals("to-text"))){
+            System.err.println("Usage: BinaryBatchConverter to-binary|to-text source-file target-file");
+            System.exit(2);
+        }
+
+        if (args[0].equals("to-binary")){
+            textToBinary(Path.of(args[1]), Path.of(args[2]));
+        }
+        else {
+            try (OutputStream output = Files.newOutputStream(Path.of(args[2]))){
+                resultsToText(Path.of(args[1]), output, LetterCase.LOWER);
+            }
+        }
+    }
+
+
+    /**
+     * Convert a text file of operations (one per line, e.g. "1A3F + -FF") into a binary
+     * batch input file
+     *
+     * @param textFile the text file to be converted
+     * @param binaryFile the binary batch input file to be written (replaced if it exists)
+     *
+     * @throws IOException if reading or writing fails, or the number of lines of the text
+     *                     file changed while it was converted (the binary file is then not
+     *                     a valid batch file)
+     *
+     * @return the number of records written
+     * */
+    public static long textToBinary(Path textFile, Path binaryFile) throws IOException {
+
+        //the offsets of the columns depend on the number of records, so the lines are counted first
+        long recordCount;
+
+        try (InputStream input = Files.newInputStream(textFile)){
+            recordCount = ByteLineReader.readLines(input, new ByteLineReader.ByteLineHandler() {
+
+                @Override
+                public void handleLine(byte[] buffer, int fromIndex, int toIndex) {
+
+                }
+
+                @Override
+                public void handleLineTooLong() {
+
+                }
+            });
+        }
+
+        try (InputStream input = Files.newInputStream(textFile);
+             FileChannel outputChannel = FileChannel.open(binaryFile, StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)){
+
+            BinaryBatchFormat.writeHeader(outputChannel, BinaryBatchFormat.INPUT_MAGIC, recordCount);
+
+            ColumnWriter opcodeWriter = new ColumnWriter(outputChannel,
+                    BinaryBatchFormat.byteColumnOffset(), Byte.BYTES);
+            ColumnWriter firstDecimalNumberWriter = new ColumnWriter(outputChannel,
+                    BinaryBatchFormat.firstLongColumnOffset(recordCount), Long.BYTES);
+            ColumnWriter secondDecimalNumberWriter = new ColumnWriter(outputChannel,
+                    BinaryBatchFormat.secondLongColumnOffset(recordCount), Long.BYTES);
+
+            HexadecimalLineEvaluator lineEvaluator = new HexadecimalLineEvaluator(LetterCase.LOWER);
+
+            long lineCount = ByteLineReader.readLines(input, new ByteLineReader.ByteLineHandler() {
+
+                private long recordsWritten;
+
+                @Override
+                public void handleLine(byte[] buffer, int fromIndex, int toIndex) throws IOException {
+
+                    if (lineEvaluator.parse(buffer, fromIndex, toIndex)){
+                        putRecord((byte) lineEvaluator.getOperation().getOpcode(),
+                                  lineEvaluator.getFirstDecimalNumber(), lineEvaluator.getSecondDecimalNumber());
+                    }
+                    else {
+                        putRecord(BinaryBatchFormat.INVALID_OPCODE, 0, 0);
+                    }
+                }
+
+                @Override
+                public void handleLineTooLong() throws IOException {
+                    putRecord(BinaryBatchFormat.LINE_TOO_LONG_OPCODE, 0, 0);
+                }
+
+                private void putRecord(byte opcode, long firstDecimalNumber, long secondDecimalNumber)
+                        throws IOException {
+
+                    //one more record would be written over the start of the next column
+                    if (recordsWritten == recordCount){
+                        throw new IOException("The text file gained lines while it was converted");
+                    }
+
+                    recordsWritten++;
+
+                    opcodeWriter.putByte(opcode);
+                    firstDecimalNumberWriter.putLong(firstDecimalNumber);
+                    secondDecimalNumberWriter.putLong(secondDecimalNumber);
+                }
+            });
+
+            if (lineCount != recordCount){
+                throw new IOException("The text file lost lines while it was converted");
+            }
+
+            opcodeWriter.flush();
+            firstDecimalNumberWriter.flush();
+            secondDecimalNumberWriter.flush();
+
+            //pad the opcode column up to the first operand column
+            if (outputChannel.size() < BinaryBatchFormat.inputFileSize(recordCount)){
+                outputChannel.write(ByteBuffer.allocate(1), BinaryBatchFormat.inputFileSize(recordCount) - 1);
+            }
+        }
+
+        return recordCount;
+    }
+
+
+    /**
+     * Write the records of a binary batch output file as text, one line per record: the
+     * hexadecimal result, or an error message starting with "error:"
+     *
+     * @param binaryFile the binary batch output file to be converted
+     * @param output the stream the lines are written to. It is left open
+     * @param letterCase the case of the digits A-F in the results
+     *
+     * @throws IOException if the file is not a valid batch output file, or reading/writing fails
+     *
+     * @return the number of records written
+     * */
+    public static long resultsToText(Path binaryFile, OutputStream output, LetterCase letterCase)
+            throws IOException {
+
+        try (FileChannel inputChannel = FileChannel.open(binaryFile, StandardOpenOption.READ)){
+
+            long recordCount = BinaryBatchFormat.readHeader(inputChannel, BinaryBatchFormat.OUTPUT_MAGIC);
+            ByteArrayWriter resultWriter = new ByteArrayWriter(output);
+
+            for (long firstRecord = 0; firstRecord < recordCount;
+                 firstRecord += BinaryBatchProcessor.RECORDS_PER_WINDOW){
+
+                int windowRecordCount = (int) Math.min(BinaryBatchProcessor.RECORDS_PER_WINDOW,
+                                                       recordCount - firstRecord);
+
+                ByteBuffer statuses = inputChannel.map(FileChannel.MapMode.READ_ONLY,
+                        BinaryBatchFormat.byteColumnOffset() + firstRecord, windowRecordCount);
+
+                LongBuffer decimalResults = BinaryBatchProcessor.mapLongColumn(inputChannel,
+                        FileChannel.MapMode.READ_ONLY,
+                        BinaryBatchFormat.firstLongColumnOffset(recordCount) + firstRecord * Long.BYTES,
+                        (long) windowRecordCount * Long.BYTES);
+
+                for (int index = 0; index < windowRecordCount; index++){
+                    switch (statuses.get(index)){
+                        case BinaryBatchFormat.STATUS_OK -> {
+                            byte[] outputBuffer = resultWriter.reserve(HexadecimalFormatter.MAX_LENGTH + 1);
+
+                            int outputLength = HexadecimalFormatter.format(decimalResults.get(index),
+                                    letterCase, outputBuffer, resultWriter.length());
+                            outputBuffer[outputLength++] = '\n';
+
+                            resultWriter.setLength(outputLength);
+                        }
+                        case BinaryBatchFormat.STATUS_OVERFLOW -> resultWriter.writeLine(OVERFLOW_MESSAGE);
+                        case BinaryBatchFormat.STATUS_DIVISION_BY_ZERO ->
+                                resultWriter.writeLine(DIVISION_BY_ZERO_MESSAGE);
+                        case BinaryBatchFormat.STATUS_LINE_TOO_LONG -> resultWriter.writeLine(LINE_TOO_LONG_MESSAGE);
+                        default -> resultWriter.writeLine(INVALID_OPERATION_MESSAGE);
+                    }
+                }
+            }
+
+            resultWriter.flush();
+
+            return recordCount;
+        }
+    }
+
+
+    /**
+     * Buffers the values of one column, and writes them to the file at the column's offset
+     * */
+    private static final class ColumnWriter {
+
+        private final FileChannel channel;
+
+        private final ByteBuffer buffer;
+
+        private long position;
+
+
+        private ColumnWriter(FileChannel channel, long position, int valueSize) {
+
+            this.channel = channel;
+            this.position = position;
+            this.buffer = ByteBuffer.allocateDirect(RECORDS_PER_WRITE * valueSize)
+                                    .order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+
+        private void putByte(byte value) throws IOException {
+
+            if (!buffer.hasRemaining()){
+                flush();
+            }
+
+            buffer.put(value);
+        }
+
+
+        private void putLong(long value) throws IOException {
+
+            if (buffer.remaining() < Long.BYTES){
+                flush();
+            }
+
+            buffer.putLong(value);
+        }
+
+
+        private void flush() throws IOException {
+
+            buffer.flip();
+
+            while (buffer.hasRemaining()){
+                position += channel.write(buffer, position);
+            }
+
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.terence.hexadecimalcalculator.batch;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+
+/**
+ * @author Terence Lee
+ *
+ * The layout of the binary batch files, a compact alternative to the text lines of the
+ * headless mode for callers that already have 64-bit values. All numbers are little-endian.
+ *
+ * An input file holds N operations as three columns:
+ * <pre>
+      offset 0          header (32 bytes): magic "HXBI", version, N, reserved
+      offset 32         opcode column: N bytes (HexadecimalOperation.getOpcode()),
+                        padded with zeros to a multiple of 8 bytes
+      then              first operand column: N longs
+      then              second operand column: N longs
+ * </pre>
+ *
+ * The output file written for it holds a status and a result for each operation:
+ * <pre>
+      offset 0          header (32 bytes): magic "HXBO", version, N, reserved
+      offset 32         status column: N bytes (STATUS_*), padded with zeros to a multiple of 8 bytes
+      then              result column: N longs (0 if the status is not STATUS_OK)
+ * </pre>
+ *
+ * Keeping each column contiguous (rather than one record after another) keeps every long
+ * 8-byte aligned, and lets each column be mapped and scanned on its own
+ * */
+public final class BinaryBatchFormat {
+
+    //"HXBI" and "HXBO" when read as little-endian bytes
+    public static final int INPUT_MAGIC = 0x49425848;
+
+    public static final int OUTPUT_MAGIC = 0x4F425848;
+
+    public static final int VERSION = 1;
+
+    public static final int HEADER_SIZE = 32;
+
+    //the opcode of a record that has no valid operation (e.g. an invalid text line)
+    public static final byte INVALID_OPCODE = (byte) 0xFF;
+
+    //the opcode of a record of a text line longer than ByteLineReader.BUFFER_SIZE, which was not read
+    public static final byte LINE_TOO_LONG_OPCODE = (byte) 0xFE;
+
+    public static final byte STATUS_OK = 0;
+
+    public static final byte STATUS_OVERFLOW = 1;
+
+    public static final byte STATUS_DIVISION_BY_ZERO = 2;
+
+    public static final byte STATUS_INVALID_OPCODE = 3;
+
+    public static final byte STATUS_LINE_TOO_LONG = 4;
+
+    //the most records a file can hold, with the sizes of its columns (17 bytes per record of
+    //an input file, plus up to 7 bytes of padding) and its header within a long
+    public static final long MAX_RECORD_COUNT = (Long.MAX_VALUE - HEADER_SIZE - Long.BYTES) /
+                                                (Byte.BYTES + 2 * Long.BYTES);
+
+    private static final int MAGIC_OFFSET = 0;
+
+    private static final int VERSION_OFFSET = 4;
+
+    private static final int RECORD_COUNT_OFFSET = 8;
+
+
+    /**
+     * The constructor is made private as all methods of this class are static, and
+     * therefore the constructor is not required
+     * */
+    private BinaryBatchFormat() {
+
+    }
+
+
+    /**
+     * Returns the offset of the opcode column of an input file (or the status column of
+     * an output file)
+     * */
+    public static long byteColumnOffset(){
+        return HEADER_SIZE;
+    }
+
+
+    /**
+     * Returns the offset of the first long column of a file, i.e. the first operand column
+     * of an input file or the result column of an output file
+     *
+     * @param recordCount the number of records in the file
+     * */
+    public static long firstLongColumnOffset(long recordCount){
+        return HEADER_SIZE + ((recordCount + Long.BYTES - 1) & -Long.BYTES);
+    }
+
+
+    /**
+     * Returns the offset of the second operand column of an input file
+     *
+     * @param recordCount the number of records in the file
+     * */
+    public static long secondLongColumnOffset(long recordCount){
+        return firstLongColumnOffset(recordCount) + recordCount * Long.BYTES;
+    }
+
+
+    /**
+     * Returns the size of an input file
+     *
+     * @param recordCount the number of records in the file
+     * */
+    public static long inputFileSize(long recordCount){
+        return secondLongColumnOffset(recordCount) + recordCount * Long.BYTES;
+    }
+
+
+    /**
+     * Returns the size of an output file
+     *
+     * @param recordCount the number of records in the file
+     * */
+    public static long outputFileSize(long recordCount){
+        return firstLongColumnOffset(recordCount) + recordCount * Long.BYTES;
+    }
+
+
+    /**
+     * Write the header of a file
+     *
+     * @param channel the file, open for writing
+     * @param magic INPUT_MAGIC or OUTPUT_MAGIC
+     * @param recordCount the number of records in the file
+     * */
+    static void writeHeader(FileChannel channel, int magic, long recordCount) throws IOException {
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+        header.putInt(MAGIC_OFFSET, magic);
+        header.putInt(VERSION_OFFSET, VERSION);
+        header.putLong(RECORD_COUNT_OFFSET, recordCount);
+
+        while (header.hasRemaining()){
+            channel.write(header, header.position());
+        }
+    }
+
+
+    /**
+     * Read and check the header of a file
+     *
+     * @param channel the file, open for reading
+     * @param magic the magic the file should have, INPUT_MAGIC or OUTPUT_MAGIC
+     *
+     * @throws IOException if the file is not a batch file of the expected kind and version,
+     *          or it is shorter than its header says
+     *
+     * @return the number of records in the file
+     * */
+    static long readHeader(FileChannel channel, int magic) throws IOException {
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+        while (header.hasRemaining()){
+            if (channel.read(header, header.position()) < 0){
+                throw new IOException("The file is too short to be a batch file");
+            }
+        }
+
+        if (header.getInt(MAGIC_OFFSET) != magic){
+            throw new IOException("The file is not a batch " +
+                                  (magic == INPUT_MAGIC ? "input" : "output") + " file");
+        }
+
+        if (header.getInt(VERSION_OFFSET) != VERSION){
+            throw new IOException("Unsupported batch file version " + header.getInt(VERSION_OFFSET));
+        }
+
+        long recordCount = header.getLong(RECORD_COUNT_OFFSET);
+
+        //checked before the size is worked out, as the size of a larger count overflows a long
+        if (recordCount < 0 || recordCount > MAX_RECORD_COUNT){
+            throw new IOException("Invalid record count " + recordCount + " in the batch file header");
+        }
+
+        long expectedFileSize = magic == INPUT_MAGIC ? inputFileSize(recordCount) :
+                                                       outputFileSize(recordCount);
+
+        if (channel.size() < expectedFileSize){
+            throw new IOException("The batch file is shorter than its header says");
+        }
+
+        return recordCount;
+    }
+}
@@ -0,0 +1,170 @@
+package com.terence.hexadecimalcalculator.batch;
+
+import com.terence.hexadecimalcalculator.models.CalculationResult;
+import com.terence.hexadecimalcalculator.models.CalculationStatus;
+import com.terence.hexadecimalcalculator.models.HexadecimalOperation;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Calculates every operation of a binary batch input file (see BinaryBatchFormat), and
+ * writes the status and result of each into a binary batch output file, with the same rules
+ * as HexadecimalCalculator.add/subtract/multiply/divide/modulus.
+ *
+ * Both files are memory-mapped (so the data is never copied through a Java buffer), one window
+ * of RECORDS_PER_WINDOW records at a time, so files of any size (including more than 2 GB,
+ * the limit of a single mapping) are processed with bounded memory.
+ *
+ * Usage: BinaryBatchProcessor input-file output-file
+ * */
+public final class BinaryBatchProcessor {
+
+    //32 MB per long column per window
+    static final int RECORDS_PER_WINDOW = 1 << 22;
+
+
+    /**
+     * The constructor is made private as all methods of this class are static, and
+     * therefore the constructor is not required
+     * */
+    private BinaryBatchProcessor() {
+
+    }
+
+
+    public static void main(String[] args) throws IOException {
+
+        if (args.length != 2){
+            System.err.println("Usage: BinaryBatchProcessor input-file output-file");
+            System.exit(2);
+        }
+
+        long numberOfFailedRecords = process(Path.of(args[0]), Path.of(args[1]));
+
+        System.err.println(numberOfFailedRecords + " record(s) failed");
+    }
+
+
+    /**
+     * Process a binary batch input file
+     *
+     * @param inputFile the binary batch input file
+     * @param outputFile the binary batch output file to be written (replaced if it exists)
+     *
+     * @throws IOException if the input is not a valid batch input file, or reading/writing fails
+     *
+     * @return the number of records whose status is not STATUS_OK
+     * */
+    public static long process(Path inputFile, Path outputFile) throws IOException {
+
+        try (FileChannel inputChannel = FileChannel.open(inputFile, StandardOpenOption.READ);
+             RandomAccessFile outputRandomAccessFile = new RandomAccessFile(outputFile.toFile(), "rw")){
+
+            long recordCount = BinaryBatchFormat.readHeader(inputChannel, BinaryBatchFormat.INPUT_MAGIC);
+
+            FileChannel outputChannel = outputRandomAccessFile.getChannel();
+            outputRandomAccessFile.setLength(0);
+            outputRandomAccessFile.setLength(BinaryBatchFormat.outputFileSize(recordCount));
+            BinaryBatchFormat.writeHeader(outputChannel, BinaryBatchFormat.OUTPUT_MAGIC, recordCount);
+
+            long numberOfFailedRecords = 0;
+
+            for (long firstRecord = 0; firstRecord < recordCount; firstRecord += RECORDS_PER_WINDOW){
+                int windowRecordCount = (int) Math.min(RECORDS_PER_WINDOW, recordCount - firstRecord);
+
+                numberOfFailedRecords += processWindow(inputChannel, outputChannel, recordCount,
+                                                       firstRecord, windowRecordCount);
+            }
+
+            return numberOfFailedRecords;
+        }
+    }
+
+
+    /**
+     * Map one window of records of the input and output files, and process it
+     *
+     * @return the number of records of the window whose status is not STATUS_OK
+     * */
+    private static long processWindow(FileChannel inputChannel, FileChannel outputChannel,
+                                      long recordCount, long firstRecord, int windowRecordCount)
+            throws IOException {
+
+        long longColumnWindowOffset = firstRecord * Long.BYTES;
+        long longColumnWindowSize = (long) windowRecordCount * Long.BYTES;
+
+        ByteBuffer opcodes = inputChannel.map(FileChannel.MapMode.READ_ONLY,
+                BinaryBatchFormat.byteColumnOffset() + firstRecord, windowRecordCount);
+
+        LongBuffer firstDecimalNumbers = mapLongColumn(inputChannel, FileChannel.MapMode.READ_ONLY,
+                BinaryBatchFormat.firstLongColumnOffset(recordCount) + longColumnWindowOffset,
+                longColumnWindowSize);
+
+        LongBuffer secondDecimalNumbers = mapLongColumn(inputChannel, FileChannel.MapMode.READ_ONLY,
+                BinaryBatchFormat.secondLongColumnOffset(recordCount) + longColumnWindowOffset,
+                longColumnWindowSize);
+
+        ByteBuffer statuses = outputChannel.map(FileChannel.MapMode.READ_WRITE,
+                BinaryBatchFormat.byteColumnOffset() + firstRecord, windowRecordCount);
+
+        LongBuffer decimalResults = mapLongColumn(outputChannel, FileChannel.MapMode.READ_WRITE,
+                BinaryBatchFormat.firstLongColumnOffset(recordCount) + longColumnWindowOffset,
+                longColumnWindowSize);
+
+        long numberOfFailedRecords = 0;
+        CalculationResult calculationResult = new CalculationResult();
+
+        for (int index = 0; index < windowRecordCount; index++){
+            byte opcode = opcodes.get(index);
+            HexadecimalOperation operation = HexadecimalOperation.fromOpcode(opcode);
+            long firstDecimalNumber = firstDecimalNumbers.get(index);
+            long secondDecimalNumber = secondDecimalNumbers.get(index);
+
+            byte status = BinaryBatchFormat.STATUS_OK;
+            long decimalResult = 0;
+
+            if (operation == null){
+                status = opcode == BinaryBatchFormat.LINE_TOO_LONG_OPCODE ?
+                        BinaryBatchFormat.STATUS_LINE_TOO_LONG : BinaryBatchFormat.STATUS_INVALID_OPCODE;
+            }
+            else {
+                CalculationStatus calculationStatus = operation.tryApply(firstDecimalNumber, secondDecimalNumber,
+                                                                         calculationResult);
+
+                if (calculationStatus == CalculationStatus.OK){
+                    decimalResult = calculationResult.getValue();
+                }
+                else {
+                    status = calculationStatus == CalculationStatus.DIVIDE_BY_ZERO ?
+                            BinaryBatchFormat.STATUS_DIVISION_BY_ZERO : BinaryBatchFormat.STATUS_OVERFLOW;
+                }
+            }
+
+            statuses.put(index, status);
+            decimalResults.put(index, decimalResult);
+
+            if (status != BinaryBatchFormat.STATUS_OK){
+                numberOfFailedRecords++;
+            }
+        }
+
+        return numberOfFailedRecords;
+    }
+
+
+    static LongBuffer mapLongColumn(FileChannel channel, FileChannel.MapMode mapMode,
+                                    long offset, long size) throws IOException {
+
+        return channel.map(mapMode, offset, size).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+    }
+}
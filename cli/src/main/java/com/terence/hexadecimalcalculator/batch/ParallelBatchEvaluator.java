@@ -0,0 +1,472 @@
+package com.terence.hexadecimalcalculator.batch;
+
+import com.terence.hexadecimalcalculator.cli.ByteArrayWriter;
+import com.terence.hexadecimalcalculator.cli.ByteLineReader;
+import com.terence.hexadecimalcalculator.cli.HexadecimalLineEvaluator;
+import com.terence.hexadecimalcalculator.models.CalculationResult;
+import com.terence.hexadecimalcalculator.models.CalculationStatus;
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter.LetterCase;
+import com.terence.hexadecimalcalculator.models.HexadecimalOperation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Evaluates large batches of operations on several threads. A batch is split into chunks of
+ * a tunable number of operations, the chunks are evaluated on an Executor (the common
+ * ForkJoinPool by default), and the results are written in the original order.
+ *
+ * A batch can be columns of opcodes and operands in arrays (see evaluate()), or lines of
+ * text in the format of the headless mode (see evaluateLines()). Lines are read and written
+ * as a stream, with at most maxChunksInFlight chunks read ahead of the chunk being written,
+ * so the memory used stays bounded however large the input is: the reading thread waits for
+ * the oldest chunk whenever the limit is reached.
+ *
+ * The failures of every chunk are counted as it is evaluated, and the counts of all the
+ * chunks are merged into one BatchSummary
+ * E.g.
+ * <pre>
+      ParallelBatchEvaluator evaluator = new ParallelBatchEvaluator();
+
+      try (InputStream input = Files.newInputStream(operationsFile);
+           OutputStream output = Files.newOutputStream(resultsFile)){
+
+          BatchSummary summary = evaluator.evaluateLines(input, output, LetterCase.LOWER);
+      }
+ * </pre>
+ *
+ * Usage: ParallelBatchEvaluator input-file output-file [chunk-size]
+ * */
+public final class ParallelBatchEvaluator {
+
+    //operations per chunk, enough to make the cost of handing a chunk to a thread negligible
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 14;
+
+    private static final byte[] LINE_TOO_LONG =
+            ("error: line longer than " + ByteLineReader.BUFFER_SIZE + " bytes").getBytes(StandardCharsets.US_ASCII);
+
+    //max number of bytes written for one line, including its "\n"
+    private static final int MAX_LINE_OUTPUT_LENGTH =
+            Math.max(HexadecimalLineEvaluator.MAX_OUTPUT_LENGTH, LINE_TOO_LONG.length) + 1;
+
+    private final Executor executor;
+
+    private final int chunkSize;
+
+    private final int maxChunksInFlight;
+
+
+    /**
+     * The counts of the operations of a batch (or of a chunk of it) by outcome
+     *
+     * @param numberOfOperations the number of operations (for lines, including blank lines)
+     * @param numberOfOverflows the number of results that overflowed a long
+     * @param numberOfDivisionsByZero the number of divisions and moduli by zero
+     * @param numberOfInvalidOperations the number of invalid opcodes, or of invalid or too long lines
+     * @param firstFailedIndex the index of the first failed operation, or -1 if none failed
+     * */
+    public record BatchSummary(long numberOfOperations, long numberOfOverflows, long numberOfDivisionsByZero,
+                               long numberOfInvalidOperations, long firstFailedIndex) {
+
+        public static final BatchSummary EMPTY = new BatchSummary(0, 0, 0, 0, -1);
+
+
+        /**
+         * Returns the number of operations that failed, for any reason
+         * */
+        public long numberOfFailedOperations(){
+            return numberOfOverflows + numberOfDivisionsByZero + numberOfInvalidOperations;
+        }
+
+
+        /**
+         * Returns the counts of this batch followed by another one
+         *
+         * @param next the summary of the operations after the ones of this summary
+         * */
+        public BatchSummary merge(BatchSummary next){
+
+            long nextFirstFailedIndex = next.firstFailedIndex < 0 ? -1 : numberOfOperations + next.firstFailedIndex;
+
+            return new BatchSummary(numberOfOperations + next.numberOfOperations,
+                                    numberOfOverflows + next.numberOfOverflows,
+                                    numberOfDivisionsByZero + next.numberOfDivisionsByZero,
+                                    numberOfInvalidOperations + next.numberOfInvalidOperations,
+                                    firstFailedIndex >= 0 ? firstFailedIndex : nextFirstFailedIndex);
+        }
+    }
+
+
+    /**
+     * Creates an evaluator running on the common ForkJoinPool, with chunks of
+     * DEFAULT_CHUNK_SIZE operations and two chunks in flight per thread of the pool
+     * */
+    public ParallelBatchEvaluator() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE, 2 * ForkJoinPool.getCommonPoolParallelism());
+    }
+
+
+    /**
+     * @param executor the executor the chunks are evaluated on
+     * @param chunkSize the number of operations (or lines) per chunk, at least 1
+     * @param maxChunksInFlight the max number of chunks of a stream being evaluated or waiting
+     *                          to be written at a time, at least 1
+     *
+     * @throws IllegalArgumentException if the chunk size or the max chunks in flight is less than 1
+     * */
+    public ParallelBatchEvaluator(Executor executor, int chunkSize, int maxChunksInFlight) {
+
+        if (chunkSize < 1 || maxChunksInFlight < 1){
+            throw new IllegalArgumentException("The chunk size and the max chunks in flight must be at least 1");
+        }
+
+        this.executor = Objects.requireNonNull(executor);
+        this.chunkSize = chunkSize;
+        this.maxChunksInFlight = maxChunksInFlight;
+    }
+
+
+    public static void main(String[] args) throws IOException {
+
+        if (args.length != 2 && args.length != 3){
+            System.err.println("Usage: ParallelBatchEvaluator input-file output-file [chunk-size]");
+            System.exit(2);
+        }
+
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        int chunkSize = args.length == 3 ? Integer.parseInt(args[2]) : DEFAULT_CHUNK_SIZE;
+
+        ParallelBatchEvaluator evaluator = new ParallelBatchEvaluator(ForkJoinPool.commonPool(),
+                                                                      chunkSize, 2 * parallelism);
+
+        try (InputStream input = Files.newInputStream(Path.of(args[0]));
+             OutputStream output = Files.newOutputStream(Path.of(args[1]))){
+
+            BatchSummary summary = evaluator.evaluateLines(input, output, LetterCase.LOWER);
+
+            System.err.println(summary.numberOfFailedOperations() + " of " + summary.numberOfOperations() +
+                               " line(s) failed");
+        }
+    }
+
+
+    /**
+     * Evaluate columns of operations, i.e. results[i] = firstDecimalNumbers[i] (opcodes[i])
+     * secondDecimalNumbers[i], with the same rules as HexadecimalOperation.tryApply, and wait
+     * until all of them are done
+     *
+     * @param opcodes the opcodes of the operations (see HexadecimalOperation.getOpcode())
+     * @param firstDecimalNumbers the first operands
+     * @param secondDecimalNumbers the second operands
+     * @param results the array the results are written into (0 if the operation failed)
+     * @param statuses the array the statuses are written into (the STATUS_* of BinaryBatchFormat)
+     *
+     * @throws IllegalArgumentException if the arrays do not all have the same length
+     *
+     * @return the counts of the operations by outcome
+     * */
+    public BatchSummary evaluate(byte[] opcodes, long[] firstDecimalNumbers, long[] secondDecimalNumbers,
+                                 long[] results, byte[] statuses){
+
+        int numberOfOperations = opcodes.length;
+
+        if (firstDecimalNumbers.length != numberOfOperations || secondDecimalNumbers.length != numberOfOperations ||
+            results.length != numberOfOperations || statuses.length != numberOfOperations){
+
+            throw new IllegalArgumentException("All the arrays of a batch must have the same length");
+        }
+
+        List<CompletableFuture<BatchSummary>> chunkSummaries = new ArrayList<>();
+
+        for (int fromIndex = 0; fromIndex < numberOfOperations; fromIndex += chunkSize){
+            int chunkFromIndex = fromIndex;
+            int chunkToIndex = (int) Math.min((long) fromIndex + chunkSize, numberOfOperations);
+
+            chunkSummaries.add(CompletableFuture.supplyAsync(() -> evaluateChunk(opcodes, firstDecimalNumbers,
+                    secondDecimalNumbers, results, statuses, chunkFromIndex, chunkToIndex), executor));
+        }
+
+        BatchSummary summary = BatchSummary.EMPTY;
+
+        for (CompletableFuture<BatchSummary> chunkSummary : chunkSummaries){
+            summary = summary.merge(chunkSummary.join());
+        }
+
+        return summary;
+    }
+
+
+    /**
+     * Evaluate every line of an input stream (in the format of the headless mode, e.g.
+     * "1A3F + -FF"), and write the result of each line to an output stream in the order of
+     * the lines, like HexadecimalCalculatorCli.evaluateLines does on one thread. Both streams
+     * are left open
+     *
+     * @param input the lines to be evaluated, as ASCII/UTF-8 text
+     * @param output the stream the results are written to, one line per input line
+     * @param letterCase the case of the digits A-F in the results
+     *
+     * @throws IOException if reading the input or writing the output fails
+     *
+     * @return the counts of the lines by outcome
+     * */
+    public BatchSummary evaluateLines(InputStream input, OutputStream output, LetterCase letterCase)
+            throws IOException {
+
+        ByteArrayWriter resultWriter = new ByteArrayWriter(output);
+        ArrayDeque<CompletableFuture<LineChunk>> chunksInFlight = new ArrayDeque<>();
+
+        BatchSummary[] summary = {BatchSummary.EMPTY};
+        LineChunk[] currentChunk = {new LineChunk(chunkSize)};
+
+        ByteLineReader.readLines(input, new ByteLineReader.ByteLineHandler() {
+
+            @Override
+            public void handleLine(byte[] buffer, int fromIndex, int toIndex) throws IOException {
+                currentChunk[0].addLine(buffer, fromIndex, toIndex);
+                submitIfFull();
+            }
+
+            @Override
+            public void handleLineTooLong() throws IOException {
+                currentChunk[0].addLineTooLong();
+                submitIfFull();
+            }
+
+            private void submitIfFull() throws IOException {
+
+                if (currentChunk[0].numberOfLines == chunkSize){
+                    submit(currentChunk[0]);
+                    currentChunk[0] = new LineChunk(chunkSize);
+                }
+            }
+
+            private void submit(LineChunk chunk) throws IOException {
+
+                //back-pressure: wait for the oldest chunk before reading any further
+                if (chunksInFlight.size() == maxChunksInFlight){
+                    summary[0] = summary[0].merge(writeChunk(chunksInFlight.removeFirst().join(), resultWriter));
+                }
+
+                chunksInFlight.addLast(CompletableFuture.supplyAsync(() -> chunk.evaluate(letterCase), executor));
+            }
+        });
+
+        if (currentChunk[0].numberOfLines > 0){
+            LineChunk lastChunk = currentChunk[0];
+
+            chunksInFlight.addLast(CompletableFuture.supplyAsync(() -> lastChunk.evaluate(letterCase), executor));
+        }
+
+        while (!chunksInFlight.isEmpty()){
+            summary[0] = summary[0].merge(writeChunk(chunksInFlight.removeFirst().join(), resultWriter));
+        }
+
+        resultWriter.flush();
+
+        return summary[0];
+    }
+
+
+    private static BatchSummary evaluateChunk(byte[] opcodes, long[] firstDecimalNumbers,
+                                              long[] secondDecimalNumbers, long[] results, byte[] statuses,
+                                              int fromIndex, int toIndex){
+
+        CalculationResult calculationResult = new CalculationResult();
+        ChunkCounter counter = new ChunkCounter();
+
+        for (int index = fromIndex; index < toIndex; index++){
+            HexadecimalOperation operation = HexadecimalOperation.fromOpcode(opcodes[index]);
+            byte status;
+
+            if (operation == null){
+                status = BinaryBatchFormat.STATUS_INVALID_OPCODE;
+                results[index] = 0;
+            }
+            else {
+                CalculationStatus calculationStatus = operation.tryApply(firstDecimalNumbers[index],
+                        secondDecimalNumbers[index], calculationResult);
+
+                status = switch (calculationStatus) {
+                    case OK -> BinaryBatchFormat.STATUS_OK;
+                    case DIVIDE_BY_ZERO -> BinaryBatchFormat.STATUS_DIVISION_BY_ZERO;
+                    default -> BinaryBatchFormat.STATUS_OVERFLOW;
+                };
+
+                results[index] = calculationResult.getValue();
+            }
+
+            statuses[index] = status;
+            counter.count(status, index - fromIndex);
+        }
+
+        return counter.toSummary(toIndex - fromIndex);
+    }
+
+
+    private static BatchSummary writeChunk(LineChunk chunk, ByteArrayWriter resultWriter) throws IOException {
+
+        resultWriter.write(chunk.output, 0, chunk.outputLength);
+
+        return chunk.summary;
+    }
+
+
+    /**
+     * Counts the failures of a chunk by their status
+     * */
+    private static final class ChunkCounter {
+
+        private long numberOfOverflows;
+
+        private long numberOfDivisionsByZero;
+
+        private long numberOfInvalidOperations;
+
+        private long firstFailedIndex = -1;
+
+
+        void count(byte status, long index){
+
+            if (status == BinaryBatchFormat.STATUS_OK){
+                return;
+            }
+
+            if (status == BinaryBatchFormat.STATUS_OVERFLOW){
+                numberOfOverflows++;
+            }
+            else if (status == BinaryBatchFormat.STATUS_DIVISION_BY_ZERO){
+                numberOfDivisionsByZero++;
+            }
+            else {
+                numberOfInvalidOperations++;
+            }
+
+            if (firstFailedIndex < 0){
+                firstFailedIndex = index;
+            }
+        }
+
+
+        BatchSummary toSummary(long numberOfOperations){
+
+            return new BatchSummary(numberOfOperations, numberOfOverflows, numberOfDivisionsByZero,
+                                    numberOfInvalidOperations, firstFailedIndex);
+        }
+    }
+
+
+    /**
+     * A chunk of lines copied out of the buffer of the ByteLineReader, and the output of
+     * evaluating them
+     * */
+    private static final class LineChunk {
+
+        private byte[] input = new byte[1 << 12];
+
+        private int inputLength;
+
+        //the index after the last byte of every line in the input, or -1 for a line too long
+        private final int[] lineEndIndexes;
+
+        private int numberOfLines;
+
+        private byte[] output;
+
+        private int outputLength;
+
+        private BatchSummary summary;
+
+
+        LineChunk(int chunkSize) {
+            this.lineEndIndexes = new int[chunkSize];
+        }
+
+
+        void addLine(byte[] buffer, int fromIndex, int toIndex){
+
+            int lineLength = toIndex - fromIndex;
+
+            if (input.length - inputLength < lineLength){
+                input = Arrays.copyOf(input, Math.max(2 * input.length, inputLength + lineLength));
+            }
+
+            System.arraycopy(buffer, fromIndex, input, inputLength, lineLength);
+            inputLength += lineLength;
+
+            lineEndIndexes[numberOfLines++] = inputLength;
+        }
+
+
+        void addLineTooLong(){
+            lineEndIndexes[numberOfLines++] = -1;
+        }
+
+
+        /**
+         * Evaluate the lines of the chunk into its output, on a thread of the executor
+         *
+         * @return this chunk
+         * */
+        LineChunk evaluate(LetterCase letterCase){
+
+            HexadecimalLineEvaluator lineEvaluator = new HexadecimalLineEvaluator(letterCase);
+            ChunkCounter counter = new ChunkCounter();
+
+            output = new byte[numberOfLines * MAX_LINE_OUTPUT_LENGTH];
+
+            int lineBeginIndex = 0;
+
+            for (int lineIndex = 0; lineIndex < numberOfLines; lineIndex++){
+                int lineEndIndex = lineEndIndexes[lineIndex];
+                byte status = BinaryBatchFormat.STATUS_OK;
+
+                if (lineEndIndex < 0){
+                    System.arraycopy(LINE_TOO_LONG, 0, output, outputLength, LINE_TOO_LONG.length);
+                    outputLength += LINE_TOO_LONG.length;
+                    status = BinaryBatchFormat.STATUS_INVALID_OPCODE;
+                }
+                else {
+                    outputLength = lineEvaluator.evaluate(input, lineBeginIndex, lineEndIndex,
+                                                          output, outputLength);
+                    lineBeginIndex = lineEndIndex;
+
+                    if (lineEvaluator.getErrorMessage() != null){
+                        status = BinaryBatchFormat.STATUS_INVALID_OPCODE;
+                    }
+                    else if (lineEvaluator.getCalculationStatus() == CalculationStatus.OVERFLOW){
+                        status = BinaryBatchFormat.STATUS_OVERFLOW;
+                    }
+                    else if (lineEvaluator.getCalculationStatus() == CalculationStatus.DIVIDE_BY_ZERO){
+                        status = BinaryBatchFormat.STATUS_DIVISION_BY_ZERO;
+                    }
+                }
+
+                output[outputLength++] = '\n';
+                counter.count(status, lineIndex);
+            }
+
+            summary = counter.toSummary(numberOfLines);
+
+            //the input is no longer needed while the chunk waits to be written
+            input = null;
+
+            return this;
+        }
+    }
+}
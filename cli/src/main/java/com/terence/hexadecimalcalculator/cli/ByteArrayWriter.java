@@ -0,0 +1,130 @@
+package com.terence.hexadecimalcalculator.cli;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+
+/**
+ * @author Terence Lee
+ *
+ * A 64 KB output buffer that callers format into directly (instead of passing every
+ * piece of output through OutputStream.write), flushed to an output stream when full
+ * E.g.
+ * <pre>
+      byte[] buffer = writer.reserve(HexadecimalFormatter.MAX_LENGTH);
+
+      writer.setLength(HexadecimalFormatter.format(value, LetterCase.LOWER, buffer, writer.length()));
+ * </pre>
+ *
+ * A writer is not thread-safe
+ * */
+public final class ByteArrayWriter {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final OutputStream output;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    private int length;
+
+
+    /**
+     * @param output the stream the buffer is flushed to
+     * */
+    public ByteArrayWriter(OutputStream output) {
+        this.output = output;
+    }
+
+
+    /**
+     * Make sure the buffer has room for a number of bytes after its current length,
+     * flushing it if it does not
+     *
+     * @param numberOfBytes the number of bytes about to be written, at most 64 KB
+     *
+     * @throws IOException if flushing the buffer fails
+     *
+     * @return the buffer to write into, starting at {@link #length()}
+     * */
+    public byte[] reserve(int numberOfBytes) throws IOException {
+
+        if (buffer.length - length < numberOfBytes){
+            output.write(buffer, 0, length);
+            length = 0;
+        }
+
+        return buffer;
+    }
+
+
+    /**
+     * Returns the number of bytes in the buffer, i.e. the index the next byte is written at
+     * */
+    public int length() {
+        return length;
+    }
+
+
+    /**
+     * Set the number of bytes in the buffer, after writing into it
+     *
+     * @param length the index after the last byte written
+     * */
+    public void setLength(int length) {
+        this.length = length;
+    }
+
+
+    /**
+     * Write a byte
+     * */
+    public void write(int value) throws IOException {
+        reserve(1)[length++] = (byte) value;
+    }
+
+
+    /**
+     * Write bytes followed by a "\n"
+     * */
+    public void writeLine(byte[] bytes) throws IOException {
+
+        reserve(bytes.length + 1);
+
+        System.arraycopy(bytes, 0, buffer, length, bytes.length);
+        length += bytes.length;
+        buffer[length++] = '\n';
+    }
+
+
+    /**
+     * Write a slice of a byte array, of any length. A slice that does not fit in the buffer
+     * is written straight to the output stream instead of through the buffer
+     * */
+    public void write(byte[] bytes, int offset, int numberOfBytes) throws IOException {
+
+        if (numberOfBytes > buffer.length){
+            output.write(buffer, 0, length);
+            output.write(bytes, offset, numberOfBytes);
+            length = 0;
+
+            return;
+        }
+
+        reserve(numberOfBytes);
+
+        System.arraycopy(bytes, offset, buffer, length, numberOfBytes);
+        length += numberOfBytes;
+    }
+
+
+    /**
+     * Flush the buffer to the output stream, and flush the stream
+     * */
+    public void flush() throws IOException {
+
+        output.write(buffer, 0, length);
+        output.flush();
+        length = 0;
+    }
+}
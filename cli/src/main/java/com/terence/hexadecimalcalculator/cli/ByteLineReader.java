@@ -0,0 +1,125 @@
+package com.terence.hexadecimalcalculator.cli;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Splits an input stream into lines without decoding it into Strings. The stream is read
+ * into a 64 KB byte buffer, and every line (without its "\n" terminator) is handed to a
+ * ByteLineHandler as a slice of that buffer. The last line of the input does not need a
+ * terminator.
+ *
+ * A line longer than the buffer is not handed over; the handler is told about it instead,
+ * and the rest of that line is skipped
+ * */
+public final class ByteLineReader {
+
+    public static final int BUFFER_SIZE = 1 << 16;
+
+
+    /**
+     * Receives the lines of a ByteLineReader
+     * */
+    public interface ByteLineHandler {
+
+        /**
+         * Handle one line. The slice is only valid until this method returns
+         *
+         * @param buffer the buffer containing the line
+         * @param fromIndex the index of the first byte of the line, inclusive
+         * @param toIndex the index after the last byte of the line (excluding "\n"), exclusive
+         * */
+        void handleLine(byte[] buffer, int fromIndex, int toIndex) throws IOException;
+
+
+        /**
+         * Handle a line that is longer than the buffer, in place of the line
+         * */
+        void handleLineTooLong() throws IOException;
+    }
+
+
+    /**
+     * The constructor is made private as all methods of this class are static, and
+     * therefore the constructor is not required
+     * */
+    private ByteLineReader() {
+
+    }
+
+
+    /**
+     * Read every line of an input stream. The stream is left open
+     *
+     * @param input the stream to be read
+     * @param lineHandler the handler every line is passed to, in order
+     *
+     * @throws IOException if reading the input fails, or the handler throws it
+     *
+     * @return the number of lines read (including the lines that were too long)
+     * */
+    public static long readLines(InputStream input, ByteLineHandler lineHandler) throws IOException {
+
+        byte[] buffer = new byte[BUFFER_SIZE];
+
+        int length = 0;
+        long numberOfLines = 0;
+        boolean skippingLongLine = false;
+        boolean endOfInput = false;
+
+        while (!endOfInput){
+            int bytesRead = input.read(buffer, length, buffer.length - length);
+
+            if (bytesRead < 0){
+                endOfInput = true;
+            }
+            else {
+                length += bytesRead;
+            }
+
+            int lineBeginIndex = 0;
+
+            for (int index = 0; index < length; index++){
+                if (buffer[index] != '\n'){
+                    continue;
+                }
+
+                if (skippingLongLine){
+                    skippingLongLine = false;
+                }
+                else {
+                    lineHandler.handleLine(buffer, lineBeginIndex, index);
+                    numberOfLines++;
+                }
+
+                lineBeginIndex = index + 1;
+            }
+
+            if (endOfInput && lineBeginIndex < length && !skippingLongLine){
+                lineHandler.handleLine(buffer, lineBeginIndex, length);
+                numberOfLines++;
+                lineBeginIndex = length;
+            }
+
+            //a line that fills the whole buffer is reported, and the rest of it is skipped
+            if (lineBeginIndex == 0 && length == buffer.length){
+                if (!skippingLongLine){
+                    lineHandler.handleLineTooLong();
+                    numberOfLines++;
+                }
+
+                skippingLongLine = true;
+                lineBeginIndex = length;
+            }
+
+            //move the incomplete last line to the start of the buffer
+            System.arraycopy(buffer, lineBeginIndex, buffer, 0, length - lineBeginIndex);
+            length -= lineBeginIndex;
+        }
+
+        return numberOfLines;
+    }
+}
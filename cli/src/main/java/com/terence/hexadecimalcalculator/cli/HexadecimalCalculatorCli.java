@@ -0,0 +1,298 @@
+package com.terence.hexadecimalcalculator.cli;
+
+import com.terence.hexadecimalcalculator.history.CalculationHistory;
+import com.terence.hexadecimalcalculator.history.CalculationRecord;
+import com.terence.hexadecimalcalculator.models.ArithmeticMode;
+import com.terence.hexadecimalcalculator.models.CalculationStatus;
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter.LetterCase;
+import com.terence.hexadecimalcalculator.models.HexadecimalOperation;
+
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+
+/**
+ * @author Terence Lee
+ *
+ * The headless (no JavaFX) mode of the calculator. Reads lines such as "1A3F + -FF" from
+ * the standard input, and writes one line with the hexadecimal result (or an error message
+ * starting with "error:") for every line to the standard output, e.g.
+ * <pre>
+      $ printf '1A3F + -FF\n7FFFFFFFFFFFFFFF * 2\n' | java ... --headless
+      1940
+      error: result overflows a long
+ * </pre>
+ *
+ * Input and output go through 64 KB byte buffers, and lines are evaluated in place by a
+ * HexadecimalLineEvaluator, so no String is created per line. An invalid line only produces
+ * an error line; it does not stop the rest of the input from being evaluated.
+ *
+ * Options:
+ * --upper-case writes the digits A-F of the results in upper case
+ * --history appends every calculation to the CalculationHistory file shared with the window
+ * --replay-history writes every calculation of the history instead, oldest first
+ * --search-history PREFIX writes the calculations of the history with a number starting
+ *                         with PREFIX (e.g. "1A" or "-F") instead, newest first
+ * */
+public final class HexadecimalCalculatorCli {
+
+    private static final byte[] LINE_TOO_LONG =
+            ("error: line longer than " + ByteLineReader.BUFFER_SIZE + " bytes").getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] INVALID_HISTORY_PREFIX =
+            "error: invalid hexadecimal prefix\n".getBytes(StandardCharsets.US_ASCII);
+
+
+    /**
+     * The constructor is made private as all methods of this class are static, and
+     * therefore the constructor is not required
+     * */
+    private HexadecimalCalculatorCli() {
+
+    }
+
+
+    public static void main(String[] args) throws IOException {
+
+        LetterCase letterCase = LetterCase.LOWER;
+        boolean recordHistory = false;
+        boolean replayHistory = false;
+        String historyPrefix = null;
+
+        for (int index = 0; index < args.length; index++){
+            switch (args[index]) {
+                case "--upper-case" -> letterCase = LetterCase.UPPER;
+                case "--history" -> recordHistory = true;
+                case "--replay-history" -> replayHistory = true;
+                case "--search-history" -> historyPrefix = index + 1 < args.length ? args[++index] : "";
+                default -> { }
+            }
+        }
+
+        //the raw file descriptors, as System.in/System.out add a lock and a buffer per call
+        OutputStream output = new FileOutputStream(FileDescriptor.out);
+
+        if (replayHistory || historyPrefix != null){
+
+            Path historyFile = CalculationHistory.defaultFile();
+
+            //these modes only read, so a missing history is empty rather than created
+            if (!Files.exists(historyFile)){
+                return;
+            }
+
+            try (CalculationHistory history = CalculationHistory.open(historyFile)){
+
+                if (replayHistory){
+                    replayHistory(history, output, letterCase);
+                }
+                else {
+                    try{
+                        searchHistory(history, historyPrefix, output, letterCase);
+                    }
+                    catch (NumberFormatException e){
+                        output.write(INVALID_HISTORY_PREFIX);
+                    }
+                }
+            }
+
+            return;
+        }
+
+        try (CalculationHistory history = recordHistory ? CalculationHistory.open(CalculationHistory.defaultFile()) : null){
+            evaluateLines(new FileInputStream(FileDescriptor.in), output, letterCase, history);
+        }
+    }
+
+
+    /**
+     * Evaluate every line of an input stream, and write the result of each line to an
+     * output stream. Both streams are left open
+     *
+     * @param input the lines to be evaluated, as ASCII/UTF-8 text
+     * @param output the stream the results are written to, one line per input line
+     * @param letterCase the case of the digits A-F in the results
+     *
+     * @throws IOException if reading the input or writing the output fails
+     *
+     * @return the number of lines evaluated
+     * */
+    public static long evaluateLines(InputStream input, OutputStream output, LetterCase letterCase)
+            throws IOException {
+
+        return evaluateLines(input, output, letterCase, null);
+    }
+
+
+    /**
+     * Evaluate every line of an input stream, write the result of each line to an output
+     * stream, and append every calculation to a history. Both streams are left open
+     *
+     * @param input the lines to be evaluated, as ASCII/UTF-8 text
+     * @param output the stream the results are written to, one line per input line
+     * @param letterCase the case of the digits A-F in the results
+     * @param history the history the calculations are appended to (not the invalid lines or
+     *                the failed calculations), or null
+     *
+     * @throws IOException if reading the input or writing the output fails
+     *
+     * @return the number of lines evaluated
+     * */
+    public static long evaluateLines(InputStream input, OutputStream output, LetterCase letterCase,
+                                     CalculationHistory history) throws IOException {
+
+        HexadecimalLineEvaluator lineEvaluator = new HexadecimalLineEvaluator(letterCase);
+        ByteArrayWriter resultWriter = new ByteArrayWriter(output);
+
+        long numberOfLines = ByteLineReader.readLines(input, new ByteLineReader.ByteLineHandler() {
+
+            @Override
+            public void handleLine(byte[] buffer, int fromIndex, int toIndex) throws IOException {
+
+                byte[] outputBuffer = resultWriter.reserve(HexadecimalLineEvaluator.MAX_OUTPUT_LENGTH + 1);
+
+                int outputLength = lineEvaluator.evaluate(buffer, fromIndex, toIndex,
+                                                          outputBuffer, resultWriter.length());
+                outputBuffer[outputLength++] = '\n';
+
+                resultWriter.setLength(outputLength);
+
+                if (history != null && lineEvaluator.getCalculationStatus() == CalculationStatus.OK){
+                    appendToHistory(lineEvaluator, history);
+                }
+            }
+
+            @Override
+            public void handleLineTooLong() throws IOException {
+                resultWriter.writeLine(LINE_TOO_LONG);
+            }
+        });
+
+        resultWriter.flush();
+
+        return numberOfLines;
+    }
+
+
+    /**
+     * Write every calculation of a history to an output stream, oldest first, one line per
+     * calculation (see writeHistoryLine). The stream is left open
+     *
+     * @throws IOException if writing the output fails
+     *
+     * @return the number of calculations written
+     * */
+    public static long replayHistory(CalculationHistory history, OutputStream output, LetterCase letterCase)
+            throws IOException {
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.US_ASCII));
+        long[] numberOfCalculations = new long[1];
+
+        try{
+            history.replay(history.firstSequence(), calculationRecord -> {
+                try{
+                    writeHistoryLine(calculationRecord, writer, letterCase);
+                    numberOfCalculations[0]++;
+                }
+                catch (IOException e){
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        catch (UncheckedIOException e){
+            throw e.getCause();
+        }
+
+        writer.flush();
+
+        return numberOfCalculations[0];
+    }
+
+
+    /**
+     * Write the calculations of a history with a number (first, second or result) starting
+     * with a hexadecimal prefix to an output stream, newest first, one line per calculation
+     * (see writeHistoryLine). The stream is left open
+     *
+     * @param hexadecimalPrefix the prefix, an optional "-" followed by 0-9 and A-F
+     *
+     * @throws IOException if writing the output fails
+     * @throws NumberFormatException if the prefix is not a valid start of a hexadecimal number
+     *
+     * @return the number of calculations written
+     * */
+    public static long searchHistory(CalculationHistory history, String hexadecimalPrefix, OutputStream output,
+                                     LetterCase letterCase) throws IOException {
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.US_ASCII));
+        long numberOfCalculations = 0;
+
+        long sequence = history.findHexadecimalPrefix(hexadecimalPrefix, history.nextSequence());
+
+        while (sequence >= 0){
+
+            CalculationRecord calculationRecord = history.get(sequence);
+
+            //overwritten since it was found
+            if (calculationRecord != null){
+                writeHistoryLine(calculationRecord, writer, letterCase);
+                numberOfCalculations++;
+            }
+
+            sequence = history.findHexadecimalPrefix(hexadecimalPrefix, sequence);
+        }
+
+        writer.flush();
+
+        return numberOfCalculations;
+    }
+
+
+    /**
+     * Write a calculation of the history as one line: the time it was appended, the
+     * calculation, and the mode unless it is 64-bit checked, e.g.
+     * "2026-10-17T09:30:00.123Z  ff + 1 = 0  (8-bit unsigned wrapping)"
+     * */
+    private static void writeHistoryLine(CalculationRecord calculationRecord, Writer writer, LetterCase letterCase)
+            throws IOException {
+
+        writer.write(Instant.ofEpochMilli(calculationRecord.timestampMillis()).toString());
+        writer.write("  ");
+        writer.write(calculationRecord.toText(letterCase));
+
+        if (calculationRecord.arithmeticMode() != ArithmeticMode.CHECKED_64){
+            writer.write("  (" + calculationRecord.arithmeticMode().getDisplayName() + ")");
+        }
+
+        writer.write('\n');
+    }
+
+
+    /**
+     * Append the calculation of the last line evaluated, which succeeded, to a history
+     * */
+    private static void appendToHistory(HexadecimalLineEvaluator lineEvaluator, CalculationHistory history){
+
+        HexadecimalOperation operation = lineEvaluator.getOperation();
+        long firstDecimalNumber = lineEvaluator.getFirstDecimalNumber();
+        long secondDecimalNumber = lineEvaluator.getSecondDecimalNumber();
+
+        //the division succeeded, so the divisor is not zero
+        long remainder = operation == HexadecimalOperation.DIVIDE ? firstDecimalNumber % secondDecimalNumber : 0;
+
+        history.append(operation, ArithmeticMode.CHECKED_64, firstDecimalNumber, secondDecimalNumber,
+                       lineEvaluator.getResult(), remainder);
+    }
+}
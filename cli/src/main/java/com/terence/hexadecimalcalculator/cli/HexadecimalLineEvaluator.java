@@ -0,0 +1,296 @@
+package com.terence.hexadecimalcalculator.cli;
+
+import com.terence.hexadecimalcalculator.models.CalculationResult;
+import com.terence.hexadecimalcalculator.models.CalculationStatus;
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter;
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter.LetterCase;
+import com.terence.hexadecimalcalculator.models.HexadecimalOperation;
+import com.terence.hexadecimalcalculator.models.HexadecimalParser;
+
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Evaluates one line of text of the form "first operator second" (e.g. "1A3F + -FF",
+ * "1a3f*10") straight from the bytes it was read as, and writes the hexadecimal result
+ * (or an error message starting with "error:") as bytes.
+ *
+ * The operands are parsed in place and the result is formatted in place, so evaluating a
+ * line creates no objects (not even an exception for an invalid line or a failed
+ * calculation). The operators are those of HexadecimalOperation: + - * / %.
+ *
+ * A line can also just be parsed (e.g. to convert it to another format) with parse().
+ *
+ * An evaluator reuses its parse results between lines, so it must not be shared
+ * between threads
+ * */
+public final class HexadecimalLineEvaluator {
+
+    private static final byte[] INVALID_FIRST_NUMBER = errorMessage("invalid first number");
+
+    private static final byte[] FIRST_NUMBER_OUT_OF_RANGE = errorMessage("first number out of range");
+
+    private static final byte[] MISSING_OPERATOR = errorMessage("missing operator");
+
+    private static final byte[] UNKNOWN_OPERATOR = errorMessage("unknown operator");
+
+    private static final byte[] MISSING_SECOND_NUMBER = errorMessage("missing second number");
+
+    private static final byte[] INVALID_SECOND_NUMBER = errorMessage("invalid second number");
+
+    private static final byte[] SECOND_NUMBER_OUT_OF_RANGE = errorMessage("second number out of range");
+
+    private static final byte[] UNEXPECTED_TEXT = errorMessage("unexpected text after the second number");
+
+    private static final byte[] RESULT_OVERFLOWS = errorMessage("result overflows a long");
+
+    private static final byte[] DIVISION_BY_ZERO = errorMessage("division by zero");
+
+    //max number of bytes written for one line, i.e. the space a caller must leave
+    //in the output buffer before evaluating a line
+    public static final int MAX_OUTPUT_LENGTH = UNEXPECTED_TEXT.length;
+
+    private final LetterCase letterCase;
+
+    private final CalculationResult firstOperand = new CalculationResult();
+
+    private final CalculationResult secondOperand = new CalculationResult();
+
+    private final CalculationResult calculationResult = new CalculationResult();
+
+    private HexadecimalOperation operation;
+
+    private byte[] errorMessage;
+
+    private CalculationStatus calculationStatus;
+
+
+    /**
+     * @param letterCase the case of the digits A-F in the results
+     * */
+    public HexadecimalLineEvaluator(LetterCase letterCase) {
+        this.letterCase = letterCase;
+    }
+
+
+    /**
+     * Evaluate one line (without its line terminator). A blank line produces no output
+     *
+     * @param line the bytes containing the line
+     * @param fromIndex the index of the first byte of the line, inclusive
+     * @param toIndex the index after the last byte of the line, exclusive
+     * @param output the buffer the result or error message is written into, with at least
+     *               {@link #MAX_OUTPUT_LENGTH} bytes left after the outputOffset
+     * @param outputOffset the index in the output where the first byte is written
+     *
+     * @return the index after the last byte written to the output
+     * */
+    public int evaluate(byte[] line, int fromIndex, int toIndex, byte[] output, int outputOffset){
+
+        calculationStatus = null;
+
+        if (!parse(line, fromIndex, toIndex)){
+            return errorMessage == null ? outputOffset : writeMessage(errorMessage, output, outputOffset);
+        }
+
+        CalculationStatus status = operation.tryApply(firstOperand.getValue(), secondOperand.getValue(),
+                                                      calculationResult);
+
+        calculationStatus = status;
+
+        if (status != CalculationStatus.OK){
+            return writeMessage(status == CalculationStatus.DIVIDE_BY_ZERO ? DIVISION_BY_ZERO : RESULT_OVERFLOWS,
+                                output, outputOffset);
+        }
+
+        return HexadecimalFormatter.format(calculationResult.getValue(), letterCase, output, outputOffset);
+    }
+
+
+    /**
+     * Parse one line (without its line terminator) into its operation and operands, without
+     * calculating the result. If the line is valid, they are available from
+     * {@link #getOperation()}, {@link #getFirstDecimalNumber()} and {@link #getSecondDecimalNumber()}
+     * until the next line is parsed
+     *
+     * @param line the bytes containing the line
+     * @param fromIndex the index of the first byte of the line, inclusive
+     * @param toIndex the index after the last byte of the line, exclusive
+     *
+     * @return true if the line is valid. Otherwise false, and {@link #getErrorMessage()}
+     *          explains why (or is null if the line is blank)
+     * */
+    public boolean parse(byte[] line, int fromIndex, int toIndex){
+
+        operation = null;
+        errorMessage = null;
+
+        int index = skipWhitespace(line, fromIndex, toIndex);
+
+        if (index == toIndex){
+            return false;
+        }
+
+        int firstOperandBeginIndex = index;
+        int firstOperandEndIndex = skipOperand(line, index, toIndex);
+
+        if (HexadecimalParser.tryParse(line, firstOperandBeginIndex,
+                firstOperandEndIndex - firstOperandBeginIndex, firstOperand) != CalculationStatus.OK){
+
+            return fail(firstOperand.getStatus() == CalculationStatus.OUT_OF_RANGE ?
+                    FIRST_NUMBER_OUT_OF_RANGE : INVALID_FIRST_NUMBER);
+        }
+
+        index = skipWhitespace(line, firstOperandEndIndex, toIndex);
+
+        if (index == toIndex){
+            return fail(MISSING_OPERATOR);
+        }
+
+        HexadecimalOperation parsedOperation = HexadecimalOperation.fromSymbol(line[index]);
+
+        if (parsedOperation == null){
+            return fail(UNKNOWN_OPERATOR);
+        }
+
+        int secondOperandBeginIndex = skipWhitespace(line, index + 1, toIndex);
+        int secondOperandEndIndex = skipToWhitespace(line, secondOperandBeginIndex, toIndex);
+
+        if (secondOperandBeginIndex == toIndex){
+            return fail(MISSING_SECOND_NUMBER);
+        }
+
+        if (HexadecimalParser.tryParse(line, secondOperandBeginIndex,
+                secondOperandEndIndex - secondOperandBeginIndex, secondOperand) != CalculationStatus.OK){
+
+            return fail(secondOperand.getStatus() == CalculationStatus.OUT_OF_RANGE ?
+                    SECOND_NUMBER_OUT_OF_RANGE : INVALID_SECOND_NUMBER);
+        }
+
+        if (skipWhitespace(line, secondOperandEndIndex, toIndex) != toIndex){
+            return fail(UNEXPECTED_TEXT);
+        }
+
+        operation = parsedOperation;
+
+        return true;
+    }
+
+
+    /**
+     * Returns the operation of the last line parsed, or null if it was not valid
+     * */
+    public HexadecimalOperation getOperation() {
+        return operation;
+    }
+
+
+    /**
+     * Returns the first operand of the last line parsed. Only meaningful if it was valid
+     * */
+    public long getFirstDecimalNumber() {
+        return firstOperand.getValue();
+    }
+
+
+    /**
+     * Returns the second operand of the last line parsed. Only meaningful if it was valid
+     * */
+    public long getSecondDecimalNumber() {
+        return secondOperand.getValue();
+    }
+
+
+    /**
+     * Returns the result of the last line evaluated. Only meaningful if its calculation
+     * status is OK
+     * */
+    public long getResult() {
+        return calculationResult.getValue();
+    }
+
+
+    /**
+     * Returns the error message (as ASCII bytes, starting with "error:") of the last line
+     * parsed, or null if it was valid or blank
+     * */
+    public byte[] getErrorMessage() {
+        return errorMessage;
+    }
+
+
+    /**
+     * Returns the status (OK, OVERFLOW or DIVIDE_BY_ZERO) of the calculation of the last line
+     * evaluated, or null if the line was blank or invalid, so nothing was calculated
+     * */
+    public CalculationStatus getCalculationStatus() {
+        return calculationStatus;
+    }
+
+
+    private boolean fail(byte[] errorMessage){
+
+        this.errorMessage = errorMessage;
+
+        return false;
+    }
+
+
+    private static boolean isWhitespace(byte character){
+        return character == ' ' || character == '\t' || character == '\r';
+    }
+
+
+    private static int skipWhitespace(byte[] line, int index, int toIndex){
+
+        while (index < toIndex && isWhitespace(line[index])){
+            index++;
+        }
+
+        return index;
+    }
+
+
+    private static int skipToWhitespace(byte[] line, int index, int toIndex){
+
+        while (index < toIndex && !isWhitespace(line[index])){
+            index++;
+        }
+
+        return index;
+    }
+
+
+    /**
+     * Skip the first operand, i.e. an optional sign followed by everything up to the next
+     * whitespace or operator, so that "1A3F+-FF" splits into "1A3F", "+" and "-FF"
+     * */
+    private static int skipOperand(byte[] line, int index, int toIndex){
+
+        if (line[index] == '+' || line[index] == '-'){
+            index++;
+        }
+
+        while (index < toIndex && !isWhitespace(line[index]) &&
+               HexadecimalOperation.fromSymbol(line[index]) == null){
+            index++;
+        }
+
+        return index;
+    }
+
+
+    private static int writeMessage(byte[] message, byte[] output, int outputOffset){
+
+        System.arraycopy(message, 0, output, outputOffset, message.length);
+
+        return outputOffset + message.length;
+    }
+
+
+    private static byte[] errorMessage(String message){
+        return ("error: " + message).getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,96 @@
+package com.terence.hexadecimalcalculator.server;
+
+import com.terence.hexadecimalcalculator.batch.BinaryBatchFormat;
+import com.terence.hexadecimalcalculator.models.CalculationResult;
+import com.terence.hexadecimalcalculator.models.CalculationStatus;
+import com.terence.hexadecimalcalculator.models.HexadecimalOperation;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+
+/**
+ * @author Terence Lee
+ *
+ * The frames of the binary protocol of BinaryProtocolServer and BinaryProtocolClient. Every
+ * frame has a fixed size, so a stream of frames needs no other framing, and a client can
+ * send any number of requests before reading their responses, which come back in the same
+ * order. All numbers are little-endian, like the binary batch files (see BinaryBatchFormat)
+ * <pre>
+      request:  opcode (1 byte, see HexadecimalOperation.getOpcode()), first operand (8 bytes),
+                second operand (8 bytes)
+      response: status (1 byte, the STATUS_* of BinaryBatchFormat), result (8 bytes, 0 if the
+                status is not STATUS_OK)
+ * </pre>
+ * */
+public final class BinaryProtocol {
+
+    public static final int REQUEST_FRAME_SIZE = 17;
+
+    public static final int RESPONSE_FRAME_SIZE = 9;
+
+    public static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+
+    /**
+     * The constructor is made private as all methods of this class are static, and
+     * therefore the constructor is not required
+     * */
+    private BinaryProtocol() {
+
+    }
+
+
+    /**
+     * Write a request frame at the position of a buffer, and advance the position
+     * */
+    static void putRequest(ByteBuffer buffer, byte opcode, long firstDecimalNumber, long secondDecimalNumber){
+
+        int position = buffer.position();
+
+        buffer.put(position, opcode);
+        buffer.putLong(position + 1, firstDecimalNumber);
+        buffer.putLong(position + 9, secondDecimalNumber);
+        buffer.position(position + REQUEST_FRAME_SIZE);
+    }
+
+
+    /**
+     * Calculate the request frame at an index of a buffer, and write its response frame at
+     * the position of another buffer (advancing its position). Neither frame is copied
+     *
+     * @param calculationResult a holder reused between frames
+     *
+     * @return true if the status of the response is STATUS_OK
+     * */
+    static boolean calculate(ByteBuffer requests, int requestIndex, ByteBuffer responses,
+                             CalculationResult calculationResult){
+
+        HexadecimalOperation operation = HexadecimalOperation.fromOpcode(requests.get(requestIndex));
+
+        byte status;
+
+        if (operation == null){
+            status = BinaryBatchFormat.STATUS_INVALID_OPCODE;
+        }
+        else {
+            CalculationStatus calculationStatus = operation.tryApply(requests.getLong(requestIndex + 1),
+                                                                     requests.getLong(requestIndex + 9),
+                                                                     calculationResult);
+
+            status = switch (calculationStatus) {
+                case OK -> BinaryBatchFormat.STATUS_OK;
+                case DIVIDE_BY_ZERO -> BinaryBatchFormat.STATUS_DIVISION_BY_ZERO;
+                default -> BinaryBatchFormat.STATUS_OVERFLOW;
+            };
+        }
+
+        int position = responses.position();
+
+        responses.put(position, status);
+        responses.putLong(position + 1, status == BinaryBatchFormat.STATUS_OK ? calculationResult.getValue() : 0);
+        responses.position(position + RESPONSE_FRAME_SIZE);
+
+        return status == BinaryBatchFormat.STATUS_OK;
+    }
+}
@@ -0,0 +1,159 @@
+package com.terence.hexadecimalcalculator.server;
+
+import com.terence.hexadecimalcalculator.batch.BinaryBatchFormat;
+import com.terence.hexadecimalcalculator.models.HexadecimalOperation;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+
+/**
+ * @author Terence Lee
+ *
+ * A blocking client for BinaryProtocolServer. A batch of operations is sent in chunks of
+ * frames, each chunk in as few writes as the socket allows, and the responses of a chunk are
+ * read back before the next chunk is sent, so neither side ever holds more than a chunk.
+ *
+ * A client is not thread-safe; give every thread its own client (and connection)
+ * */
+public final class BinaryProtocolClient implements AutoCloseable {
+
+    //the number of frames sent before their responses are read
+    private static final int FRAMES_PER_CHUNK = 2048;
+
+    private final SocketChannel channel;
+
+    private final ByteBuffer requests =
+            ByteBuffer.allocateDirect(FRAMES_PER_CHUNK * BinaryProtocol.REQUEST_FRAME_SIZE)
+                      .order(BinaryProtocol.BYTE_ORDER);
+
+    private final ByteBuffer responses =
+            ByteBuffer.allocateDirect(FRAMES_PER_CHUNK * BinaryProtocol.RESPONSE_FRAME_SIZE)
+                      .order(BinaryProtocol.BYTE_ORDER);
+
+
+    /**
+     * Connects to a server
+     *
+     * @throws IOException if the connection fails
+     * */
+    public BinaryProtocolClient(InetSocketAddress address) throws IOException {
+
+        this.channel = SocketChannel.open(address);
+        this.channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+    }
+
+
+    /**
+     * Calculate one operation on the server
+     *
+     * @return the result
+     *
+     * @throws ArithmeticException if the result overflows a long, or on a division by zero
+     * @throws IOException if the connection fails
+     * */
+    public long calculate(HexadecimalOperation operation, long firstDecimalNumber, long secondDecimalNumber)
+            throws IOException {
+
+        requests.clear();
+        BinaryProtocol.putRequest(requests, (byte) operation.getOpcode(), firstDecimalNumber, secondDecimalNumber);
+        exchange(1);
+
+        byte status = responses.get(0);
+
+        if (status == BinaryBatchFormat.STATUS_DIVISION_BY_ZERO){
+            throw new ArithmeticException("Division by zero");
+        }
+        else if (status != BinaryBatchFormat.STATUS_OK){
+            throw new ArithmeticException("The result overflows a long");
+        }
+
+        return responses.getLong(1);
+    }
+
+
+    /**
+     * Calculate a batch of operations on the server. The arrays are laid out like the
+     * columns of ParallelBatchEvaluator.evaluate()
+     *
+     * @param opcodes the opcode of every operation (see HexadecimalOperation.getOpcode())
+     * @param results receives the result of every operation, 0 if it failed
+     * @param statuses receives the STATUS_* of BinaryBatchFormat of every operation
+     *
+     * @return the number of operations whose status is not STATUS_OK
+     *
+     * @throws IOException if the connection fails
+     * */
+    public long calculate(byte[] opcodes, long[] firstDecimalNumbers, long[] secondDecimalNumbers,
+                          long[] results, byte[] statuses) throws IOException {
+
+        int numberOfOperations = opcodes.length;
+
+        if (firstDecimalNumbers.length < numberOfOperations || secondDecimalNumbers.length < numberOfOperations ||
+            results.length < numberOfOperations || statuses.length < numberOfOperations){
+
+            throw new IllegalArgumentException("Every array needs room for " + numberOfOperations + " operations");
+        }
+
+        long numberOfFailures = 0;
+
+        for (int startIndex = 0; startIndex < numberOfOperations; startIndex += FRAMES_PER_CHUNK){
+            int numberOfFrames = Math.min(FRAMES_PER_CHUNK, numberOfOperations - startIndex);
+
+            requests.clear();
+
+            for (int index = startIndex; index < startIndex + numberOfFrames; index++){
+                BinaryProtocol.putRequest(requests, opcodes[index], firstDecimalNumbers[index],
+                                          secondDecimalNumbers[index]);
+            }
+
+            exchange(numberOfFrames);
+
+            for (int frame = 0; frame < numberOfFrames; frame++){
+                int position = frame * BinaryProtocol.RESPONSE_FRAME_SIZE;
+                byte status = responses.get(position);
+
+                statuses[startIndex + frame] = status;
+                results[startIndex + frame] = responses.getLong(position + 1);
+
+                if (status != BinaryBatchFormat.STATUS_OK){
+                    numberOfFailures++;
+                }
+            }
+        }
+
+        return numberOfFailures;
+    }
+
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+
+    /**
+     * Write the request frames in the request buffer, and read their responses into the
+     * response buffer
+     * */
+    private void exchange(int numberOfFrames) throws IOException {
+
+        requests.flip();
+
+        while (requests.hasRemaining()){
+            channel.write(requests);
+        }
+
+        responses.clear().limit(numberOfFrames * BinaryProtocol.RESPONSE_FRAME_SIZE);
+
+        while (responses.hasRemaining()){
+            if (channel.read(responses) < 0){
+                throw new EOFException("The server closed the connection before sending every response");
+            }
+        }
+    }
+}
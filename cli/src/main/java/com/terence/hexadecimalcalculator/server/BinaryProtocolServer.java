@@ -0,0 +1,329 @@
+package com.terence.hexadecimalcalculator.server;
+
+import com.terence.hexadecimalcalculator.models.CalculationResult;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * @author Terence Lee
+ *
+ * A TCP server for the fixed-size frames of BinaryProtocol, on non-blocking NIO. One thread
+ * accepts the connections and hands them round-robin to a number of reactor threads, each
+ * running a Selector over its own connections.
+ *
+ * Every connection has a direct ByteBuffer for the requests and one for the responses. A
+ * read fills the request buffer with as many frames as have arrived, every complete frame is
+ * calculated straight from the request buffer into the response buffer (with the primitive
+ * arithmetic of HexadecimalCalculator, never formatting a number), and all the responses go
+ * out in one write. When a client does not read its responses fast enough, the server stops
+ * reading its requests until the responses are written (back-pressure).
+ *
+ * Usage: BinaryProtocolServer [port] [reactor-threads]   (listens on the loopback address only)
+ * */
+public final class BinaryProtocolServer implements AutoCloseable {
+
+    public static final int DEFAULT_PORT = 8081;
+
+    //the request buffer holds 3855 frames, so a read takes in up to 3855 requests
+    private static final int REQUEST_BUFFER_SIZE = (1 << 16) / BinaryProtocol.REQUEST_FRAME_SIZE *
+                                                   BinaryProtocol.REQUEST_FRAME_SIZE;
+
+    //room for the responses of a full request buffer
+    private static final int RESPONSE_BUFFER_SIZE = REQUEST_BUFFER_SIZE / BinaryProtocol.REQUEST_FRAME_SIZE *
+                                                    BinaryProtocol.RESPONSE_FRAME_SIZE;
+
+    private final ServerSocketChannel serverChannel;
+
+    private final Reactor[] reactors;
+
+    private final Thread acceptorThread;
+
+    private final LongAdder numberOfFrames = new LongAdder();
+
+    private final LongAdder numberOfFailedFrames = new LongAdder();
+
+    private volatile boolean closed;
+
+
+    /**
+     * Creates a server, without starting it
+     *
+     * @param address the address to listen on (port 0 picks a free port)
+     * @param numberOfReactors the number of reactor threads, at least 1
+     *
+     * @throws IOException if the address cannot be bound
+     * */
+    public BinaryProtocolServer(InetSocketAddress address, int numberOfReactors) throws IOException {
+
+        if (numberOfReactors < 1){
+            throw new IllegalArgumentException("A server needs at least 1 reactor thread, not " + numberOfReactors);
+        }
+
+        this.serverChannel = ServerSocketChannel.open().bind(address);
+        this.reactors = new Reactor[numberOfReactors];
+
+        for (int index = 0; index < numberOfReactors; index++){
+            reactors[index] = new Reactor(Selector.open(), "binary-protocol-reactor-" + index);
+        }
+
+        this.acceptorThread = new Thread(this::acceptConnections, "binary-protocol-acceptor");
+    }
+
+
+    public static void main(String[] args) throws IOException {
+
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int numberOfReactors = args.length > 1 ? Integer.parseInt(args[1]) :
+                                                 Runtime.getRuntime().availableProcessors();
+
+        BinaryProtocolServer server = new BinaryProtocolServer(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), port), numberOfReactors);
+
+        server.start();
+
+        System.err.println("Listening on localhost:" + server.getPort() + " with " + numberOfReactors +
+                           " reactor thread(s)");
+    }
+
+
+    public void start(){
+
+        for (Reactor reactor : reactors){
+            reactor.thread.start();
+        }
+
+        acceptorThread.start();
+    }
+
+
+    /**
+     * Stop accepting connections, and close every connection and thread
+     * */
+    @Override
+    public void close() throws IOException {
+
+        closed = true;
+        serverChannel.close();
+
+        for (Reactor reactor : reactors){
+            reactor.selector.wakeup();
+        }
+    }
+
+
+    /**
+     * Returns the port the server listens on
+     * */
+    public int getPort() throws IOException {
+        return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+    }
+
+
+    /**
+     * Returns the number of frames calculated since the server started
+     * */
+    public long getNumberOfFrames() {
+        return numberOfFrames.sum();
+    }
+
+
+    /**
+     * Returns the number of frames whose status was not STATUS_OK
+     * */
+    public long getNumberOfFailedFrames() {
+        return numberOfFailedFrames.sum();
+    }
+
+
+    private void acceptConnections(){
+
+        int nextReactor = 0;
+
+        while (!closed){
+            try {
+                SocketChannel channel = serverChannel.accept();
+
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+
+                reactors[nextReactor].register(channel);
+                nextReactor = (nextReactor + 1) % reactors.length;
+            }
+            catch (ClosedChannelException e){
+                return;
+            }
+            catch (IOException e){
+                //a connection that fails while being accepted only affects that connection
+            }
+        }
+    }
+
+
+    /**
+     * A thread running a Selector over the connections handed to it
+     * */
+    private final class Reactor {
+
+        private final Selector selector;
+
+        private final Thread thread;
+
+        private final ConcurrentLinkedQueue<SocketChannel> newChannels = new ConcurrentLinkedQueue<>();
+
+        private final CalculationResult calculationResult = new CalculationResult();
+
+
+        Reactor(Selector selector, String name) {
+            this.selector = selector;
+            this.thread = new Thread(this::run, name);
+            this.thread.setDaemon(true);
+        }
+
+
+        void register(SocketChannel channel){
+
+            newChannels.add(channel);
+            selector.wakeup();
+        }
+
+
+        private void run(){
+
+            try (selector){
+                while (!closed){
+                    selector.select();
+
+                    for (SocketChannel channel = newChannels.poll(); channel != null; channel = newChannels.poll()){
+                        channel.register(selector, SelectionKey.OP_READ, new Connection());
+                    }
+
+                    Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+
+                    while (selectedKeys.hasNext()){
+                        SelectionKey key = selectedKeys.next();
+                        selectedKeys.remove();
+
+                        handle(key);
+                    }
+                }
+
+                for (SelectionKey key : selector.keys()){
+                    key.channel().close();
+                }
+            }
+            catch (IOException | ClosedSelectorException e){
+                //the selector itself failed, so none of its connections can be served
+            }
+        }
+
+
+        private void handle(SelectionKey key){
+
+            SocketChannel channel = (SocketChannel) key.channel();
+            Connection connection = (Connection) key.attachment();
+
+            try {
+                if (key.isWritable() && !connection.writeResponses(channel)){
+                    return;
+                }
+
+                //every pending response is written, so take in more requests
+                key.interestOps(SelectionKey.OP_READ);
+
+                if (key.isReadable() || key.isWritable()){
+                    if (channel.read(connection.requests) < 0){
+                        key.cancel();
+                        channel.close();
+
+                        return;
+                    }
+
+                    calculateFrames(connection);
+
+                    if (!connection.writeResponses(channel)){
+                        key.interestOps(SelectionKey.OP_WRITE);
+                    }
+                }
+            }
+            catch (IOException e){
+                key.cancel();
+
+                try {
+                    channel.close();
+                }
+                catch (IOException closeException){
+                    //the connection is dropped either way
+                }
+            }
+        }
+
+
+        private void calculateFrames(Connection connection){
+
+            ByteBuffer requests = connection.requests;
+            ByteBuffer responses = connection.responses;
+
+            int endIndex = requests.position() - requests.position() % BinaryProtocol.REQUEST_FRAME_SIZE;
+            long numberOfFailures = 0;
+
+            responses.clear();
+
+            for (int index = 0; index < endIndex; index += BinaryProtocol.REQUEST_FRAME_SIZE){
+                if (!BinaryProtocol.calculate(requests, index, responses, calculationResult)){
+                    numberOfFailures++;
+                }
+            }
+
+            responses.flip();
+
+            //keep the incomplete last frame for the next read
+            requests.limit(requests.position()).position(endIndex);
+            requests.compact();
+
+            numberOfFrames.add(endIndex / BinaryProtocol.REQUEST_FRAME_SIZE);
+            numberOfFailedFrames.add(numberOfFailures);
+        }
+    }
+
+
+    /**
+     * The buffers of one connection
+     * */
+    private static final class Connection {
+
+        private final ByteBuffer requests =
+                ByteBuffer.allocateDirect(REQUEST_BUFFER_SIZE).order(BinaryProtocol.BYTE_ORDER);
+
+        private final ByteBuffer responses =
+                ByteBuffer.allocateDirect(RESPONSE_BUFFER_SIZE).order(BinaryProtocol.BYTE_ORDER).limit(0);
+
+
+        /**
+         * Write as many of the pending responses as the socket takes
+         *
+         * @return true if every pending response is written
+         * */
+        boolean writeResponses(SocketChannel channel) throws IOException {
+
+            if (responses.hasRemaining()){
+                channel.write(responses);
+            }
+
+            return !responses.hasRemaining();
+        }
+    }
+}
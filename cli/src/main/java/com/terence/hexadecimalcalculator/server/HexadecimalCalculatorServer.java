@@ -0,0 +1,416 @@
+package com.terence.hexadecimalcalculator.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.terence.hexadecimalcalculator.cli.ByteLineReader;
+import com.terence.hexadecimalcalculator.cli.HexadecimalLineEvaluator;
+import com.terence.hexadecimalcalculator.metrics.CalculatorMetrics;
+import com.terence.hexadecimalcalculator.models.CalculationResult;
+import com.terence.hexadecimalcalculator.models.CalculationStatus;
+import com.terence.hexadecimalcalculator.models.HexadecimalCalculator;
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter;
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter.LetterCase;
+import com.terence.hexadecimalcalculator.models.HexadecimalOperation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+
+/**
+ * @author Terence Lee
+ *
+ * A local HTTP/1.1 service exposing the operations of HexadecimalCalculator, so that several
+ * programs can share one warmed-up JVM instead of each embedding the library. It is built on
+ * the HttpServer of the JDK, and handles every exchange on a virtual thread when the JVM has
+ * them (Java 21 or later), or on a pool of platform threads otherwise.
+ * <pre>
+      GET  /add?a=1A3F&amp;b=-FF      one operation (also /subtract, /multiply, /divide, /modulus):
+                                  200 with the result, or 400 with "error: ..."
+      POST /calculate             a batch: one "first operator second" line per operation in the
+                                  body, e.g. "1A3F + -FF", and one result line per line back
+      GET  /metrics               the counters of ServerMetrics, one "name value" line each, and
+                                  the CalculatorMetrics of every operation if they are enabled
+ * </pre>
+ *
+ * Connections are kept alive, so a client can send many requests over one connection,
+ * including pipelined requests (sent before the previous responses arrive), which are
+ * answered in order.
+ *
+ * Usage: HexadecimalCalculatorServer [port]   (listens on the loopback address only)
+ * */
+public final class HexadecimalCalculatorServer implements AutoCloseable {
+
+    public static final int DEFAULT_PORT = 8080;
+
+    //max size of the body of a batch, so one request cannot exhaust the heap
+    public static final int MAX_BATCH_BODY_SIZE = 1 << 24;
+
+    private static final byte[] BODY_TOO_LARGE =
+            ("error: body larger than " + MAX_BATCH_BODY_SIZE + " bytes\n").getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] LINE_TOO_LONG =
+            ("error: line longer than " + ByteLineReader.BUFFER_SIZE + " bytes\n").getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] MISSING_OPERAND = "error: missing parameter a or b\n".getBytes(StandardCharsets.US_ASCII);
+
+    private static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private final HttpServer httpServer;
+
+    private final ExecutorService executor;
+
+    private final ServerMetrics metrics = new ServerMetrics();
+
+
+    /**
+     * Creates a server, without starting it
+     *
+     * @param address the address to listen on (port 0 picks a free port)
+     *
+     * @throws IOException if the address cannot be bound
+     * */
+    public HexadecimalCalculatorServer(InetSocketAddress address) throws IOException {
+
+        this.httpServer = HttpServer.create(address, 0);
+        this.executor = newExecutor();
+
+        httpServer.setExecutor(executor);
+
+        for (HexadecimalOperation operation : HexadecimalOperation.values()){
+            String path = "/" + operation.name().toLowerCase();
+
+            httpServer.createContext(path, exchange -> handleOperation(exchange, operation));
+        }
+
+        httpServer.createContext("/calculate", this::handleBatch);
+        httpServer.createContext("/metrics", this::handleMetrics);
+    }
+
+
+    public static void main(String[] args) throws IOException {
+
+        enableTcpNoDelay();
+
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+
+        HexadecimalCalculatorServer server =
+                new HexadecimalCalculatorServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+
+        server.start();
+
+        System.err.println("Listening on http://localhost:" + server.getPort() + "/");
+    }
+
+
+    /**
+     * Turns off Nagle's algorithm for the connections of every HttpServer of the JVM, unless
+     * the sun.net.httpserver.nodelay system property is already set. The HttpServer writes the
+     * headers and the body of a response separately, so with Nagle's algorithm the body waits
+     * for the delayed ACK of the headers (about 40 ms per request).
+     *
+     * The property is JVM-wide and is read when the first HttpServer is created, so main()
+     * calls this before creating the server; a program embedding the server decides for itself
+     * whether to call it (or to set the property with -D)
+     * */
+    public static void enableTcpNoDelay(){
+
+        if (System.getProperty(NODELAY_PROPERTY) == null){
+            System.setProperty(NODELAY_PROPERTY, "true");
+        }
+    }
+
+
+    public void start(){
+        httpServer.start();
+    }
+
+
+    /**
+     * Stop accepting requests, close the connections (kept-alive connections would otherwise
+     * hold the server open until they time out), and stop the threads
+     * */
+    @Override
+    public void close() {
+
+        httpServer.stop(0);
+        executor.shutdown();
+    }
+
+
+    /**
+     * Returns the port the server listens on
+     * */
+    public int getPort(){
+        return httpServer.getAddress().getPort();
+    }
+
+
+    public ServerMetrics getMetrics() {
+        return metrics;
+    }
+
+
+    private void handleOperation(HttpExchange exchange, HexadecimalOperation operation) throws IOException {
+
+        long startTime = System.nanoTime();
+
+        try (exchange){
+            String query = exchange.getRequestURI().getRawQuery();
+            String firstHexadecimalNumber = queryParameter(query, "a");
+            String secondHexadecimalNumber = queryParameter(query, "b");
+
+            if (firstHexadecimalNumber == null || secondHexadecimalNumber == null){
+                metrics.recordOperation(false, 0);
+                sendResponse(exchange, 400, MISSING_OPERAND, MISSING_OPERAND.length);
+
+                return;
+            }
+
+            CalculationResult calculationResult = new CalculationResult();
+            CalculationStatus status = HexadecimalCalculator.tryCalculate(operation, firstHexadecimalNumber,
+                                                                          secondHexadecimalNumber,
+                                                                          calculationResult);
+
+            byte[] response;
+
+            if (status == CalculationStatus.OK){
+                response = new byte[HexadecimalFormatter.MAX_LENGTH + 1];
+
+                int length = HexadecimalFormatter.format(calculationResult.getValue(), LetterCase.LOWER,
+                                                         response, 0);
+                response[length] = '\n';
+                response = Arrays.copyOf(response, length + 1);
+            }
+            else {
+                response = errorMessageOf(status);
+            }
+
+            metrics.recordOperation(status == CalculationStatus.OK, System.nanoTime() - startTime);
+            sendResponse(exchange, status == CalculationStatus.OK ? 200 : 400, response, response.length);
+        }
+    }
+
+
+    private void handleBatch(HttpExchange exchange) throws IOException {
+
+        long startTime = System.nanoTime();
+
+        try (exchange){
+            if (!exchange.getRequestMethod().equals("POST")){
+                exchange.getResponseHeaders().set("Allow", "POST");
+                exchange.sendResponseHeaders(405, -1);
+
+                return;
+            }
+
+            HexadecimalLineEvaluator lineEvaluator = new HexadecimalLineEvaluator(LetterCase.LOWER);
+            BatchResponse batchResponse = new BatchResponse();
+
+            try (InputStream body = new BoundedInputStream(exchange.getRequestBody(), MAX_BATCH_BODY_SIZE)){
+
+                ByteLineReader.readLines(body, new ByteLineReader.ByteLineHandler() {
+
+                    @Override
+                    public void handleLine(byte[] buffer, int fromIndex, int toIndex) {
+
+                        batchResponse.reserve(HexadecimalLineEvaluator.MAX_OUTPUT_LENGTH + 1);
+                        batchResponse.length = lineEvaluator.evaluate(buffer, fromIndex, toIndex,
+                                                                      batchResponse.bytes, batchResponse.length);
+                        batchResponse.bytes[batchResponse.length++] = '\n';
+
+                        batchResponse.numberOfLines++;
+
+                        if (lineEvaluator.getErrorMessage() != null ||
+                            (lineEvaluator.getCalculationStatus() != null &&
+                             lineEvaluator.getCalculationStatus() != CalculationStatus.OK)){
+
+                            batchResponse.numberOfFailedLines++;
+                        }
+                    }
+
+                    @Override
+                    public void handleLineTooLong() {
+
+                        batchResponse.reserve(LINE_TOO_LONG.length);
+                        System.arraycopy(LINE_TOO_LONG, 0, batchResponse.bytes, batchResponse.length,
+                                         LINE_TOO_LONG.length);
+                        batchResponse.length += LINE_TOO_LONG.length;
+
+                        batchResponse.numberOfLines++;
+                        batchResponse.numberOfFailedLines++;
+                    }
+                });
+            }
+            catch (BodyTooLargeException e){
+                metrics.recordBatch(0, 0, System.nanoTime() - startTime);
+                sendResponse(exchange, 413, BODY_TOO_LARGE, BODY_TOO_LARGE.length);
+
+                return;
+            }
+
+            metrics.recordBatch(batchResponse.numberOfLines, batchResponse.numberOfFailedLines,
+                                System.nanoTime() - startTime);
+            sendResponse(exchange, 200, batchResponse.bytes, batchResponse.length);
+        }
+    }
+
+
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+
+        try (exchange){
+            String text = CalculatorMetrics.ENABLED ? metrics.toText() + CalculatorMetrics.snapshot().toText() :
+                                                      metrics.toText();
+            byte[] response = text.getBytes(StandardCharsets.US_ASCII);
+
+            sendResponse(exchange, 200, response, response.length);
+        }
+    }
+
+
+    private static byte[] errorMessageOf(CalculationStatus status){
+
+        String message = switch (status) {
+            case INVALID_DIGIT -> "invalid number";
+            case OUT_OF_RANGE -> "number out of range";
+            case DIVIDE_BY_ZERO -> "division by zero";
+            default -> "result overflows a long";
+        };
+
+        return ("error: " + message + "\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
+
+    private static void sendResponse(HttpExchange exchange, int statusCode, byte[] body, int length)
+            throws IOException {
+
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=us-ascii");
+        exchange.sendResponseHeaders(statusCode, length);
+
+        try (OutputStream responseBody = exchange.getResponseBody()){
+            responseBody.write(body, 0, length);
+        }
+    }
+
+
+    /**
+     * Returns the value of a parameter of a query string, e.g. "-FF" for "b" in "a=1A3F&amp;b=-FF",
+     * or null if it is missing. Hexadecimal numbers need no URL decoding, apart from a "+" sign
+     * written as "%2B"
+     * */
+    static String queryParameter(String query, String name){
+
+        if (query == null){
+            return null;
+        }
+
+        for (String parameter : query.split("&")){
+            int equalsIndex = parameter.indexOf('=');
+
+            if (equalsIndex == name.length() && parameter.startsWith(name)){
+                return parameter.substring(equalsIndex + 1).replace("%2B", "+").replace("%2b", "+");
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Returns an executor running every task on a new virtual thread if the JVM supports them
+     * (found by reflection, as the project is compiled for Java 18), or a pool of platform
+     * threads otherwise
+     * */
+    private static ExecutorService newExecutor(){
+
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        }
+        catch (ReflectiveOperationException | UnsupportedOperationException e){
+            //Java 18, or Java 19/20 without --enable-preview
+            return Executors.newFixedThreadPool(4 * Runtime.getRuntime().availableProcessors());
+        }
+    }
+
+
+    /**
+     * The growing response of a batch
+     * */
+    private static final class BatchResponse {
+
+        private byte[] bytes = new byte[1 << 12];
+
+        private int length;
+
+        private long numberOfLines;
+
+        private long numberOfFailedLines;
+
+
+        void reserve(int numberOfBytes){
+
+            if (bytes.length - length < numberOfBytes){
+                bytes = Arrays.copyOf(bytes, Math.max(2 * bytes.length, length + numberOfBytes));
+            }
+        }
+    }
+
+
+    private static final class BodyTooLargeException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+    }
+
+
+    /**
+     * An input stream throwing a BodyTooLargeException once more than a max number of
+     * bytes have been read from it
+     * */
+    private static final class BoundedInputStream extends InputStream {
+
+        private final InputStream input;
+
+        private long remainingBytes;
+
+
+        BoundedInputStream(InputStream input, long maxBytes) {
+            this.input = input;
+            this.remainingBytes = maxBytes;
+        }
+
+
+        @Override
+        public int read() throws IOException {
+
+            byte[] singleByte = new byte[1];
+
+            return read(singleByte, 0, 1) < 0 ? -1 : singleByte[0] & 0xFF;
+        }
+
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+
+            int bytesRead = input.read(buffer, offset, length);
+
+            if (bytesRead > 0 && (remainingBytes -= bytesRead) < 0){
+                throw new BodyTooLargeException();
+            }
+
+            return bytesRead;
+        }
+
+
+        @Override
+        public void close() throws IOException {
+            input.close();
+        }
+    }
+}
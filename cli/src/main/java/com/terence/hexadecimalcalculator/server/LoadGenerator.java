@@ -0,0 +1,222 @@
+package com.terence.hexadecimalcalculator.server;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Measures the latency of a HexadecimalCalculatorServer over the loopback interface. Every
+ * connection sends its requests in pipelined rounds (a number of requests written at once,
+ * then their responses read in order), and the latency of a request is the time from the
+ * write of its round to the end of its response. The p50, p99 and max latencies and the
+ * throughput of all the connections are printed at the end.
+ *
+ * The HTTP responses are parsed by hand over plain sockets, so the generator measures the
+ * server rather than an HTTP client library
+ *
+ * Usage: LoadGenerator port [connections] [requests-per-connection] [pipeline-depth]
+ * */
+public final class LoadGenerator {
+
+    /**
+     * The constructor is made private as all methods of this class are static, and
+     * therefore the constructor is not required
+     * */
+    private LoadGenerator() {
+
+    }
+
+
+    public static void main(String[] args) throws Exception {
+
+        if (args.length < 1){
+            System.err.println("Usage: LoadGenerator port [connections] [requests-per-connection] [pipeline-depth]");
+            System.exit(2);
+        }
+
+        int port = Integer.parseInt(args[0]);
+        int numberOfConnections = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int requestsPerConnection = args.length > 2 ? Integer.parseInt(args[2]) : 100000;
+        int pipelineDepth = args.length > 3 ? Integer.parseInt(args[3]) : 16;
+
+        //warm up the JIT of the server (and of this generator) before measuring
+        run(port, numberOfConnections, requestsPerConnection / 10, pipelineDepth);
+
+        long startTime = System.nanoTime();
+        long[] latencies = run(port, numberOfConnections, requestsPerConnection, pipelineDepth);
+        long elapsedNanos = System.nanoTime() - startTime;
+
+        System.out.printf("%d requests on %d connections, pipeline depth %d%n", latencies.length,
+                          numberOfConnections, pipelineDepth);
+        System.out.printf("throughput %.0f requests/s%n", latencies.length * 1e9 / elapsedNanos);
+        System.out.printf("p50 %.1f us, p99 %.1f us, max %.1f us%n", percentile(latencies, 0.50) / 1e3,
+                          percentile(latencies, 0.99) / 1e3, latencies[latencies.length - 1] / 1e3);
+    }
+
+
+    /**
+     * Send requests on several connections at once, and wait until all of them are answered
+     *
+     * @param port the port of the server, on the loopback address
+     * @param numberOfConnections the number of connections, each on its own thread
+     * @param requestsPerConnection the number of requests per connection
+     * @param pipelineDepth the number of requests written at once on a connection
+     *
+     * @throws IOException if a connection fails, or a response is not 200 OK
+     *
+     * @return the latencies of all the requests in nanoseconds, sorted
+     * */
+    public static long[] run(int port, int numberOfConnections, int requestsPerConnection, int pipelineDepth)
+            throws Exception {
+
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfConnections);
+
+        try {
+            List<Future<long[]>> connectionLatencies = new ArrayList<>();
+
+            for (int connection = 0; connection < numberOfConnections; connection++){
+                int seed = connection;
+
+                connectionLatencies.add(executor.submit(() -> runConnection(port, requestsPerConnection,
+                                                                            pipelineDepth, seed)));
+            }
+
+            long[] latencies = new long[numberOfConnections * requestsPerConnection];
+            int length = 0;
+
+            for (Future<long[]> future : connectionLatencies){
+                long[] futureLatencies = future.get();
+
+                System.arraycopy(futureLatencies, 0, latencies, length, futureLatencies.length);
+                length += futureLatencies.length;
+            }
+
+            Arrays.sort(latencies);
+
+            return latencies;
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+
+    /**
+     * Returns the value below which a share of the sorted values are
+     *
+     * @param sortedValues the values, sorted in ascending order
+     * @param share the share, from 0 to 1 (e.g. 0.99 for the 99th percentile)
+     * */
+    public static long percentile(long[] sortedValues, double share){
+
+        if (sortedValues.length == 0){
+            return 0;
+        }
+
+        int index = (int) Math.ceil(share * sortedValues.length) - 1;
+
+        return sortedValues[Math.max(0, Math.min(index, sortedValues.length - 1))];
+    }
+
+
+    private static long[] runConnection(int port, int numberOfRequests, int pipelineDepth, int seed)
+            throws IOException {
+
+        long[] latencies = new long[numberOfRequests];
+        String[] operations = {"add", "subtract", "multiply", "divide", "modulus"};
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)){
+            socket.setTcpNoDelay(true);
+
+            OutputStream output = socket.getOutputStream();
+            InputStream input = new BufferedInputStream(socket.getInputStream(), 1 << 16);
+
+            StringBuilder round = new StringBuilder();
+
+            for (int firstRequest = 0; firstRequest < numberOfRequests; firstRequest += pipelineDepth){
+                int roundSize = Math.min(pipelineDepth, numberOfRequests - firstRequest);
+
+                round.setLength(0);
+
+                for (int request = firstRequest; request < firstRequest + roundSize; request++){
+                    round.append("GET /").append(operations[(request + seed) % operations.length])
+                         .append("?a=").append(Integer.toHexString(request * 31 + seed))
+                         .append("&b=").append(Integer.toHexString(request % 255 + 1))
+                         .append(" HTTP/1.1\r\nHost: localhost\r\n\r\n");
+                }
+
+                long roundStartTime = System.nanoTime();
+
+                output.write(round.toString().getBytes(StandardCharsets.US_ASCII));
+                output.flush();
+
+                for (int request = firstRequest; request < firstRequest + roundSize; request++){
+                    readResponse(input);
+                    latencies[request] = System.nanoTime() - roundStartTime;
+                }
+            }
+        }
+
+        return latencies;
+    }
+
+
+    /**
+     * Read one HTTP response with a Content-Length, and skip its body
+     *
+     * @throws IOException if the connection closes, or the status is not 200
+     * */
+    private static void readResponse(InputStream input) throws IOException {
+
+        String statusLine = readLine(input);
+
+        if (!statusLine.startsWith("HTTP/1.1 200")){
+            throw new IOException("Unexpected response: " + statusLine);
+        }
+
+        long contentLength = 0;
+
+        for (String header = readLine(input); !header.isEmpty(); header = readLine(input)){
+            if (header.regionMatches(true, 0, "Content-Length:", 0, 15)){
+                contentLength = Long.parseLong(header.substring(15).trim());
+            }
+        }
+
+        for (long skipped = 0; skipped < contentLength; skipped++){
+            if (input.read() < 0){
+                throw new IOException("Connection closed in the middle of a response");
+            }
+        }
+    }
+
+
+    private static String readLine(InputStream input) throws IOException {
+
+        StringBuilder line = new StringBuilder();
+
+        for (int character = input.read(); character != '\n'; character = input.read()){
+            if (character < 0){
+                throw new IOException("Connection closed in the middle of a response");
+            }
+
+            if (character != '\r'){
+                line.append((char) character);
+            }
+        }
+
+        return line.toString();
+    }
+}
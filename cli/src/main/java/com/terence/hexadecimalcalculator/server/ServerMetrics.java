@@ -0,0 +1,106 @@
+package com.terence.hexadecimalcalculator.server;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * @author Terence Lee
+ *
+ * The counters of a HexadecimalCalculatorServer, served by its /metrics endpoint. They are
+ * LongAdders, so the threads handling requests never contend on them
+ * */
+public final class ServerMetrics {
+
+    private final LongAdder numberOfOperations = new LongAdder();
+
+    private final LongAdder numberOfFailedOperations = new LongAdder();
+
+    private final LongAdder operationNanos = new LongAdder();
+
+    private final LongAccumulator maxOperationNanos = new LongAccumulator(Math::max, 0);
+
+    private final LongAdder numberOfBatches = new LongAdder();
+
+    private final LongAdder numberOfBatchLines = new LongAdder();
+
+    private final LongAdder numberOfFailedBatchLines = new LongAdder();
+
+    private final LongAdder batchNanos = new LongAdder();
+
+
+    /**
+     * Record a request for one operation
+     *
+     * @param succeeded false if the request was invalid or the calculation failed
+     * @param nanos the time taken to handle the request, in nanoseconds
+     * */
+    void recordOperation(boolean succeeded, long nanos){
+
+        numberOfOperations.increment();
+
+        if (!succeeded){
+            numberOfFailedOperations.increment();
+        }
+
+        operationNanos.add(nanos);
+        maxOperationNanos.accumulate(nanos);
+    }
+
+
+    /**
+     * Record a batch request
+     *
+     * @param numberOfLines the number of lines of the batch
+     * @param numberOfFailedLines the number of lines that were invalid or whose calculation failed
+     * @param nanos the time taken to handle the request, in nanoseconds
+     * */
+    void recordBatch(long numberOfLines, long numberOfFailedLines, long nanos){
+
+        numberOfBatches.increment();
+        numberOfBatchLines.add(numberOfLines);
+        numberOfFailedBatchLines.add(numberOfFailedLines);
+        batchNanos.add(nanos);
+    }
+
+
+    public long getNumberOfOperations() {
+        return numberOfOperations.sum();
+    }
+
+
+    public long getNumberOfFailedOperations() {
+        return numberOfFailedOperations.sum();
+    }
+
+
+    public long getNumberOfBatches() {
+        return numberOfBatches.sum();
+    }
+
+
+    public long getNumberOfBatchLines() {
+        return numberOfBatchLines.sum();
+    }
+
+
+    public long getNumberOfFailedBatchLines() {
+        return numberOfFailedBatchLines.sum();
+    }
+
+
+    /**
+     * Returns the counters as text, one "name value" line each
+     * */
+    public String toText(){
+
+        return "operations_total " + numberOfOperations.sum() + "\n" +
+               "operations_failed_total " + numberOfFailedOperations.sum() + "\n" +
+               "operations_nanoseconds_total " + operationNanos.sum() + "\n" +
+               "operations_nanoseconds_max " + maxOperationNanos.get() + "\n" +
+               "batches_total " + numberOfBatches.sum() + "\n" +
+               "batch_lines_total " + numberOfBatchLines.sum() + "\n" +
+               "batch_lines_failed_total " + numberOfFailedBatchLines.sum() + "\n" +
+               "batches_nanoseconds_total " + batchNanos.sum() + "\n";
+    }
+}
@@ -0,0 +1,9 @@
+module com.terence.hexadecimalcalculator.cli {
+    requires transitive com.terence.hexadecimalcalculator.core;
+    requires jdk.httpserver;
+
+
+    exports com.terence.hexadecimalcalculator.batch;
+    exports com.terence.hexadecimalcalculator.cli;
+    exports com.terence.hexadecimalcalculator.server;
+}
@@ -0,0 +1,169 @@
+package com.terence.hexadecimalcalculator.batch;
+
+
+import com.terence.hexadecimalcalculator.cli.ByteLineReader;
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter.LetterCase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.io.TempDir;
+import  org.junit.jupiter.api.Assertions;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Contains the unit tests for the various public methods of the BinaryBatchProcessor
+ * and BinaryBatchConverter classes
+ * */
+class BinaryBatchProcessorTest {
+
+    @TempDir
+    Path temporaryDirectory;
+
+
+    @Test
+    void process_textRoundTrip_sameResultsAsHeadlessMode() throws IOException {
+
+        Path textFile = temporaryDirectory.resolve("operations.txt");
+        Path inputFile = temporaryDirectory.resolve("operations.bin");
+        Path outputFile = temporaryDirectory.resolve("results.bin");
+
+        Files.writeString(textFile, "1A3F + -FF\n" +
+                                    "7FFFFFFFFFFFFFFF * 2\n" +
+                                    "-64 / 0\n" +
+                                    "64 % 7\n" +
+                                    "\n" +
+                                    "12G4 - 1\n" +
+                                    "-8000000000000000 / -1\n" +
+                                    "abc - abd", StandardCharsets.US_ASCII);
+
+        Assertions.assertEquals(8, BinaryBatchConverter.textToBinary(textFile, inputFile));
+        Assertions.assertEquals(BinaryBatchFormat.inputFileSize(8), Files.size(inputFile));
+
+        Assertions.assertEquals(5, BinaryBatchProcessor.process(inputFile, outputFile));
+        Assertions.assertEquals(BinaryBatchFormat.outputFileSize(8), Files.size(outputFile));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        Assertions.assertEquals(8, BinaryBatchConverter.resultsToText(outputFile, output, LetterCase.UPPER));
+        Assertions.assertEquals("1940\n" +
+                                "error: result overflows a long\n" +
+                                "error: division by zero\n" +
+                                "2\n" +
+                                "error: invalid operation\n" +
+                                "error: invalid operation\n" +
+                                "error: result overflows a long\n" +
+                                "-1\n", output.toString(StandardCharsets.US_ASCII));
+    }
+
+
+    @Test
+    void textToBinary_invalidLine_invalidOpcodeRecord() throws IOException {
+
+        Path textFile = temporaryDirectory.resolve("operations.txt");
+        Path inputFile = temporaryDirectory.resolve("operations.bin");
+        Path outputFile = temporaryDirectory.resolve("results.bin");
+
+        Files.writeString(textFile, "12G4 - 1\n1 + 1\n", StandardCharsets.US_ASCII);
+
+        Assertions.assertEquals(2, BinaryBatchConverter.textToBinary(textFile, inputFile));
+        Assertions.assertEquals(BinaryBatchFormat.INVALID_OPCODE, readOpcode(inputFile, 0));
+
+        Assertions.assertEquals(1, BinaryBatchProcessor.process(inputFile, outputFile));
+        Assertions.assertEquals("error: invalid operation\n2\n", resultsToText(outputFile));
+    }
+
+
+    @Test
+    void textToBinary_lineTooLong_lineTooLongOpcodeRecord() throws IOException {
+
+        Path textFile = temporaryDirectory.resolve("operations.txt");
+        Path inputFile = temporaryDirectory.resolve("operations.bin");
+        Path outputFile = temporaryDirectory.resolve("results.bin");
+
+        Files.writeString(textFile, "1".repeat(ByteLineReader.BUFFER_SIZE + 1) + " + 1\n1 + 1\n",
+                          StandardCharsets.US_ASCII);
+
+        Assertions.assertEquals(2, BinaryBatchConverter.textToBinary(textFile, inputFile));
+        Assertions.assertEquals(BinaryBatchFormat.LINE_TOO_LONG_OPCODE, readOpcode(inputFile, 0));
+
+        Assertions.assertEquals(1, BinaryBatchProcessor.process(inputFile, outputFile));
+        Assertions.assertEquals("error: line longer than " + ByteLineReader.BUFFER_SIZE + " bytes\n2\n",
+                                resultsToText(outputFile));
+    }
+
+
+    @Test
+    void process_emptyFile_noRecords() throws IOException {
+
+        Path textFile = Files.createFile(temporaryDirectory.resolve("operations.txt"));
+        Path inputFile = temporaryDirectory.resolve("operations.bin");
+        Path outputFile = temporaryDirectory.resolve("results.bin");
+
+        Assertions.assertEquals(0, BinaryBatchConverter.textToBinary(textFile, inputFile));
+        Assertions.assertEquals(0, BinaryBatchProcessor.process(inputFile, outputFile));
+        Assertions.assertEquals(BinaryBatchFormat.HEADER_SIZE, Files.size(outputFile));
+    }
+
+
+    @Test
+    void process_notABatchFile_IOException() throws IOException {
+
+        Path textFile = Files.writeString(temporaryDirectory.resolve("operations.txt"), "1 + 1\n");
+        Path outputFile = temporaryDirectory.resolve("results.bin");
+
+        Assertions.assertThrows(IOException.class,
+
+                ()->BinaryBatchProcessor.process(textFile, outputFile)
+        );
+    }
+
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1, Long.MAX_VALUE / 8, Long.MAX_VALUE / 16, Long.MAX_VALUE, 1L << 40})
+    void process_corruptRecordCount_IOException(long recordCount) throws IOException {
+
+        Path textFile = Files.writeString(temporaryDirectory.resolve("operations.txt"), "1 + 1\n");
+        Path inputFile = temporaryDirectory.resolve("operations.bin");
+        Path outputFile = temporaryDirectory.resolve("results.bin");
+
+        BinaryBatchConverter.textToBinary(textFile, inputFile);
+
+        //the record count is the long at offset 8 of the header
+        try (FileChannel channel = FileChannel.open(inputFile, StandardOpenOption.WRITE)){
+            channel.write(ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                                    .putLong(0, recordCount), 8);
+        }
+
+        Assertions.assertThrows(IOException.class,
+
+                ()->BinaryBatchProcessor.process(inputFile, outputFile)
+        );
+    }
+
+
+    private static byte readOpcode(Path inputFile, int recordIndex) throws IOException {
+        return Files.readAllBytes(inputFile)[(int) BinaryBatchFormat.byteColumnOffset() + recordIndex];
+    }
+
+
+    private static String resultsToText(Path outputFile) throws IOException {
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        BinaryBatchConverter.resultsToText(outputFile, output, LetterCase.LOWER);
+
+        return output.toString(StandardCharsets.US_ASCII);
+    }
+}
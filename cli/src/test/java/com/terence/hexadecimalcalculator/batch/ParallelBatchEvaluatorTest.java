@@ -0,0 +1,147 @@
+package com.terence.hexadecimalcalculator.batch;
+
+
+import com.terence.hexadecimalcalculator.cli.HexadecimalCalculatorCli;
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter.LetterCase;
+import com.terence.hexadecimalcalculator.models.HexadecimalOperation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import  org.junit.jupiter.api.Assertions;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Contains the unit tests for the various public methods of the ParallelBatchEvaluator
+ * class
+ * */
+class ParallelBatchEvaluatorTest {
+
+
+    @ParameterizedTest
+    @CsvSource({"1,1", "7,2", "100,3", "16384,64"})
+    void evaluateLines_anyChunkSize_sameOutputAsHeadlessMode(int chunkSize, int maxChunksInFlight)
+            throws IOException {
+
+        StringBuilder lines = new StringBuilder();
+        Random random = new Random(42);
+        String operators = "+-*/%";
+
+        for (int lineIndex = 0; lineIndex < 5000; lineIndex++){
+            switch (lineIndex % 50){
+                case 7 -> lines.append("\n");
+                case 13 -> lines.append("12G4 + 1\n");
+                case 29 -> lines.append("7FFFFFFFFFFFFFFF * 2\n");
+                default -> lines.append(Long.toString(random.nextLong() >> random.nextInt(64), 16))
+                                .append(' ').append(operators.charAt(random.nextInt(operators.length())))
+                                .append(' ').append(Long.toString(random.nextInt(16) - 8, 16)).append('\n');
+            }
+        }
+
+        byte[] input = lines.toString().getBytes(StandardCharsets.US_ASCII);
+
+        ByteArrayOutputStream expectedOutput = new ByteArrayOutputStream();
+        HexadecimalCalculatorCli.evaluateLines(new ByteArrayInputStream(input), expectedOutput, LetterCase.UPPER);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            ParallelBatchEvaluator evaluator = new ParallelBatchEvaluator(executor, chunkSize, maxChunksInFlight);
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+            ParallelBatchEvaluator.BatchSummary summary =
+                    evaluator.evaluateLines(new ByteArrayInputStream(input), output, LetterCase.UPPER);
+
+            Assertions.assertEquals(expectedOutput.toString(StandardCharsets.US_ASCII),
+                                    output.toString(StandardCharsets.US_ASCII));
+            Assertions.assertEquals(5000, summary.numberOfOperations());
+            Assertions.assertEquals(100, summary.numberOfInvalidOperations());
+            Assertions.assertTrue(summary.firstFailedIndex() >= 0 && summary.firstFailedIndex() <= 13);
+            Assertions.assertTrue(summary.numberOfOverflows() >= 100);
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+
+    @Test
+    void evaluateLines_lineTooLong_errorLineAndNextLinesEvaluated() throws IOException {
+
+        String input = "1 + 1\n" + "1".repeat(100000) + " + 1\n" + "-64 / 0\n" + "F * F";
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        ParallelBatchEvaluator.BatchSummary summary = new ParallelBatchEvaluator().evaluateLines(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII)), output, LetterCase.LOWER);
+
+        Assertions.assertEquals("2\n" +
+                                "error: line longer than 65536 bytes\n" +
+                                "error: division by zero\n" +
+                                "e1\n", output.toString(StandardCharsets.US_ASCII));
+        Assertions.assertEquals(new ParallelBatchEvaluator.BatchSummary(4, 0, 1, 1, 1), summary);
+    }
+
+
+    @Test
+    void evaluate_arrays_resultsAndStatusesInOrder() {
+
+        int numberOfOperations = 100003;
+
+        byte[] opcodes = new byte[numberOfOperations];
+        long[] firstDecimalNumbers = new long[numberOfOperations];
+        long[] secondDecimalNumbers = new long[numberOfOperations];
+
+        for (int index = 0; index < numberOfOperations; index++){
+            opcodes[index] = (byte) (index % 6 == 5 ? BinaryBatchFormat.INVALID_OPCODE : index % 6);
+            firstDecimalNumbers[index] = index % 1000 == 999 ? Long.MAX_VALUE : index;
+            secondDecimalNumbers[index] = index % 7;
+        }
+
+        long[] results = new long[numberOfOperations];
+        byte[] statuses = new byte[numberOfOperations];
+
+        ParallelBatchEvaluator.BatchSummary summary = new ParallelBatchEvaluator(Runnable::run, 1000, 1)
+                .evaluate(opcodes, firstDecimalNumbers, secondDecimalNumbers, results, statuses);
+
+        ParallelBatchEvaluator.BatchSummary parallelSummary = new ParallelBatchEvaluator()
+                .evaluate(opcodes, firstDecimalNumbers, secondDecimalNumbers, new long[numberOfOperations],
+                          new byte[numberOfOperations]);
+
+        Assertions.assertEquals(summary, parallelSummary);
+        Assertions.assertEquals(numberOfOperations, summary.numberOfOperations());
+        Assertions.assertEquals(numberOfOperations / 6, summary.numberOfInvalidOperations());
+        Assertions.assertEquals(5, summary.firstFailedIndex());
+
+        for (int index = 0; index < numberOfOperations; index++){
+            HexadecimalOperation operation = HexadecimalOperation.fromOpcode(opcodes[index]);
+
+            if (statuses[index] == BinaryBatchFormat.STATUS_OK){
+                Assertions.assertEquals(operation.apply(firstDecimalNumbers[index], secondDecimalNumbers[index]),
+                                        results[index]);
+            }
+            else {
+                Assertions.assertEquals(0, results[index]);
+            }
+        }
+    }
+
+
+    @Test
+    void constructor_chunkSizeLessThanOne_IllegalArgumentException() {
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ParallelBatchEvaluator(Runnable::run, 0, 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ParallelBatchEvaluator(Runnable::run, 1, 0));
+    }
+}
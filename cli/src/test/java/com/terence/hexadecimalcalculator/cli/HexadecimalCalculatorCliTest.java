@@ -0,0 +1,138 @@
+package com.terence.hexadecimalcalculator.cli;
+
+
+import com.terence.hexadecimalcalculator.history.CalculationHistory;
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter.LetterCase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import  org.junit.jupiter.api.Assertions;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Contains the unit tests for the headless mode, i.e. HexadecimalCalculatorCli and
+ * HexadecimalLineEvaluator
+ * */
+class HexadecimalCalculatorCliTest {
+
+    @TempDir
+    Path temporaryDirectory;
+
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "1A3F + -FF|1940", "1a3f*10|1a3f0", "  -12   -   -13c  |12a", "abcd / 1234|9",
+            "-1234 % 13|-5", "7FFFFFFFFFFFFFFF * 2|error: result overflows a long",
+            "10 / 0|error: division by zero", "10 % 0|error: division by zero",
+            "12G4 + 1|error: invalid first number", "1 + 12G4|error: invalid second number",
+            "8000000000000000 + 1|error: first number out of range",
+            "1 + -8000000000000001|error: second number out of range",
+            "FFFFFFFFFFFFFFFF + 1|error: first number out of range",
+            "1 - -FFFFFFFFFFFFFFFF|error: second number out of range",
+            "1 ^ 2|error: unknown operator", "5|error: missing operator",
+            "1 +|error: missing second number",
+            "5 % 3 x|error: unexpected text after the second number"})
+    void evaluate_validAndInvalidLines_resultOrErrorMessage(String line, String expectedOutput) {
+
+        byte[] lineBytes = line.getBytes(StandardCharsets.US_ASCII);
+        byte[] output = new byte[HexadecimalLineEvaluator.MAX_OUTPUT_LENGTH];
+
+        int outputLength = new HexadecimalLineEvaluator(LetterCase.LOWER)
+                .evaluate(lineBytes, 0, lineBytes.length, output, 0);
+
+        Assertions.assertEquals(expectedOutput,
+                new String(output, 0, outputLength, StandardCharsets.US_ASCII));
+    }
+
+
+    @Test
+    void evaluateLines_mixedLineTerminators_oneResultLinePerInputLine() throws IOException {
+
+        String input = "1A3F + -FF\r\n\n7FFFFFFFFFFFFFFF * 2\nff - 1";
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long numberOfLines = HexadecimalCalculatorCli.evaluateLines(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII)), output,
+                LetterCase.UPPER);
+
+        Assertions.assertEquals(4, numberOfLines);
+        Assertions.assertEquals("1940\n\nerror: result overflows a long\nFE\n",
+                output.toString(StandardCharsets.US_ASCII));
+    }
+
+
+    @Test
+    void evaluateLines_lineLongerThanBuffer_errorLineAndRestEvaluated() throws IOException {
+
+        String input = "1".repeat(200_000) + " + 1\n2 + 2\n";
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        HexadecimalCalculatorCli.evaluateLines(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII)), output,
+                LetterCase.LOWER);
+
+        Assertions.assertEquals("error: line longer than 65536 bytes\n4\n",
+                output.toString(StandardCharsets.US_ASCII));
+    }
+
+
+    @Test
+    void evaluateLines_withHistory_calculationsReplayedAndSearched() throws IOException {
+
+        CalculationHistory history = CalculationHistory.open(temporaryDirectory.resolve("history.bin"), 16);
+
+        String input = "1A3F + -FF\n7FFFFFFFFFFFFFFF * 2\n12G4 - 1\n64 / 7\n1a % 10\n";
+
+        HexadecimalCalculatorCli.evaluateLines(new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII)),
+                                               new ByteArrayOutputStream(), LetterCase.LOWER, history);
+
+        //the overflow and the invalid line are not calculations of the history
+        Assertions.assertEquals(3, history.nextSequence());
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        Assertions.assertEquals(3, HexadecimalCalculatorCli.replayHistory(history, output, LetterCase.UPPER));
+        Assertions.assertEquals("1A3F + -FF = 1940\n64 / 7 = E remainder 2\n1A % 10 = A\n",
+                output.toString(StandardCharsets.US_ASCII).replaceAll("(?m)^\\S+  ", ""));
+
+        output.reset();
+
+        Assertions.assertEquals(2, HexadecimalCalculatorCli.searchHistory(history, "1A", output, LetterCase.LOWER));
+        Assertions.assertEquals("1a % 10 = a\n1a3f + -ff = 1940\n",
+                output.toString(StandardCharsets.US_ASCII).replaceAll("(?m)^\\S+  ", ""));
+    }
+
+
+    @ParameterizedTest
+    @ValueSource(strings = {"--replay-history", "--search-history"})
+    void main_readHistoryWithoutHistoryFile_noFileCreated(String option) throws IOException {
+
+        Path historyFile = temporaryDirectory.resolve("history.bin");
+        String previousHistoryFile = System.setProperty("hexadecimalcalculator.history", historyFile.toString());
+
+        try {
+            HexadecimalCalculatorCli.main(new String[] {option, "1A"});
+        }
+        finally {
+            if (previousHistoryFile == null){
+                System.clearProperty("hexadecimalcalculator.history");
+            }
+            else {
+                System.setProperty("hexadecimalcalculator.history", previousHistoryFile);
+            }
+        }
+
+        Assertions.assertFalse(Files.exists(historyFile));
+    }
+}
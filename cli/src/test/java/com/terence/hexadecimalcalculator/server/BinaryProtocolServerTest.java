@@ -0,0 +1,170 @@
+package com.terence.hexadecimalcalculator.server;
+
+
+import com.terence.hexadecimalcalculator.batch.BinaryBatchFormat;
+import com.terence.hexadecimalcalculator.models.HexadecimalOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import  org.junit.jupiter.api.Assertions;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Contains the unit tests for the various public methods of the BinaryProtocolServer and
+ * BinaryProtocolClient classes
+ * */
+class BinaryProtocolServerTest {
+
+    private BinaryProtocolServer server;
+
+    private InetSocketAddress address;
+
+
+    @BeforeEach
+    void startServer() throws IOException {
+
+        server = new BinaryProtocolServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 2);
+        server.start();
+
+        address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+    }
+
+
+    @AfterEach
+    void stopServer() throws IOException {
+        server.close();
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"ADD,6719,-255,6464", "SUBTRACT,16,1,15", "MULTIPLY,-2,3,-6", "DIVIDE,100,7,14", "MODULUS,100,7,2"})
+    void calculate_oneOperation_correctResult(HexadecimalOperation operation, long firstDecimalNumber,
+                                              long secondDecimalNumber, long expectedResult) throws IOException {
+
+        try (BinaryProtocolClient client = new BinaryProtocolClient(address)){
+            Assertions.assertEquals(expectedResult, client.calculate(operation, firstDecimalNumber,
+                                                                     secondDecimalNumber));
+        }
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"ADD,9223372036854775807,1", "MULTIPLY,-9223372036854775808,2", "DIVIDE,1,0", "MODULUS,1,0"})
+    void calculate_overflowOrDivisionByZero_ArithmeticException(HexadecimalOperation operation,
+                                                               long firstDecimalNumber, long secondDecimalNumber)
+            throws IOException {
+
+        try (BinaryProtocolClient client = new BinaryProtocolClient(address)){
+            Assertions.assertThrows(ArithmeticException.class,
+
+                    ()->client.calculate(operation, firstDecimalNumber, secondDecimalNumber)
+            );
+
+            //the connection is still usable after a failed operation
+            Assertions.assertEquals(3, client.calculate(HexadecimalOperation.ADD, 1, 2));
+        }
+    }
+
+
+    @Test
+    void calculate_batchLargerThanBuffers_sameResultsAsLocalCalculation() throws IOException {
+
+        int numberOfOperations = 20_000;
+
+        byte[] opcodes = new byte[numberOfOperations];
+        long[] firstDecimalNumbers = new long[numberOfOperations];
+        long[] secondDecimalNumbers = new long[numberOfOperations];
+
+        SplittableRandom random = new SplittableRandom(16);
+
+        for (int index = 0; index < numberOfOperations; index++){
+            //one opcode in 64 is invalid, and one divisor in 16 is 0
+            opcodes[index] = (byte) (random.nextInt(64) == 0 ? BinaryBatchFormat.INVALID_OPCODE : random.nextInt(5));
+            firstDecimalNumbers[index] = random.nextLong();
+            secondDecimalNumbers[index] = random.nextInt(16) == 0 ? 0 : random.nextLong(-100_000, 100_000);
+        }
+
+        long[] results = new long[numberOfOperations];
+        byte[] statuses = new byte[numberOfOperations];
+        long expectedNumberOfFailures = 0;
+
+        try (BinaryProtocolClient client = new BinaryProtocolClient(address)){
+            long numberOfFailures = client.calculate(opcodes, firstDecimalNumbers, secondDecimalNumbers,
+                                                     results, statuses);
+
+            for (int index = 0; index < numberOfOperations; index++){
+                HexadecimalOperation operation = HexadecimalOperation.fromOpcode(opcodes[index]);
+
+                if (operation == null){
+                    Assertions.assertEquals(BinaryBatchFormat.STATUS_INVALID_OPCODE, statuses[index]);
+                    expectedNumberOfFailures++;
+
+                    continue;
+                }
+
+                try {
+                    long expectedResult = operation.apply(firstDecimalNumbers[index], secondDecimalNumbers[index]);
+
+                    Assertions.assertEquals(BinaryBatchFormat.STATUS_OK, statuses[index]);
+                    Assertions.assertEquals(expectedResult, results[index]);
+                }
+                catch (ArithmeticException e){
+                    Assertions.assertNotEquals(BinaryBatchFormat.STATUS_OK, statuses[index]);
+                    Assertions.assertEquals(0, results[index]);
+                    expectedNumberOfFailures++;
+                }
+            }
+
+            Assertions.assertEquals(expectedNumberOfFailures, numberOfFailures);
+        }
+
+        Assertions.assertEquals(numberOfOperations, server.getNumberOfFrames());
+        Assertions.assertEquals(expectedNumberOfFailures, server.getNumberOfFailedFrames());
+    }
+
+
+    @Test
+    void calculate_concurrentClients_everyClientGetsItsOwnResults() throws Exception {
+
+        int numberOfClients = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfClients);
+
+        try {
+            Future<?>[] futures = new Future<?>[numberOfClients];
+
+            for (int clientIndex = 0; clientIndex < numberOfClients; clientIndex++){
+                long offset = clientIndex * 1_000_000L;
+
+                futures[clientIndex] = executor.submit(()->{
+                    try (BinaryProtocolClient client = new BinaryProtocolClient(address)){
+                        for (long value = 0; value < 500; value++){
+                            Assertions.assertEquals(offset + value * 2,
+                                    client.calculate(HexadecimalOperation.ADD, offset + value, value));
+                        }
+                    }
+
+                    return null;
+                });
+            }
+
+            for (Future<?> future : futures){
+                future.get();
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.terence.hexadecimalcalculator.server;
+
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import  org.junit.jupiter.api.Assertions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Contains the unit tests for the various public methods of the HexadecimalCalculatorServer
+ * and LoadGenerator classes
+ * */
+class HexadecimalCalculatorServerTest {
+
+    private HexadecimalCalculatorServer server;
+
+
+    @BeforeAll
+    static void enableTcpNoDelay() {
+        HexadecimalCalculatorServer.enableTcpNoDelay();
+    }
+
+
+    @BeforeEach
+    void startServer() throws IOException {
+
+        server = new HexadecimalCalculatorServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        server.start();
+    }
+
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"/add?a=1A3F&b=-FF,200,1940", "/subtract?b=1&a=10,200,f", "/multiply?a=-2&b=%2B3,200,-6",
+            "/divide?a=1A3F&b=0,400,error: division by zero", "/modulus?a=64&b=7,200,2",
+            "/add?a=7FFFFFFFFFFFFFFF&b=1,400,error: result overflows a long",
+            "/add?a=12G4&b=1,400,error: invalid number", "/add?a=1,400,error: missing parameter a or b"})
+    void operation_anyParams_resultOrError(String path, int expectedStatusCode, String expectedBody)
+            throws IOException {
+
+        HttpURLConnection connection = open(path);
+
+        Assertions.assertEquals(expectedStatusCode, connection.getResponseCode());
+        Assertions.assertEquals(expectedBody + "\n", readBody(connection));
+    }
+
+
+    @Test
+    void calculate_batchOfLines_oneResultLinePerLine() throws IOException {
+
+        HttpURLConnection connection = open("/calculate");
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+
+        try (OutputStream body = connection.getOutputStream()){
+            body.write("1A3F + -FF\n7FFFFFFFFFFFFFFF * 2\n\n-64 / 0\nabc - abd".getBytes(StandardCharsets.US_ASCII));
+        }
+
+        Assertions.assertEquals(200, connection.getResponseCode());
+        Assertions.assertEquals("1940\nerror: result overflows a long\n\nerror: division by zero\n-1\n",
+                                readBody(connection));
+
+        Assertions.assertEquals(1, server.getMetrics().getNumberOfBatches());
+        Assertions.assertEquals(5, server.getMetrics().getNumberOfBatchLines());
+        Assertions.assertEquals(2, server.getMetrics().getNumberOfFailedBatchLines());
+    }
+
+
+    @Test
+    void metrics_afterOperations_counters() throws IOException {
+
+        open("/add?a=1&b=1").getResponseCode();
+        open("/divide?a=1&b=0").getResponseCode();
+
+        HttpURLConnection connection = open("/metrics");
+
+        Assertions.assertEquals(200, connection.getResponseCode());
+
+        String metrics = readBody(connection);
+
+        Assertions.assertTrue(metrics.contains("operations_total 2\n"), metrics);
+        Assertions.assertTrue(metrics.contains("operations_failed_total 1\n"), metrics);
+    }
+
+
+    @Test
+    void loadGenerator_pipelinedRequests_allAnswered() throws Exception {
+
+        long[] latencies = LoadGenerator.run(server.getPort(), 2, 500, 8);
+
+        Assertions.assertEquals(1000, latencies.length);
+        Assertions.assertEquals(1000, server.getMetrics().getNumberOfOperations());
+        Assertions.assertTrue(LoadGenerator.percentile(latencies, 0.5) <= LoadGenerator.percentile(latencies, 0.99));
+    }
+
+
+    private HttpURLConnection open(String path) throws IOException {
+        return (HttpURLConnection) new URL("http://localhost:" + server.getPort() + path).openConnection();
+    }
+
+
+    private static String readBody(HttpURLConnection connection) throws IOException {
+
+        InputStream body = connection.getResponseCode() < 400 ? connection.getInputStream() :
+                                                                connection.getErrorStream();
+
+        try (body){
+            return new String(body.readAllBytes(), StandardCharsets.US_ASCII);
+        }
+    }
+}
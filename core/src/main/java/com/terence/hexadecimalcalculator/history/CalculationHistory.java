@@ -0,0 +1,547 @@
+package com.terence.hexadecimalcalculator.history;
+
+import com.terence.hexadecimalcalculator.models.ArithmeticMode;
+import com.terence.hexadecimalcalculator.models.HexadecimalOperation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+
+/**
+ * @author Terence Lee
+ *
+ * A persistent tape of calculations, kept as fixed-size binary records in a memory-mapped
+ * ring file. Once the ring is full, every new calculation overwrites the oldest one. All
+ * numbers are little-endian:
+ * <pre>
+      offset 0          header (64 bytes): magic "HXHI", version, capacity, next sequence, reserved
+      offset 64         capacity records of 64 bytes, the record of sequence S in slot S % capacity:
+                          0   commit: S + 1 once the record is complete, 0 while it is written
+                          8   timestamp (milliseconds since the epoch)
+                          16  first number
+                          24  second number
+                          32  result
+                          40  remainder of a DIVIDE (0 otherwise)
+                          48  opcode (HexadecimalOperation.getOpcode())
+                          49  arithmetic mode (width in bytes | 0x10 if signed | 0x20 if wrapping)
+                          50  reserved
+ * </pre>
+ *
+ * An append claims the next sequence with one atomic add on the header and then writes its
+ * own slot, so it is O(1) and takes no lock, even between processes sharing the file. The
+ * commit word is cleared before the record is written and set to the sequence last, so a
+ * reader never takes a half-written or overwritten record for a complete one. Opening an
+ * existing file only reads the header, so the history is back at once after a restart; a
+ * calculation cut off by a crash between its claim and its commit is skipped.
+ *
+ * The history holds longs, so a calculation of ARBITRARY_PRECISION can only be appended if
+ * its numbers fit in a long
+ * */
+public final class CalculationHistory implements Closeable {
+
+    //"HXHI" when read as little-endian bytes
+    public static final int MAGIC = 0x49485848;
+
+    public static final int VERSION = 1;
+
+    public static final int HEADER_SIZE = 64;
+
+    public static final int RECORD_SIZE = 64;
+
+    //a file of 64 MB, only taking disk space as it fills up on most file systems
+    public static final int DEFAULT_CAPACITY = 1 << 20;
+
+    //the largest ring that can be mapped as one buffer
+    public static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE;
+
+    private static final int MAGIC_OFFSET = 0;
+
+    private static final int VERSION_OFFSET = 4;
+
+    private static final int CAPACITY_OFFSET = 8;
+
+    private static final int NEXT_SEQUENCE_OFFSET = 16;
+
+    private static final int COMMIT_OFFSET = 0;
+
+    private static final int TIMESTAMP_OFFSET = 8;
+
+    private static final int FIRST_NUMBER_OFFSET = 16;
+
+    private static final int SECOND_NUMBER_OFFSET = 24;
+
+    private static final int RESULT_OFFSET = 32;
+
+    private static final int REMAINDER_OFFSET = 40;
+
+    private static final int OPCODE_OFFSET = 48;
+
+    private static final int MODE_OFFSET = 49;
+
+    //the atomic (and ordered) access to the longs of the mapped file
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    //the mode of every mode code, or null
+    private static final ArithmeticMode[] MODES_BY_CODE = new ArithmeticMode[64];
+
+    static {
+        for (ArithmeticMode arithmeticMode : ArithmeticMode.values()){
+            MODES_BY_CODE[modeCodeOf(arithmeticMode)] = arithmeticMode;
+        }
+    }
+
+    private final MappedByteBuffer buffer;
+
+    private final int capacity;
+
+
+    private CalculationHistory(MappedByteBuffer buffer, int capacity) {
+        this.buffer = buffer;
+        this.capacity = capacity;
+    }
+
+
+    /**
+     * Returns the file of the history shared by the window and the headless mode: the
+     * hexadecimalcalculator.history system property if it is set, otherwise
+     * .hexadecimal-calculator/history.bin in the home directory of the user
+     * */
+    public static Path defaultFile(){
+
+        String file = System.getProperty("hexadecimalcalculator.history");
+
+        if (file != null){
+            return Path.of(file);
+        }
+
+        return Path.of(System.getProperty("user.home"), ".hexadecimal-calculator", "history.bin");
+    }
+
+
+    /**
+     * Open a history file, or create it with DEFAULT_CAPACITY records if it does not exist
+     *
+     * @throws IOException if the file cannot be opened or created, or is not a history file
+     * */
+    public static CalculationHistory open(Path file) throws IOException {
+        return open(file, DEFAULT_CAPACITY);
+    }
+
+
+    /**
+     * Open a history file, or create it if it does not exist. An existing file keeps the
+     * capacity it was created with
+     *
+     * @param file the history file
+     * @param capacity the number of records of a new file (1 to MAX_CAPACITY)
+     *
+     * @throws IllegalArgumentException if the capacity is out of range
+     * @throws IOException if the file cannot be opened or created, or is not a history file
+     * */
+    public static CalculationHistory open(Path file, int capacity) throws IOException {
+
+        if (capacity < 1 || capacity > MAX_CAPACITY){
+            throw new IllegalArgumentException("The capacity must be from 1 to " + MAX_CAPACITY);
+        }
+
+        Path directory = file.toAbsolutePath().getParent();
+
+        if (directory != null){
+            Files.createDirectories(directory);
+        }
+
+        //the mapping stays valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                                   StandardOpenOption.WRITE)){
+
+            boolean newFile = channel.size() == 0;
+
+            if (!newFile){
+                capacity = readCapacity(channel);
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(capacity));
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (newFile){
+                buffer.putInt(VERSION_OFFSET, VERSION);
+                buffer.putLong(CAPACITY_OFFSET, capacity);
+
+                //the magic last, so a file cut off while it was created is not taken for a history file
+                buffer.putInt(MAGIC_OFFSET, MAGIC);
+            }
+
+            return new CalculationHistory(buffer, capacity);
+        }
+    }
+
+
+    /**
+     * Returns the size of a history file
+     *
+     * @param capacity the number of records of the file
+     * */
+    public static long fileSize(int capacity){
+        return HEADER_SIZE + (long) capacity * RECORD_SIZE;
+    }
+
+
+    /**
+     * Read and check the header of an existing history file
+     *
+     * @throws IOException if the file is not a history file of this version, or it is
+     *          shorter than its header says
+     *
+     * @return the capacity of the file
+     * */
+    private static int readCapacity(FileChannel channel) throws IOException {
+
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(channel.size(), HEADER_SIZE));
+        header.order(ByteOrder.LITTLE_ENDIAN);
+
+        if (header.limit() < HEADER_SIZE || header.getInt(MAGIC_OFFSET) != MAGIC){
+            throw new IOException("The file is not a calculation history file");
+        }
+
+        if (header.getInt(VERSION_OFFSET) != VERSION){
+            throw new IOException("Unsupported calculation history file version " + header.getInt(VERSION_OFFSET));
+        }
+
+        long capacity = header.getLong(CAPACITY_OFFSET);
+
+        if (capacity < 1 || capacity > MAX_CAPACITY || channel.size() < fileSize((int) capacity) ||
+            header.getLong(NEXT_SEQUENCE_OFFSET) < 0){
+
+            throw new IOException("The calculation history file is damaged");
+        }
+
+        return (int) capacity;
+    }
+
+
+    /**
+     * Returns the number of records the ring holds before the oldest one is overwritten
+     * */
+    public int getCapacity() {
+        return capacity;
+    }
+
+
+    /**
+     * Returns the sequence the next calculation will be appended with, i.e. the number of
+     * calculations ever appended
+     * */
+    public long nextSequence(){
+        return (long) LONGS.getAcquire(buffer, NEXT_SEQUENCE_OFFSET);
+    }
+
+
+    /**
+     * Returns the sequence of the oldest calculation not yet overwritten
+     * */
+    public long firstSequence(){
+        return Math.max(0, nextSequence() - capacity);
+    }
+
+
+    /**
+     * Append a calculation that is not a division, with the current time
+     *
+     * @return the sequence of the calculation
+     * */
+    public long append(HexadecimalOperation operation, ArithmeticMode arithmeticMode,
+                       long firstDecimalNumber, long secondDecimalNumber, long result){
+
+        return append(operation, arithmeticMode, firstDecimalNumber, secondDecimalNumber, result, 0);
+    }
+
+
+    /**
+     * Append a calculation with the current time. Any number of threads (or processes
+     * sharing the file) may append at the same time
+     *
+     * @param operation the operation of the calculation
+     * @param arithmeticMode the mode the numbers are values of
+     * @param firstDecimalNumber the first number
+     * @param secondDecimalNumber the second number
+     * @param result the result (the quotient of a DIVIDE)
+     * @param remainder the remainder of a DIVIDE, or 0
+     *
+     * @return the sequence of the calculation
+     * */
+    public long append(HexadecimalOperation operation, ArithmeticMode arithmeticMode,
+                       long firstDecimalNumber, long secondDecimalNumber, long result, long remainder){
+
+        long sequence = (long) LONGS.getAndAdd(buffer, NEXT_SEQUENCE_OFFSET, 1L);
+        int offset = recordOffset(sequence);
+
+        //mark the slot as being written before its fields change
+        LONGS.setOpaque(buffer, offset + COMMIT_OFFSET, 0L);
+        VarHandle.storeStoreFence();
+
+        buffer.putLong(offset + TIMESTAMP_OFFSET, System.currentTimeMillis());
+        buffer.putLong(offset + FIRST_NUMBER_OFFSET, firstDecimalNumber);
+        buffer.putLong(offset + SECOND_NUMBER_OFFSET, secondDecimalNumber);
+        buffer.putLong(offset + RESULT_OFFSET, result);
+        buffer.putLong(offset + REMAINDER_OFFSET, remainder);
+        buffer.put(offset + OPCODE_OFFSET, (byte) operation.getOpcode());
+        buffer.put(offset + MODE_OFFSET, (byte) modeCodeOf(arithmeticMode));
+
+        LONGS.setRelease(buffer, offset + COMMIT_OFFSET, sequence + 1);
+
+        return sequence;
+    }
+
+
+    /**
+     * Read one calculation
+     *
+     * @param sequence the sequence of the calculation
+     *
+     * @return the calculation, or null if it has been overwritten, is not complete yet or
+     *          was cut off by a crash
+     * */
+    public CalculationRecord get(long sequence){
+
+        if (sequence < 0 || sequence >= nextSequence()){
+            return null;
+        }
+
+        int offset = recordOffset(sequence);
+
+        if (!isCommitted(offset, sequence)){
+            return null;
+        }
+
+        CalculationRecord calculationRecord = new CalculationRecord(sequence,
+                buffer.getLong(offset + TIMESTAMP_OFFSET),
+                HexadecimalOperation.fromOpcode(buffer.get(offset + OPCODE_OFFSET) & 0xFF),
+                MODES_BY_CODE[buffer.get(offset + MODE_OFFSET) & 0x3F],
+                buffer.getLong(offset + FIRST_NUMBER_OFFSET),
+                buffer.getLong(offset + SECOND_NUMBER_OFFSET),
+                buffer.getLong(offset + RESULT_OFFSET),
+                buffer.getLong(offset + REMAINDER_OFFSET));
+
+        //the record was overwritten while it was read
+        if (!isStillCommitted(offset, sequence) || calculationRecord.operation() == null ||
+            calculationRecord.arithmeticMode() == null){
+
+            return null;
+        }
+
+        return calculationRecord;
+    }
+
+
+    /**
+     * Pass every calculation from a sequence on, oldest first, to a consumer. Calculations
+     * that have been overwritten or are not complete are skipped
+     *
+     * @param fromSequence the sequence of the first calculation, e.g. firstSequence() for all of them
+     * @param consumer the consumer of the calculations
+     *
+     * @return the sequence after the last calculation replayed, to continue from later
+     * */
+    public long replay(long fromSequence, Consumer<? super CalculationRecord> consumer){
+
+        long nextSequence = nextSequence();
+
+        for (long sequence = Math.max(fromSequence, nextSequence - capacity); sequence < nextSequence; sequence++){
+
+            CalculationRecord calculationRecord = get(sequence);
+
+            if (calculationRecord != null){
+                consumer.accept(calculationRecord);
+            }
+        }
+
+        return nextSequence;
+    }
+
+
+    /**
+     * Find the newest calculation before a sequence whose first number, second number or
+     * result is a value. Only the values of the records are scanned, no text is created
+     *
+     * @param decimalNumber the value to be found
+     * @param beforeSequence the sequence the search starts before, e.g. nextSequence() to
+     *                       find the newest match, or the last match to find an older one
+     *
+     * @return the sequence of the calculation, or -1 if there is none
+     * */
+    public long findValue(long decimalNumber, long beforeSequence){
+
+        long firstSequence = firstSequence();
+
+        for (long sequence = Math.min(beforeSequence, nextSequence()) - 1; sequence >= firstSequence; sequence--){
+
+            int offset = recordOffset(sequence);
+
+            if (isCommitted(offset, sequence) &&
+                (buffer.getLong(offset + FIRST_NUMBER_OFFSET) == decimalNumber ||
+                 buffer.getLong(offset + SECOND_NUMBER_OFFSET) == decimalNumber ||
+                 buffer.getLong(offset + RESULT_OFFSET) == decimalNumber) &&
+                isStillCommitted(offset, sequence)){
+
+                return sequence;
+            }
+        }
+
+        return -1;
+    }
+
+
+    /**
+     * Find the newest calculation before a sequence whose first number, second number or
+     * result, written in hexadecimal in its mode, starts with a prefix, e.g. "1A" for 1A3F
+     * or "-F" for -FF. The digits of the prefix are compared with the leading digits of the
+     * values, so no text is created
+     *
+     * @param hexadecimalPrefix the prefix, an optional "-" followed by 0-9 and A-F (either case)
+     * @param beforeSequence the sequence the search starts before, e.g. nextSequence() to
+     *                       find the newest match, or the last match to find an older one
+     *
+     * @throws NumberFormatException if the prefix is not a valid start of a hexadecimal number
+     *
+     * @return the sequence of the calculation, or -1 if there is none
+     * */
+    public long findHexadecimalPrefix(CharSequence hexadecimalPrefix, long beforeSequence){
+
+        boolean negative = hexadecimalPrefix.length() > 0 && hexadecimalPrefix.charAt(0) == '-';
+        int numberOfDigits = hexadecimalPrefix.length() - (negative ? 1 : 0);
+
+        //no value has more than 16 digits, but the prefix is still checked
+        long prefixValue = 0;
+
+        for (int index = negative ? 1 : 0; index < hexadecimalPrefix.length(); index++){
+
+            int digit = Character.digit(hexadecimalPrefix.charAt(index), 16);
+
+            if (digit < 0){
+                throw new NumberFormatException("Invalid hexadecimal prefix \"" + hexadecimalPrefix + "\"");
+            }
+
+            prefixValue = (prefixValue << 4) | digit;
+        }
+
+        if (numberOfDigits > 16){
+            return -1;
+        }
+
+        long firstSequence = firstSequence();
+
+        for (long sequence = Math.min(beforeSequence, nextSequence()) - 1; sequence >= firstSequence; sequence--){
+
+            int offset = recordOffset(sequence);
+
+            if (!isCommitted(offset, sequence)){
+                continue;
+            }
+
+            ArithmeticMode arithmeticMode = MODES_BY_CODE[buffer.get(offset + MODE_OFFSET) & 0x3F];
+            boolean signed = arithmeticMode == null || arithmeticMode.isSigned();
+
+            if ((startsWith(buffer.getLong(offset + FIRST_NUMBER_OFFSET), signed, negative, prefixValue, numberOfDigits) ||
+                 startsWith(buffer.getLong(offset + SECOND_NUMBER_OFFSET), signed, negative, prefixValue, numberOfDigits) ||
+                 startsWith(buffer.getLong(offset + RESULT_OFFSET), signed, negative, prefixValue, numberOfDigits)) &&
+                isStillCommitted(offset, sequence)){
+
+                return sequence;
+            }
+        }
+
+        return -1;
+    }
+
+
+    /**
+     * Flush the records to the file, so they survive a crash of the operating system (they
+     * already survive a crash of the JVM)
+     * */
+    public void force(){
+        buffer.force();
+    }
+
+
+    /**
+     * Flush the records to the file. The mapping itself is released once the history is
+     * garbage collected
+     * */
+    @Override
+    public void close() {
+        force();
+    }
+
+
+    /**
+     * Check if a value, written in hexadecimal, starts with a prefix
+     *
+     * @param decimalNumber the value
+     * @param signed true if the value is of a signed mode, false if it is read as unsigned
+     * @param negative true if the prefix starts with "-"
+     * @param prefixValue the digits of the prefix, as a number
+     * @param numberOfDigits the number of digits of the prefix (0 to 16)
+     * */
+    static boolean startsWith(long decimalNumber, boolean signed, boolean negative, long prefixValue,
+                              int numberOfDigits){
+
+        //an empty prefix matches every value
+        if (numberOfDigits == 0 && !negative){
+            return true;
+        }
+
+        boolean negativeValue = signed && decimalNumber < 0;
+
+        if (negativeValue != negative){
+            return false;
+        }
+
+        if (numberOfDigits == 0){
+            return true;
+        }
+
+        //the magnitude as an unsigned long, so -8000000000000000 is 8000000000000000
+        long magnitude = negativeValue ? -decimalNumber : decimalNumber;
+        int numberOfValueDigits = Math.max(1, (Long.SIZE - Long.numberOfLeadingZeros(magnitude) + 3) >>> 2);
+
+        return numberOfValueDigits >= numberOfDigits &&
+               magnitude >>> ((numberOfValueDigits - numberOfDigits) << 2) == prefixValue;
+    }
+
+
+    private int recordOffset(long sequence){
+        return HEADER_SIZE + (int) (sequence % capacity) * RECORD_SIZE;
+    }
+
+
+    private boolean isCommitted(int offset, long sequence){
+        return (long) LONGS.getAcquire(buffer, offset + COMMIT_OFFSET) == sequence + 1;
+    }
+
+
+    /**
+     * Check, after the fields of a record were read, that it was not overwritten meanwhile
+     * */
+    private boolean isStillCommitted(int offset, long sequence){
+
+        VarHandle.loadLoadFence();
+
+        return (long) LONGS.getOpaque(buffer, offset + COMMIT_OFFSET) == sequence + 1;
+    }
+
+
+    private static int modeCodeOf(ArithmeticMode arithmeticMode){
+
+        return (arithmeticMode.getWidth() >>> 3) | (arithmeticMode.isSigned() ? 0x10 : 0) |
+               (arithmeticMode.isWrapping() ? 0x20 : 0);
+    }
+}
@@ -0,0 +1,72 @@
+package com.terence.hexadecimalcalculator.history;
+
+import com.terence.hexadecimalcalculator.models.ArithmeticMode;
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter;
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter.LetterCase;
+import com.terence.hexadecimalcalculator.models.HexadecimalOperation;
+
+
+/**
+ * @author Terence Lee
+ *
+ * One calculation of the CalculationHistory, as read back from its file. The numbers are
+ * longs with the meaning of the arithmetic mode, i.e. in an unsigned mode a negative long is
+ * a value above Long.MAX_VALUE
+ *
+ * @param sequence the number of calculations appended to the history before this one
+ * @param timestampMillis when the calculation was appended, in milliseconds since the epoch
+ * @param remainder the remainder of a DIVIDE, or 0 for the other operations
+ * */
+public record CalculationRecord(long sequence, long timestampMillis, HexadecimalOperation operation,
+                                ArithmeticMode arithmeticMode, long firstDecimalNumber,
+                                long secondDecimalNumber, long result, long remainder) {
+
+
+    /**
+     * Returns the calculation as a line of text, e.g. "1A3F + -FF = 1940", or
+     * "64 / 7 = E remainder 2" for a division
+     *
+     * @param letterCase the case of the digits A-F
+     * */
+    public String toText(LetterCase letterCase){
+
+        StringBuilder text = new StringBuilder(80);
+
+        appendHexadecimal(text, firstDecimalNumber, letterCase).append(' ').append(operation.getSymbol()).append(' ');
+        appendHexadecimal(text, secondDecimalNumber, letterCase).append(" = ");
+        appendHexadecimal(text, result, letterCase);
+
+        if (operation == HexadecimalOperation.DIVIDE){
+            appendHexadecimal(text.append(" remainder "), remainder, letterCase);
+        }
+
+        return text.toString();
+    }
+
+
+    /**
+     * Returns one of the numbers of the calculation as a hexadecimal number of its mode, e.g.
+     * "FFFFFFFFFFFFFFFF" for -1 in 64-bit unsigned modes
+     *
+     * @param decimalNumber the number, e.g. firstDecimalNumber()
+     * @param letterCase the case of the digits A-F
+     * */
+    public String toHexadecimalString(long decimalNumber, LetterCase letterCase){
+
+        if (arithmeticMode.isSigned()){
+            return HexadecimalFormatter.format(decimalNumber, letterCase);
+        }
+
+        return HexadecimalFormatter.formatUnsigned(decimalNumber, letterCase);
+    }
+
+
+    private StringBuilder appendHexadecimal(StringBuilder text, long decimalNumber, LetterCase letterCase){
+
+        if (arithmeticMode.isSigned()){
+            return HexadecimalFormatter.format(decimalNumber, letterCase, text);
+        }
+
+        return text.append(HexadecimalFormatter.formatUnsigned(decimalNumber, letterCase));
+    }
+}
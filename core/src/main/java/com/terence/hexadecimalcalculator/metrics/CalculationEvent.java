@@ -0,0 +1,87 @@
+package com.terence.hexadecimalcalculator.metrics;
+
+import com.terence.hexadecimalcalculator.models.ArithmeticMode;
+import com.terence.hexadecimalcalculator.models.HexadecimalOperation;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+
+/**
+ * @author Terence Lee
+ *
+ * The JDK Flight Recorder event of one String operation or tryCalculate() of
+ * HexadecimalCalculator. Only calculations slower than the threshold are recorded
+ * (1 ms by default, see jfr/hexadecimal-calculator.jfc to lower it), without a stack trace.
+ *
+ * When no recording has the event enabled, start() returns null instead of creating an event,
+ * so the allocation-free calculations (e.g. tryCalculate()) stay allocation-free
+ * */
+@Name("com.terence.hexadecimalcalculator.Calculation")
+@Label("Hexadecimal Calculation")
+@Description("One operation of HexadecimalCalculator")
+@Category("Hexadecimal Calculator")
+@StackTrace(false)
+@Threshold("1 ms")
+public final class CalculationEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Arithmetic Mode")
+    private String arithmeticMode;
+
+    @Label("First Operand Length")
+    @Description("The number of characters of the first operand")
+    private int firstOperandLength;
+
+    @Label("Second Operand Length")
+    @Description("The number of characters of the second operand")
+    private int secondOperandLength;
+
+    @Label("Outcome")
+    private String outcome;
+
+    private static final EventType EVENT_TYPE = EventType.getEventType(CalculationEvent.class);
+
+
+    /**
+     * Returns a new event of a calculation, with its start time set, or null if no recording
+     * has the event enabled
+     * */
+    public static CalculationEvent start(HexadecimalOperation operation, ArithmeticMode arithmeticMode){
+
+        if (!EVENT_TYPE.isEnabled()){
+            return null;
+        }
+
+        CalculationEvent event = new CalculationEvent();
+
+        event.operation = operation.name();
+        event.arithmeticMode = arithmeticMode.name();
+        event.begin();
+
+        return event;
+    }
+
+
+    /**
+     * Record the event if the calculation was slower than the threshold
+     * */
+    public void commit(CharSequence firstHexadecimalNumber, CharSequence secondHexadecimalNumber,
+                       OperationOutcome outcome){
+
+        if (shouldCommit()){
+            this.firstOperandLength = firstHexadecimalNumber == null ? 0 : firstHexadecimalNumber.length();
+            this.secondOperandLength = secondHexadecimalNumber == null ? 0 : secondHexadecimalNumber.length();
+            this.outcome = outcome.name();
+
+            commit();
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.terence.hexadecimalcalculator.metrics;
+
+import com.terence.hexadecimalcalculator.models.CalculationStatus;
+import com.terence.hexadecimalcalculator.models.HexadecimalOperation;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+
+/**
+ * @author Terence Lee
+ *
+ * The opt-in metrics of HexadecimalCalculator: the number of calculations of every operation
+ * and outcome, and their latencies. They are off unless the JVM is started with
+ * -Dhexadecimalcalculator.metrics=true
+ *
+ * ENABLED is a static final, so when the metrics are off the JIT compiles every
+ * "if (CalculatorMetrics.ENABLED)" of the calculator away, and the calculator runs exactly as
+ * if it had no metrics (not even a System.nanoTime() call). When they are on, the metrics
+ * are registered with the platform MBeanServer (see CalculatorMetricsMXBean), and can be
+ * sent to any MetricsReporter at a fixed rate
+ * <pre>
+      CalculatorMetrics.startReporting(snapshot -> System.err.print(snapshot.toText()),
+                                       Duration.ofSeconds(10));
+ * </pre>
+ * */
+public final class CalculatorMetrics {
+
+    public static final boolean ENABLED = Boolean.getBoolean("hexadecimalcalculator.metrics");
+
+    public static final String OBJECT_NAME = "com.terence.hexadecimalcalculator:type=CalculatorMetrics";
+
+    private static final OperationMetrics OPERATION_METRICS = new OperationMetrics();
+
+    static {
+        if (ENABLED){
+            registerMBean();
+        }
+    }
+
+
+    /**
+     * The constructor is made private as all methods of this class are static, and
+     * therefore the constructor is not required
+     * */
+    private CalculatorMetrics() {
+
+    }
+
+
+    /**
+     * Returns the start time of a calculation, to be passed to record()
+     *
+     * @return System.nanoTime(), or 0 if the metrics are off
+     * */
+    public static long startTime(){
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+
+    /**
+     * Record a calculation that ended with a status (does nothing if the metrics are off)
+     *
+     * @param startTime the value of startTime() when the calculation started
+     * */
+    public static void record(HexadecimalOperation operation, CalculationStatus status, long startTime){
+
+        if (ENABLED){
+            OPERATION_METRICS.record(operation, OperationOutcome.of(status), System.nanoTime() - startTime);
+        }
+    }
+
+
+    /**
+     * Record a calculation that ended with a result (does nothing if the metrics are off)
+     *
+     * @param startTime the value of startTime() when the calculation started
+     * */
+    public static void recordSuccess(HexadecimalOperation operation, long startTime){
+
+        if (ENABLED){
+            OPERATION_METRICS.record(operation, OperationOutcome.SUCCESS, System.nanoTime() - startTime);
+        }
+    }
+
+
+    /**
+     * Returns the metrics the calculator records into. They stay at 0 if the metrics are off
+     * */
+    public static OperationMetrics getOperationMetrics() {
+        return OPERATION_METRICS;
+    }
+
+
+    /**
+     * Returns the current counters and latencies of every operation
+     * */
+    public static MetricsSnapshot snapshot(){
+        return OPERATION_METRICS.snapshot();
+    }
+
+
+    /**
+     * Register the metrics with the platform MBeanServer, as OBJECT_NAME. This is done on
+     * startup if the metrics are on, and does nothing if they are already registered
+     *
+     * @throws IllegalStateException if the MBean cannot be registered
+     * */
+    public static void registerMBean(){
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MXBean(), new ObjectName(OBJECT_NAME));
+        }
+        catch (InstanceAlreadyExistsException e){
+            //registered already
+        }
+        catch (JMException e){
+            throw new IllegalStateException("The metrics MBean cannot be registered", e);
+        }
+    }
+
+
+    /**
+     * Send a snapshot of the metrics to a reporter at a fixed rate, on a daemon thread
+     *
+     * @return the scheduled reporting, cancel it to stop reporting
+     * */
+    public static ScheduledFuture<?> startReporting(MetricsReporter reporter, Duration period){
+
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "calculator-metrics-reporter");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        //by default a shut down scheduler cancels its periodic tasks, so it is told to keep
+        //running the reporting, and to drop it once it is cancelled, which ends the thread
+        scheduler.setContinueExistingPeriodicTasksAfterShutdownPolicy(true);
+        scheduler.setRemoveOnCancelPolicy(true);
+
+        ScheduledFuture<?> reporting = scheduler.scheduleAtFixedRate(() -> reporter.report(snapshot()),
+                period.toNanos(), period.toNanos(), TimeUnit.NANOSECONDS);
+
+        //no other task can be scheduled, and the thread ends when the reporting is cancelled
+        scheduler.shutdown();
+
+        return reporting;
+    }
+
+
+    /**
+     * The CalculatorMetricsMXBean of the metrics of the calculator
+     * */
+    private static final class MXBean implements CalculatorMetricsMXBean {
+
+        @Override
+        public boolean isEnabled() {
+            return ENABLED;
+        }
+
+        @Override
+        public Map<String, Long> getCallCounts() {
+            return byOperation(OperationSnapshot::callCount);
+        }
+
+        @Override
+        public Map<String, Long> getFailureCounts() {
+            return byOperation(OperationSnapshot::failureCount);
+        }
+
+        @Override
+        public Map<String, Long> getOverflowCounts() {
+            return byOperation(operation -> operation.count(OperationOutcome.OVERFLOW));
+        }
+
+        @Override
+        public Map<String, Long> getDivideByZeroCounts() {
+            return byOperation(operation -> operation.count(OperationOutcome.DIVIDE_BY_ZERO));
+        }
+
+        @Override
+        public Map<String, Long> getInvalidNumberCounts() {
+            return byOperation(operation -> operation.count(OperationOutcome.INVALID_NUMBER));
+        }
+
+        @Override
+        public Map<String, Double> getMeanLatencyNanos() {
+
+            Map<String, Double> values = new LinkedHashMap<>();
+
+            for (OperationSnapshot operation : snapshot().operations()){
+                values.put(operation.operation().name(), operation.latency().meanNanos());
+            }
+
+            return values;
+        }
+
+        @Override
+        public Map<String, Long> getP50LatencyNanos() {
+            return byOperation(operation -> operation.latency().p50Nanos());
+        }
+
+        @Override
+        public Map<String, Long> getP99LatencyNanos() {
+            return byOperation(operation -> operation.latency().p99Nanos());
+        }
+
+        @Override
+        public Map<String, Long> getMaxLatencyNanos() {
+            return byOperation(operation -> operation.latency().maxNanos());
+        }
+
+        @Override
+        public void reset() {
+            OPERATION_METRICS.reset();
+        }
+
+
+        private static Map<String, Long> byOperation(ToLongFunction<OperationSnapshot> value){
+
+            Map<String, Long> values = new LinkedHashMap<>();
+
+            for (OperationSnapshot operation : snapshot().operations()){
+                values.put(operation.operation().name(), value.applyAsLong(operation));
+            }
+
+            return values;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.terence.hexadecimalcalculator.metrics;
+
+import java.util.Map;
+
+
+/**
+ * @author Terence Lee
+ *
+ * The JMX view of the metrics of CalculatorMetrics, registered as
+ * "com.terence.hexadecimalcalculator:type=CalculatorMetrics". Every map is keyed by the name
+ * of the operation (e.g. "ADD")
+ * */
+public interface CalculatorMetricsMXBean {
+
+    boolean isEnabled();
+
+    Map<String, Long> getCallCounts();
+
+    Map<String, Long> getFailureCounts();
+
+    Map<String, Long> getOverflowCounts();
+
+    Map<String, Long> getDivideByZeroCounts();
+
+    Map<String, Long> getInvalidNumberCounts();
+
+    Map<String, Double> getMeanLatencyNanos();
+
+    Map<String, Long> getP50LatencyNanos();
+
+    Map<String, Long> getP99LatencyNanos();
+
+    Map<String, Long> getMaxLatencyNanos();
+
+    void reset();
+}
@@ -0,0 +1,145 @@
+package com.terence.hexadecimalcalculator.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * @author Terence Lee
+ *
+ * A lock-free histogram of latencies in nanoseconds, laid out like an HdrHistogram: every
+ * power of two is split into 32 linear buckets, so any recorded value is known to within
+ * 1/32 (about 3%), from 1 nanosecond up to Long.MAX_VALUE, in a fixed 1888 counters.
+ * Recording a value is a few shifts and one atomic increment, with no allocation.
+ *
+ * A snapshot is taken while values are being recorded, so its counts may be off by the
+ * values recorded during the snapshot, but never lose one
+ * */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    //the last bucket is the one of Long.MAX_VALUE
+    private static final int BUCKET_COUNT = bucketIndexOf(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+
+    /**
+     * Record a latency
+     *
+     * @param nanos the latency in nanoseconds, negative values (from a clock adjustment)
+     *              are recorded as 0
+     * */
+    public void record(long nanos){
+
+        long value = Math.max(nanos, 0);
+
+        bucketCounts.getAndIncrement(bucketIndexOf(value));
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+
+    /**
+     * Returns the count, the mean, the max and the main percentiles of the recorded latencies
+     * */
+    public LatencySnapshot snapshot(){
+
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+
+        for (int index = 0; index < BUCKET_COUNT; index++){
+            counts[index] = bucketCounts.get(index);
+            count += counts[index];
+        }
+
+        long max = maxNanos.get();
+
+        return new LatencySnapshot(count, totalNanos.sum(), max,
+                                   valueAtPercentile(counts, count, 50, max),
+                                   valueAtPercentile(counts, count, 90, max),
+                                   valueAtPercentile(counts, count, 99, max),
+                                   valueAtPercentile(counts, count, 99.9, max));
+    }
+
+
+    /**
+     * Forget every recorded latency. Values recorded during a reset may or may not be kept
+     * */
+    public void reset(){
+
+        for (int index = 0; index < BUCKET_COUNT; index++){
+            bucketCounts.set(index, 0);
+        }
+
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+
+    /**
+     * Returns the highest value of the bucket a percentile falls into (like HdrHistogram,
+     * so a percentile is never under-reported), but no more than the max
+     * */
+    private static long valueAtPercentile(long[] counts, long count, double percentile, long max){
+
+        if (count == 0){
+            return 0;
+        }
+
+        //the rank of the value, from 1 to count
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long cumulativeCount = 0;
+
+        for (int index = 0; index < counts.length; index++){
+            cumulativeCount += counts[index];
+
+            if (cumulativeCount >= rank){
+                return Math.min(highestValueOf(index), max);
+            }
+        }
+
+        return max;
+    }
+
+
+    /**
+     * Returns the index of the bucket of a value (0 or more). Values under 32 have a bucket
+     * each; above that, the position of the highest bit picks a power of two, and the next 5
+     * bits pick one of its 32 buckets
+     * */
+    static int bucketIndexOf(long value){
+
+        if (value < SUB_BUCKET_COUNT){
+            return (int) value;
+        }
+
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+
+        return ((shift + 1) << SUB_BUCKET_BITS) | (int) ((value >>> shift) & (SUB_BUCKET_COUNT - 1));
+    }
+
+
+    /**
+     * Returns the highest value that falls into a bucket
+     * */
+    static long highestValueOf(int bucketIndex){
+
+        if (bucketIndex < SUB_BUCKET_COUNT){
+            return bucketIndex;
+        }
+
+        int shift = (bucketIndex >>> SUB_BUCKET_BITS) - 1;
+        long lowestValue = (long) (SUB_BUCKET_COUNT | (bucketIndex & (SUB_BUCKET_COUNT - 1))) << shift;
+
+        return lowestValue + ((1L << shift) - 1);
+    }
+}
@@ -0,0 +1,21 @@
+package com.terence.hexadecimalcalculator.metrics;
+
+
+/**
+ * @author Terence Lee
+ *
+ * The latencies recorded by a LatencyHistogram at one point in time, in nanoseconds. The
+ * percentiles are the highest value of their bucket, so they are at most about 3% above
+ * the exact percentile, and never below it
+ * */
+public record LatencySnapshot(long count, long totalNanos, long maxNanos, long p50Nanos, long p90Nanos,
+                              long p99Nanos, long p999Nanos) {
+
+
+    /**
+     * Returns the mean latency, or 0 if no latency was recorded
+     * */
+    public double meanNanos(){
+        return count == 0 ? 0 : (double) totalNanos / count;
+    }
+}
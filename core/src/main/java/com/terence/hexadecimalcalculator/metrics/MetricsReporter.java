@@ -0,0 +1,18 @@
+package com.terence.hexadecimalcalculator.metrics;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Receives the snapshots of OperationMetrics, e.g. to write them into a log or send them to a
+ * monitoring system. See CalculatorMetrics.startReporting()
+ * */
+@FunctionalInterface
+public interface MetricsReporter {
+
+
+    /**
+     * Report a snapshot. This is called on the reporting thread, one snapshot at a time
+     * */
+    void report(MetricsSnapshot snapshot);
+}
@@ -0,0 +1,64 @@
+package com.terence.hexadecimalcalculator.metrics;
+
+import com.terence.hexadecimalcalculator.models.HexadecimalOperation;
+
+import java.util.List;
+import java.util.Locale;
+
+
+/**
+ * @author Terence Lee
+ *
+ * The counters and latencies of every operation at one point in time, as passed to a
+ * MetricsReporter
+ *
+ * @param timestampMillis when the snapshot was taken (System.currentTimeMillis())
+ * @param operations one snapshot per operation, in the order of HexadecimalOperation
+ * */
+public record MetricsSnapshot(long timestampMillis, List<OperationSnapshot> operations) {
+
+
+    /**
+     * Returns the snapshot of an operation
+     * */
+    public OperationSnapshot get(HexadecimalOperation operation){
+        return operations.get(operation.ordinal());
+    }
+
+
+    /**
+     * Returns the snapshot as text, one "name{labels} value" line each, like the /metrics
+     * endpoint of HexadecimalCalculatorServer
+     * */
+    public String toText(){
+
+        StringBuilder text = new StringBuilder();
+
+        for (OperationSnapshot operationSnapshot : operations){
+            String operation = operationSnapshot.operation().name().toLowerCase(Locale.ROOT);
+
+            for (OperationOutcome outcome : OperationOutcome.values()){
+                text.append("calculations_total{operation=\"").append(operation).append("\",outcome=\"")
+                    .append(outcome.name().toLowerCase(Locale.ROOT)).append("\"} ")
+                    .append(operationSnapshot.count(outcome)).append('\n');
+            }
+
+            LatencySnapshot latency = operationSnapshot.latency();
+
+            appendLatency(text, operation, "0.5", latency.p50Nanos());
+            appendLatency(text, operation, "0.9", latency.p90Nanos());
+            appendLatency(text, operation, "0.99", latency.p99Nanos());
+            appendLatency(text, operation, "0.999", latency.p999Nanos());
+            appendLatency(text, operation, "1", latency.maxNanos());
+        }
+
+        return text.toString();
+    }
+
+
+    private static void appendLatency(StringBuilder text, String operation, String quantile, long nanos){
+
+        text.append("calculation_nanoseconds{operation=\"").append(operation).append("\",quantile=\"")
+            .append(quantile).append("\"} ").append(nanos).append('\n');
+    }
+}
@@ -0,0 +1,89 @@
+package com.terence.hexadecimalcalculator.metrics;
+
+import com.terence.hexadecimalcalculator.models.HexadecimalOperation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * @author Terence Lee
+ *
+ * The number of calculations of every operation and outcome, and a LatencyHistogram of every
+ * operation. The counters are LongAdders, which stripe their count over several cells when
+ * threads contend on them, so recording never blocks and scales with the number of threads
+ * */
+public final class OperationMetrics {
+
+    private static final HexadecimalOperation[] OPERATIONS = HexadecimalOperation.values();
+
+    private static final OperationOutcome[] OUTCOMES = OperationOutcome.values();
+
+    //indexed by operation ordinal * number of outcomes + outcome ordinal
+    private final LongAdder[] outcomeCounters = new LongAdder[OPERATIONS.length * OUTCOMES.length];
+
+    private final LatencyHistogram[] latencyHistograms = new LatencyHistogram[OPERATIONS.length];
+
+
+    public OperationMetrics() {
+
+        for (int index = 0; index < outcomeCounters.length; index++){
+            outcomeCounters[index] = new LongAdder();
+        }
+
+        for (int index = 0; index < latencyHistograms.length; index++){
+            latencyHistograms[index] = new LatencyHistogram();
+        }
+    }
+
+
+    /**
+     * Record a calculation
+     *
+     * @param nanos the time the calculation took, in nanoseconds
+     * */
+    public void record(HexadecimalOperation operation, OperationOutcome outcome, long nanos){
+
+        outcomeCounters[operation.ordinal() * OUTCOMES.length + outcome.ordinal()].increment();
+        latencyHistograms[operation.ordinal()].record(nanos);
+    }
+
+
+    /**
+     * Returns the counters and latencies of every operation
+     * */
+    public MetricsSnapshot snapshot(){
+
+        List<OperationSnapshot> operationSnapshots = new ArrayList<>(OPERATIONS.length);
+
+        for (HexadecimalOperation operation : OPERATIONS){
+            long[] outcomeCounts = new long[OUTCOMES.length];
+
+            for (OperationOutcome outcome : OUTCOMES){
+                outcomeCounts[outcome.ordinal()] =
+                        outcomeCounters[operation.ordinal() * OUTCOMES.length + outcome.ordinal()].sum();
+            }
+
+            operationSnapshots.add(new OperationSnapshot(operation, outcomeCounts,
+                                                         latencyHistograms[operation.ordinal()].snapshot()));
+        }
+
+        return new MetricsSnapshot(System.currentTimeMillis(), List.copyOf(operationSnapshots));
+    }
+
+
+    /**
+     * Reset every counter and histogram to 0
+     * */
+    public void reset(){
+
+        for (LongAdder outcomeCounter : outcomeCounters){
+            outcomeCounter.reset();
+        }
+
+        for (LatencyHistogram latencyHistogram : latencyHistograms){
+            latencyHistogram.reset();
+        }
+    }
+}
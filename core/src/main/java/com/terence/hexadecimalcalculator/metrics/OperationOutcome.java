@@ -0,0 +1,35 @@
+package com.terence.hexadecimalcalculator.metrics;
+
+import com.terence.hexadecimalcalculator.models.CalculationStatus;
+
+
+/**
+ * @author Terence Lee
+ *
+ * How a calculation of HexadecimalCalculator ended, as counted by OperationMetrics
+ * */
+public enum OperationOutcome {
+
+    SUCCESS,
+
+    //an operand is not a valid number (an invalid digit, or out of range)
+    INVALID_NUMBER,
+
+    OVERFLOW,
+
+    DIVIDE_BY_ZERO;
+
+
+    /**
+     * Returns the outcome of a calculation that ended with a status
+     * */
+    public static OperationOutcome of(CalculationStatus status){
+
+        return switch (status) {
+            case OK -> SUCCESS;
+            case INVALID_DIGIT, OUT_OF_RANGE -> INVALID_NUMBER;
+            case OVERFLOW -> OVERFLOW;
+            case DIVIDE_BY_ZERO -> DIVIDE_BY_ZERO;
+        };
+    }
+}
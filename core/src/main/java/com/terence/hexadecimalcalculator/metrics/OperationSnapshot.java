@@ -0,0 +1,57 @@
+package com.terence.hexadecimalcalculator.metrics;
+
+import com.terence.hexadecimalcalculator.models.HexadecimalOperation;
+
+
+/**
+ * @author Terence Lee
+ *
+ * The counters and latencies of one operation at one point in time
+ *
+ * @param outcomeCounts the number of calculations of every outcome, indexed by the ordinal
+ *                      of OperationOutcome
+ * */
+public record OperationSnapshot(HexadecimalOperation operation, long[] outcomeCounts, LatencySnapshot latency) {
+
+
+    /**
+     * Returns the number of calculations that ended with an outcome
+     * */
+    public long count(OperationOutcome outcome){
+        return outcomeCounts[outcome.ordinal()];
+    }
+
+
+    /**
+     * Returns the number of calculations of the operation
+     * */
+    public long callCount(){
+
+        long callCount = 0;
+
+        for (long outcomeCount : outcomeCounts){
+            callCount += outcomeCount;
+        }
+
+        return callCount;
+    }
+
+
+    /**
+     * Returns the number of calculations that did not end with OperationOutcome.SUCCESS
+     * */
+    public long failureCount(){
+        return callCount() - count(OperationOutcome.SUCCESS);
+    }
+
+
+    /**
+     * Returns the fraction of the calculations that failed, or 0 if there was none
+     * */
+    public double errorRate(){
+
+        long callCount = callCount();
+
+        return callCount == 0 ? 0 : (double) failureCount() / callCount;
+    }
+}
@@ -0,0 +1,113 @@
+package com.terence.hexadecimalcalculator.models;
+
+
+/**
+ * @author Terence Lee
+ *
+ * The number type the calculations of HexadecimalCalculator are done with.
+ *
+ * Besides the default CHECKED_64 and ARBITRARY_PRECISION, there is a fixed-width mode for
+ * every width (8, 16, 32 or 64 bits), signedness and overflow behaviour: a wrapping mode
+ * keeps the lowest bits of the result (two's complement wrap-around, like the machine
+ * arithmetic of a microcontroller), and a checked mode throws an ArithmeticException if the
+ * result does not fit in the width. The fixed-width calculations are done by
+ * FixedWidthArithmetic
+ * */
+public enum ArithmeticMode {
+
+    //operands and results are longs, and an overflow is an ArithmeticException
+    CHECKED_64("64-bit checked", 64, true, false),
+
+    //operands and results are HexBigIntegers of any size, so nothing overflows
+    ARBITRARY_PRECISION("Arbitrary precision", 0, true, false),
+
+    CHECKED_8("8-bit checked", 8, true, false),
+
+    CHECKED_16("16-bit checked", 16, true, false),
+
+    CHECKED_32("32-bit checked", 32, true, false),
+
+    CHECKED_UNSIGNED_8("8-bit unsigned checked", 8, false, false),
+
+    CHECKED_UNSIGNED_16("16-bit unsigned checked", 16, false, false),
+
+    CHECKED_UNSIGNED_32("32-bit unsigned checked", 32, false, false),
+
+    CHECKED_UNSIGNED_64("64-bit unsigned checked", 64, false, false),
+
+    WRAPPING_8("8-bit wrapping", 8, true, true),
+
+    WRAPPING_16("16-bit wrapping", 16, true, true),
+
+    WRAPPING_32("32-bit wrapping", 32, true, true),
+
+    WRAPPING_64("64-bit wrapping", 64, true, true),
+
+    WRAPPING_UNSIGNED_8("8-bit unsigned wrapping", 8, false, true),
+
+    WRAPPING_UNSIGNED_16("16-bit unsigned wrapping", 16, false, true),
+
+    WRAPPING_UNSIGNED_32("32-bit unsigned wrapping", 32, false, true),
+
+    WRAPPING_UNSIGNED_64("64-bit unsigned wrapping", 64, false, true);
+
+
+    private final String displayName;
+
+    private final int width;
+
+    private final boolean signed;
+
+    private final boolean wrapping;
+
+
+    ArithmeticMode(String displayName, int width, boolean signed, boolean wrapping) {
+        this.displayName = displayName;
+        this.width = width;
+        this.signed = signed;
+        this.wrapping = wrapping;
+    }
+
+
+    /**
+     * Returns the name of the mode shown to the user, e.g. "64-bit checked"
+     * */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+
+    /**
+     * Returns the number of bits of the operands and results, or 0 for ARBITRARY_PRECISION
+     * */
+    public int getWidth() {
+        return width;
+    }
+
+
+    /**
+     * Returns true if the operands and results are two's complement signed numbers,
+     * false if they are unsigned
+     * */
+    public boolean isSigned() {
+        return signed;
+    }
+
+
+    /**
+     * Returns true if a result that does not fit in the width wraps around, false if it is
+     * an ArithmeticException
+     * */
+    public boolean isWrapping() {
+        return wrapping;
+    }
+
+
+    /**
+     * Returns true if the calculations of this mode are done by FixedWidthArithmetic, i.e.
+     * the mode is neither CHECKED_64 nor ARBITRARY_PRECISION
+     * */
+    public boolean isFixedWidth() {
+        return this != CHECKED_64 && this != ARBITRARY_PRECISION;
+    }
+}
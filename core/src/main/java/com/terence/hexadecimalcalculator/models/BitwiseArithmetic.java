@@ -0,0 +1,893 @@
+package com.terence.hexadecimalcalculator.models;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+
+/**
+ * @author Terence Lee
+ *
+ * The bitwise, shift and bit-count operations on values of CHECKED_64 and the fixed-width
+ * ArithmeticModes, for masks and flags.
+ *
+ * An operation works on the bit pattern of the value in the width of its mode (e.g. the 8
+ * bits FF for -1 in 8-bit modes), and the resulting bit pattern is read back as a value of
+ * the mode (sign-extended for a signed mode, zero-extended for an unsigned mode, like
+ * FixedWidthArithmetic). Bits shifted out of the width are dropped, so no operation
+ * overflows, even in a checked mode. ARBITRARY_PRECISION has no width, so it is an
+ * IllegalArgumentException.
+ *
+ * The operations are built on the methods of Long that the JIT compiles to a single
+ * instruction (bitCount, numberOfLeadingZeros, rotateLeft, reverseBytes...), and the batch
+ * forms are plain counted loops over long[] columns, which the JIT unrolls and vectorizes
+ * E.g.
+ * <pre>
+      long flags = BitwiseArithmetic.insertBits(0x00, 0b101, 4, 3, ArithmeticMode.WRAPPING_UNSIGNED_8); // 0x50
+
+      long field = BitwiseArithmetic.extractBits(flags, 4, 3, ArithmeticMode.WRAPPING_UNSIGNED_8); // 0b101
+
+      long count = BitwiseArithmetic.bitCount(-1, ArithmeticMode.CHECKED_16); // 16
+ * </pre>
+ * */
+public final class BitwiseArithmetic {
+
+
+    /**
+     * The constructor is made private as all methods of this class are static, and
+     * therefore the constructor is not required
+     * */
+    private BitwiseArithmetic() {
+
+    }
+
+
+    /**
+     * Returns the bitwise AND of two values of a mode
+     *
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     * */
+    public static long and(long firstDecimalNumber, long secondDecimalNumber, ArithmeticMode arithmeticMode){
+
+        checkHasWidth(arithmeticMode);
+
+        //the AND of two sign- or zero-extended values is already extended the same way
+        return firstDecimalNumber & secondDecimalNumber;
+    }
+
+
+    /**
+     * Returns the bitwise OR of two values of a mode
+     *
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     * */
+    public static long or(long firstDecimalNumber, long secondDecimalNumber, ArithmeticMode arithmeticMode){
+
+        checkHasWidth(arithmeticMode);
+
+        return firstDecimalNumber | secondDecimalNumber;
+    }
+
+
+    /**
+     * Returns the bitwise exclusive OR of two values of a mode
+     *
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     * */
+    public static long xor(long firstDecimalNumber, long secondDecimalNumber, ArithmeticMode arithmeticMode){
+
+        checkHasWidth(arithmeticMode);
+
+        return firstDecimalNumber ^ secondDecimalNumber;
+    }
+
+
+    /**
+     * Returns the bitwise NOT (every bit of the width flipped) of a value of a mode, e.g.
+     * 0xF0 for 0x0F in 8-bit unsigned modes
+     *
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     * */
+    public static long not(long decimalNumber, ArithmeticMode arithmeticMode){
+
+        return toValue(~decimalNumber, widthOf(arithmeticMode), arithmeticMode.isSigned());
+    }
+
+
+    /**
+     * Returns a value of a mode shifted to the left, with the bits shifted out of the width
+     * dropped and zeros shifted in
+     *
+     * @param distance the number of bits to shift by. A distance of the width or more gives 0
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     *
+     * @throws IllegalArgumentException if the distance is negative
+     * */
+    public static long shiftLeft(long decimalNumber, int distance, ArithmeticMode arithmeticMode){
+
+        int width = widthOf(arithmeticMode);
+
+        checkShiftDistance(distance);
+
+        return distance >= width ? 0 : toValue(decimalNumber << distance, width, arithmeticMode.isSigned());
+    }
+
+
+    /**
+     * Returns a value of a mode shifted to the right, with zeros shifted in at the top of
+     * the width (like >>> in Java), e.g. 0x7F for -1 shifted by 1 in 8-bit modes
+     *
+     * @param distance the number of bits to shift by. A distance of the width or more gives 0
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     *
+     * @throws IllegalArgumentException if the distance is negative
+     * */
+    public static long shiftRightLogical(long decimalNumber, int distance, ArithmeticMode arithmeticMode){
+
+        int width = widthOf(arithmeticMode);
+
+        checkShiftDistance(distance);
+
+        return distance >= width ? 0 :
+               toValue(toBits(decimalNumber, width) >>> distance, width, arithmeticMode.isSigned());
+    }
+
+
+    /**
+     * Returns a value of a mode shifted to the right, with copies of the top bit of the width
+     * shifted in (like >> in Java), e.g. 0xC0 for 0x80 shifted by 1 in 8-bit unsigned modes
+     *
+     * @param distance the number of bits to shift by. A distance of the width or more gives
+     *                 all zeros or all ones, depending on the top bit
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     *
+     * @throws IllegalArgumentException if the distance is negative
+     * */
+    public static long shiftRightArithmetic(long decimalNumber, int distance, ArithmeticMode arithmeticMode){
+
+        int width = widthOf(arithmeticMode);
+
+        checkShiftDistance(distance);
+
+        //the bit pattern sign-extended from the top bit of the width, whatever the signedness of the mode
+        long signExtendedBits = (decimalNumber << (Long.SIZE - width)) >> (Long.SIZE - width);
+
+        return toValue(signExtendedBits >> Math.min(distance, Long.SIZE - 1), width, arithmeticMode.isSigned());
+    }
+
+
+    /**
+     * Returns a value of a mode rotated to the left within its width, i.e. the bits shifted
+     * out at the top come back in at the bottom
+     *
+     * @param distance the number of bits to rotate by, taken modulo the width (a negative
+     *                 distance rotates to the right)
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     * */
+    public static long rotateLeft(long decimalNumber, int distance, ArithmeticMode arithmeticMode){
+
+        int width = widthOf(arithmeticMode);
+
+        if (width == Long.SIZE){
+            return Long.rotateLeft(decimalNumber, distance);
+        }
+
+        int rotation = Math.floorMod(distance, width);
+        long bits = toBits(decimalNumber, width);
+
+        return toValue((bits << rotation) | (bits >>> (width - rotation)), width, arithmeticMode.isSigned());
+    }
+
+
+    /**
+     * Returns a value of a mode rotated to the right within its width, i.e. the bits shifted
+     * out at the bottom come back in at the top
+     *
+     * @param distance the number of bits to rotate by, taken modulo the width (a negative
+     *                 distance rotates to the left)
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     * */
+    public static long rotateRight(long decimalNumber, int distance, ArithmeticMode arithmeticMode){
+
+        int width = widthOf(arithmeticMode);
+
+        if (width == Long.SIZE){
+            return Long.rotateRight(decimalNumber, distance);
+        }
+
+        return rotateLeft(decimalNumber, width - Math.floorMod(distance, width), arithmeticMode);
+    }
+
+
+    /**
+     * Returns the number of one bits of a value in the width of its mode (the population
+     * count), e.g. 8 for -1 in 8-bit modes
+     *
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     * */
+    public static long bitCount(long decimalNumber, ArithmeticMode arithmeticMode){
+
+        return Long.bitCount(toBits(decimalNumber, widthOf(arithmeticMode)));
+    }
+
+
+    /**
+     * Returns the number of zero bits above the highest one bit of a value in the width of
+     * its mode, e.g. 7 for 1 in 8-bit modes, or the width for 0
+     *
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     * */
+    public static long numberOfLeadingZeros(long decimalNumber, ArithmeticMode arithmeticMode){
+
+        int width = widthOf(arithmeticMode);
+
+        return Long.numberOfLeadingZeros(toBits(decimalNumber, width)) - (Long.SIZE - width);
+    }
+
+
+    /**
+     * Returns the number of zero bits below the lowest one bit of a value in the width of
+     * its mode, e.g. 4 for 0x10, or the width for 0
+     *
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     * */
+    public static long numberOfTrailingZeros(long decimalNumber, ArithmeticMode arithmeticMode){
+
+        int width = widthOf(arithmeticMode);
+
+        return Math.min(Long.numberOfTrailingZeros(decimalNumber), width);
+    }
+
+
+    /**
+     * Returns a value of a mode with the order of the bytes of its width reversed, e.g.
+     * 0x3412 for 0x1234 in 16-bit modes (an 8-bit value is unchanged)
+     *
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     * */
+    public static long reverseBytes(long decimalNumber, ArithmeticMode arithmeticMode){
+
+        int width = widthOf(arithmeticMode);
+
+        return toValue(Long.reverseBytes(decimalNumber) >> (Long.SIZE - width), width, arithmeticMode.isSigned());
+    }
+
+
+    /**
+     * Returns the bit field of a value of a mode, shifted down to bit 0, e.g. 0xB for the
+     * 4 bits at offset 8 of 0x1B3F
+     *
+     * @param offset the index of the lowest bit of the field, from 0
+     * @param length the number of bits of the field, from 1
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     *
+     * @throws IllegalArgumentException if the field does not fit in the width of the mode
+     *
+     * @return the field, as a value of the mode (negative in a signed mode only if the field
+     *          covers the top bit of the width)
+     * */
+    public static long extractBits(long decimalNumber, int offset, int length, ArithmeticMode arithmeticMode){
+
+        int width = widthOf(arithmeticMode);
+
+        checkBitField(offset, length, width);
+
+        //the field is extended from the top bit of the width before it is shifted down, so only a
+        //field that covers the sign bit of a signed value is negative
+        long fieldBits = decimalNumber & (lowBitsMask(length) << offset);
+
+        return arithmeticMode.isSigned() ? toValue(fieldBits, width, true) >> offset : fieldBits >>> offset;
+    }
+
+
+    /**
+     * Returns a value of a mode with one of its bit fields replaced, e.g. 0x1A3F with the
+     * 4 bits at offset 8 set to 0xB gives 0x1B3F. The bits of the new field above its length
+     * are ignored
+     *
+     * @param field the new bits of the field, from bit 0
+     * @param offset the index of the lowest bit of the field, from 0
+     * @param length the number of bits of the field, from 1
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     *
+     * @throws IllegalArgumentException if the field does not fit in the width of the mode
+     * */
+    public static long insertBits(long decimalNumber, long field, int offset, int length,
+                                  ArithmeticMode arithmeticMode){
+
+        int width = widthOf(arithmeticMode);
+
+        checkBitField(offset, length, width);
+
+        long fieldMask = lowBitsMask(length) << offset;
+
+        return toValue((decimalNumber & ~fieldMask) | ((field << offset) & fieldMask), width, arithmeticMode.isSigned());
+    }
+
+
+    /**
+     * Returns the bits of a value of a mode that are set in a mask, shifted down by the
+     * number of trailing zeros of the mask, e.g. 0xB for 0x1B3F under the mask 0x0F00. This
+     * reads a flag or a field that is known by its mask instead of its offset and length
+     *
+     * @param mask the bits to be kept, usually one contiguous run of one bits
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     *
+     * @return the bits under the mask (0 if the mask is 0), negative in a signed mode only if
+     *          the mask covers the top bit of the width and that bit of the value is set
+     * */
+    public static long extractField(long decimalNumber, long mask, ArithmeticMode arithmeticMode){
+
+        int width = widthOf(arithmeticMode);
+
+        long maskedBits = toBits(decimalNumber & mask, width);
+
+        //a mask of 0 has 64 trailing zeros, a shift by 0, and the masked bits are 0 anyway
+        int distance = Long.numberOfTrailingZeros(toBits(mask, width));
+
+        return arithmeticMode.isSigned() ? toValue(maskedBits, width, true) >> distance : maskedBits >>> distance;
+    }
+
+
+    /**
+     * Returns a value of a mode with the bits set in a mask replaced by a field, shifted up
+     * by the number of trailing zeros of the mask, e.g. 0x1A3F with the field 0xB under the
+     * mask 0x0F00 gives 0x1B3F. The bits of the field that land outside the mask are ignored
+     *
+     * @param field the new bits, from bit 0
+     * @param mask the bits to be replaced, usually one contiguous run of one bits
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     * */
+    public static long insertField(long decimalNumber, long field, long mask, ArithmeticMode arithmeticMode){
+
+        int width = widthOf(arithmeticMode);
+
+        long shiftedField = field << Long.numberOfTrailingZeros(mask);
+
+        return toValue((decimalNumber & ~mask) | (shiftedField & mask), width, arithmeticMode.isSigned());
+    }
+
+
+    /**
+     * Calculates the bitwise AND of two columns of values of a mode, i.e.
+     * results[i] = firstDecimalNumbers[i] & secondDecimalNumbers[i]
+     *
+     * @param firstDecimalNumbers the first values
+     * @param secondDecimalNumbers the second values (e.g. masks), at least as long as the first values
+     * @param decimalResults the array the results are written into, at least as long as the first values
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     *
+     * @throws IndexOutOfBoundsException if an array is too short
+     * */
+    public static void and(long[] firstDecimalNumbers, long[] secondDecimalNumbers, long[] decimalResults,
+                           ArithmeticMode arithmeticMode){
+
+        checkHasWidth(arithmeticMode);
+
+        int numberOfValues = checkBatch(firstDecimalNumbers, secondDecimalNumbers, decimalResults);
+
+        for (int index = 0; index < numberOfValues; index++){
+            decimalResults[index] = firstDecimalNumbers[index] & secondDecimalNumbers[index];
+        }
+    }
+
+
+    /**
+     * Calculates the bitwise OR of two columns of values of a mode, i.e.
+     * results[i] = firstDecimalNumbers[i] | secondDecimalNumbers[i]
+     *
+     * @param firstDecimalNumbers the first values
+     * @param secondDecimalNumbers the second values (e.g. flags), at least as long as the first values
+     * @param decimalResults the array the results are written into, at least as long as the first values
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     *
+     * @throws IndexOutOfBoundsException if an array is too short
+     * */
+    public static void or(long[] firstDecimalNumbers, long[] secondDecimalNumbers, long[] decimalResults,
+                          ArithmeticMode arithmeticMode){
+
+        checkHasWidth(arithmeticMode);
+
+        int numberOfValues = checkBatch(firstDecimalNumbers, secondDecimalNumbers, decimalResults);
+
+        for (int index = 0; index < numberOfValues; index++){
+            decimalResults[index] = firstDecimalNumbers[index] | secondDecimalNumbers[index];
+        }
+    }
+
+
+    /**
+     * Calculates the bitwise exclusive OR of two columns of values of a mode, i.e.
+     * results[i] = firstDecimalNumbers[i] ^ secondDecimalNumbers[i]
+     *
+     * @param firstDecimalNumbers the first values
+     * @param secondDecimalNumbers the second values, at least as long as the first values
+     * @param decimalResults the array the results are written into, at least as long as the first values
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     *
+     * @throws IndexOutOfBoundsException if an array is too short
+     * */
+    public static void xor(long[] firstDecimalNumbers, long[] secondDecimalNumbers, long[] decimalResults,
+                           ArithmeticMode arithmeticMode){
+
+        checkHasWidth(arithmeticMode);
+
+        int numberOfValues = checkBatch(firstDecimalNumbers, secondDecimalNumbers, decimalResults);
+
+        for (int index = 0; index < numberOfValues; index++){
+            decimalResults[index] = firstDecimalNumbers[index] ^ secondDecimalNumbers[index];
+        }
+    }
+
+
+    /**
+     * Calculates the bitwise NOT of a column of values of a mode (see not(long, ArithmeticMode))
+     *
+     * @param decimalNumbers the values
+     * @param decimalResults the array the results are written into, at least as long as the values
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     *
+     * @throws IndexOutOfBoundsException if an array is too short
+     * */
+    public static void not(long[] decimalNumbers, long[] decimalResults, ArithmeticMode arithmeticMode){
+
+        int width = widthOf(arithmeticMode);
+        int numberOfValues = checkBatch(decimalNumbers, decimalNumbers, decimalResults);
+
+        //flipping the bits of the width, then extending, is a XOR with the mask of the value bits
+        long flippedBits = arithmeticMode.isSigned() ? -1L : lowBitsMask(width);
+
+        for (int index = 0; index < numberOfValues; index++){
+            decimalResults[index] = decimalNumbers[index] ^ flippedBits;
+        }
+    }
+
+
+    /**
+     * Shifts a column of values of a mode to the left by the same distance (see
+     * shiftLeft(long, int, ArithmeticMode))
+     *
+     * @param decimalNumbers the values
+     * @param distance the number of bits to shift by
+     * @param decimalResults the array the results are written into, at least as long as the values
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     *
+     * @throws IllegalArgumentException if the distance is negative
+     * @throws IndexOutOfBoundsException if an array is too short
+     * */
+    public static void shiftLeft(long[] decimalNumbers, int distance, long[] decimalResults,
+                                 ArithmeticMode arithmeticMode){
+
+        int width = widthOf(arithmeticMode);
+        int numberOfValues = checkBatch(decimalNumbers, decimalNumbers, decimalResults);
+
+        checkShiftDistance(distance);
+
+        if (distance >= width){
+            Arrays.fill(decimalResults, 0, numberOfValues, 0);
+            return;
+        }
+
+        int unusedBits = Long.SIZE - width;
+        int leftShift = distance + unusedBits;
+
+        //shift the value to the top of the long and back, which also extends the result
+        if (arithmeticMode.isSigned()){
+            for (int index = 0; index < numberOfValues; index++){
+                decimalResults[index] = (decimalNumbers[index] << leftShift) >> unusedBits;
+            }
+        }
+        else {
+            for (int index = 0; index < numberOfValues; index++){
+                decimalResults[index] = (decimalNumbers[index] << leftShift) >>> unusedBits;
+            }
+        }
+    }
+
+
+    /**
+     * Shifts a column of values of a mode to the right by the same distance, with zeros
+     * shifted in (see shiftRightLogical(long, int, ArithmeticMode))
+     *
+     * @param decimalNumbers the values
+     * @param distance the number of bits to shift by
+     * @param decimalResults the array the results are written into, at least as long as the values
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     *
+     * @throws IllegalArgumentException if the distance is negative
+     * @throws IndexOutOfBoundsException if an array is too short
+     * */
+    public static void shiftRightLogical(long[] decimalNumbers, int distance, long[] decimalResults,
+                                         ArithmeticMode arithmeticMode){
+
+        int width = widthOf(arithmeticMode);
+        int numberOfValues = checkBatch(decimalNumbers, decimalNumbers, decimalResults);
+
+        checkShiftDistance(distance);
+
+        if (distance >= width){
+            Arrays.fill(decimalResults, 0, numberOfValues, 0);
+            return;
+        }
+
+        if (distance == 0){
+            System.arraycopy(decimalNumbers, 0, decimalResults, 0, numberOfValues);
+            return;
+        }
+
+        //a shift by 1 or more clears the top bit of the width, so the result needs no extension
+        //in a signed mode
+        long valueBits = lowBitsMask(width);
+
+        for (int index = 0; index < numberOfValues; index++){
+            decimalResults[index] = (decimalNumbers[index] & valueBits) >>> distance;
+        }
+    }
+
+
+    /**
+     * Shifts a column of values of a mode to the right by the same distance, with copies of
+     * the top bit of the width shifted in (see shiftRightArithmetic(long, int, ArithmeticMode))
+     *
+     * @param decimalNumbers the values
+     * @param distance the number of bits to shift by
+     * @param decimalResults the array the results are written into, at least as long as the values
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     *
+     * @throws IllegalArgumentException if the distance is negative
+     * @throws IndexOutOfBoundsException if an array is too short
+     * */
+    public static void shiftRightArithmetic(long[] decimalNumbers, int distance, long[] decimalResults,
+                                            ArithmeticMode arithmeticMode){
+
+        int width = widthOf(arithmeticMode);
+        int numberOfValues = checkBatch(decimalNumbers, decimalNumbers, decimalResults);
+
+        checkShiftDistance(distance);
+
+        int unusedBits = Long.SIZE - width;
+        int rightShift = Math.min(distance, width - 1) + unusedBits;
+
+        if (arithmeticMode.isSigned()){
+            for (int index = 0; index < numberOfValues; index++){
+                decimalResults[index] = (decimalNumbers[index] << unusedBits) >> rightShift;
+            }
+        }
+        else {
+            //sign-extend from the top bit of the width, shift, then drop the bits above the width
+            long valueBits = lowBitsMask(width);
+
+            for (int index = 0; index < numberOfValues; index++){
+                decimalResults[index] = ((decimalNumbers[index] << unusedBits) >> rightShift) & valueBits;
+            }
+        }
+    }
+
+
+    /**
+     * Rotates a column of values of a mode to the left within their width by the same
+     * distance (see rotateLeft(long, int, ArithmeticMode))
+     *
+     * @param decimalNumbers the values
+     * @param distance the number of bits to rotate by, taken modulo the width
+     * @param decimalResults the array the results are written into, at least as long as the values
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     *
+     * @throws IndexOutOfBoundsException if an array is too short
+     * */
+    public static void rotateLeft(long[] decimalNumbers, int distance, long[] decimalResults,
+                                  ArithmeticMode arithmeticMode){
+
+        int width = widthOf(arithmeticMode);
+        int numberOfValues = checkBatch(decimalNumbers, decimalNumbers, decimalResults);
+
+        if (width == Long.SIZE){
+            for (int index = 0; index < numberOfValues; index++){
+                decimalResults[index] = Long.rotateLeft(decimalNumbers[index], distance);
+            }
+
+            return;
+        }
+
+        int rotation = Math.floorMod(distance, width);
+        long valueBits = lowBitsMask(width);
+        boolean signed = arithmeticMode.isSigned();
+
+        for (int index = 0; index < numberOfValues; index++){
+
+            long bits = decimalNumbers[index] & valueBits;
+
+            decimalResults[index] = toValue((bits << rotation) | (bits >>> (width - rotation)), width, signed);
+        }
+    }
+
+
+    /**
+     * Rotates a column of values of a mode to the right within their width by the same
+     * distance (see rotateRight(long, int, ArithmeticMode))
+     *
+     * @param decimalNumbers the values
+     * @param distance the number of bits to rotate by, taken modulo the width
+     * @param decimalResults the array the results are written into, at least as long as the values
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     *
+     * @throws IndexOutOfBoundsException if an array is too short
+     * */
+    public static void rotateRight(long[] decimalNumbers, int distance, long[] decimalResults,
+                                   ArithmeticMode arithmeticMode){
+
+        int width = widthOf(arithmeticMode);
+
+        rotateLeft(decimalNumbers, width - Math.floorMod(distance, width), decimalResults, arithmeticMode);
+    }
+
+
+    /**
+     * Counts the one bits of a column of values of a mode (see bitCount(long, ArithmeticMode))
+     *
+     * @param decimalNumbers the values
+     * @param decimalResults the array the counts are written into, at least as long as the values
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     *
+     * @throws IndexOutOfBoundsException if an array is too short
+     *
+     * @return the total number of one bits of the column
+     * */
+    public static long bitCount(long[] decimalNumbers, long[] decimalResults, ArithmeticMode arithmeticMode){
+
+        long valueBits = lowBitsMask(widthOf(arithmeticMode));
+        int numberOfValues = checkBatch(decimalNumbers, decimalNumbers, decimalResults);
+
+        long totalBitCount = 0;
+
+        for (int index = 0; index < numberOfValues; index++){
+
+            int bitCount = Long.bitCount(decimalNumbers[index] & valueBits);
+
+            decimalResults[index] = bitCount;
+            totalBitCount += bitCount;
+        }
+
+        return totalBitCount;
+    }
+
+
+    /**
+     * Counts the leading zero bits of a column of values of a mode (see
+     * numberOfLeadingZeros(long, ArithmeticMode))
+     *
+     * @param decimalNumbers the values
+     * @param decimalResults the array the counts are written into, at least as long as the values
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     *
+     * @throws IndexOutOfBoundsException if an array is too short
+     * */
+    public static void numberOfLeadingZeros(long[] decimalNumbers, long[] decimalResults,
+                                            ArithmeticMode arithmeticMode){
+
+        int width = widthOf(arithmeticMode);
+        int numberOfValues = checkBatch(decimalNumbers, decimalNumbers, decimalResults);
+
+        long valueBits = lowBitsMask(width);
+        int unusedBits = Long.SIZE - width;
+
+        for (int index = 0; index < numberOfValues; index++){
+            decimalResults[index] = Long.numberOfLeadingZeros(decimalNumbers[index] & valueBits) - unusedBits;
+        }
+    }
+
+
+    /**
+     * Counts the trailing zero bits of a column of values of a mode (see
+     * numberOfTrailingZeros(long, ArithmeticMode))
+     *
+     * @param decimalNumbers the values
+     * @param decimalResults the array the counts are written into, at least as long as the values
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     *
+     * @throws IndexOutOfBoundsException if an array is too short
+     * */
+    public static void numberOfTrailingZeros(long[] decimalNumbers, long[] decimalResults,
+                                             ArithmeticMode arithmeticMode){
+
+        int width = widthOf(arithmeticMode);
+        int numberOfValues = checkBatch(decimalNumbers, decimalNumbers, decimalResults);
+
+        for (int index = 0; index < numberOfValues; index++){
+            decimalResults[index] = Math.min(Long.numberOfTrailingZeros(decimalNumbers[index]), width);
+        }
+    }
+
+
+    /**
+     * Reverses the bytes of a column of values of a mode (see reverseBytes(long, ArithmeticMode))
+     *
+     * @param decimalNumbers the values
+     * @param decimalResults the array the results are written into, at least as long as the values
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     *
+     * @throws IndexOutOfBoundsException if an array is too short
+     * */
+    public static void reverseBytes(long[] decimalNumbers, long[] decimalResults, ArithmeticMode arithmeticMode){
+
+        int width = widthOf(arithmeticMode);
+        int numberOfValues = checkBatch(decimalNumbers, decimalNumbers, decimalResults);
+
+        int unusedBits = Long.SIZE - width;
+
+        //the reversed bytes of the width are at the top of the long, so one shift brings them
+        //down and extends them
+        if (arithmeticMode.isSigned()){
+            for (int index = 0; index < numberOfValues; index++){
+                decimalResults[index] = Long.reverseBytes(decimalNumbers[index]) >> unusedBits;
+            }
+        }
+        else {
+            for (int index = 0; index < numberOfValues; index++){
+                decimalResults[index] = Long.reverseBytes(decimalNumbers[index]) >>> unusedBits;
+            }
+        }
+    }
+
+
+    /**
+     * Extracts the same bit field from a column of values of a mode (see
+     * extractBits(long, int, int, ArithmeticMode))
+     *
+     * @param decimalNumbers the values
+     * @param offset the index of the lowest bit of the field, from 0
+     * @param length the number of bits of the field, from 1
+     * @param decimalResults the array the fields are written into, at least as long as the values
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     *
+     * @throws IllegalArgumentException if the field does not fit in the width of the mode
+     * @throws IndexOutOfBoundsException if an array is too short
+     * */
+    public static void extractBits(long[] decimalNumbers, int offset, int length, long[] decimalResults,
+                                   ArithmeticMode arithmeticMode){
+
+        int width = widthOf(arithmeticMode);
+        int numberOfValues = checkBatch(decimalNumbers, decimalNumbers, decimalResults);
+
+        checkBitField(offset, length, width);
+
+        //a field that covers the top bit of a signed width is extended like the value itself
+        if (arithmeticMode.isSigned() && offset + length == width){
+            for (int index = 0; index < numberOfValues; index++){
+                decimalResults[index] = decimalNumbers[index] >> offset;
+            }
+
+            return;
+        }
+
+        long fieldBits = lowBitsMask(length);
+
+        for (int index = 0; index < numberOfValues; index++){
+            decimalResults[index] = (decimalNumbers[index] >>> offset) & fieldBits;
+        }
+    }
+
+
+    /**
+     * Replaces the same bit field of a column of values of a mode with a column of fields
+     * (see insertBits(long, long, int, int, ArithmeticMode))
+     *
+     * @param decimalNumbers the values
+     * @param fields the new bits of the fields, from bit 0, at least as long as the values
+     * @param offset the index of the lowest bit of the field, from 0
+     * @param length the number of bits of the field, from 1
+     * @param decimalResults the array the results are written into, at least as long as the values
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     *
+     * @throws IllegalArgumentException if the field does not fit in the width of the mode
+     * @throws IndexOutOfBoundsException if an array is too short
+     * */
+    public static void insertBits(long[] decimalNumbers, long[] fields, int offset, int length,
+                                  long[] decimalResults, ArithmeticMode arithmeticMode){
+
+        int width = widthOf(arithmeticMode);
+        int numberOfValues = checkBatch(decimalNumbers, fields, decimalResults);
+
+        checkBitField(offset, length, width);
+
+        if (arithmeticMode.isSigned() && offset + length == width){
+            for (int index = 0; index < numberOfValues; index++){
+                decimalResults[index] = insertBits(decimalNumbers[index], fields[index], offset, length, arithmeticMode);
+            }
+
+            return;
+        }
+
+        //a field below the top bit of the width leaves the extension of the value as it was
+        long fieldMask = lowBitsMask(length) << offset;
+
+        for (int index = 0; index < numberOfValues; index++){
+            decimalResults[index] = (decimalNumbers[index] & ~fieldMask) | ((fields[index] << offset) & fieldMask);
+        }
+    }
+
+
+    /**
+     * Returns the width of a mode in bits
+     *
+     * @throws IllegalArgumentException if the mode is ARBITRARY_PRECISION
+     * */
+    private static int widthOf(ArithmeticMode arithmeticMode){
+
+        checkHasWidth(arithmeticMode);
+
+        return arithmeticMode.getWidth();
+    }
+
+
+    private static void checkHasWidth(ArithmeticMode arithmeticMode){
+
+        if (arithmeticMode == ArithmeticMode.ARBITRARY_PRECISION){
+            throw new IllegalArgumentException("The bitwise operations need a fixed width, and " +
+                                               arithmeticMode.getDisplayName() + " mode has none");
+        }
+    }
+
+
+    private static void checkShiftDistance(int distance){
+
+        if (distance < 0){
+            throw new IllegalArgumentException("The shift distance cannot be negative");
+        }
+    }
+
+
+    private static void checkBitField(int offset, int length, int width){
+
+        if (offset < 0 || length < 1 || offset + length > width || offset + length < 0){
+            throw new IllegalArgumentException("A bit field of " + length + " bits at offset " + offset +
+                                               " does not fit in " + width + " bits");
+        }
+    }
+
+
+    /**
+     * Check the arrays of a batch
+     *
+     * @throws IndexOutOfBoundsException if the second values or the results are shorter
+     *                                   than the first values
+     *
+     * @return the number of values of the batch
+     * */
+    private static int checkBatch(long[] firstDecimalNumbers, long[] secondDecimalNumbers, long[] decimalResults){
+
+        int numberOfValues = firstDecimalNumbers.length;
+
+        Objects.checkFromIndexSize(0, numberOfValues, secondDecimalNumbers.length);
+        Objects.checkFromIndexSize(0, numberOfValues, decimalResults.length);
+
+        return numberOfValues;
+    }
+
+
+    /**
+     * Returns a long with the lowest bits set, e.g. 0xFF for 8 (all of them for 64)
+     * */
+    private static long lowBitsMask(int numberOfBits){
+        return -1L >>> (Long.SIZE - numberOfBits);
+    }
+
+
+    /**
+     * Returns the bit pattern of a value in a width, i.e. its lowest bits
+     * */
+    private static long toBits(long decimalNumber, int width){
+        return decimalNumber & lowBitsMask(width);
+    }
+
+
+    /**
+     * Returns the value of a mode a bit pattern stands for: its lowest bits (the width)
+     * sign-extended for a signed mode, or zero-extended for an unsigned mode
+     * */
+    private static long toValue(long bits, int width, boolean signed){
+
+        int unusedBits = Long.SIZE - width;
+
+        return signed ? (bits << unusedBits) >> unusedBits : (bits << unusedBits) >>> unusedBits;
+    }
+}
@@ -0,0 +1,145 @@
+package com.terence.hexadecimalcalculator.models;
+
+
+/**
+ * @author Terence Lee
+ *
+ * The operations of BitwiseArithmetic that take one or two values of a mode, for callers
+ * (e.g. the window) that select the operation at run time. The second value of a shift or
+ * rotate is the distance, and the second value of EXTRACT_FIELD is the mask. A unary
+ * operation ignores the second value
+ * E.g.
+ * <pre>
+      BitwiseOperation operation = BitwiseOperation.SHIFT_LEFT;
+
+      long shifted = operation.apply(0x81, 1, ArithmeticMode.WRAPPING_UNSIGNED_8); // 0x02
+ * </pre>
+ * */
+public enum BitwiseOperation {
+
+    AND("AND", false),
+
+    OR("OR", false),
+
+    XOR("XOR", false),
+
+    NOT("NOT", true),
+
+    SHIFT_LEFT("<<", false),
+
+    SHIFT_RIGHT_LOGICAL(">>>", false),
+
+    SHIFT_RIGHT_ARITHMETIC(">>", false),
+
+    ROTATE_LEFT("ROL", false),
+
+    ROTATE_RIGHT("ROR", false),
+
+    BIT_COUNT("POPCNT", true),
+
+    LEADING_ZEROS("CLZ", true),
+
+    TRAILING_ZEROS("CTZ", true),
+
+    REVERSE_BYTES("BSWAP", true),
+
+    EXTRACT_FIELD("EXTRACT", false);
+
+
+    private final String symbol;
+
+    private final boolean unary;
+
+
+    BitwiseOperation(String symbol, boolean unary) {
+        this.symbol = symbol;
+        this.unary = unary;
+    }
+
+
+    /**
+     * Returns the symbol of the operation, e.g. "<<" for SHIFT_LEFT
+     * */
+    public String getSymbol() {
+        return symbol;
+    }
+
+
+    /**
+     * Returns true if the operation takes only one value (e.g. NOT), i.e. ignores the second
+     * value of apply()
+     * */
+    public boolean isUnary() {
+        return unary;
+    }
+
+
+    /**
+     * Apply the operation to values of an arithmetic mode, with BitwiseArithmetic
+     *
+     * @param firstDecimalNumber the value
+     * @param secondDecimalNumber the other value for AND, OR and XOR, the distance for a shift
+     *                            or rotate, the mask for EXTRACT_FIELD, ignored otherwise
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     *
+     * @throws IllegalArgumentException if the mode is ARBITRARY_PRECISION, or the distance
+     *                                  of a shift is negative
+     *
+     * @return the result of the operation, a value of the mode
+     * */
+    public long apply(long firstDecimalNumber, long secondDecimalNumber, ArithmeticMode arithmeticMode){
+
+        return switch (this) {
+            case AND -> BitwiseArithmetic.and(firstDecimalNumber, secondDecimalNumber, arithmeticMode);
+            case OR -> BitwiseArithmetic.or(firstDecimalNumber, secondDecimalNumber, arithmeticMode);
+            case XOR -> BitwiseArithmetic.xor(firstDecimalNumber, secondDecimalNumber, arithmeticMode);
+            case NOT -> BitwiseArithmetic.not(firstDecimalNumber, arithmeticMode);
+            case SHIFT_LEFT -> BitwiseArithmetic.shiftLeft(firstDecimalNumber,
+                                                           toShiftDistance(secondDecimalNumber, arithmeticMode),
+                                                           arithmeticMode);
+            case SHIFT_RIGHT_LOGICAL -> BitwiseArithmetic.shiftRightLogical(firstDecimalNumber,
+                                                           toShiftDistance(secondDecimalNumber, arithmeticMode),
+                                                           arithmeticMode);
+            case SHIFT_RIGHT_ARITHMETIC -> BitwiseArithmetic.shiftRightArithmetic(firstDecimalNumber,
+                                                           toShiftDistance(secondDecimalNumber, arithmeticMode),
+                                                           arithmeticMode);
+            case ROTATE_LEFT -> BitwiseArithmetic.rotateLeft(firstDecimalNumber,
+                                                           toRotateDistance(secondDecimalNumber),
+                                                           arithmeticMode);
+            case ROTATE_RIGHT -> BitwiseArithmetic.rotateRight(firstDecimalNumber,
+                                                           toRotateDistance(secondDecimalNumber),
+                                                           arithmeticMode);
+            case BIT_COUNT -> BitwiseArithmetic.bitCount(firstDecimalNumber, arithmeticMode);
+            case LEADING_ZEROS -> BitwiseArithmetic.numberOfLeadingZeros(firstDecimalNumber, arithmeticMode);
+            case TRAILING_ZEROS -> BitwiseArithmetic.numberOfTrailingZeros(firstDecimalNumber, arithmeticMode);
+            case REVERSE_BYTES -> BitwiseArithmetic.reverseBytes(firstDecimalNumber, arithmeticMode);
+            case EXTRACT_FIELD -> BitwiseArithmetic.extractField(firstDecimalNumber, secondDecimalNumber, arithmeticMode);
+        };
+    }
+
+
+    /**
+     * Returns a shift distance of a mode as an int. In an unsigned mode a negative long is a
+     * distance above Long.MAX_VALUE, and any distance above Integer.MAX_VALUE shifts out
+     * every bit, like Integer.MAX_VALUE
+     * */
+    private static int toShiftDistance(long distance, ArithmeticMode arithmeticMode){
+
+        if (distance < 0){
+            //a negative distance of a signed mode is kept negative, for BitwiseArithmetic to reject
+            return arithmeticMode.isSigned() ? -1 : Integer.MAX_VALUE;
+        }
+
+        return (int) Math.min(distance, Integer.MAX_VALUE);
+    }
+
+
+    /**
+     * Returns a rotate distance of a mode as an int with the same rotation, i.e. the same
+     * value modulo the width (a power of two, so the low bits of the distance are enough)
+     * */
+    private static int toRotateDistance(long distance){
+
+        return (int) (distance & (Long.SIZE - 1));
+    }
+}
@@ -0,0 +1,201 @@
+package com.terence.hexadecimalcalculator.models;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+
+/**
+ * @author Terence Lee
+ *
+ * A thread-safe cache of a bounded number of entries, evicting the least recently used
+ * entry when it is full. The entries are split by the hash of their key into segments, each
+ * an access-ordered LinkedHashMap with its own lock, so threads using different keys rarely
+ * wait for each other. The least recently used entry is therefore that of a segment, which
+ * is close enough to the least recently used entry of the whole cache.
+ *
+ * The hits, misses and evictions are counted with LongAdders, which do not contend between
+ * threads either
+ * */
+final class BoundedLruCache<K, V> {
+
+    private static final int MAX_NUMBER_OF_SEGMENTS = 16;
+
+    private final Segment<K, V>[] segments;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+
+    /**
+     * @param maxSize the max number of entries, at least 1
+     *
+     * @throws IllegalArgumentException if the max size is less than 1
+     * */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    BoundedLruCache(int maxSize) {
+
+        if (maxSize < 1){
+            throw new IllegalArgumentException("The max size of a cache must be at least 1, not " + maxSize);
+        }
+
+        //a power of two, with at least 64 entries per segment unless the whole cache is smaller
+        int numberOfSegments = Math.max(1, Math.min(MAX_NUMBER_OF_SEGMENTS, Integer.highestOneBit(maxSize / 64)));
+
+        segments = new Segment[numberOfSegments];
+
+        for (int index = 0; index < numberOfSegments; index++){
+            //spread the remainder over the first segments, so the sizes add up to the max size
+            int segmentMaxSize = maxSize / numberOfSegments + (index < maxSize % numberOfSegments ? 1 : 0);
+
+            segments[index] = new Segment<>(segmentMaxSize, evictionCount);
+        }
+    }
+
+
+    /**
+     * Returns the value of a key, computing and caching it if it is not cached. The value is
+     * computed without holding a lock, so two threads missing the same key at the same time
+     * may both compute it
+     *
+     * @param key the key
+     * @param valueFunction computes the value of the key. If it throws, nothing is cached
+     * */
+    V computeIfAbsent(K key, Function<? super K, ? extends V> valueFunction){
+
+        Segment<K, V> segment = segmentOf(key);
+        V value;
+
+        synchronized (segment){
+            value = segment.get(key);
+        }
+
+        if (value != null){
+            hitCount.increment();
+
+            return value;
+        }
+
+        missCount.increment();
+
+        value = valueFunction.apply(key);
+
+        synchronized (segment){
+            V existingValue = segment.putIfAbsent(key, value);
+
+            return existingValue != null ? existingValue : value;
+        }
+    }
+
+
+    /**
+     * Returns the cached value of a key, or null if it is not cached
+     * */
+    V get(K key){
+
+        Segment<K, V> segment = segmentOf(key);
+        V value;
+
+        synchronized (segment){
+            value = segment.get(key);
+        }
+
+        (value != null ? hitCount : missCount).increment();
+
+        return value;
+    }
+
+
+    /**
+     * Returns the number of entries
+     * */
+    int size(){
+
+        int size = 0;
+
+        for (Segment<K, V> segment : segments){
+            synchronized (segment){
+                size += segment.size();
+            }
+        }
+
+        return size;
+    }
+
+
+    /**
+     * Remove every entry. The counters are kept
+     * */
+    void clear(){
+
+        for (Segment<K, V> segment : segments){
+            synchronized (segment){
+                segment.clear();
+            }
+        }
+    }
+
+
+    long getHitCount(){
+        return hitCount.sum();
+    }
+
+
+    long getMissCount(){
+        return missCount.sum();
+    }
+
+
+    long getEvictionCount(){
+        return evictionCount.sum();
+    }
+
+
+    private Segment<K, V> segmentOf(K key){
+
+        //the multiplication by the golden ratio mixes all the bits of the hash code into the
+        //middle bits, as the hash codes of records and Strings often differ in their upper bits only
+        int hash = key.hashCode() * 0x9E3779B9;
+
+        return segments[(hash >>> 16) & (segments.length - 1)];
+    }
+
+
+    /**
+     * An access-ordered LinkedHashMap removing its least recently used entry when it
+     * grows over its max size
+     * */
+    private static final class Segment<K, V> extends LinkedHashMap<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maxSize;
+
+        private final LongAdder evictionCount;
+
+
+        Segment(int maxSize, LongAdder evictionCount) {
+            super(16, 0.75f, true);
+
+            this.maxSize = maxSize;
+            this.evictionCount = evictionCount;
+        }
+
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+
+            if (size() <= maxSize){
+                return false;
+            }
+
+            evictionCount.increment();
+
+            return true;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.terence.hexadecimalcalculator.models;
+
+
+/**
+ * @author Terence Lee
+ *
+ * A mutable holder for the value and status of a parse or a calculation.
+ *
+ * The non-throwing ("try") methods of the models package write into a holder supplied
+ * by the caller, so that a caller processing many values can reuse a single holder and
+ * never create an object (or an exception) per value
+ * E.g.
+ * <pre>
+      CalculationResult result = new CalculationResult();
+
+      if (HexadecimalParser.tryParse(line, 0, 4, result) == CalculationStatus.OK){
+          long value = result.getValue();
+      }
+ * </pre>
+ * */
+public final class CalculationResult {
+
+    private long value;
+
+    private CalculationStatus status = CalculationStatus.OK;
+
+
+    /**
+     * Returns the value. Only meaningful if the status is OK
+     * */
+    public long getValue() {
+        return value;
+    }
+
+
+    /**
+     * Returns the status of the last parse/calculation written into this holder
+     * */
+    public CalculationStatus getStatus() {
+        return status;
+    }
+
+
+    /**
+     * Returns true if the status is OK
+     * */
+    public boolean isOk() {
+        return status == CalculationStatus.OK;
+    }
+
+
+    /**
+     * Record a successful parse/calculation
+     *
+     * @param value the value
+     *
+     * @return the status, i.e. OK
+     * */
+    CalculationStatus setValue(long value) {
+
+        this.value = value;
+        this.status = CalculationStatus.OK;
+
+        return CalculationStatus.OK;
+    }
+
+
+    /**
+     * Record a failed parse/calculation
+     *
+     * @param status why the parse/calculation failed
+     *
+     * @return the status
+     * */
+    CalculationStatus setFailure(CalculationStatus status) {
+
+        this.value = 0;
+        this.status = status;
+
+        return status;
+    }
+
+
+    @Override
+    public String toString() {
+        return status == CalculationStatus.OK ? Long.toString(value) : status.toString();
+    }
+}
@@ -0,0 +1,28 @@
+package com.terence.hexadecimalcalculator.models;
+
+
+/**
+ * @author Terence Lee
+ *
+ * The outcome of parsing or calculating a hexadecimal number, reported instead of
+ * throwing an exception by the non-throwing ("try") methods of the models package
+ * */
+public enum CalculationStatus {
+
+    //the value is valid
+    OK,
+
+    //the input is empty, or contains a character other than 0-9, A-F, a-f
+    //(or a single leading "+"/"-" sign)
+    INVALID_DIGIT,
+
+    //the input only contains valid digits, but is more than 7FFFFFFFFFFFFFFF
+    //or less than -8000000000000000
+    OUT_OF_RANGE,
+
+    //the result of a calculation is beyond the range of a long
+    OVERFLOW,
+
+    //the divisor of a division or modulus is zero
+    DIVIDE_BY_ZERO
+}
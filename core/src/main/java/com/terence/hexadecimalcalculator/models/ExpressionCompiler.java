@@ -0,0 +1,201 @@
+package com.terence.hexadecimalcalculator.models;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Compiles the syntax tree of a HexadecimalExpression into a tree of lambdas, one per node,
+ * each specialized for its operation and arithmetic mode, so evaluating it never looks at the
+ * syntax tree or the operators again. Operations on two numbers are folded into a number at
+ * compile time, and an operation with a number on the right captures the number instead of
+ * calling a lambda for it
+ * */
+final class ExpressionCompiler {
+
+
+    /**
+     * A compiled node of an expression
+     * */
+    @FunctionalInterface
+    interface Evaluator {
+
+        /**
+         * Returns the value of the node
+         *
+         * @param variableValues the values of the variables, by their index
+         *
+         * @throws ArithmeticException if the result overflows, or a divisor is zero
+         * */
+        long evaluate(long[] variableValues);
+    }
+
+
+    /**
+     * The constructor is made private as all methods of this class are static, and
+     * therefore the constructor is not required
+     * */
+    private ExpressionCompiler() {
+
+    }
+
+
+    /**
+     * Compile a syntax tree
+     *
+     * @param node the root of the syntax tree
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     * */
+    static Evaluator compile(ExpressionNode node, ArithmeticMode arithmeticMode){
+
+        node = foldConstants(node, arithmeticMode);
+
+        if (node instanceof ExpressionNode.Literal literal){
+            long value = literal.value();
+
+            return variableValues -> value;
+        }
+
+        if (node instanceof ExpressionNode.Variable variable){
+            int variableIndex = variable.index();
+
+            return variableValues -> variableValues[variableIndex];
+        }
+
+        if (node instanceof ExpressionNode.Negation negation){
+            Evaluator operand = compile(negation.operand(), arithmeticMode);
+
+            if (arithmeticMode == ArithmeticMode.CHECKED_64){
+                return variableValues -> Math.negateExact(operand.evaluate(variableValues));
+            }
+
+            return variableValues -> FixedWidthArithmetic.subtract(0, operand.evaluate(variableValues),
+                                                                   arithmeticMode);
+        }
+
+        ExpressionNode.BinaryOperation binaryOperation = (ExpressionNode.BinaryOperation) node;
+        Evaluator firstOperand = compile(binaryOperation.firstOperand(), arithmeticMode);
+
+        if (arithmeticMode != ArithmeticMode.CHECKED_64){
+            return compileFixedWidth(binaryOperation.operation(), firstOperand,
+                                     compile(binaryOperation.secondOperand(), arithmeticMode), arithmeticMode);
+        }
+
+        if (binaryOperation.secondOperand() instanceof ExpressionNode.Literal literal){
+            return compileChecked64(binaryOperation.operation(), firstOperand, literal.value());
+        }
+
+        return compileChecked64(binaryOperation.operation(), firstOperand,
+                                compile(binaryOperation.secondOperand(), arithmeticMode));
+    }
+
+
+    private static Evaluator compileChecked64(HexadecimalOperation operation,
+                                              Evaluator firstOperand, Evaluator secondOperand){
+
+        return switch (operation){
+            case ADD -> variableValues -> Math.addExact(firstOperand.evaluate(variableValues),
+                                                        secondOperand.evaluate(variableValues));
+
+            case SUBTRACT -> variableValues -> Math.subtractExact(firstOperand.evaluate(variableValues),
+                                                                  secondOperand.evaluate(variableValues));
+
+            case MULTIPLY -> variableValues -> Math.multiplyExact(firstOperand.evaluate(variableValues),
+                                                                  secondOperand.evaluate(variableValues));
+
+            case DIVIDE -> variableValues -> Math.divideExact(firstOperand.evaluate(variableValues),
+                                                              secondOperand.evaluate(variableValues));
+
+            case MODULUS -> variableValues -> firstOperand.evaluate(variableValues) %
+                                              secondOperand.evaluate(variableValues);
+        };
+    }
+
+
+    private static Evaluator compileChecked64(HexadecimalOperation operation,
+                                              Evaluator firstOperand, long secondDecimalNumber){
+
+        return switch (operation){
+            case ADD -> variableValues -> Math.addExact(firstOperand.evaluate(variableValues),
+                                                        secondDecimalNumber);
+
+            case SUBTRACT -> variableValues -> Math.subtractExact(firstOperand.evaluate(variableValues),
+                                                                  secondDecimalNumber);
+
+            case MULTIPLY -> variableValues -> Math.multiplyExact(firstOperand.evaluate(variableValues),
+                                                                  secondDecimalNumber);
+
+            case DIVIDE -> variableValues -> Math.divideExact(firstOperand.evaluate(variableValues),
+                                                              secondDecimalNumber);
+
+            case MODULUS -> variableValues -> firstOperand.evaluate(variableValues) % secondDecimalNumber;
+        };
+    }
+
+
+    private static Evaluator compileFixedWidth(HexadecimalOperation operation, Evaluator firstOperand,
+                                               Evaluator secondOperand, ArithmeticMode arithmeticMode){
+
+        return switch (operation){
+            case ADD -> variableValues -> FixedWidthArithmetic.add(firstOperand.evaluate(variableValues),
+                    secondOperand.evaluate(variableValues), arithmeticMode);
+
+            case SUBTRACT -> variableValues -> FixedWidthArithmetic.subtract(firstOperand.evaluate(variableValues),
+                    secondOperand.evaluate(variableValues), arithmeticMode);
+
+            case MULTIPLY -> variableValues -> FixedWidthArithmetic.multiply(firstOperand.evaluate(variableValues),
+                    secondOperand.evaluate(variableValues), arithmeticMode);
+
+            case DIVIDE -> variableValues -> FixedWidthArithmetic.divide(firstOperand.evaluate(variableValues),
+                    secondOperand.evaluate(variableValues), arithmeticMode);
+
+            case MODULUS -> variableValues -> FixedWidthArithmetic.modulus(firstOperand.evaluate(variableValues),
+                    secondOperand.evaluate(variableValues), arithmeticMode);
+        };
+    }
+
+
+    /**
+     * Replace the operations whose operands are all numbers with their result. An operation
+     * that overflows or divides by zero is kept, so the error is reported when it is evaluated
+     * */
+    static ExpressionNode foldConstants(ExpressionNode node, ArithmeticMode arithmeticMode){
+
+        if (node instanceof ExpressionNode.Negation negation){
+            ExpressionNode operand = foldConstants(negation.operand(), arithmeticMode);
+
+            if (operand instanceof ExpressionNode.Literal literal){
+                try {
+                    return new ExpressionNode.Literal(arithmeticMode == ArithmeticMode.CHECKED_64 ?
+                            Math.negateExact(literal.value()) :
+                            FixedWidthArithmetic.subtract(0, literal.value(), arithmeticMode));
+                }
+                catch (ArithmeticException e){
+                    return new ExpressionNode.Negation(operand);
+                }
+            }
+
+            return new ExpressionNode.Negation(operand);
+        }
+
+        if (node instanceof ExpressionNode.BinaryOperation binaryOperation){
+            ExpressionNode firstOperand = foldConstants(binaryOperation.firstOperand(), arithmeticMode);
+            ExpressionNode secondOperand = foldConstants(binaryOperation.secondOperand(), arithmeticMode);
+
+            if (firstOperand instanceof ExpressionNode.Literal firstLiteral &&
+                secondOperand instanceof ExpressionNode.Literal secondLiteral){
+
+                try {
+                    return new ExpressionNode.Literal(binaryOperation.operation().apply(firstLiteral.value(),
+                                                            secondLiteral.value(), arithmeticMode));
+                }
+                catch (ArithmeticException e){
+                    //kept as an operation
+                }
+            }
+
+            return new ExpressionNode.BinaryOperation(binaryOperation.operation(), firstOperand, secondOperand);
+        }
+
+        return node;
+    }
+}
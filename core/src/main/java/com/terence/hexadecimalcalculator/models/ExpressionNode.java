@@ -0,0 +1,60 @@
+package com.terence.hexadecimalcalculator.models;
+
+
+/**
+ * @author Terence Lee
+ *
+ * A node of the syntax tree of a HexadecimalExpression, e.g. "(1F + -$x) * FF" is
+ * <pre>
+      BinaryOperation(MULTIPLY,
+              BinaryOperation(ADD, Literal(0x1F), Negation(Variable("x", 0))),
+              Literal(0xFF))
+ * </pre>
+ * */
+public sealed interface ExpressionNode {
+
+
+    /**
+     * A hexadecimal number, parsed when the expression is compiled
+     *
+     * @param value the value of the number in the arithmetic mode of the expression
+     * */
+    record Literal(long value) implements ExpressionNode {
+
+    }
+
+
+    /**
+     * A variable (e.g. "$x"), whose value is given when the expression is evaluated
+     *
+     * @param name the name of the variable, without the "$"
+     * @param index the index of the value of the variable in the array passed to
+     *              HexadecimalExpression.evaluate
+     * */
+    record Variable(String name, int index) implements ExpressionNode {
+
+    }
+
+
+    /**
+     * A unary minus, e.g. "-(1F + 2)"
+     *
+     * @param operand the negated node
+     * */
+    record Negation(ExpressionNode operand) implements ExpressionNode {
+
+    }
+
+
+    /**
+     * A binary operation, e.g. "1F * 2"
+     *
+     * @param operation the operation
+     * @param firstOperand the node left of the operator
+     * @param secondOperand the node right of the operator
+     * */
+    record BinaryOperation(HexadecimalOperation operation, ExpressionNode firstOperand,
+                           ExpressionNode secondOperand) implements ExpressionNode {
+
+    }
+}
@@ -0,0 +1,257 @@
+package com.terence.hexadecimalcalculator.models;
+
+import java.util.List;
+
+
+/**
+ * @author Terence Lee
+ *
+ * A recursive descent parser turning the text of a HexadecimalExpression into its syntax
+ * tree. The grammar, from the lowest to the highest precedence, is
+ * <pre>
+      sum      = product { ("+" | "-") product }
+      product  = unary { ("*" | "/" | "%") unary }
+      unary    = ("-" | "+") unary | primary
+      primary  = hexadecimal number | "$" name | "(" sum ")"
+ * </pre>
+ *
+ * Whitespace is allowed between any two tokens, and a name is made of letters, digits and
+ * underscores. The numbers are parsed here, once, in the arithmetic mode of the expression
+ * */
+final class ExpressionParser {
+
+    //max nesting of parentheses and unary operators, so a hostile expression is reported
+    //as invalid instead of overflowing the stack
+    static final int MAX_NESTING_DEPTH = 256;
+
+    private final CharSequence expression;
+
+    private final ArithmeticMode arithmeticMode;
+
+    //the names of the variables, in the order they first appear
+    private final List<String> variableNames;
+
+    private int index;
+
+    private int nestingDepth;
+
+
+    /**
+     * @param expression the text of the expression
+     * @param arithmeticMode the mode the numbers are parsed in (CHECKED_64 or a fixed-width mode)
+     * @param variableNames the list the names of the variables are added to
+     * */
+    ExpressionParser(CharSequence expression, ArithmeticMode arithmeticMode, List<String> variableNames) {
+        this.expression = expression;
+        this.arithmeticMode = arithmeticMode;
+        this.variableNames = variableNames;
+    }
+
+
+    /**
+     * Parse the whole expression
+     *
+     * @throws IllegalArgumentException if the expression is not valid (a NumberFormatException
+     *          if a number is not valid in the arithmetic mode)
+     *
+     * @return the root of the syntax tree
+     * */
+    ExpressionNode parse(){
+
+        ExpressionNode root = parseSum();
+
+        skipWhitespace();
+
+        if (index < expression.length()){
+            throw syntaxError(expression.charAt(index) == ')' ? "Unmatched ')'" :
+                                                                 "Missing operator");
+        }
+
+        return root;
+    }
+
+
+    private ExpressionNode parseSum(){
+
+        ExpressionNode node = parseProduct();
+
+        while (nextCharacterIsOneOf("+-")){
+            HexadecimalOperation operation = HexadecimalOperation.fromSymbol(expression.charAt(index++));
+
+            node = new ExpressionNode.BinaryOperation(operation, node, parseProduct());
+        }
+
+        return node;
+    }
+
+
+    private ExpressionNode parseProduct(){
+
+        ExpressionNode node = parseUnary();
+
+        while (nextCharacterIsOneOf("*/%")){
+            HexadecimalOperation operation = HexadecimalOperation.fromSymbol(expression.charAt(index++));
+
+            node = new ExpressionNode.BinaryOperation(operation, node, parseUnary());
+        }
+
+        return node;
+    }
+
+
+    private ExpressionNode parseUnary(){
+
+        if (!nextCharacterIsOneOf("+-")){
+            return parsePrimary();
+        }
+
+        boolean negative = expression.charAt(index++) == '-';
+
+        enterNesting();
+        skipWhitespace();
+
+        ExpressionNode node;
+
+        //"-8000000000000000" is a valid long but "8000000000000000" is not, so in a signed
+        //mode a negated number is parsed together with its sign
+        if (negative && arithmeticMode.isSigned() && nextCharacterIsHexadecimalDigit()){
+            node = parseNumber(true);
+        }
+        else {
+            ExpressionNode operand = parseUnary();
+
+            node = negative ? new ExpressionNode.Negation(operand) : operand;
+        }
+
+        nestingDepth--;
+
+        return node;
+    }
+
+
+    private ExpressionNode parsePrimary(){
+
+        skipWhitespace();
+
+        if (index == expression.length()){
+            throw syntaxError("Missing number");
+        }
+
+        char character = expression.charAt(index);
+
+        if (character == '('){
+            index++;
+            enterNesting();
+
+            ExpressionNode node = parseSum();
+
+            if (!nextCharacterIsOneOf(")")){
+                throw syntaxError("Missing ')'");
+            }
+
+            index++;
+            nestingDepth--;
+
+            return node;
+        }
+
+        if (character == '$'){
+            return parseVariable();
+        }
+
+        if (nextCharacterIsHexadecimalDigit()){
+            return parseNumber(false);
+        }
+
+        throw syntaxError("Unexpected '" + character + "'");
+    }
+
+
+    private ExpressionNode parseNumber(boolean negative){
+
+        int beginIndex = index;
+
+        while (nextCharacterIsHexadecimalDigit()){
+            index++;
+        }
+
+        CharSequence digits = expression.subSequence(beginIndex, index);
+        CharSequence hexadecimalNumber = negative ? "-" + digits : digits;
+
+        long value = arithmeticMode == ArithmeticMode.CHECKED_64 ?
+                HexadecimalParser.parse(hexadecimalNumber) :
+                FixedWidthArithmetic.parse(hexadecimalNumber, arithmeticMode);
+
+        return new ExpressionNode.Literal(value);
+    }
+
+
+    private ExpressionNode parseVariable(){
+
+        int beginIndex = ++index;
+
+        while (index < expression.length() && isNameCharacter(expression.charAt(index))){
+            index++;
+        }
+
+        if (beginIndex == index){
+            throw syntaxError("Missing variable name");
+        }
+
+        String name = expression.subSequence(beginIndex, index).toString();
+        int variableIndex = variableNames.indexOf(name);
+
+        if (variableIndex < 0){
+            variableIndex = variableNames.size();
+            variableNames.add(name);
+        }
+
+        return new ExpressionNode.Variable(name, variableIndex);
+    }
+
+
+    private void enterNesting(){
+
+        if (++nestingDepth > MAX_NESTING_DEPTH){
+            throw syntaxError("Nested more than " + MAX_NESTING_DEPTH + " levels deep");
+        }
+    }
+
+
+    /**
+     * Skip whitespace, then check if the next character is one of some symbols
+     * */
+    private boolean nextCharacterIsOneOf(String symbols){
+
+        skipWhitespace();
+
+        return index < expression.length() && symbols.indexOf(expression.charAt(index)) >= 0;
+    }
+
+
+    private boolean nextCharacterIsHexadecimalDigit(){
+
+        return index < expression.length() && HexadecimalParser.nibbleValueOf(expression.charAt(index)) >= 0;
+    }
+
+
+    private void skipWhitespace(){
+
+        while (index < expression.length() && Character.isWhitespace(expression.charAt(index))){
+            index++;
+        }
+    }
+
+
+    private static boolean isNameCharacter(char character){
+
+        return (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z') ||
+               (character >= '0' && character <= '9') || character == '_';
+    }
+
+
+    private IllegalArgumentException syntaxError(String message){
+
+        return new IllegalArgumentException(message + " at index " + index + " of \"" + expression + "\"");
+    }
+}
@@ -0,0 +1,289 @@
+package com.terence.hexadecimalcalculator.models;
+
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter.LetterCase;
+
+
+/**
+ * @author Terence Lee
+ *
+ * The calculations of the fixed-width ArithmeticModes (8, 16, 32 or 64 bits, signed or
+ * unsigned, wrapping or checked) on primitive longs.
+ *
+ * A value of a mode is held in a long as the number it stands for: sign-extended for a signed
+ * mode, zero-extended for an unsigned mode (for 64-bit unsigned, the long is read as unsigned).
+ * A result is brought back to the width by shifting it to the top of the long and back, so a
+ * wrapping calculation is plain machine arithmetic with no branch or exception (except the
+ * ArithmeticException of a division by zero)
+ * E.g.
+ * <pre>
+      long sum = FixedWidthArithmetic.add(0x7F, 0x01, ArithmeticMode.WRAPPING_8); // -0x80
+
+      long difference = FixedWidthArithmetic.subtract(0, 1, ArithmeticMode.WRAPPING_UNSIGNED_16); // 0xFFFF
+ * </pre>
+ * */
+public final class FixedWidthArithmetic {
+
+
+    /**
+     * The constructor is made private as all methods of this class are static, and
+     * therefore the constructor is not required
+     * */
+    private FixedWidthArithmetic() {
+
+    }
+
+
+    /**
+     * Returns the sum of two values of a mode
+     *
+     * @param arithmeticMode a fixed-width mode
+     *
+     * @throws ArithmeticException if the mode is checked and the result does not fit in it
+     * */
+    public static long add(long firstDecimalNumber, long secondDecimalNumber, ArithmeticMode arithmeticMode){
+
+        long decimalResult = firstDecimalNumber + secondDecimalNumber;
+
+        if (!arithmeticMode.isWrapping() && arithmeticMode.getWidth() == Long.SIZE){
+            boolean overflows = arithmeticMode.isSigned() ?
+                    ((firstDecimalNumber ^ decimalResult) & (secondDecimalNumber ^ decimalResult)) < 0 :
+                    Long.compareUnsigned(decimalResult, firstDecimalNumber) < 0;
+
+            return checkNoOverflow(decimalResult, overflows);
+        }
+
+        return fitToWidth(decimalResult, arithmeticMode);
+    }
+
+
+    /**
+     * Returns the difference of two values of a mode
+     *
+     * @param arithmeticMode a fixed-width mode
+     *
+     * @throws ArithmeticException if the mode is checked and the result does not fit in it
+     * */
+    public static long subtract(long firstDecimalNumber, long secondDecimalNumber, ArithmeticMode arithmeticMode){
+
+        long decimalResult = firstDecimalNumber - secondDecimalNumber;
+
+        if (!arithmeticMode.isWrapping() && arithmeticMode.getWidth() == Long.SIZE){
+            boolean overflows = arithmeticMode.isSigned() ?
+                    ((firstDecimalNumber ^ secondDecimalNumber) & (firstDecimalNumber ^ decimalResult)) < 0 :
+                    Long.compareUnsigned(firstDecimalNumber, secondDecimalNumber) < 0;
+
+            return checkNoOverflow(decimalResult, overflows);
+        }
+
+        return fitToWidth(decimalResult, arithmeticMode);
+    }
+
+
+    /**
+     * Returns the product of two values of a mode
+     *
+     * @param arithmeticMode a fixed-width mode
+     *
+     * @throws ArithmeticException if the mode is checked and the result does not fit in it
+     * */
+    public static long multiply(long firstDecimalNumber, long secondDecimalNumber, ArithmeticMode arithmeticMode){
+
+        //the lowest 64 bits of a product are the same for signed and unsigned numbers
+        long decimalResult = firstDecimalNumber * secondDecimalNumber;
+
+        if (!arithmeticMode.isWrapping() && arithmeticMode.getWidth() == Long.SIZE){
+            boolean overflows = arithmeticMode.isSigned() ?
+                    Math.multiplyHigh(firstDecimalNumber, secondDecimalNumber) != (decimalResult >> 63) :
+                    Math.unsignedMultiplyHigh(firstDecimalNumber, secondDecimalNumber) != 0;
+
+            return checkNoOverflow(decimalResult, overflows);
+        }
+
+        return fitToWidth(decimalResult, arithmeticMode);
+    }
+
+
+    /**
+     * Returns the quotient of two values of a mode, rounded towards zero
+     *
+     * @param arithmeticMode a fixed-width mode
+     *
+     * @throws ArithmeticException if the divisor is zero, or if the mode is checked and the
+     *          result does not fit in it (the minimum divided by -1)
+     * */
+    public static long divide(long firstDecimalNumber, long secondDecimalNumber, ArithmeticMode arithmeticMode){
+
+        if (!arithmeticMode.isSigned()){
+            return Long.divideUnsigned(firstDecimalNumber, secondDecimalNumber);
+        }
+
+        if (!arithmeticMode.isWrapping() && arithmeticMode.getWidth() == Long.SIZE){
+            return Math.divideExact(firstDecimalNumber, secondDecimalNumber);
+        }
+
+        return fitToWidth(firstDecimalNumber / secondDecimalNumber, arithmeticMode);
+    }
+
+
+    /**
+     * Returns the remainder of two values of a mode, with the sign of the dividend for a
+     * signed mode
+     *
+     * @param arithmeticMode a fixed-width mode
+     *
+     * @throws ArithmeticException if the divisor is zero
+     * */
+    public static long modulus(long firstDecimalNumber, long secondDecimalNumber, ArithmeticMode arithmeticMode){
+
+        return arithmeticMode.isSigned() ? firstDecimalNumber % secondDecimalNumber :
+                                           Long.remainderUnsigned(firstDecimalNumber, secondDecimalNumber);
+    }
+
+
+    /**
+     * Parse a hexadecimal number as a value of a mode, e.g. "-80" to -128 in 8-bit signed
+     * modes, or "FF" to 255 in 8-bit unsigned modes
+     *
+     * @param hexadecimalNumber the hexadecimal number to be parsed
+     * @param arithmeticMode a fixed-width mode
+     *
+     * @throws NumberFormatException if the argument is not a valid hexadecimal number
+     *          within the range of the mode
+     * */
+    public static long parse(CharSequence hexadecimalNumber, ArithmeticMode arithmeticMode){
+
+        Int128 number = new Int128();
+
+        if (Int128.tryParse(hexadecimalNumber, number) != CalculationStatus.OK ||
+            !isInRange(number, arithmeticMode)){
+
+            throw new NumberFormatException("For input string: \"" + hexadecimalNumber +
+                    "\" under radix 16 in " + arithmeticMode.getDisplayName() + " mode");
+        }
+
+        return number.getLow();
+    }
+
+
+    /**
+     * Check if a hexadecimal number is a valid value of a mode
+     *
+     * @param hexadecimalNumber the hexadecimal number to be checked
+     * @param arithmeticMode a fixed-width mode
+     * */
+    public static boolean isValid(CharSequence hexadecimalNumber, ArithmeticMode arithmeticMode){
+
+        Int128 number = new Int128();
+
+        return Int128.tryParse(hexadecimalNumber, number) == CalculationStatus.OK &&
+               isInRange(number, arithmeticMode);
+    }
+
+
+    /**
+     * Check if a long is a value of a mode, e.g. 255 is a value of 8-bit unsigned modes but
+     * not of 8-bit signed modes. Every long is a value of the 64-bit modes (a 64-bit unsigned
+     * value is held as the long with the same bits)
+     *
+     * @param decimalNumber the long to be checked
+     * @param arithmeticMode a fixed-width mode
+     * */
+    public static boolean isInRange(long decimalNumber, ArithmeticMode arithmeticMode){
+
+        return arithmeticMode.getWidth() == Long.SIZE ||
+               (decimalNumber >= minValue(arithmeticMode) && decimalNumber <= maxValue(arithmeticMode));
+    }
+
+
+    /**
+     * Format a value of a mode as a hexadecimal number: with a "-" sign if it is negative in
+     * a signed mode, or as its unsigned value in an unsigned mode
+     *
+     * @param decimalNumber the value to be formatted
+     * @param arithmeticMode a fixed-width mode
+     * @param letterCase the case of the digits A-F
+     * */
+    public static String format(long decimalNumber, ArithmeticMode arithmeticMode, LetterCase letterCase){
+
+        return arithmeticMode.isSigned() ? HexadecimalFormatter.format(decimalNumber, letterCase) :
+                                           HexadecimalFormatter.formatUnsigned(decimalNumber, letterCase);
+    }
+
+
+    /**
+     * Returns the decimal text of a value of a mode, e.g. "18446744073709551615" for -1
+     * in 64-bit unsigned modes
+     *
+     * @param decimalNumber the value to be written in decimal
+     * @param arithmeticMode a fixed-width mode
+     * */
+    public static String toDecimalString(long decimalNumber, ArithmeticMode arithmeticMode){
+
+        return arithmeticMode.isSigned() ? Long.toString(decimalNumber) :
+                                           Long.toUnsignedString(decimalNumber);
+    }
+
+
+    /**
+     * Returns the smallest value of a mode
+     *
+     * @param arithmeticMode a fixed-width mode
+     * */
+    public static long minValue(ArithmeticMode arithmeticMode){
+
+        return arithmeticMode.isSigned() ? -1L << (arithmeticMode.getWidth() - 1) : 0;
+    }
+
+
+    /**
+     * Returns the largest value of a mode (for 64-bit unsigned modes, -1 read as unsigned)
+     *
+     * @param arithmeticMode a fixed-width mode
+     * */
+    public static long maxValue(ArithmeticMode arithmeticMode){
+
+        return -1L >>> (Long.SIZE - arithmeticMode.getWidth() + (arithmeticMode.isSigned() ? 1 : 0));
+    }
+
+
+    /**
+     * Bring a result back to the width of a mode, wrapping it around if the mode is wrapping
+     *
+     * @throws ArithmeticException if the mode is checked and the result does not fit in it
+     * */
+    private static long fitToWidth(long decimalResult, ArithmeticMode arithmeticMode){
+
+        int unusedBits = Long.SIZE - arithmeticMode.getWidth();
+        long shiftedResult = decimalResult << unusedBits;
+
+        long fittedResult = arithmeticMode.isSigned() ? shiftedResult >> unusedBits :
+                                                        shiftedResult >>> unusedBits;
+
+        return arithmeticMode.isWrapping() ? fittedResult :
+                                             checkNoOverflow(fittedResult, fittedResult != decimalResult);
+    }
+
+
+    private static long checkNoOverflow(long decimalResult, boolean overflows){
+
+        if (overflows){
+            throw new ArithmeticException("The result overflows the width of the arithmetic mode");
+        }
+
+        return decimalResult;
+    }
+
+
+    private static boolean isInRange(Int128 number, ArithmeticMode arithmeticMode){
+
+        //a 64-bit unsigned value is held as the long with the same bits
+        if (!arithmeticMode.isSigned() && arithmeticMode.getWidth() == Long.SIZE){
+            return number.getHigh() == 0;
+        }
+
+        long decimalNumber = number.getLow();
+
+        return number.fitsInLong() && decimalNumber >= minValue(arithmeticMode) &&
+               decimalNumber <= maxValue(arithmeticMode);
+    }
+}
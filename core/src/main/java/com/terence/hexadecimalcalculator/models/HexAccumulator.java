@@ -0,0 +1,251 @@
+package com.terence.hexadecimalcalculator.models;
+
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter.LetterCase;
+
+
+/**
+ * @author Terence Lee
+ *
+ * A mutable register holding one value of an arithmetic mode (CHECKED_64 or a fixed-width
+ * mode), like the accumulator of a pocket calculator. The operations replace the value with
+ * the result and return the register, so a chain of calculations neither allocates nor goes
+ * through text, and one register can be reset and reused for many chains
+ * E.g.
+ * <pre>
+      HexAccumulator accumulator = new HexAccumulator(ArithmeticMode.WRAPPING_UNSIGNED_16);
+
+      long checksum = accumulator.set(0xFFF0).add(0x20).multiply(3).getValue(); // 0x30
+
+      accumulator.reset(); // ready for the next chain
+ * </pre>
+ *
+ * If an operation throws (an overflow in a checked mode, or a division by zero), the value
+ * is left as it was. A HexAccumulator is not thread safe
+ * */
+public final class HexAccumulator {
+
+    private final ArithmeticMode arithmeticMode;
+
+    private long value;
+
+
+    /**
+     * Creates a CHECKED_64 register with a value of 0
+     * */
+    public HexAccumulator() {
+        this(ArithmeticMode.CHECKED_64);
+    }
+
+
+    /**
+     * Creates a register of an arithmetic mode with a value of 0
+     *
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     *
+     * @throws IllegalArgumentException if the mode is ARBITRARY_PRECISION
+     * */
+    public HexAccumulator(ArithmeticMode arithmeticMode) {
+
+        HexValue.checkIsValueOf(0, arithmeticMode);
+
+        this.arithmeticMode = arithmeticMode;
+    }
+
+
+    /**
+     * Returns the value as a long (for 64-bit unsigned modes, the long with the same bits)
+     * */
+    public long getValue() {
+        return value;
+    }
+
+
+    public ArithmeticMode getArithmeticMode() {
+        return arithmeticMode;
+    }
+
+
+    /**
+     * Set the value to 0, e.g. before the register is reused
+     *
+     * @return this register, for chaining
+     * */
+    public HexAccumulator reset(){
+
+        value = 0;
+
+        return this;
+    }
+
+
+    /**
+     * Set the value
+     *
+     * @throws IllegalArgumentException if the number is not a value of the mode
+     *
+     * @return this register, for chaining
+     * */
+    public HexAccumulator set(long decimalNumber){
+
+        HexValue.checkIsValueOf(decimalNumber, arithmeticMode);
+
+        value = decimalNumber;
+
+        return this;
+    }
+
+
+    /**
+     * Set the value to a HexValue of the same mode
+     *
+     * @throws IllegalArgumentException if the HexValue is of another mode
+     *
+     * @return this register, for chaining
+     * */
+    public HexAccumulator set(HexValue hexValue){
+
+        checkSameMode(hexValue);
+
+        value = hexValue.getValue();
+
+        return this;
+    }
+
+
+    public HexAccumulator add(long decimalNumber){
+        return apply(HexadecimalOperation.ADD, decimalNumber);
+    }
+
+
+    public HexAccumulator add(HexValue hexValue){
+        return apply(HexadecimalOperation.ADD, hexValue);
+    }
+
+
+    public HexAccumulator subtract(long decimalNumber){
+        return apply(HexadecimalOperation.SUBTRACT, decimalNumber);
+    }
+
+
+    public HexAccumulator subtract(HexValue hexValue){
+        return apply(HexadecimalOperation.SUBTRACT, hexValue);
+    }
+
+
+    public HexAccumulator multiply(long decimalNumber){
+        return apply(HexadecimalOperation.MULTIPLY, decimalNumber);
+    }
+
+
+    public HexAccumulator multiply(HexValue hexValue){
+        return apply(HexadecimalOperation.MULTIPLY, hexValue);
+    }
+
+
+    public HexAccumulator divide(long divisor){
+        return apply(HexadecimalOperation.DIVIDE, divisor);
+    }
+
+
+    public HexAccumulator divide(HexValue divisor){
+        return apply(HexadecimalOperation.DIVIDE, divisor);
+    }
+
+
+    public HexAccumulator modulus(long divisor){
+        return apply(HexadecimalOperation.MODULUS, divisor);
+    }
+
+
+    public HexAccumulator modulus(HexValue divisor){
+        return apply(HexadecimalOperation.MODULUS, divisor);
+    }
+
+
+    /**
+     * Replace the value with the result of an operation on it and a number, with the rules
+     * of the mode (see HexadecimalOperation.apply(long, long, ArithmeticMode))
+     *
+     * @param operation the operation to be applied
+     * @param decimalNumber the second value (the divisor for DIVIDE and MODULUS)
+     *
+     * @throws ArithmeticException if the divisor is zero, or the result does not fit in a
+     *                             checked mode
+     * @throws IllegalArgumentException if the number is not a value of the mode
+     *
+     * @return this register, for chaining
+     * */
+    public HexAccumulator apply(HexadecimalOperation operation, long decimalNumber){
+
+        HexValue.checkIsValueOf(decimalNumber, arithmeticMode);
+
+        value = operation.apply(value, decimalNumber, arithmeticMode);
+
+        return this;
+    }
+
+
+    /**
+     * Replace the value with the result of an operation on it and a HexValue of the same mode
+     *
+     * @throws ArithmeticException if the divisor is zero, or the result does not fit in a
+     *                             checked mode
+     * @throws IllegalArgumentException if the HexValue is of another mode
+     *
+     * @return this register, for chaining
+     * */
+    public HexAccumulator apply(HexadecimalOperation operation, HexValue hexValue){
+
+        checkSameMode(hexValue);
+
+        value = operation.apply(value, hexValue.getValue(), arithmeticMode);
+
+        return this;
+    }
+
+
+    /**
+     * Returns the value as an immutable HexValue, e.g. to be kept after the register is reused
+     * */
+    public HexValue toHexValue(){
+        return HexValue.of(value, arithmeticMode);
+    }
+
+
+    /**
+     * Append the value as a hexadecimal number to a caller-supplied StringBuilder, instead
+     * of creating a String
+     *
+     * @param destination the StringBuilder the hexadecimal number is appended to
+     * @param letterCase the case of the digits A-F
+     *
+     * @return the destination, for chaining
+     * */
+    public StringBuilder appendHexadecimal(StringBuilder destination, LetterCase letterCase){
+
+        if (arithmeticMode.isSigned()){
+            return HexadecimalFormatter.format(value, letterCase, destination);
+        }
+
+        return destination.append(HexadecimalFormatter.formatUnsigned(value, letterCase));
+    }
+
+
+    /**
+     * Returns the value as a hexadecimal number with the digits A-F in lower case
+     * */
+    @Override
+    public String toString() {
+        return appendHexadecimal(new StringBuilder(HexadecimalFormatter.MAX_LENGTH), LetterCase.LOWER).toString();
+    }
+
+
+    private void checkSameMode(HexValue hexValue){
+
+        if (hexValue.getArithmeticMode() != arithmeticMode){
+            throw new IllegalArgumentException("Cannot calculate with a value of " +
+                    hexValue.getArithmeticMode().getDisplayName() + " mode in " +
+                    arithmeticMode.getDisplayName() + " mode");
+        }
+    }
+}
@@ -0,0 +1,755 @@
+package com.terence.hexadecimalcalculator.models;
+
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter.LetterCase;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+
+/**
+ * @author Terence Lee
+ *
+ * An immutable signed integer of any size (e.g. a 256-bit hash or a 4096-bit key), for the
+ * calculations that do not fit in a long.
+ *
+ * The magnitude is held as 32-bit limbs (least significant limb first), so a hexadecimal
+ * digit is always one nibble of one limb: parsing and formatting pack/unpack the nibbles
+ * directly in linear time, unlike the radix conversion of BigInteger.toString(16).
+ * Multiplication is schoolbook for small numbers and Karatsuba for large ones, and division
+ * is Knuth's algorithm D. Division and remainder truncate towards zero, like long
+ * E.g.
+ * <pre>
+      HexBigInteger product = HexBigInteger.parse("FFFFFFFFFFFFFFFFFFFF")
+                                           .multiply(HexBigInteger.parse("-10")); // -FFFFFFFFFFFFFFFFFFFF0
+ * </pre>
+ * */
+public final class HexBigInteger implements Comparable<HexBigInteger> {
+
+    public static final HexBigInteger ZERO = new HexBigInteger(0, new int[0]);
+
+    public static final HexBigInteger ONE = new HexBigInteger(1, new int[] {1});
+
+    //number of limbs (of the shorter factor) from which multiplication switches to Karatsuba
+    static final int KARATSUBA_THRESHOLD = 48;
+
+    private static final long LIMB_MASK = 0xFFFFFFFFL;
+
+    private static final int DIGITS_PER_LIMB = 8;
+
+    //-1, 0 or 1
+    private final int signum;
+
+    //the limbs of the magnitude, least significant first, without leading zero limbs
+    private final int[] magnitude;
+
+
+    private HexBigInteger(int signum, int[] magnitude) {
+        this.signum = signum;
+        this.magnitude = magnitude;
+    }
+
+
+    /**
+     * Returns the number with a value of a long
+     * */
+    public static HexBigInteger valueOf(long decimalNumber){
+
+        if (decimalNumber == 0){
+            return ZERO;
+        }
+
+        //Long.MIN_VALUE negates to itself, which is the right magnitude when read as unsigned
+        long unsignedMagnitude = decimalNumber < 0 ? -decimalNumber : decimalNumber;
+        int highLimb = (int) (unsignedMagnitude >>> 32);
+
+        int[] magnitude = highLimb == 0 ? new int[] {(int) unsignedMagnitude} :
+                                          new int[] {(int) unsignedMagnitude, highLimb};
+
+        return new HexBigInteger(decimalNumber < 0 ? -1 : 1, magnitude);
+    }
+
+
+    /**
+     * Returns the number with the value of a 128-bit two's complement number
+     *
+     * @param high the upper 64 bits
+     * @param low the lower 64 bits
+     * */
+    static HexBigInteger valueOf(long high, long low){
+
+        int signum = high < 0 ? -1 : 1;
+
+        long magnitudeLow = high < 0 ? -low : low;
+        long magnitudeHigh = high < 0 ? (low == 0 ? -high : ~high) : high;
+
+        return of(signum, new int[] {(int) magnitudeLow, (int) (magnitudeLow >>> 32),
+                                     (int) magnitudeHigh, (int) (magnitudeHigh >>> 32)});
+    }
+
+
+    /**
+     * Parse a hexadecimal number of any length (e.g. "-1A3F", "+ffffffffffffffffffff")
+     *
+     * @param hexadecimalNumber the hexadecimal number to be parsed
+     *
+     * @throws NumberFormatException if the argument does not represent a valid hexadecimal number
+     *
+     * @return the value of the hexadecimal number
+     * */
+    public static HexBigInteger parse(CharSequence hexadecimalNumber){
+
+        if (hexadecimalNumber == null){
+            throw new NumberFormatException("Cannot parse null string");
+        }
+
+        return parse(hexadecimalNumber, 0, hexadecimalNumber.length());
+    }
+
+
+    /**
+     * Parse a slice of a CharSequence as a hexadecimal number of any length, without
+     * creating a substring
+     *
+     * @param hexadecimalNumber the sequence containing the hexadecimal number
+     * @param beginIndex the index of the first character of the hexadecimal number, inclusive
+     * @param endIndex the index after the last character of the hexadecimal number, exclusive
+     *
+     * @throws NumberFormatException if the slice does not represent a valid hexadecimal number
+     * @throws IndexOutOfBoundsException if the slice is outside the sequence
+     *
+     * @return the value of the hexadecimal number
+     * */
+    public static HexBigInteger parse(CharSequence hexadecimalNumber, int beginIndex, int endIndex){
+
+        Objects.checkFromToIndex(beginIndex, endIndex, hexadecimalNumber.length());
+
+        int firstDigitIndex = beginIndex;
+        int signum = 1;
+
+        if (firstDigitIndex < endIndex && (hexadecimalNumber.charAt(firstDigitIndex) == '-' ||
+                                           hexadecimalNumber.charAt(firstDigitIndex) == '+')){
+
+            signum = hexadecimalNumber.charAt(firstDigitIndex) == '-' ? -1 : 1;
+            firstDigitIndex++;
+        }
+
+        int numberOfDigits = endIndex - firstDigitIndex;
+        int[] magnitude = new int[(numberOfDigits + DIGITS_PER_LIMB - 1) / DIGITS_PER_LIMB];
+        int nibbles = numberOfDigits == 0 ? -1 : 0;
+
+        //the last digit is the lowest nibble of the first limb
+        for (int digitPosition = 0; digitPosition < numberOfDigits; digitPosition++){
+            int nibble = HexadecimalParser.nibbleValueOf(hexadecimalNumber.charAt(endIndex - 1 - digitPosition));
+
+            nibbles |= nibble;
+            magnitude[digitPosition / DIGITS_PER_LIMB] |= (nibble & 0xF) << ((digitPosition % DIGITS_PER_LIMB) << 2);
+        }
+
+        if (nibbles < 0){
+            throw new NumberFormatException("For input string: \"" +
+                    hexadecimalNumber.subSequence(beginIndex, endIndex) + "\" under radix 16");
+        }
+
+        return of(signum, magnitude);
+    }
+
+
+    /**
+     * Check if a CharSequence is a valid hexadecimal number of any length
+     *
+     * @param hexadecimalNumber the sequence to be checked
+     *
+     * @return true if it can be parsed, otherwise false
+     * */
+    public static boolean isValid(CharSequence hexadecimalNumber){
+
+        if (hexadecimalNumber == null){
+            return false;
+        }
+
+        int firstDigitIndex = hexadecimalNumber.length() > 0 &&
+                (hexadecimalNumber.charAt(0) == '-' || hexadecimalNumber.charAt(0) == '+') ? 1 : 0;
+
+        int nibbles = firstDigitIndex == hexadecimalNumber.length() ? -1 : 0;
+
+        for (int index = firstDigitIndex; index < hexadecimalNumber.length(); index++){
+            nibbles |= HexadecimalParser.nibbleValueOf(hexadecimalNumber.charAt(index));
+        }
+
+        return nibbles >= 0;
+    }
+
+
+    /**
+     * Returns -1, 0 or 1 as the number is negative, zero or positive
+     * */
+    public int signum() {
+        return signum;
+    }
+
+
+    /**
+     * Returns the number of bits of the magnitude, excluding the sign (0 for zero)
+     * */
+    public long bitLength() {
+
+        if (signum == 0){
+            return 0;
+        }
+
+        return (long) (magnitude.length - 1) * Integer.SIZE +
+               (Integer.SIZE - Integer.numberOfLeadingZeros(magnitude[magnitude.length - 1]));
+    }
+
+
+    /**
+     * Returns true if the number is within the range of a long
+     * */
+    public boolean fitsInLong() {
+
+        return bitLength() < Long.SIZE ||
+               (signum < 0 && bitLength() == Long.SIZE && magnitude[0] == 0 && magnitude[1] == Integer.MIN_VALUE);
+    }
+
+
+    /**
+     * Returns the value of the number as a long
+     *
+     * @throws ArithmeticException if the number is not within the range of a long
+     * */
+    public long longValueExact() {
+
+        if (!fitsInLong()){
+            throw new ArithmeticException("The number is out of the range of a long");
+        }
+
+        long unsignedMagnitude = 0;
+
+        for (int index = magnitude.length - 1; index >= 0; index--){
+            unsignedMagnitude = (unsignedMagnitude << 32) | (magnitude[index] & LIMB_MASK);
+        }
+
+        return signum < 0 ? -unsignedMagnitude : unsignedMagnitude;
+    }
+
+
+    /**
+     * Returns the value of the number as a BigInteger, e.g. to display it in decimal
+     * */
+    public BigInteger toBigInteger() {
+
+        byte[] bigEndianMagnitude = new byte[magnitude.length * Integer.BYTES];
+
+        for (int index = 0; index < magnitude.length; index++){
+            int byteIndex = bigEndianMagnitude.length - (index + 1) * Integer.BYTES;
+
+            bigEndianMagnitude[byteIndex] = (byte) (magnitude[index] >>> 24);
+            bigEndianMagnitude[byteIndex + 1] = (byte) (magnitude[index] >>> 16);
+            bigEndianMagnitude[byteIndex + 2] = (byte) (magnitude[index] >>> 8);
+            bigEndianMagnitude[byteIndex + 3] = (byte) magnitude[index];
+        }
+
+        return new BigInteger(signum, bigEndianMagnitude);
+    }
+
+
+    /**
+     * Returns the number with the opposite sign
+     * */
+    public HexBigInteger negate() {
+        return signum == 0 ? this : new HexBigInteger(-signum, magnitude);
+    }
+
+
+    /**
+     * Returns the sum of this number and another number
+     * */
+    public HexBigInteger add(HexBigInteger other){
+
+        if (other.signum == 0){
+            return this;
+        }
+
+        if (signum == 0){
+            return other;
+        }
+
+        if (signum == other.signum){
+            return of(signum, addMagnitudes(magnitude, other.magnitude));
+        }
+
+        int comparison = compareMagnitudes(magnitude, other.magnitude);
+
+        if (comparison == 0){
+            return ZERO;
+        }
+
+        return comparison > 0 ? of(signum, subtractMagnitudes(magnitude, other.magnitude)) :
+                                of(other.signum, subtractMagnitudes(other.magnitude, magnitude));
+    }
+
+
+    /**
+     * Returns the difference of this number and another number
+     * */
+    public HexBigInteger subtract(HexBigInteger other){
+        return add(other.negate());
+    }
+
+
+    /**
+     * Returns the product of this number and another number
+     * */
+    public HexBigInteger multiply(HexBigInteger other){
+
+        if (signum == 0 || other.signum == 0){
+            return ZERO;
+        }
+
+        return of(signum * other.signum, multiplyMagnitudes(magnitude, other.magnitude));
+    }
+
+
+    /**
+     * Returns the quotient of this number divided by another number, rounded towards zero
+     *
+     * @throws ArithmeticException if the divisor is zero
+     * */
+    public HexBigInteger divide(HexBigInteger divisor){
+        return divideAndRemainder(divisor)[0];
+    }
+
+
+    /**
+     * Returns the remainder of this number divided by another number. The remainder has
+     * the sign of this number (the dividend), like the % operator
+     *
+     * @throws ArithmeticException if the divisor is zero
+     * */
+    public HexBigInteger remainder(HexBigInteger divisor){
+        return divideAndRemainder(divisor)[1];
+    }
+
+
+    /**
+     * Returns both the quotient and the remainder of this number divided by another number,
+     * with a single division
+     *
+     * @throws ArithmeticException if the divisor is zero
+     *
+     * @return an array with the quotient, followed by the remainder
+     * */
+    public HexBigInteger[] divideAndRemainder(HexBigInteger divisor){
+
+        if (divisor.signum == 0){
+            throw new ArithmeticException("Division by zero");
+        }
+
+        int[][] quotientAndRemainder = divideMagnitudes(magnitude, divisor.magnitude);
+
+        return new HexBigInteger[] {of(signum * divisor.signum, quotientAndRemainder[0]),
+                                    of(signum, quotientAndRemainder[1])};
+    }
+
+
+    /**
+     * Returns the number as a hexadecimal number, e.g. "-1a3f"
+     *
+     * @param letterCase the case of the digits A-F
+     * */
+    public String toHexadecimalString(LetterCase letterCase){
+
+        if (signum == 0){
+            return "0";
+        }
+
+        int topLimbBits = Integer.SIZE - Integer.numberOfLeadingZeros(magnitude[magnitude.length - 1]);
+        int numberOfDigits = (magnitude.length - 1) * DIGITS_PER_LIMB + ((topLimbBits + 3) >>> 2);
+
+        byte[] hexadecimalBytes = new byte[signum < 0 ? numberOfDigits + 1 : numberOfDigits];
+
+        for (int digitPosition = 0; digitPosition < numberOfDigits; digitPosition++){
+            int limb = magnitude[digitPosition / DIGITS_PER_LIMB];
+
+            hexadecimalBytes[hexadecimalBytes.length - 1 - digitPosition] =
+                    letterCase.digitOf((limb >>> ((digitPosition % DIGITS_PER_LIMB) << 2)) & 0xF);
+        }
+
+        if (signum < 0){
+            hexadecimalBytes[0] = '-';
+        }
+
+        return new String(hexadecimalBytes, StandardCharsets.ISO_8859_1);
+    }
+
+
+    /**
+     * Returns the number as a hexadecimal number with the digits A-F in lower case,
+     * like the results of HexadecimalCalculator
+     * */
+    @Override
+    public String toString() {
+        return toHexadecimalString(LetterCase.LOWER);
+    }
+
+
+    @Override
+    public int compareTo(HexBigInteger other) {
+
+        if (signum != other.signum){
+            return Integer.compare(signum, other.signum);
+        }
+
+        return signum * compareMagnitudes(magnitude, other.magnitude);
+    }
+
+
+    @Override
+    public boolean equals(Object other) {
+
+        return other instanceof HexBigInteger otherNumber && signum == otherNumber.signum &&
+               Arrays.equals(magnitude, otherNumber.magnitude);
+    }
+
+
+    @Override
+    public int hashCode() {
+        return 31 * signum + Arrays.hashCode(magnitude);
+    }
+
+
+    /**
+     * Returns a number with a sign and a magnitude that may have leading zero limbs
+     * */
+    private static HexBigInteger of(int signum, int[] magnitude){
+
+        int length = significantLength(magnitude);
+
+        if (length == 0){
+            return ZERO;
+        }
+
+        return new HexBigInteger(signum, length == magnitude.length ? magnitude :
+                                         Arrays.copyOf(magnitude, length));
+    }
+
+
+    private static int significantLength(int[] magnitude){
+
+        int length = magnitude.length;
+
+        while (length > 0 && magnitude[length - 1] == 0){
+            length--;
+        }
+
+        return length;
+    }
+
+
+    private static int compareMagnitudes(int[] firstMagnitude, int[] secondMagnitude){
+
+        int firstLength = significantLength(firstMagnitude);
+        int secondLength = significantLength(secondMagnitude);
+
+        if (firstLength != secondLength){
+            return Integer.compare(firstLength, secondLength);
+        }
+
+        for (int index = firstLength - 1; index >= 0; index--){
+            if (firstMagnitude[index] != secondMagnitude[index]){
+                return Integer.compareUnsigned(firstMagnitude[index], secondMagnitude[index]);
+            }
+        }
+
+        return 0;
+    }
+
+
+    static int[] addMagnitudes(int[] firstMagnitude, int[] secondMagnitude){
+
+        if (firstMagnitude.length < secondMagnitude.length){
+            return addMagnitudes(secondMagnitude, firstMagnitude);
+        }
+
+        int[] sum = new int[firstMagnitude.length + 1];
+        long carry = 0;
+
+        for (int index = 0; index < firstMagnitude.length; index++){
+            long secondLimb = index < secondMagnitude.length ? secondMagnitude[index] & LIMB_MASK : 0;
+            long limbSum = (firstMagnitude[index] & LIMB_MASK) + secondLimb + carry;
+
+            sum[index] = (int) limbSum;
+            carry = limbSum >>> 32;
+        }
+
+        sum[firstMagnitude.length] = (int) carry;
+
+        return sum;
+    }
+
+
+    /**
+     * Returns the difference of two magnitudes, where the first is not smaller than the second
+     * */
+    static int[] subtractMagnitudes(int[] largerMagnitude, int[] smallerMagnitude){
+
+        int[] difference = new int[largerMagnitude.length];
+        long borrow = 0;
+
+        for (int index = 0; index < largerMagnitude.length; index++){
+            long smallerLimb = index < smallerMagnitude.length ? smallerMagnitude[index] & LIMB_MASK : 0;
+            long limbDifference = (largerMagnitude[index] & LIMB_MASK) - smallerLimb + borrow;
+
+            difference[index] = (int) limbDifference;
+            borrow = limbDifference >> 32;
+        }
+
+        return difference;
+    }
+
+
+    static int[] multiplyMagnitudes(int[] firstMagnitude, int[] secondMagnitude){
+
+        if (Math.min(firstMagnitude.length, secondMagnitude.length) < KARATSUBA_THRESHOLD){
+            return schoolbookMultiply(firstMagnitude, secondMagnitude);
+        }
+
+        return karatsubaMultiply(firstMagnitude, secondMagnitude);
+    }
+
+
+    private static int[] schoolbookMultiply(int[] firstMagnitude, int[] secondMagnitude){
+
+        int[] product = new int[firstMagnitude.length + secondMagnitude.length];
+
+        for (int firstIndex = 0; firstIndex < firstMagnitude.length; firstIndex++){
+            long firstLimb = firstMagnitude[firstIndex] & LIMB_MASK;
+            long carry = 0;
+
+            for (int secondIndex = 0; secondIndex < secondMagnitude.length; secondIndex++){
+                long limbProduct = firstLimb * (secondMagnitude[secondIndex] & LIMB_MASK) +
+                                   (product[firstIndex + secondIndex] & LIMB_MASK) + carry;
+
+                product[firstIndex + secondIndex] = (int) limbProduct;
+                carry = limbProduct >>> 32;
+            }
+
+            product[firstIndex + secondMagnitude.length] = (int) carry;
+        }
+
+        return product;
+    }
+
+
+    /**
+     * Multiply with three half-size multiplications instead of four:
+     * (a1*B + a0)(b1*B + b0) = a1*b1*B^2 + ((a0 + a1)(b0 + b1) - a0*b0 - a1*b1)*B + a0*b0
+     * */
+    private static int[] karatsubaMultiply(int[] firstMagnitude, int[] secondMagnitude){
+
+        int half = (Math.max(firstMagnitude.length, secondMagnitude.length) + 1) >>> 1;
+
+        int[] firstLow = lowerLimbs(firstMagnitude, half);
+        int[] firstHigh = upperLimbs(firstMagnitude, half);
+        int[] secondLow = lowerLimbs(secondMagnitude, half);
+        int[] secondHigh = upperLimbs(secondMagnitude, half);
+
+        int[] lowProduct = multiplyMagnitudes(firstLow, secondLow);
+        int[] highProduct = multiplyMagnitudes(firstHigh, secondHigh);
+        int[] middleProduct = multiplyMagnitudes(addMagnitudes(firstLow, firstHigh),
+                                                 addMagnitudes(secondLow, secondHigh));
+
+        middleProduct = subtractMagnitudes(subtractMagnitudes(middleProduct, lowProduct), highProduct);
+
+        int[] product = new int[firstMagnitude.length + secondMagnitude.length];
+
+        addMagnitudeInto(product, lowProduct, 0);
+        addMagnitudeInto(product, middleProduct, half);
+        addMagnitudeInto(product, highProduct, 2 * half);
+
+        return product;
+    }
+
+
+    private static int[] lowerLimbs(int[] magnitude, int numberOfLimbs){
+        return Arrays.copyOf(magnitude, Math.min(numberOfLimbs, magnitude.length));
+    }
+
+
+    private static int[] upperLimbs(int[] magnitude, int fromLimb){
+        return magnitude.length <= fromLimb ? new int[0] :
+                                              Arrays.copyOfRange(magnitude, fromLimb, magnitude.length);
+    }
+
+
+    /**
+     * Add a magnitude into a larger one, starting at a limb. The sum must fit in the target
+     * */
+    private static void addMagnitudeInto(int[] target, int[] addend, int fromLimb){
+
+        int addendLength = significantLength(addend);
+        long carry = 0;
+
+        for (int index = 0; index < addendLength; index++){
+            long limbSum = (target[fromLimb + index] & LIMB_MASK) + (addend[index] & LIMB_MASK) + carry;
+
+            target[fromLimb + index] = (int) limbSum;
+            carry = limbSum >>> 32;
+        }
+
+        for (int index = fromLimb + addendLength; carry != 0; index++){
+            long limbSum = (target[index] & LIMB_MASK) + carry;
+
+            target[index] = (int) limbSum;
+            carry = limbSum >>> 32;
+        }
+    }
+
+
+    /**
+     * Divide two magnitudes, with Knuth's algorithm D (The Art of Computer Programming,
+     * vol. 2, 4.3.1)
+     *
+     * @return an array with the quotient, followed by the remainder
+     * */
+    static int[][] divideMagnitudes(int[] dividend, int[] divisor){
+
+        int dividendLength = significantLength(dividend);
+        int divisorLength = significantLength(divisor);
+
+        if (compareMagnitudes(dividend, divisor) < 0){
+            return new int[][] {new int[0], dividend};
+        }
+
+        if (divisorLength == 1){
+            return divideMagnitudeByLimb(dividend, dividendLength, divisor[0] & LIMB_MASK);
+        }
+
+        //normalize so that the top limb of the divisor has its highest bit set, which
+        //makes every estimated quotient limb at most 2 too large
+        int shift = Integer.numberOfLeadingZeros(divisor[divisorLength - 1]);
+        int[] normalizedDivisor = shiftLeft(divisor, divisorLength, shift, divisorLength);
+        int[] normalizedDividend = shiftLeft(dividend, dividendLength, shift, dividendLength + 1);
+
+        long divisorTopLimb = normalizedDivisor[divisorLength - 1] & LIMB_MASK;
+        long divisorNextLimb = normalizedDivisor[divisorLength - 2] & LIMB_MASK;
+        int[] quotient = new int[dividendLength - divisorLength + 1];
+
+        for (int quotientIndex = dividendLength - divisorLength; quotientIndex >= 0; quotientIndex--){
+            long topOfDividend = ((normalizedDividend[quotientIndex + divisorLength] & LIMB_MASK) << 32) |
+                                 (normalizedDividend[quotientIndex + divisorLength - 1] & LIMB_MASK);
+
+            long estimatedQuotientLimb = Long.divideUnsigned(topOfDividend, divisorTopLimb);
+            long estimatedRemainder = Long.remainderUnsigned(topOfDividend, divisorTopLimb);
+
+            while (estimatedQuotientLimb > LIMB_MASK ||
+                   Long.compareUnsigned(estimatedQuotientLimb * divisorNextLimb,
+                           (estimatedRemainder << 32) |
+                           (normalizedDividend[quotientIndex + divisorLength - 2] & LIMB_MASK)) > 0){
+
+                estimatedQuotientLimb--;
+                estimatedRemainder += divisorTopLimb;
+
+                if (estimatedRemainder > LIMB_MASK){
+                    break;
+                }
+            }
+
+            //subtract the divisor times the estimated quotient limb
+            long carry = 0;
+            long borrow = 0;
+
+            for (int index = 0; index < divisorLength; index++){
+                long limbProduct = estimatedQuotientLimb * (normalizedDivisor[index] & LIMB_MASK) + carry;
+                long limbDifference = (normalizedDividend[quotientIndex + index] & LIMB_MASK) -
+                                      (limbProduct & LIMB_MASK) + borrow;
+
+                normalizedDividend[quotientIndex + index] = (int) limbDifference;
+                carry = limbProduct >>> 32;
+                borrow = limbDifference >> 32;
+            }
+
+            long topDifference = (normalizedDividend[quotientIndex + divisorLength] & LIMB_MASK) - carry + borrow;
+            normalizedDividend[quotientIndex + divisorLength] = (int) topDifference;
+
+            //the estimate was 1 too large (rare): add the divisor back
+            if (topDifference < 0){
+                estimatedQuotientLimb--;
+                carry = 0;
+
+                for (int index = 0; index < divisorLength; index++){
+                    long limbSum = (normalizedDividend[quotientIndex + index] & LIMB_MASK) +
+                                   (normalizedDivisor[index] & LIMB_MASK) + carry;
+
+                    normalizedDividend[quotientIndex + index] = (int) limbSum;
+                    carry = limbSum >>> 32;
+                }
+
+                normalizedDividend[quotientIndex + divisorLength] += (int) carry;
+            }
+
+            quotient[quotientIndex] = (int) estimatedQuotientLimb;
+        }
+
+        int[] remainder = shiftRight(normalizedDividend, shift, divisorLength);
+
+        return new int[][] {quotient, remainder};
+    }
+
+
+    private static int[][] divideMagnitudeByLimb(int[] dividend, int dividendLength, long divisorLimb){
+
+        int[] quotient = new int[dividendLength];
+        long remainder = 0;
+
+        for (int index = dividendLength - 1; index >= 0; index--){
+            long partialDividend = (remainder << 32) | (dividend[index] & LIMB_MASK);
+
+            quotient[index] = (int) Long.divideUnsigned(partialDividend, divisorLimb);
+            remainder = Long.remainderUnsigned(partialDividend, divisorLimb);
+        }
+
+        return new int[][] {quotient, new int[] {(int) remainder}};
+    }
+
+
+    private static int[] shiftLeft(int[] magnitude, int length, int shift, int resultLength){
+
+        int[] result = new int[resultLength];
+
+        if (shift == 0){
+            System.arraycopy(magnitude, 0, result, 0, length);
+            return result;
+        }
+
+        int carry = 0;
+
+        for (int index = 0; index < length; index++){
+            result[index] = (magnitude[index] << shift) | carry;
+            carry = magnitude[index] >>> (Integer.SIZE - shift);
+        }
+
+        if (length < resultLength){
+            result[length] = carry;
+        }
+
+        return result;
+    }
+
+
+    private static int[] shiftRight(int[] magnitude, int shift, int resultLength){
+
+        int[] result = new int[resultLength];
+
+        for (int index = 0; index < resultLength; index++){
+            int nextLimb = index + 1 < magnitude.length ? magnitude[index + 1] : 0;
+
+            result[index] = shift == 0 ? magnitude[index] :
+                            (magnitude[index] >>> shift) | (nextLimb << (Integer.SIZE - shift));
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,330 @@
+package com.terence.hexadecimalcalculator.models;
+
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter.LetterCase;
+
+
+/**
+ * @author Terence Lee
+ *
+ * An immutable number of an arithmetic mode (CHECKED_64 or a fixed-width mode), held as a
+ * long, for chaining calculations without going through text. The operations calculate
+ * with the primitive values and the rules of the mode, and the hexadecimal and decimal
+ * text of a value is only worked out when it is asked for, then kept
+ * E.g.
+ * <pre>
+      HexValue result = HexValue.parse("1A3F").add(HexValue.of(0x10))
+                                              .multiply(HexValue.parse("-2"))
+                                              .modulus(HexValue.parse("FF")); // no text in between
+
+      System.out.println(result.toHexadecimalString(LetterCase.UPPER)); // -D2
+      System.out.println(result.toDecimalString()); // -210
+ * </pre>
+ *
+ * See HexAccumulator for a mutable register that calculates without allocating, and
+ * HexBigInteger for the values of ARBITRARY_PRECISION
+ * */
+public final class HexValue implements Comparable<HexValue> {
+
+    public static final HexValue ZERO = new HexValue(0, ArithmeticMode.CHECKED_64);
+
+    private final long value;
+
+    private final ArithmeticMode arithmeticMode;
+
+    //the text of the value, worked out on first use. Two threads may both work one out,
+    //which is harmless as a String is immutable
+    private String lowerCaseHexadecimalString;
+
+    private String upperCaseHexadecimalString;
+
+    private String decimalString;
+
+
+    private HexValue(long value, ArithmeticMode arithmeticMode) {
+        this.value = value;
+        this.arithmeticMode = arithmeticMode;
+    }
+
+
+    /**
+     * Returns a CHECKED_64 value
+     * */
+    public static HexValue of(long decimalNumber){
+
+        return decimalNumber == 0 ? ZERO : new HexValue(decimalNumber, ArithmeticMode.CHECKED_64);
+    }
+
+
+    /**
+     * Returns a value of an arithmetic mode
+     *
+     * @param decimalNumber the value (for 64-bit unsigned modes, the long with the same bits)
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     *
+     * @throws IllegalArgumentException if the mode is ARBITRARY_PRECISION, or the number is
+     *                                  not a value of the mode (e.g. 256 in 8-bit modes)
+     * */
+    public static HexValue of(long decimalNumber, ArithmeticMode arithmeticMode){
+
+        checkIsValueOf(decimalNumber, arithmeticMode);
+
+        return arithmeticMode == ArithmeticMode.CHECKED_64 ? of(decimalNumber) :
+                                                             new HexValue(decimalNumber, arithmeticMode);
+    }
+
+
+    /**
+     * Parse a hexadecimal number as a CHECKED_64 value
+     *
+     * @throws NumberFormatException if the argument is not a valid hexadecimal long
+     * */
+    public static HexValue parse(CharSequence hexadecimalNumber){
+
+        return of(HexadecimalParser.parse(hexadecimalNumber));
+    }
+
+
+    /**
+     * Parse a hexadecimal number as a value of an arithmetic mode
+     *
+     * @param hexadecimalNumber the hexadecimal number to be parsed
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     *
+     * @throws NumberFormatException if the argument is not a valid hexadecimal number within
+     *                               the range of the mode
+     * @throws IllegalArgumentException if the mode is ARBITRARY_PRECISION
+     * */
+    public static HexValue parse(CharSequence hexadecimalNumber, ArithmeticMode arithmeticMode){
+
+        if (arithmeticMode == ArithmeticMode.CHECKED_64){
+            return parse(hexadecimalNumber);
+        }
+
+        checkIsLongMode(arithmeticMode);
+
+        return new HexValue(FixedWidthArithmetic.parse(hexadecimalNumber, arithmeticMode), arithmeticMode);
+    }
+
+
+    /**
+     * Returns the value as a long (for 64-bit unsigned modes, the long with the same bits)
+     * */
+    public long getValue() {
+        return value;
+    }
+
+
+    public ArithmeticMode getArithmeticMode() {
+        return arithmeticMode;
+    }
+
+
+    /**
+     * Returns this value plus another value of the same mode
+     *
+     * @throws ArithmeticException if the result does not fit in a checked mode
+     * @throws IllegalArgumentException if the other value is of another mode
+     * */
+    public HexValue add(HexValue other){
+        return apply(HexadecimalOperation.ADD, other);
+    }
+
+
+    /**
+     * Returns this value minus another value of the same mode
+     *
+     * @throws ArithmeticException if the result does not fit in a checked mode
+     * @throws IllegalArgumentException if the other value is of another mode
+     * */
+    public HexValue subtract(HexValue other){
+        return apply(HexadecimalOperation.SUBTRACT, other);
+    }
+
+
+    /**
+     * Returns this value times another value of the same mode
+     *
+     * @throws ArithmeticException if the result does not fit in a checked mode
+     * @throws IllegalArgumentException if the other value is of another mode
+     * */
+    public HexValue multiply(HexValue other){
+        return apply(HexadecimalOperation.MULTIPLY, other);
+    }
+
+
+    /**
+     * Returns this value divided by another value of the same mode, truncated towards zero
+     *
+     * @throws ArithmeticException if the divisor is zero, or the result does not fit in a
+     *                             checked mode
+     * @throws IllegalArgumentException if the other value is of another mode
+     * */
+    public HexValue divide(HexValue divisor){
+        return apply(HexadecimalOperation.DIVIDE, divisor);
+    }
+
+
+    /**
+     * Returns the remainder(modulus) of this value divided by another value of the same mode
+     *
+     * @throws ArithmeticException if the divisor is zero
+     * @throws IllegalArgumentException if the other value is of another mode
+     * */
+    public HexValue modulus(HexValue divisor){
+        return apply(HexadecimalOperation.MODULUS, divisor);
+    }
+
+
+    /**
+     * Apply an operation to this value and another value of the same mode, with the rules
+     * of the mode (see HexadecimalOperation.apply(long, long, ArithmeticMode))
+     *
+     * @param operation the operation to be applied
+     * @param other the second value (the divisor for DIVIDE and MODULUS)
+     *
+     * @throws ArithmeticException if the divisor is zero, or the result does not fit in a
+     *                             checked mode
+     * @throws IllegalArgumentException if the other value is of another mode
+     *
+     * @return the result, a value of the same mode
+     * */
+    public HexValue apply(HexadecimalOperation operation, HexValue other){
+
+        requireSameMode(other, "calculate with");
+
+        long result = operation.apply(value, other.value, arithmeticMode);
+
+        return arithmeticMode == ArithmeticMode.CHECKED_64 ? of(result) : new HexValue(result, arithmeticMode);
+    }
+
+
+    /**
+     * Returns the value as a hexadecimal number: with a "-" sign if it is negative in a
+     * signed mode, or as its unsigned value in an unsigned mode. The text is kept, so only
+     * the first call formats it
+     *
+     * @param letterCase the case of the digits A-F
+     * */
+    public String toHexadecimalString(LetterCase letterCase){
+
+        if (letterCase == LetterCase.UPPER){
+
+            String hexadecimalString = upperCaseHexadecimalString;
+
+            if (hexadecimalString == null){
+                hexadecimalString = format(LetterCase.UPPER);
+                upperCaseHexadecimalString = hexadecimalString;
+            }
+
+            return hexadecimalString;
+        }
+
+        String hexadecimalString = lowerCaseHexadecimalString;
+
+        if (hexadecimalString == null){
+            hexadecimalString = format(LetterCase.LOWER);
+            lowerCaseHexadecimalString = hexadecimalString;
+        }
+
+        return hexadecimalString;
+    }
+
+
+    /**
+     * Returns the value as a decimal number, e.g. "18446744073709551615" for -1 in 64-bit
+     * unsigned modes. The text is kept, so only the first call formats it
+     * */
+    public String toDecimalString(){
+
+        String decimalText = decimalString;
+
+        if (decimalText == null){
+            decimalText = arithmeticMode.isSigned() ? Long.toString(value) : Long.toUnsignedString(value);
+            decimalString = decimalText;
+        }
+
+        return decimalText;
+    }
+
+
+    /**
+     * Returns the value as a hexadecimal number with the digits A-F in lower case, like the
+     * results of HexadecimalCalculator
+     * */
+    @Override
+    public String toString() {
+        return toHexadecimalString(LetterCase.LOWER);
+    }
+
+
+    /**
+     * Compare with another value of the same mode, as unsigned numbers if the mode is
+     * unsigned. Values of different modes are not ordered, as the same long is a different
+     * number in a signed and an unsigned mode, so the ordering is consistent with equals()
+     *
+     * @throws IllegalArgumentException if the other value is of another mode
+     * */
+    @Override
+    public int compareTo(HexValue other) {
+
+        requireSameMode(other, "compare with");
+
+        return arithmeticMode.isSigned() ? Long.compare(value, other.value) :
+                                           Long.compareUnsigned(value, other.value);
+    }
+
+
+    @Override
+    public boolean equals(Object other) {
+
+        return other instanceof HexValue otherValue && value == otherValue.value &&
+               arithmeticMode == otherValue.arithmeticMode;
+    }
+
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(value) + arithmeticMode.hashCode();
+    }
+
+
+    private void requireSameMode(HexValue other, String action){
+
+        if (other.arithmeticMode != arithmeticMode){
+            throw new IllegalArgumentException("Cannot " + action + " a value of " +
+                    other.arithmeticMode.getDisplayName() + " mode in " +
+                    arithmeticMode.getDisplayName() + " mode");
+        }
+    }
+
+
+    private String format(LetterCase letterCase){
+
+        return arithmeticMode.isSigned() ? HexadecimalFormatter.format(value, letterCase) :
+                                           HexadecimalFormatter.formatUnsigned(value, letterCase);
+    }
+
+
+    /**
+     * @throws IllegalArgumentException if the mode is ARBITRARY_PRECISION, or the number is
+     *                                  not a value of the mode
+     * */
+    static void checkIsValueOf(long decimalNumber, ArithmeticMode arithmeticMode){
+
+        checkIsLongMode(arithmeticMode);
+
+        if (arithmeticMode != ArithmeticMode.CHECKED_64 && !FixedWidthArithmetic.isInRange(decimalNumber, arithmeticMode)){
+            throw new IllegalArgumentException(decimalNumber + " is not a value of " +
+                                               arithmeticMode.getDisplayName() + " mode");
+        }
+    }
+
+
+    private static void checkIsLongMode(ArithmeticMode arithmeticMode){
+
+        if (!arithmeticMode.isFixedWidth() && arithmeticMode != ArithmeticMode.CHECKED_64){
+            throw new IllegalArgumentException("The values of " + arithmeticMode.getDisplayName() +
+                                               " mode are not longs, see HexBigInteger");
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.terence.hexadecimalcalculator.models;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Performs the arithmetic operations of HexadecimalCalculator on whole columns of
+ * operands at once, i.e. results[i] = firstDecimalNumbers[i] (op) secondDecimalNumbers[i].
+ *
+ * An element that overflows a long (or divides by zero) does not throw an exception like
+ * HexadecimalCalculator does. Instead its result is set to 0 and its bit is set in an error
+ * bitmap (bit i % 64 of word i / 64), so one bad element does not stop the rest of the batch.
+ *
+ * Add, subtract and multiply use the SIMD instructions of the CPU through the Vector API when
+ * the jdk.incubator.vector module is available (run with --add-modules jdk.incubator.vector),
+ * and a scalar loop otherwise. Divide and modulus are always scalar, as x86-64 and AArch64
+ * have no SIMD instructions for 64-bit integer division
+ * E.g.
+ * <pre>
+      long[] errorBitmap = new long[HexadecimalBatchCalculator.errorBitmapLength(results.length)];
+
+      int numberOfErrors = HexadecimalBatchCalculator.multiply(first, second, results, errorBitmap);
+
+      if (numberOfErrors > 0 && HexadecimalBatchCalculator.isError(errorBitmap, 42)){
+          // results[42] overflowed
+      }
+ * </pre>
+ * */
+public final class HexadecimalBatchCalculator {
+
+    //set -Dhexadecimalcalculator.vector=false to force the scalar loops (e.g. to compare them)
+    private static final boolean VECTOR_API_ENABLED =
+            !"false".equals(System.getProperty("hexadecimalcalculator.vector")) &&
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+
+    /**
+     * The constructor is made private as all methods of this class are static, and
+     * therefore the constructor is not required
+     * */
+    private HexadecimalBatchCalculator() {
+
+    }
+
+
+    /**
+     * Returns true if add, subtract and multiply run on the Vector API (SIMD),
+     * false if they run on the scalar fallback
+     * */
+    public static boolean isVectorized(){
+        return VECTOR_API_ENABLED;
+    }
+
+
+    /**
+     * Returns the number of words an error bitmap needs for a batch of operands
+     *
+     * @param numberOfOperands the number of operand pairs in the batch
+     * */
+    public static int errorBitmapLength(int numberOfOperands){
+        return (numberOfOperands + Long.SIZE - 1) >>> 6;
+    }
+
+
+    /**
+     * Returns true if the element at an index of a batch is flagged in an error bitmap
+     *
+     * @param errorBitmap the error bitmap filled by one of the batch operations
+     * @param index the index of the element in the batch
+     * */
+    public static boolean isError(long[] errorBitmap, int index){
+        return (errorBitmap[index >>> 6] & (1L << index)) != 0;
+    }
+
+
+    /**
+     * Adds two columns of numbers
+     *
+     * @param firstDecimalNumbers the first values
+     * @param secondDecimalNumbers the second values, at least as long as the first values
+     * @param decimalResults the array the sums are written into, at least as long as the first values
+     * @param errorBitmap the bitmap of the elements whose sum overflows a long, at least
+     *                    {@link #errorBitmapLength(int)} words long. It is cleared first
+     *
+     * @throws IndexOutOfBoundsException if an array is too short
+     *
+     * @return the number of elements whose sum overflows a long
+     * */
+    public static int add(long[] firstDecimalNumbers, long[] secondDecimalNumbers,
+                          long[] decimalResults, long[] errorBitmap){
+
+        int numberOfOperands = prepareBatch(firstDecimalNumbers, secondDecimalNumbers,
+                                            decimalResults, errorBitmap);
+
+        int vectorizedEndIndex = VECTOR_API_ENABLED ?
+                VectorizedBatchArithmetic.add(firstDecimalNumbers, secondDecimalNumbers,
+                                              decimalResults, errorBitmap, numberOfOperands) : 0;
+
+        ScalarBatchArithmetic.add(firstDecimalNumbers, secondDecimalNumbers, decimalResults,
+                                  errorBitmap, vectorizedEndIndex, numberOfOperands);
+
+        return countErrors(errorBitmap, numberOfOperands);
+    }
+
+
+    /**
+     * Subtracts two columns of numbers
+     *
+     * @param firstDecimalNumbers the first values
+     * @param secondDecimalNumbers the second values, at least as long as the first values
+     * @param decimalResults the array the differences are written into, at least as long as
+     *                       the first values
+     * @param errorBitmap the bitmap of the elements whose difference overflows a long, at least
+     *                    {@link #errorBitmapLength(int)} words long. It is cleared first
+     *
+     * @throws IndexOutOfBoundsException if an array is too short
+     *
+     * @return the number of elements whose difference overflows a long
+     * */
+    public static int subtract(long[] firstDecimalNumbers, long[] secondDecimalNumbers,
+                               long[] decimalResults, long[] errorBitmap){
+
+        int numberOfOperands = prepareBatch(firstDecimalNumbers, secondDecimalNumbers,
+                                            decimalResults, errorBitmap);
+
+        int vectorizedEndIndex = VECTOR_API_ENABLED ?
+                VectorizedBatchArithmetic.subtract(firstDecimalNumbers, secondDecimalNumbers,
+                                                   decimalResults, errorBitmap, numberOfOperands) : 0;
+
+        ScalarBatchArithmetic.subtract(firstDecimalNumbers, secondDecimalNumbers, decimalResults,
+                                       errorBitmap, vectorizedEndIndex, numberOfOperands);
+
+        return countErrors(errorBitmap, numberOfOperands);
+    }
+
+
+    /**
+     * Multiplies two columns of numbers
+     *
+     * @param firstDecimalNumbers the first values
+     * @param secondDecimalNumbers the second values, at least as long as the first values
+     * @param decimalResults the array the products are written into, at least as long as
+     *                       the first values
+     * @param errorBitmap the bitmap of the elements whose product overflows a long, at least
+     *                    {@link #errorBitmapLength(int)} words long. It is cleared first
+     *
+     * @throws IndexOutOfBoundsException if an array is too short
+     *
+     * @return the number of elements whose product overflows a long
+     * */
+    public static int multiply(long[] firstDecimalNumbers, long[] secondDecimalNumbers,
+                               long[] decimalResults, long[] errorBitmap){
+
+        int numberOfOperands = prepareBatch(firstDecimalNumbers, secondDecimalNumbers,
+                                            decimalResults, errorBitmap);
+
+        int vectorizedEndIndex = VECTOR_API_ENABLED ?
+                VectorizedBatchArithmetic.multiply(firstDecimalNumbers, secondDecimalNumbers,
+                                                   decimalResults, errorBitmap, numberOfOperands) : 0;
+
+        ScalarBatchArithmetic.multiply(firstDecimalNumbers, secondDecimalNumbers, decimalResults,
+                                       errorBitmap, vectorizedEndIndex, numberOfOperands);
+
+        return countErrors(errorBitmap, numberOfOperands);
+    }
+
+
+    /**
+     * Divides two columns of numbers
+     *
+     * @param firstDecimalNumbers the dividends
+     * @param secondDecimalNumbers the divisors, at least as long as the dividends
+     * @param decimalResults the array the quotients are written into, at least as long as
+     *                       the dividends
+     * @param errorBitmap the bitmap of the elements whose divisor is zero or whose quotient
+     *                    overflows a long, at least {@link #errorBitmapLength(int)} words long.
+     *                    It is cleared first
+     *
+     * @throws IndexOutOfBoundsException if an array is too short
+     *
+     * @return the number of elements whose divisor is zero or whose quotient overflows a long
+     * */
+    public static int divide(long[] firstDecimalNumbers, long[] secondDecimalNumbers,
+                             long[] decimalResults, long[] errorBitmap){
+
+        int numberOfOperands = prepareBatch(firstDecimalNumbers, secondDecimalNumbers,
+                                            decimalResults, errorBitmap);
+
+        ScalarBatchArithmetic.divide(firstDecimalNumbers, secondDecimalNumbers, decimalResults,
+                                     errorBitmap, 0, numberOfOperands);
+
+        return countErrors(errorBitmap, numberOfOperands);
+    }
+
+
+    /**
+     * Returns the remainders(modulus) of two columns of numbers
+     *
+     * @param firstDecimalNumbers the dividends
+     * @param secondDecimalNumbers the divisors, at least as long as the dividends
+     * @param decimalResults the array the remainders are written into, at least as long as
+     *                       the dividends
+     * @param errorBitmap the bitmap of the elements whose divisor is zero, at least
+     *                    {@link #errorBitmapLength(int)} words long. It is cleared first
+     *
+     * @throws IndexOutOfBoundsException if an array is too short
+     *
+     * @return the number of elements whose divisor is zero
+     * */
+    public static int modulus(long[] firstDecimalNumbers, long[] secondDecimalNumbers,
+                              long[] decimalResults, long[] errorBitmap){
+
+        int numberOfOperands = prepareBatch(firstDecimalNumbers, secondDecimalNumbers,
+                                            decimalResults, errorBitmap);
+
+        ScalarBatchArithmetic.modulus(firstDecimalNumbers, secondDecimalNumbers, decimalResults,
+                                      errorBitmap, 0, numberOfOperands);
+
+        return countErrors(errorBitmap, numberOfOperands);
+    }
+
+
+    /**
+     * Check the lengths of the arrays of a batch and clear its error bitmap
+     *
+     * @return the number of operand pairs in the batch
+     * */
+    private static int prepareBatch(long[] firstDecimalNumbers, long[] secondDecimalNumbers,
+                                    long[] decimalResults, long[] errorBitmap){
+
+        int numberOfOperands = firstDecimalNumbers.length;
+        int errorBitmapLength = errorBitmapLength(numberOfOperands);
+
+        Objects.checkFromIndexSize(0, numberOfOperands, secondDecimalNumbers.length);
+        Objects.checkFromIndexSize(0, numberOfOperands, decimalResults.length);
+        Objects.checkFromIndexSize(0, errorBitmapLength, errorBitmap.length);
+
+        Arrays.fill(errorBitmap, 0, errorBitmapLength, 0L);
+
+        return numberOfOperands;
+    }
+
+
+    private static int countErrors(long[] errorBitmap, int numberOfOperands){
+
+        int numberOfErrors = 0;
+
+        for (int index = errorBitmapLength(numberOfOperands) - 1; index >= 0; index--){
+            numberOfErrors += Long.bitCount(errorBitmap[index]);
+        }
+
+        return numberOfErrors;
+    }
+}
@@ -0,0 +1,907 @@
+package com.terence.hexadecimalcalculator.models;
+
+import com.terence.hexadecimalcalculator.metrics.CalculationEvent;
+import com.terence.hexadecimalcalculator.metrics.CalculatorMetrics;
+import com.terence.hexadecimalcalculator.metrics.OperationOutcome;
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter.LetterCase;
+
+/**
+ * @author Terence Lee
+ *
+ * A simple class that perform arithmetic operations for hexadecimal numbers
+ *
+ * E.g.
+ * <pre>
+      String hexadecimalAddResult = HexadecimalCalculator.add("9", "A");
+
+      System.out.println(hexadecimalAddResult); // 13
+
+ * </pre>
+ *
+ * Every operation also has a primitive overload working on longs, and the conversion
+ * methods accept CharSequence/char[]/byte[] slices and write into caller-supplied
+ * buffers, so that batch callers can chain operations without creating Strings
+ * <pre>
+      long sum = HexadecimalCalculator.add(
+              HexadecimalCalculator.convertHexadecimalToDecimal(buffer, 0, 4),
+              HexadecimalCalculator.convertHexadecimalToDecimal(buffer, 5, 4));
+
+      int end = HexadecimalCalculator.convertDecimalToHexadecimal(sum, output, 0);
+ * </pre>
+ *
+ * The String operations can also take an ArithmeticMode, to calculate with numbers beyond
+ * the range of a long (see HexBigInteger), or with fixed-width numbers that wrap around
+ * (see FixedWidthArithmetic)
+ * <pre>
+      HexadecimalCalculator.add("FFFFFFFFFFFFFFFF", "1", ArithmeticMode.ARBITRARY_PRECISION); // 10000000000000000
+
+      HexadecimalCalculator.add("FF", "1", ArithmeticMode.WRAPPING_UNSIGNED_8); // 0
+ * </pre>
+ *
+ * The String operations and tryCalculate() count their calls and time them when the JVM is
+ * started with -Dhexadecimalcalculator.metrics=true (see CalculatorMetrics), and emit a
+ * CalculationEvent to the JDK Flight Recorder when they are slower than its threshold
+ *
+ * */
+public class HexadecimalCalculator {
+
+    //max allowable value for the add, subtract, multiply, divide arguments
+    //without throwing NumberFormatException
+    public static final String MAX_OPERAND_VALUE_INCLUSIVE = "7FFFFFFFFFFFFFFF";
+
+
+    //min allowable value for the add, subtract, multiply, divide arguments
+    //without throwing NumberFormatException
+    public static final String MIN_OPERAND_VALUE_INCLUSIVE = "-8000000000000000";
+
+
+    //max number of characters (including the "-" sign) of a hexadecimal result,
+    //i.e. the size a caller-supplied buffer needs to hold any one result
+    public static final int MAX_HEXADECIMAL_NUMBER_LENGTH = HexadecimalFormatter.MAX_LENGTH;
+
+
+    /**
+     * The constructor is made private as all methods of this class are static, and
+     * therefore the constructor is not required
+     * */
+    private HexadecimalCalculator() {
+
+    }
+
+
+    /**
+     * Returns the sum of the two hexadecimal numbers in hexadecimal
+     *
+     * @param firstHexadecimalNumber the first value in hexadecimal
+     * @param secondHexadecimalNumber the second value in hexadecimal
+     *
+     * @throws NumberFormatException if either argument do not represent a valid long number
+     *
+     * @throws ArithmeticException if result overflows a long
+     *
+     * @return a result of the subtraction in hexadecimal
+     * */
+    public static String add(String firstHexadecimalNumber, String secondHexadecimalNumber){
+
+        return add(firstHexadecimalNumber, secondHexadecimalNumber, ArithmeticMode.CHECKED_64);
+    }
+
+
+    /**
+     * Returns the difference of the two hexadecimal numbers in hexadecimal
+     *
+     * @param firstHexadecimalNumber the first value in hexadecimal
+     * @param secondHexadecimalNumber the second value in hexadecimal
+     *
+     * @throws NumberFormatException if either argument do not represent a valid long number
+     *
+     * @throws ArithmeticException if result overflows a long
+     *
+     * @return a result of the subtraction in hexadecimal
+     * */
+    public static String subtract(String firstHexadecimalNumber, String secondHexadecimalNumber){
+
+        return subtract(firstHexadecimalNumber, secondHexadecimalNumber, ArithmeticMode.CHECKED_64);
+    }
+
+
+
+    /**
+     * Multiply two hexadecimal numbers, and return the result in hexadecimal
+     *
+     * @param firstHexadecimalNumber the first value in hexadecimal
+     * @param secondHexadecimalNumber the second value in hexadecimal
+     *
+     * @throws NumberFormatException if either argument do not represent a valid long number
+     *
+     * @throws ArithmeticException if result overflows a long
+     *
+     * @return a result of the multiplication in hexadecimal
+     * */
+    public static String multiply(String firstHexadecimalNumber, String secondHexadecimalNumber){
+
+        return multiply(firstHexadecimalNumber, secondHexadecimalNumber, ArithmeticMode.CHECKED_64);
+    }
+
+
+    /**
+     * Returns the quotient of the two hexadecimal number in hexadecimal
+     *
+     * @param firstHexadecimalNumber the dividend in hexadecimal
+     * @param secondHexadecimalNumber the divisor in hexadecimal
+     *
+     * @throws NumberFormatException if either argument do not represent a valid long number
+     *
+     * @throws ArithmeticException if the second argument is zero("0"),
+     *          or if result overflows a long,
+     *
+     * @return a result of the subtraction in hexadecimal
+     * */
+    public static String divide(String firstHexadecimalNumber, String secondHexadecimalNumber){
+
+        return divide(firstHexadecimalNumber, secondHexadecimalNumber, ArithmeticMode.CHECKED_64);
+    }
+
+
+
+    /**
+     * Returns the remainder(modulus) of the two hexadecimal number in hexadecimal
+     *
+     * @param firstHexadecimalNumber the dividend in hexadecimal
+     * @param secondHexadecimalNumber the divisor in hexadecimal
+     *
+     * @throws NumberFormatException if either argument do not represent a valid long number
+     *
+     * @throws ArithmeticException if the second argument is zero("0"),
+     *          or if result overflows a long,
+     *
+     * @return a result of the subtraction in hexadecimal
+     * */
+    public static String modulus(String firstHexadecimalNumber, String secondHexadecimalNumber){
+
+        return modulus(firstHexadecimalNumber, secondHexadecimalNumber, ArithmeticMode.CHECKED_64);
+    }
+
+
+
+    /**
+     * Returns the sum of the two hexadecimal numbers in hexadecimal, with a
+     * selectable number type. In ArithmeticMode.ARBITRARY_PRECISION the operands and the result
+     * can have any number of digits, and in the fixed-width modes they are values of the width
+     *
+     * @param firstHexadecimalNumber the first value in hexadecimal
+     * @param secondHexadecimalNumber the second value in hexadecimal
+     * @param arithmeticMode the number type the calculation is done with
+     *
+     * @throws NumberFormatException if either argument do not represent a valid number of the mode
+     *
+     * @throws ArithmeticException if the result overflows the number type of a checked mode
+     *
+     * @return a result of the addition in hexadecimal
+     * */
+    public static String add(String firstHexadecimalNumber, String secondHexadecimalNumber,
+                             ArithmeticMode arithmeticMode){
+
+        return calculate(HexadecimalOperation.ADD, firstHexadecimalNumber, secondHexadecimalNumber,
+                         arithmeticMode);
+    }
+
+
+    /**
+     * Returns the difference of the two hexadecimal numbers in hexadecimal, with a
+     * selectable number type. In ArithmeticMode.ARBITRARY_PRECISION the operands and the result
+     * can have any number of digits, and in the fixed-width modes they are values of the width
+     *
+     * @param firstHexadecimalNumber the first value in hexadecimal
+     * @param secondHexadecimalNumber the second value in hexadecimal
+     * @param arithmeticMode the number type the calculation is done with
+     *
+     * @throws NumberFormatException if either argument do not represent a valid number of the mode
+     *
+     * @throws ArithmeticException if the result overflows the number type of a checked mode
+     *
+     * @return a result of the subtraction in hexadecimal
+     * */
+    public static String subtract(String firstHexadecimalNumber, String secondHexadecimalNumber,
+                                  ArithmeticMode arithmeticMode){
+
+        return calculate(HexadecimalOperation.SUBTRACT, firstHexadecimalNumber, secondHexadecimalNumber,
+                         arithmeticMode);
+    }
+
+
+    /**
+     * Multiply two hexadecimal numbers, and return the result in hexadecimal, with a
+     * selectable number type. In ArithmeticMode.ARBITRARY_PRECISION the operands and the result
+     * can have any number of digits, and in the fixed-width modes they are values of the width
+     *
+     * @param firstHexadecimalNumber the first value in hexadecimal
+     * @param secondHexadecimalNumber the second value in hexadecimal
+     * @param arithmeticMode the number type the calculation is done with
+     *
+     * @throws NumberFormatException if either argument do not represent a valid number of the mode
+     *
+     * @throws ArithmeticException if the result overflows the number type of a checked mode
+     *
+     * @return a result of the multiplication in hexadecimal
+     * */
+    public static String multiply(String firstHexadecimalNumber, String secondHexadecimalNumber,
+                                  ArithmeticMode arithmeticMode){
+
+        return calculate(HexadecimalOperation.MULTIPLY, firstHexadecimalNumber, secondHexadecimalNumber,
+                         arithmeticMode);
+    }
+
+
+    /**
+     * Returns the quotient of the two hexadecimal number in hexadecimal, with a
+     * selectable number type. In ArithmeticMode.ARBITRARY_PRECISION the operands and the result
+     * can have any number of digits, and in the fixed-width modes they are values of the width
+     *
+     * @param firstHexadecimalNumber the dividend in hexadecimal
+     * @param secondHexadecimalNumber the divisor in hexadecimal
+     * @param arithmeticMode the number type the calculation is done with
+     *
+     * @throws NumberFormatException if either argument do not represent a valid number of the mode
+     *
+     * @throws ArithmeticException if the second argument is zero("0"), or if the result
+     *          overflows the number type of a checked mode
+     *
+     * @return a quotient of the division in hexadecimal
+     * */
+    public static String divide(String firstHexadecimalNumber, String secondHexadecimalNumber,
+                                ArithmeticMode arithmeticMode){
+
+        return calculate(HexadecimalOperation.DIVIDE, firstHexadecimalNumber, secondHexadecimalNumber,
+                         arithmeticMode);
+    }
+
+
+    /**
+     * Returns the remainder(modulus) of the two hexadecimal number in hexadecimal, with a
+     * selectable number type. In ArithmeticMode.ARBITRARY_PRECISION the operands and the result
+     * can have any number of digits, and in the fixed-width modes they are values of the width
+     *
+     * @param firstHexadecimalNumber the dividend in hexadecimal
+     * @param secondHexadecimalNumber the divisor in hexadecimal
+     * @param arithmeticMode the number type the calculation is done with
+     *
+     * @throws NumberFormatException if either argument do not represent a valid number of the mode
+     *
+     * @throws ArithmeticException if the second argument is zero("0"), or if the result
+     *          overflows the number type of a checked mode
+     *
+     * @return a remainder of the division in hexadecimal
+     * */
+    public static String modulus(String firstHexadecimalNumber, String secondHexadecimalNumber,
+                                 ArithmeticMode arithmeticMode){
+
+        return calculate(HexadecimalOperation.MODULUS, firstHexadecimalNumber, secondHexadecimalNumber,
+                         arithmeticMode);
+    }
+
+
+    /**
+     * Apply an operation to two hexadecimal numbers with the number type of an arithmetic
+     * mode, counting and timing it (see CalculatorMetrics) and emitting its CalculationEvent
+     *
+     * @throws NumberFormatException if either argument do not represent a valid number of the mode
+     *
+     * @throws ArithmeticException if the divisor is zero, or if the result overflows the
+     *          number type of a checked mode
+     *
+     * @return the result of the operation in hexadecimal
+     * */
+    private static String calculate(HexadecimalOperation operation, String firstHexadecimalNumber,
+                                    String secondHexadecimalNumber, ArithmeticMode arithmeticMode){
+
+        long startTime = CalculatorMetrics.startTime();
+        CalculationEvent event = CalculationEvent.start(operation, arithmeticMode);
+
+        try {
+            String hexadecimalResult = switch (arithmeticMode){
+                case CHECKED_64 -> calculateChecked64(operation, firstHexadecimalNumber, secondHexadecimalNumber);
+
+                case ARBITRARY_PRECISION -> calculateArbitraryPrecision(operation, firstHexadecimalNumber,
+                                                                        secondHexadecimalNumber);
+
+                default -> convertDecimalToHexadecimal(operation.apply(
+                        FixedWidthArithmetic.parse(firstHexadecimalNumber, arithmeticMode),
+                        FixedWidthArithmetic.parse(secondHexadecimalNumber, arithmeticMode),
+                        arithmeticMode), arithmeticMode);
+            };
+
+            CalculatorMetrics.recordSuccess(operation, startTime);
+
+            if (event != null){
+                event.commit(firstHexadecimalNumber, secondHexadecimalNumber, OperationOutcome.SUCCESS);
+            }
+
+            return hexadecimalResult;
+        }
+        catch (RuntimeException e){
+            CalculationStatus status = failureStatusOf(operation, e, secondHexadecimalNumber);
+
+            CalculatorMetrics.record(operation, status, startTime);
+
+            if (event != null){
+                event.commit(firstHexadecimalNumber, secondHexadecimalNumber, OperationOutcome.of(status));
+            }
+
+            throw e;
+        }
+    }
+
+
+    /**
+     * Returns the status of a String operation that threw an exception, from what the
+     * calculator knows of the calculation rather than from the message of the exception
+     * (which differs between the number types of the modes): an invalid number if an
+     * argument could not be parsed, a division by zero if the operation divides and the
+     * divisor is zero, and an overflow otherwise
+     *
+     * @param operation the operation that threw the exception
+     * @param exception a NumberFormatException or an ArithmeticException
+     * @param secondHexadecimalNumber the second argument of the operation (the divisor for
+     *                                DIVIDE and MODULUS)
+     * */
+    static CalculationStatus failureStatusOf(HexadecimalOperation operation, RuntimeException exception,
+                                             String secondHexadecimalNumber){
+
+        if (exception instanceof NumberFormatException){
+            return CalculationStatus.INVALID_DIGIT;
+        }
+
+        if (operation == HexadecimalOperation.DIVIDE || operation == HexadecimalOperation.MODULUS){
+
+            //a zero divisor is "0" in every mode, so it is always a valid long
+            CalculationResult divisor = new CalculationResult();
+
+            if (HexadecimalParser.tryParse(secondHexadecimalNumber, divisor) == CalculationStatus.OK &&
+                divisor.getValue() == 0){
+
+                return CalculationStatus.DIVIDE_BY_ZERO;
+            }
+        }
+
+        return CalculationStatus.OVERFLOW;
+    }
+
+
+    private static String calculateChecked64(HexadecimalOperation operation, String firstHexadecimalNumber,
+                                             String secondHexadecimalNumber){
+
+        return switch (operation){
+            case ADD -> addChecked64(firstHexadecimalNumber, secondHexadecimalNumber);
+            case SUBTRACT -> subtractChecked64(firstHexadecimalNumber, secondHexadecimalNumber);
+            case MULTIPLY -> multiplyChecked64(firstHexadecimalNumber, secondHexadecimalNumber);
+            case DIVIDE -> divideChecked64(firstHexadecimalNumber, secondHexadecimalNumber);
+            case MODULUS -> modulusChecked64(firstHexadecimalNumber, secondHexadecimalNumber);
+        };
+    }
+
+
+    private static String calculateArbitraryPrecision(HexadecimalOperation operation, String firstHexadecimalNumber,
+                                                      String secondHexadecimalNumber){
+
+        return switch (operation){
+            case ADD -> PromotingArithmetic.add(firstHexadecimalNumber, secondHexadecimalNumber);
+            case SUBTRACT -> PromotingArithmetic.subtract(firstHexadecimalNumber, secondHexadecimalNumber);
+            case MULTIPLY -> PromotingArithmetic.multiply(firstHexadecimalNumber, secondHexadecimalNumber);
+            case DIVIDE -> PromotingArithmetic.divide(firstHexadecimalNumber, secondHexadecimalNumber);
+            case MODULUS -> PromotingArithmetic.modulus(firstHexadecimalNumber, secondHexadecimalNumber);
+        };
+    }
+
+
+    //the ArithmeticMode.CHECKED_64 calculations of the String operations, without metrics
+    private static String addChecked64(String firstHexadecimalNumber, String secondHexadecimalNumber){
+
+        long firstDecimalNumber = convertHexadecimalToDecimal(firstHexadecimalNumber);
+        long secondDecimalNumber = convertHexadecimalToDecimal(secondHexadecimalNumber);
+
+        long decimalResult = add(firstDecimalNumber, secondDecimalNumber);
+        String hexadecimalResult = convertDecimalToHexadecimal(decimalResult);
+
+
+
+        return hexadecimalResult;
+    }
+
+
+    private static String subtractChecked64(String firstHexadecimalNumber, String secondHexadecimalNumber){
+
+        long firstDecimalNumber = convertHexadecimalToDecimal(firstHexadecimalNumber);
+        long secondDecimalNumber = convertHexadecimalToDecimal(secondHexadecimalNumber);
+
+        long decimalResult = subtract(firstDecimalNumber, secondDecimalNumber);
+        String hexadecimalResult = convertDecimalToHexadecimal(decimalResult);
+
+
+
+        return hexadecimalResult;
+    }
+
+
+    private static String multiplyChecked64(String firstHexadecimalNumber, String secondHexadecimalNumber){
+
+        long firstDecimalNumber = convertHexadecimalToDecimal(firstHexadecimalNumber);
+        long secondDecimalNumber = convertHexadecimalToDecimal(secondHexadecimalNumber);
+
+        long decimalResult = multiply(firstDecimalNumber, secondDecimalNumber);
+        String hexadecimalResult = convertDecimalToHexadecimal(decimalResult);
+
+        return hexadecimalResult;
+    }
+
+
+    private static String divideChecked64(String firstHexadecimalNumber, String secondHexadecimalNumber){
+
+        long firstDecimalNumber = convertHexadecimalToDecimal(firstHexadecimalNumber);
+        long secondDecimalNumber = convertHexadecimalToDecimal(secondHexadecimalNumber);
+
+        long decimalQuotientResult = divide(firstDecimalNumber, secondDecimalNumber);
+
+        String hexadecimalQuotientResult = convertDecimalToHexadecimal(decimalQuotientResult);
+
+        return hexadecimalQuotientResult;
+    }
+
+
+    private static String modulusChecked64(String firstHexadecimalNumber, String secondHexadecimalNumber){
+
+        long firstDecimalNumber = convertHexadecimalToDecimal(firstHexadecimalNumber);
+        long secondDecimalNumber = convertHexadecimalToDecimal(secondHexadecimalNumber);
+
+
+        long decimalRemainderResult = modulus(firstDecimalNumber, secondDecimalNumber);
+
+        String hexadecimalRemainderResult = convertDecimalToHexadecimal(decimalRemainderResult);
+
+        return hexadecimalRemainderResult;
+    }
+
+
+    /**
+     * Returns the sum of the two numbers. This is the primitive (allocation-free)
+     * counterpart of {@link #add(String, String)}
+     *
+     * @param firstDecimalNumber the first value
+     * @param secondDecimalNumber the second value
+     *
+     * @throws ArithmeticException if result overflows a long
+     *
+     * @return the result of the addition
+     * */
+    public static long add(long firstDecimalNumber, long secondDecimalNumber){
+
+        return Math.addExact(firstDecimalNumber, secondDecimalNumber);
+    }
+
+
+    /**
+     * Returns the difference of the two numbers. This is the primitive (allocation-free)
+     * counterpart of {@link #subtract(String, String)}
+     *
+     * @param firstDecimalNumber the first value
+     * @param secondDecimalNumber the second value
+     *
+     * @throws ArithmeticException if result overflows a long
+     *
+     * @return the result of the subtraction
+     * */
+    public static long subtract(long firstDecimalNumber, long secondDecimalNumber){
+
+        return Math.subtractExact(firstDecimalNumber, secondDecimalNumber);
+    }
+
+
+    /**
+     * Returns the product of the two numbers. This is the primitive (allocation-free)
+     * counterpart of {@link #multiply(String, String)}
+     *
+     * @param firstDecimalNumber the first value
+     * @param secondDecimalNumber the second value
+     *
+     * @throws ArithmeticException if result overflows a long
+     *
+     * @return the result of the multiplication
+     * */
+    public static long multiply(long firstDecimalNumber, long secondDecimalNumber){
+
+        return Math.multiplyExact(firstDecimalNumber, secondDecimalNumber);
+    }
+
+
+    /**
+     * Returns the quotient of the two numbers. This is the primitive (allocation-free)
+     * counterpart of {@link #divide(String, String)}
+     *
+     * @param firstDecimalNumber the dividend
+     * @param secondDecimalNumber the divisor
+     *
+     * @throws ArithmeticException if the divisor is zero, or if result overflows a long
+     *
+     * @return the quotient of the division
+     * */
+    public static long divide(long firstDecimalNumber, long secondDecimalNumber){
+
+        return Math.divideExact(firstDecimalNumber, secondDecimalNumber);
+    }
+
+
+    /**
+     * Returns the remainder(modulus) of the two numbers. This is the primitive
+     * (allocation-free) counterpart of {@link #modulus(String, String)}
+     *
+     * @param firstDecimalNumber the dividend
+     * @param secondDecimalNumber the divisor
+     *
+     * @throws ArithmeticException if the divisor is zero
+     *
+     * @return the remainder of the division
+     * */
+    public static long modulus(long firstDecimalNumber, long secondDecimalNumber){
+
+        return firstDecimalNumber % secondDecimalNumber;
+    }
+
+
+    /**
+     * Add the two numbers without throwing an exception, for callers where overflows are
+     * frequent enough for the cost of the exceptions to matter
+     *
+     * @param firstDecimalNumber the first value
+     * @param secondDecimalNumber the second value
+     * @param result the holder the sum and status are written into
+     *
+     * @return CalculationStatus.OK, or OVERFLOW if the sum overflows a long
+     *          (also written into the result)
+     * */
+    public static CalculationStatus tryAdd(long firstDecimalNumber, long secondDecimalNumber,
+                                           CalculationResult result){
+
+        long decimalResult = firstDecimalNumber + secondDecimalNumber;
+
+        if (((firstDecimalNumber ^ decimalResult) & (secondDecimalNumber ^ decimalResult)) < 0){
+            return result.setFailure(CalculationStatus.OVERFLOW);
+        }
+
+        return result.setValue(decimalResult);
+    }
+
+
+    /**
+     * Subtract the two numbers without throwing an exception
+     *
+     * @param firstDecimalNumber the first value
+     * @param secondDecimalNumber the second value
+     * @param result the holder the difference and status are written into
+     *
+     * @return CalculationStatus.OK, or OVERFLOW if the difference overflows a long
+     *          (also written into the result)
+     * */
+    public static CalculationStatus trySubtract(long firstDecimalNumber, long secondDecimalNumber,
+                                                CalculationResult result){
+
+        long decimalResult = firstDecimalNumber - secondDecimalNumber;
+
+        if (((firstDecimalNumber ^ secondDecimalNumber) & (firstDecimalNumber ^ decimalResult)) < 0){
+            return result.setFailure(CalculationStatus.OVERFLOW);
+        }
+
+        return result.setValue(decimalResult);
+    }
+
+
+    /**
+     * Multiply the two numbers without throwing an exception
+     *
+     * @param firstDecimalNumber the first value
+     * @param secondDecimalNumber the second value
+     * @param result the holder the product and status are written into
+     *
+     * @return CalculationStatus.OK, or OVERFLOW if the product overflows a long
+     *          (also written into the result)
+     * */
+    public static CalculationStatus tryMultiply(long firstDecimalNumber, long secondDecimalNumber,
+                                                CalculationResult result){
+
+        long decimalResult = firstDecimalNumber * secondDecimalNumber;
+
+        //the product fits in a long if its upper 64 bits are only the sign of the lower 64 bits
+        if (Math.multiplyHigh(firstDecimalNumber, secondDecimalNumber) != (decimalResult >> 63)){
+            return result.setFailure(CalculationStatus.OVERFLOW);
+        }
+
+        return result.setValue(decimalResult);
+    }
+
+
+    /**
+     * Divide the two numbers without throwing an exception
+     *
+     * @param firstDecimalNumber the dividend
+     * @param secondDecimalNumber the divisor
+     * @param result the holder the quotient and status are written into
+     *
+     * @return CalculationStatus.OK, DIVIDE_BY_ZERO if the divisor is zero, or OVERFLOW if
+     *          the quotient overflows a long (also written into the result)
+     * */
+    public static CalculationStatus tryDivide(long firstDecimalNumber, long secondDecimalNumber,
+                                              CalculationResult result){
+
+        if (secondDecimalNumber == 0){
+            return result.setFailure(CalculationStatus.DIVIDE_BY_ZERO);
+        }
+
+        if (firstDecimalNumber == Long.MIN_VALUE && secondDecimalNumber == -1){
+            return result.setFailure(CalculationStatus.OVERFLOW);
+        }
+
+        return result.setValue(firstDecimalNumber / secondDecimalNumber);
+    }
+
+
+    /**
+     * Returns the remainder(modulus) of the two numbers without throwing an exception
+     *
+     * @param firstDecimalNumber the dividend
+     * @param secondDecimalNumber the divisor
+     * @param result the holder the remainder and status are written into
+     *
+     * @return CalculationStatus.OK, or DIVIDE_BY_ZERO if the divisor is zero
+     *          (also written into the result)
+     * */
+    public static CalculationStatus tryModulus(long firstDecimalNumber, long secondDecimalNumber,
+                                               CalculationResult result){
+
+        if (secondDecimalNumber == 0){
+            return result.setFailure(CalculationStatus.DIVIDE_BY_ZERO);
+        }
+
+        return result.setValue(firstDecimalNumber % secondDecimalNumber);
+    }
+
+
+    /**
+     * Apply an operation to two hexadecimal numbers without throwing an exception, neither
+     * for an invalid number nor for a failed calculation
+     * E.g.
+     * <pre>
+          CalculationResult result = new CalculationResult();
+
+          if (HexadecimalCalculator.tryCalculate(HexadecimalOperation.DIVIDE, "1A3F", "0", result)
+                  == CalculationStatus.DIVIDE_BY_ZERO){ ... }
+     * </pre>
+     *
+     * @param operation the operation to be applied
+     * @param firstHexadecimalNumber the first value in hexadecimal
+     * @param secondHexadecimalNumber the second value in hexadecimal
+     * @param result the holder the result and status are written into
+     *
+     * @return CalculationStatus.OK, INVALID_DIGIT or OUT_OF_RANGE if either number is not
+     *          a valid long number, or the status of the calculation (also written into the result)
+     * */
+    public static CalculationStatus tryCalculate(HexadecimalOperation operation,
+                                                 CharSequence firstHexadecimalNumber,
+                                                 CharSequence secondHexadecimalNumber,
+                                                 CalculationResult result){
+
+        long startTime = CalculatorMetrics.startTime();
+        CalculationEvent event = CalculationEvent.start(operation, ArithmeticMode.CHECKED_64);
+        CalculationStatus status = HexadecimalParser.tryParse(firstHexadecimalNumber, result);
+
+        if (status == CalculationStatus.OK){
+            long firstDecimalNumber = result.getValue();
+
+            status = HexadecimalParser.tryParse(secondHexadecimalNumber, result);
+
+            if (status == CalculationStatus.OK){
+                status = operation.tryApply(firstDecimalNumber, result.getValue(), result);
+            }
+        }
+
+        CalculatorMetrics.record(operation, status, startTime);
+
+        if (event != null){
+            event.commit(firstHexadecimalNumber, secondHexadecimalNumber, OperationOutcome.of(status));
+        }
+
+        return status;
+    }
+
+
+    /**
+     * Returns the exact sum of the two numbers as a 128-bit number, which never overflows.
+     * Like {@link #add(long, long)}, this does not allocate: the sum is written into a
+     * caller-supplied Int128
+     *
+     * @param firstDecimalNumber the first value
+     * @param secondDecimalNumber the second value
+     * @param result the Int128 the sum is written into
+     *
+     * @return the result, for chaining
+     * */
+    public static Int128 add(long firstDecimalNumber, long secondDecimalNumber, Int128 result){
+
+        return result.setSum(firstDecimalNumber, secondDecimalNumber);
+    }
+
+
+    /**
+     * Returns the exact difference of the two numbers as a 128-bit number, which never overflows.
+     * Like {@link #subtract(long, long)}, this does not allocate: the difference is written into a
+     * caller-supplied Int128
+     *
+     * @param firstDecimalNumber the first value
+     * @param secondDecimalNumber the second value
+     * @param result the Int128 the difference is written into
+     *
+     * @return the result, for chaining
+     * */
+    public static Int128 subtract(long firstDecimalNumber, long secondDecimalNumber, Int128 result){
+
+        return result.setDifference(firstDecimalNumber, secondDecimalNumber);
+    }
+
+
+    /**
+     * Returns the exact product of the two numbers as a 128-bit number, which never overflows.
+     * Like {@link #multiply(long, long)}, this does not allocate: the product is written into a
+     * caller-supplied Int128
+     *
+     * @param firstDecimalNumber the first value
+     * @param secondDecimalNumber the second value
+     * @param result the Int128 the product is written into
+     *
+     * @return the result, for chaining
+     * */
+    public static Int128 multiply(long firstDecimalNumber, long secondDecimalNumber, Int128 result){
+
+        return result.setProduct(firstDecimalNumber, secondDecimalNumber);
+    }
+
+
+
+    /**
+     * Converts a hexadecimal number to a decimal number
+     *
+     * @param hexadecimalNumber the hexadecimal number to be converted to be decimal number
+     *
+     * @throws NumberFormatException if the argument does not represent a valid hexadecimal number
+     * */
+    public static long convertHexadecimalToDecimal(String hexadecimalNumber)
+    {
+        return HexadecimalParser.parse(hexadecimalNumber);
+    }
+
+
+    /**
+     * Converts a slice of a hexadecimal number held in a CharSequence (e.g. a
+     * StringBuilder or a CharBuffer) to a decimal number, without creating a substring
+     *
+     * @param hexadecimalNumber the sequence containing the hexadecimal number
+     * @param beginIndex the index of the first character of the hexadecimal number, inclusive
+     * @param endIndex the index after the last character of the hexadecimal number, exclusive
+     *
+     * @throws NumberFormatException if the slice does not represent a valid hexadecimal number
+     * @throws IndexOutOfBoundsException if the slice is outside the sequence
+     * */
+    public static long convertHexadecimalToDecimal(CharSequence hexadecimalNumber,
+                                                   int beginIndex, int endIndex)
+    {
+        return HexadecimalParser.parse(hexadecimalNumber, beginIndex, endIndex);
+    }
+
+
+    /**
+     * Converts a slice of a hexadecimal number held in a char array to a decimal number,
+     * without creating a String
+     *
+     * @param hexadecimalDigits the array containing the hexadecimal number
+     * @param offset the index of the first character of the hexadecimal number
+     * @param length the number of characters of the hexadecimal number
+     *
+     * @throws NumberFormatException if the slice does not represent a valid hexadecimal number
+     * @throws IndexOutOfBoundsException if the slice is outside the array
+     * */
+    public static long convertHexadecimalToDecimal(char[] hexadecimalDigits, int offset, int length)
+    {
+        return HexadecimalParser.parse(hexadecimalDigits, offset, length);
+    }
+
+
+    /**
+     * Converts a slice of a hexadecimal number held in a byte array (ASCII/UTF-8 text, e.g.
+     * read straight from a file or socket) to a decimal number, without creating a String
+     *
+     * @param hexadecimalDigits the array containing the hexadecimal number
+     * @param offset the index of the first byte of the hexadecimal number
+     * @param length the number of bytes of the hexadecimal number
+     *
+     * @throws NumberFormatException if the slice does not represent a valid hexadecimal number
+     * @throws IndexOutOfBoundsException if the slice is outside the array
+     * */
+    public static long convertHexadecimalToDecimal(byte[] hexadecimalDigits, int offset, int length)
+    {
+        return HexadecimalParser.parse(hexadecimalDigits, offset, length);
+    }
+
+
+    /**
+     * Converts a decimal number to a hexadecimal number, and writes it into a
+     * caller-supplied char array instead of creating a String
+     *
+     * @param decimalNumber the decimal number to be converted to be hexadecimal number
+     * @param destination the array the hexadecimal number is written into. At most
+     *                    {@link #MAX_HEXADECIMAL_NUMBER_LENGTH} characters are written
+     * @param offset the index in the destination where the first character is written
+     *
+     * @throws IndexOutOfBoundsException if the destination is too small for the result
+     *
+     * @return the index after the last character written
+     * */
+    public static int convertDecimalToHexadecimal(long decimalNumber, char[] destination, int offset){
+
+        return HexadecimalFormatter.format(decimalNumber, LetterCase.LOWER, destination, offset);
+    }
+
+
+    /**
+     * Converts a decimal number to a hexadecimal number, and writes it as ASCII bytes into a
+     * caller-supplied byte array instead of creating a String
+     *
+     * @param decimalNumber the decimal number to be converted to be hexadecimal number
+     * @param destination the array the hexadecimal number is written into. At most
+     *                    {@link #MAX_HEXADECIMAL_NUMBER_LENGTH} bytes are written
+     * @param offset the index in the destination where the first byte is written
+     *
+     * @throws IndexOutOfBoundsException if the destination is too small for the result
+     *
+     * @return the index after the last byte written
+     * */
+    public static int convertDecimalToHexadecimal(long decimalNumber, byte[] destination, int offset){
+
+        return HexadecimalFormatter.format(decimalNumber, LetterCase.LOWER, destination, offset);
+    }
+
+
+    /**
+     * Converts a decimal number to a hexadecimal number, and appends it to a
+     * caller-supplied StringBuilder instead of creating a String
+     *
+     * @param decimalNumber the decimal number to be converted to be hexadecimal number
+     * @param destination the StringBuilder the hexadecimal number is appended to
+     *
+     * @return the destination, for chaining
+     * */
+    public static StringBuilder convertDecimalToHexadecimal(long decimalNumber, StringBuilder destination){
+
+        return HexadecimalFormatter.format(decimalNumber, LetterCase.LOWER, destination);
+    }
+
+
+    /**
+     * Converts a decimal number to a hexadecimal number
+     *
+     * @param decimalNumber the decimal number to be converted to be hexadecimal number
+     *
+     * */
+    private static String convertDecimalToHexadecimal(long decimalNumber){
+
+        return HexadecimalFormatter.format(decimalNumber, LetterCase.LOWER);
+    }
+
+
+    /**
+     * Converts a value of a fixed-width arithmetic mode to a hexadecimal number
+     *
+     * @param decimalNumber the value to be converted to be hexadecimal number
+     * @param arithmeticMode the fixed-width mode of the value
+     * */
+    private static String convertDecimalToHexadecimal(long decimalNumber, ArithmeticMode arithmeticMode){
+
+        return FixedWidthArithmetic.format(decimalNumber, arithmeticMode, LetterCase.LOWER);
+    }
+}
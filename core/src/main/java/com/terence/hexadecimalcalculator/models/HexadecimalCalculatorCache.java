@@ -0,0 +1,243 @@
+package com.terence.hexadecimalcalculator.models;
+
+
+/**
+ * @author Terence Lee
+ *
+ * An optional, thread-safe cache in front of HexadecimalCalculator and HexadecimalExpression,
+ * for callers that calculate the same operand pairs and compile the same expressions over
+ * and over. It has two tiers, each of a bounded size evicting the least recently used entry:
+ * <pre>
+      compiled expressions, keyed by their text and arithmetic mode
+      results, keyed by their operation, arithmetic mode and operand texts
+ * </pre>
+ *
+ * A key only refers to the Strings it is given, so a lookup neither concatenates nor copies
+ * them, and a String caches its own hash code. Invalid input and failed calculations are not
+ * cached; they throw the same exceptions as HexadecimalCalculator every time.
+ * E.g.
+ * <pre>
+      HexadecimalCalculatorCache cache = new HexadecimalCalculatorCache(1000, 10000);
+
+      String sum = cache.add("1A3F", "-FF"); // calculated and cached
+      sum = cache.add("1A3F", "-FF"); // from the cache
+
+      System.out.println(cache.getResultStatistics()); // hits=1, misses=1, evictions=0, size=1
+ * </pre>
+ * */
+public final class HexadecimalCalculatorCache {
+
+    private final BoundedLruCache<ExpressionKey, HexadecimalExpression> expressionCache;
+
+    private final BoundedLruCache<ResultKey, String> resultCache;
+
+
+    /**
+     * The hit, miss and eviction counts of a tier of the cache, at one point in time
+     *
+     * @param hitCount the number of lookups that found their entry
+     * @param missCount the number of lookups that did not find their entry
+     * @param evictionCount the number of entries removed to make room for newer ones
+     * @param size the number of entries
+     * */
+    public record Statistics(long hitCount, long missCount, long evictionCount, int size) {
+
+
+        /**
+         * Returns the share of lookups that found their entry (0 to 1), or 0 if there were no lookups
+         * */
+        public double hitRate(){
+
+            long lookupCount = hitCount + missCount;
+
+            return lookupCount == 0 ? 0 : (double) hitCount / lookupCount;
+        }
+
+
+        @Override
+        public String toString() {
+            return "hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount + ", size=" + size;
+        }
+    }
+
+
+    private record ExpressionKey(String expression, ArithmeticMode arithmeticMode) {
+
+    }
+
+
+    private record ResultKey(HexadecimalOperation operation, ArithmeticMode arithmeticMode,
+                             String firstHexadecimalNumber, String secondHexadecimalNumber) {
+
+    }
+
+
+    /**
+     * @param maxNumberOfExpressions the max number of compiled expressions cached, at least 1
+     * @param maxNumberOfResults the max number of results cached, at least 1
+     *
+     * @throws IllegalArgumentException if either max number is less than 1
+     * */
+    public HexadecimalCalculatorCache(int maxNumberOfExpressions, int maxNumberOfResults) {
+        this.expressionCache = new BoundedLruCache<>(maxNumberOfExpressions);
+        this.resultCache = new BoundedLruCache<>(maxNumberOfResults);
+    }
+
+
+    /**
+     * Returns the compiled expression of a text with the 64-bit checked arithmetic, compiling
+     * it if it is not cached
+     *
+     * @see HexadecimalExpression#compile(CharSequence)
+     * */
+    public HexadecimalExpression compile(String expression){
+        return compile(expression, ArithmeticMode.CHECKED_64);
+    }
+
+
+    /**
+     * Returns the compiled expression of a text, compiling it if it is not cached
+     *
+     * @see HexadecimalExpression#compile(CharSequence, ArithmeticMode)
+     * */
+    public HexadecimalExpression compile(String expression, ArithmeticMode arithmeticMode){
+
+        return expressionCache.computeIfAbsent(new ExpressionKey(expression, arithmeticMode),
+                key -> HexadecimalExpression.compile(key.expression(), key.arithmeticMode()));
+    }
+
+
+    /**
+     * Returns the sum of the two hexadecimal numbers, like
+     * {@link HexadecimalCalculator#add(String, String)}, from the cache if possible
+     * */
+    public String add(String firstHexadecimalNumber, String secondHexadecimalNumber){
+
+        return calculate(HexadecimalOperation.ADD, firstHexadecimalNumber, secondHexadecimalNumber,
+                         ArithmeticMode.CHECKED_64);
+    }
+
+
+    /**
+     * Returns the difference of the two hexadecimal numbers, like
+     * {@link HexadecimalCalculator#subtract(String, String)}, from the cache if possible
+     * */
+    public String subtract(String firstHexadecimalNumber, String secondHexadecimalNumber){
+
+        return calculate(HexadecimalOperation.SUBTRACT, firstHexadecimalNumber, secondHexadecimalNumber,
+                         ArithmeticMode.CHECKED_64);
+    }
+
+
+    /**
+     * Returns the product of the two hexadecimal numbers, like
+     * {@link HexadecimalCalculator#multiply(String, String)}, from the cache if possible
+     * */
+    public String multiply(String firstHexadecimalNumber, String secondHexadecimalNumber){
+
+        return calculate(HexadecimalOperation.MULTIPLY, firstHexadecimalNumber, secondHexadecimalNumber,
+                         ArithmeticMode.CHECKED_64);
+    }
+
+
+    /**
+     * Returns the quotient of the two hexadecimal numbers, like
+     * {@link HexadecimalCalculator#divide(String, String)}, from the cache if possible
+     * */
+    public String divide(String firstHexadecimalNumber, String secondHexadecimalNumber){
+
+        return calculate(HexadecimalOperation.DIVIDE, firstHexadecimalNumber, secondHexadecimalNumber,
+                         ArithmeticMode.CHECKED_64);
+    }
+
+
+    /**
+     * Returns the remainder of the two hexadecimal numbers, like
+     * {@link HexadecimalCalculator#modulus(String, String)}, from the cache if possible
+     * */
+    public String modulus(String firstHexadecimalNumber, String secondHexadecimalNumber){
+
+        return calculate(HexadecimalOperation.MODULUS, firstHexadecimalNumber, secondHexadecimalNumber,
+                         ArithmeticMode.CHECKED_64);
+    }
+
+
+    /**
+     * Returns the result of an operation on two hexadecimal numbers, like the String methods
+     * of HexadecimalCalculator with an ArithmeticMode, from the cache if possible
+     *
+     * @param operation the operation
+     * @param firstHexadecimalNumber the first value in hexadecimal
+     * @param secondHexadecimalNumber the second value in hexadecimal
+     * @param arithmeticMode the number type the calculation is done with
+     *
+     * @throws NumberFormatException if either argument do not represent a valid number of the mode
+     *
+     * @throws ArithmeticException if the result overflows the number type of a checked mode,
+     *          or the divisor is zero
+     *
+     * @return the result of the operation in hexadecimal
+     * */
+    public String calculate(HexadecimalOperation operation, String firstHexadecimalNumber,
+                            String secondHexadecimalNumber, ArithmeticMode arithmeticMode){
+
+        ResultKey resultKey = new ResultKey(operation, arithmeticMode, firstHexadecimalNumber,
+                                            secondHexadecimalNumber);
+
+        return resultCache.computeIfAbsent(resultKey, HexadecimalCalculatorCache::calculateResult);
+    }
+
+
+    /**
+     * Returns the counts of the compiled expression tier
+     * */
+    public Statistics getExpressionStatistics(){
+
+        return new Statistics(expressionCache.getHitCount(), expressionCache.getMissCount(),
+                              expressionCache.getEvictionCount(), expressionCache.size());
+    }
+
+
+    /**
+     * Returns the counts of the result tier
+     * */
+    public Statistics getResultStatistics(){
+
+        return new Statistics(resultCache.getHitCount(), resultCache.getMissCount(),
+                              resultCache.getEvictionCount(), resultCache.size());
+    }
+
+
+    /**
+     * Remove every cached expression and result. The counts are kept
+     * */
+    public void clear(){
+
+        expressionCache.clear();
+        resultCache.clear();
+    }
+
+
+    private static String calculateResult(ResultKey key){
+
+        String firstHexadecimalNumber = key.firstHexadecimalNumber();
+        String secondHexadecimalNumber = key.secondHexadecimalNumber();
+        ArithmeticMode arithmeticMode = key.arithmeticMode();
+
+        return switch (key.operation()){
+            case ADD -> HexadecimalCalculator.add(firstHexadecimalNumber, secondHexadecimalNumber, arithmeticMode);
+
+            case SUBTRACT -> HexadecimalCalculator.subtract(firstHexadecimalNumber, secondHexadecimalNumber,
+                                                            arithmeticMode);
+
+            case MULTIPLY -> HexadecimalCalculator.multiply(firstHexadecimalNumber, secondHexadecimalNumber,
+                                                            arithmeticMode);
+
+            case DIVIDE -> HexadecimalCalculator.divide(firstHexadecimalNumber, secondHexadecimalNumber,
+                                                        arithmeticMode);
+
+            case MODULUS -> HexadecimalCalculator.modulus(firstHexadecimalNumber, secondHexadecimalNumber,
+                                                          arithmeticMode);
+        };
+    }
+}
@@ -0,0 +1,173 @@
+package com.terence.hexadecimalcalculator.models;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * @author Terence Lee
+ *
+ * An expression of hexadecimal numbers, e.g. "(1F + -3A) * FF % 7", compiled once and then
+ * evaluated any number of times. The operators are those of HexadecimalOperation, with the
+ * usual precedence (* / % before + -), unary minus and parentheses. A variable (e.g. "$x")
+ * stands for a value given when the expression is evaluated.
+ *
+ * Compiling parses the numbers and turns the syntax tree into a tree of lambdas specialized
+ * for each operation, so evaluating neither parses nor allocates.
+ * E.g.
+ * <pre>
+      HexadecimalExpression expression = HexadecimalExpression.compile("($x + 1) * 10");
+
+      long result = expression.evaluate(new long[] {0xFF}); // 0x1000
+ * </pre>
+ *
+ * An expression is immutable, so it can be shared between threads
+ * */
+public final class HexadecimalExpression {
+
+    private static final long[] NO_VARIABLE_VALUES = new long[0];
+
+    private final String expression;
+
+    private final ArithmeticMode arithmeticMode;
+
+    private final ExpressionNode syntaxTree;
+
+    private final List<String> variableNames;
+
+    private final ExpressionCompiler.Evaluator evaluator;
+
+
+    private HexadecimalExpression(String expression, ArithmeticMode arithmeticMode, ExpressionNode syntaxTree,
+                                  List<String> variableNames) {
+        this.expression = expression;
+        this.arithmeticMode = arithmeticMode;
+        this.syntaxTree = syntaxTree;
+        this.variableNames = variableNames;
+        this.evaluator = ExpressionCompiler.compile(syntaxTree, arithmeticMode);
+    }
+
+
+    /**
+     * Compile an expression with the 64-bit checked arithmetic of HexadecimalCalculator
+     *
+     * @param expression the text of the expression, e.g. "(1F + -3A) * FF % 7"
+     *
+     * @throws IllegalArgumentException if the expression is not valid (a NumberFormatException
+     *          if one of its numbers is not a valid long)
+     * */
+    public static HexadecimalExpression compile(CharSequence expression){
+        return compile(expression, ArithmeticMode.CHECKED_64);
+    }
+
+
+    /**
+     * Compile an expression
+     *
+     * @param expression the text of the expression, e.g. "(1F + -3A) * FF % 7"
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode. ARBITRARY_PRECISION is not
+     *                       supported, as its results do not fit in a long
+     *
+     * @throws IllegalArgumentException if the expression is not valid or the arithmetic mode
+     *          is not supported (a NumberFormatException if one of its numbers is not valid
+     *          in the arithmetic mode)
+     * */
+    public static HexadecimalExpression compile(CharSequence expression, ArithmeticMode arithmeticMode){
+
+        if (arithmeticMode == ArithmeticMode.ARBITRARY_PRECISION){
+            throw new IllegalArgumentException("Expressions do not support " + arithmeticMode);
+        }
+
+        List<String> variableNames = new ArrayList<>();
+        ExpressionNode syntaxTree = new ExpressionParser(expression, arithmeticMode, variableNames).parse();
+
+        return new HexadecimalExpression(expression.toString(), arithmeticMode, syntaxTree,
+                                         List.copyOf(variableNames));
+    }
+
+
+    /**
+     * Evaluate an expression without variables
+     *
+     * @throws ArithmeticException if a result overflows, or a divisor is zero
+     * @throws IllegalStateException if the expression has variables
+     * */
+    public long evaluate(){
+
+        if (!variableNames.isEmpty()){
+            throw new IllegalStateException("Missing the values of the variables " + variableNames);
+        }
+
+        return evaluator.evaluate(NO_VARIABLE_VALUES);
+    }
+
+
+    /**
+     * Evaluate the expression, without allocating
+     *
+     * @param variableValues the values of the variables, in the order of {@link #getVariableNames()}.
+     *                       In a fixed-width mode they must be within the range of the mode
+     *
+     * @throws ArithmeticException if a result overflows, or a divisor is zero
+     * @throws IllegalArgumentException if there are fewer values than variables
+     * */
+    public long evaluate(long[] variableValues){
+
+        if (variableValues.length < variableNames.size()){
+            throw new IllegalArgumentException("Expected " + variableNames.size() + " variable values, got " +
+                                               variableValues.length);
+        }
+
+        return evaluator.evaluate(variableValues);
+    }
+
+
+    /**
+     * Returns the number of distinct variables in the expression
+     * */
+    public int getVariableCount() {
+        return variableNames.size();
+    }
+
+
+    /**
+     * Returns the names of the variables (without the "$"), in the order they first appear,
+     * which is the order of their values in {@link #evaluate(long[])}
+     * */
+    public List<String> getVariableNames() {
+        return variableNames;
+    }
+
+
+    /**
+     * Returns the index of the value of a variable in {@link #evaluate(long[])}, or -1 if
+     * the expression has no such variable
+     *
+     * @param name the name of the variable, without the "$"
+     * */
+    public int variableIndexOf(String name){
+        return variableNames.indexOf(name);
+    }
+
+
+    /**
+     * Returns the syntax tree of the expression, as parsed (before constant folding)
+     * */
+    public ExpressionNode getSyntaxTree() {
+        return syntaxTree;
+    }
+
+
+    public ArithmeticMode getArithmeticMode() {
+        return arithmeticMode;
+    }
+
+
+    /**
+     * Returns the text the expression was compiled from
+     * */
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
@@ -0,0 +1,256 @@
+package com.terence.hexadecimalcalculator.models;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+
+/**
+ * @author Terence Lee
+ *
+ * A formatter that writes a long as a signed hexadecimal number (e.g. -6719 as "-1a3f"),
+ * either as a new String or straight into a caller-supplied char[], byte[], StringBuilder
+ * or ByteBuffer.
+ *
+ * The number of digits is worked out from the number of leading zeros, so every digit is
+ * written exactly once (from the last to the first) with a lookup in a digit table.
+ * Long.MIN_VALUE is written as "-8000000000000000"
+ * E.g.
+ * <pre>
+      String hexadecimalNumber = HexadecimalFormatter.format(-6719, LetterCase.UPPER); // -1A3F
+
+      char[] buffer = new char[HexadecimalFormatter.MAX_LENGTH];
+      int end = HexadecimalFormatter.format(-6719, LetterCase.LOWER, buffer, 0); // 5
+ * </pre>
+ * */
+public final class HexadecimalFormatter {
+
+    //max number of characters (including the "-" sign) of a formatted long,
+    //i.e. the size a caller-supplied buffer needs to hold any one number
+    public static final int MAX_LENGTH = 17;
+
+
+    /**
+     * Whether the digits A-F are written in lower case or upper case
+     * */
+    public enum LetterCase {
+
+        LOWER("0123456789abcdef"),
+
+        UPPER("0123456789ABCDEF");
+
+
+        private final byte[] digits;
+
+        LetterCase(String digits) {
+            this.digits = digits.getBytes(StandardCharsets.US_ASCII);
+        }
+
+
+        /**
+         * Returns the ASCII digit of a nibble (0-15)
+         * */
+        byte digitOf(int nibble) {
+            return digits[nibble];
+        }
+    }
+
+
+    /**
+     * The constructor is made private as all methods of this class are static, and
+     * therefore the constructor is not required
+     * */
+    private HexadecimalFormatter() {
+
+    }
+
+
+    /**
+     * Returns the number of characters (including the "-" sign) needed to write
+     * a number as a hexadecimal number
+     *
+     * @param decimalNumber the number to be written as a hexadecimal number
+     * */
+    public static int formattedLength(long decimalNumber){
+
+        long unsignedMagnitude = decimalNumber < 0 ? -decimalNumber : decimalNumber;
+        int numberOfSignificantBits = Long.SIZE - Long.numberOfLeadingZeros(unsignedMagnitude);
+        int numberOfDigits = Math.max(1, (numberOfSignificantBits + 3) >>> 2);
+
+        return decimalNumber < 0 ? numberOfDigits + 1 : numberOfDigits;
+    }
+
+
+    /**
+     * Format a number as a hexadecimal String
+     *
+     * @param decimalNumber the number to be formatted
+     * @param letterCase the case of the digits A-F
+     * */
+    public static String format(long decimalNumber, LetterCase letterCase){
+
+        byte[] hexadecimalBytes = new byte[formattedLength(decimalNumber)];
+        format(decimalNumber, letterCase, hexadecimalBytes, 0);
+
+        return new String(hexadecimalBytes, StandardCharsets.ISO_8859_1);
+    }
+
+
+    /**
+     * Format a number as an unsigned hexadecimal String, i.e. the bits of a negative number
+     * are not written as a "-" sign (e.g. -1 as "ffffffffffffffff")
+     *
+     * @param decimalNumber the number to be formatted, read as unsigned
+     * @param letterCase the case of the digits A-F
+     * */
+    public static String formatUnsigned(long decimalNumber, LetterCase letterCase){
+
+        int numberOfSignificantBits = Long.SIZE - Long.numberOfLeadingZeros(decimalNumber);
+        byte[] hexadecimalBytes = new byte[Math.max(1, (numberOfSignificantBits + 3) >>> 2)];
+
+        long unsignedValue = decimalNumber;
+
+        for (int index = hexadecimalBytes.length - 1; index >= 0; index--){
+            hexadecimalBytes[index] = letterCase.digits[(int) unsignedValue & 0xF];
+            unsignedValue >>>= 4;
+        }
+
+        return new String(hexadecimalBytes, StandardCharsets.ISO_8859_1);
+    }
+
+
+    /**
+     * Format a number as a hexadecimal number into a caller-supplied char array
+     *
+     * @param decimalNumber the number to be formatted
+     * @param letterCase the case of the digits A-F
+     * @param destination the array the hexadecimal number is written into. At most
+     *                    {@link #MAX_LENGTH} characters are written
+     * @param offset the index in the destination where the first character is written
+     *
+     * @throws IndexOutOfBoundsException if the destination is too small for the result
+     *
+     * @return the index after the last character written
+     * */
+    public static int format(long decimalNumber, LetterCase letterCase, char[] destination, int offset){
+
+        int endIndex = offset + formattedLength(decimalNumber);
+        Objects.checkFromToIndex(offset, endIndex, destination.length);
+
+        byte[] digits = letterCase.digits;
+        long unsignedMagnitude = decimalNumber < 0 ? -decimalNumber : decimalNumber;
+
+        for (int index = endIndex - 1; index >= offset; index--){
+            destination[index] = (char) digits[(int) unsignedMagnitude & 0xF];
+            unsignedMagnitude >>>= 4;
+        }
+
+        if (decimalNumber < 0){
+            destination[offset] = '-';
+        }
+
+        return endIndex;
+    }
+
+
+    /**
+     * Format a number as a hexadecimal number (ASCII bytes) into a caller-supplied byte array
+     *
+     * @param decimalNumber the number to be formatted
+     * @param letterCase the case of the digits A-F
+     * @param destination the array the hexadecimal number is written into. At most
+     *                    {@link #MAX_LENGTH} bytes are written
+     * @param offset the index in the destination where the first byte is written
+     *
+     * @throws IndexOutOfBoundsException if the destination is too small for the result
+     *
+     * @return the index after the last byte written
+     * */
+    public static int format(long decimalNumber, LetterCase letterCase, byte[] destination, int offset){
+
+        int endIndex = offset + formattedLength(decimalNumber);
+        Objects.checkFromToIndex(offset, endIndex, destination.length);
+
+        byte[] digits = letterCase.digits;
+        long unsignedMagnitude = decimalNumber < 0 ? -decimalNumber : decimalNumber;
+
+        for (int index = endIndex - 1; index >= offset; index--){
+            destination[index] = digits[(int) unsignedMagnitude & 0xF];
+            unsignedMagnitude >>>= 4;
+        }
+
+        if (decimalNumber < 0){
+            destination[offset] = '-';
+        }
+
+        return endIndex;
+    }
+
+
+    /**
+     * Format a number as a hexadecimal number, appending it to a caller-supplied StringBuilder
+     *
+     * @param decimalNumber the number to be formatted
+     * @param letterCase the case of the digits A-F
+     * @param destination the StringBuilder the hexadecimal number is appended to
+     *
+     * @return the destination, for chaining
+     * */
+    public static StringBuilder format(long decimalNumber, LetterCase letterCase,
+                                       StringBuilder destination){
+
+        int numberOfDigits = formattedLength(decimalNumber);
+
+        if (decimalNumber < 0){
+            destination.append('-');
+            numberOfDigits--;
+        }
+
+        byte[] digits = letterCase.digits;
+        long unsignedMagnitude = decimalNumber < 0 ? -decimalNumber : decimalNumber;
+
+        for (int shift = (numberOfDigits - 1) << 2; shift >= 0; shift -= 4){
+            destination.append((char) digits[(int) (unsignedMagnitude >>> shift) & 0xF]);
+        }
+
+        return destination;
+    }
+
+
+    /**
+     * Format a number as a hexadecimal number (ASCII bytes) into a caller-supplied
+     * ByteBuffer, at its current position. The position is advanced past the number
+     *
+     * @param decimalNumber the number to be formatted
+     * @param letterCase the case of the digits A-F
+     * @param destination the buffer the hexadecimal number is written into
+     *
+     * @throws BufferOverflowException if the remaining space of the buffer is too small
+     *
+     * @return the destination, for chaining
+     * */
+    public static ByteBuffer format(long decimalNumber, LetterCase letterCase, ByteBuffer destination){
+
+        int length = formattedLength(decimalNumber);
+        int position = destination.position();
+
+        if (destination.remaining() < length){
+            throw new BufferOverflowException();
+        }
+
+        byte[] digits = letterCase.digits;
+        long unsignedMagnitude = decimalNumber < 0 ? -decimalNumber : decimalNumber;
+
+        for (int index = position + length - 1; index >= position; index--){
+            destination.put(index, digits[(int) unsignedMagnitude & 0xF]);
+            unsignedMagnitude >>>= 4;
+        }
+
+        if (decimalNumber < 0){
+            destination.put(position, (byte) '-');
+        }
+
+        return destination.position(position + length);
+    }
+}
@@ -0,0 +1,172 @@
+package com.terence.hexadecimalcalculator.models;
+
+
+/**
+ * @author Terence Lee
+ *
+ * The arithmetic operations of HexadecimalCalculator, for callers (e.g. the headless
+ * mode) that select the operation at run time from its symbol
+ * E.g.
+ * <pre>
+      HexadecimalOperation operation = HexadecimalOperation.fromSymbol('*');
+
+      long product = operation.apply(0x1A, 0x10); // 0x1A0
+ * </pre>
+ * */
+public enum HexadecimalOperation {
+
+    ADD('+', 0),
+
+    SUBTRACT('-', 1),
+
+    MULTIPLY('*', 2),
+
+    DIVIDE('/', 3),
+
+    MODULUS('%', 4);
+
+
+    //the operation of every ASCII symbol, or null
+    private static final HexadecimalOperation[] OPERATIONS_BY_SYMBOL = new HexadecimalOperation[128];
+
+    //the operation of every opcode, or null
+    private static final HexadecimalOperation[] OPERATIONS_BY_OPCODE = new HexadecimalOperation[256];
+
+    static {
+        for (HexadecimalOperation operation : values()){
+            OPERATIONS_BY_SYMBOL[operation.symbol] = operation;
+            OPERATIONS_BY_OPCODE[operation.opcode] = operation;
+        }
+    }
+
+    private final char symbol;
+
+    private final int opcode;
+
+
+    HexadecimalOperation(char symbol, int opcode) {
+        this.symbol = symbol;
+        this.opcode = opcode;
+    }
+
+
+    /**
+     * Returns the symbol of the operation, e.g. '+' for ADD
+     * */
+    public char getSymbol() {
+        return symbol;
+    }
+
+
+    /**
+     * Returns the opcode of the operation (0-255), the number that stands for it in binary
+     * formats. Unlike the ordinal, an opcode never changes once assigned
+     * */
+    public int getOpcode() {
+        return opcode;
+    }
+
+
+    /**
+     * Apply the operation to two numbers, with the same rules as the long methods
+     * of HexadecimalCalculator
+     *
+     * @param firstDecimalNumber the first value (the dividend for DIVIDE and MODULUS)
+     * @param secondDecimalNumber the second value (the divisor for DIVIDE and MODULUS)
+     *
+     * @throws ArithmeticException if the result overflows a long, or the divisor is zero
+     *
+     * @return the result of the operation
+     * */
+    public long apply(long firstDecimalNumber, long secondDecimalNumber){
+
+        return switch (this) {
+            case ADD -> HexadecimalCalculator.add(firstDecimalNumber, secondDecimalNumber);
+            case SUBTRACT -> HexadecimalCalculator.subtract(firstDecimalNumber, secondDecimalNumber);
+            case MULTIPLY -> HexadecimalCalculator.multiply(firstDecimalNumber, secondDecimalNumber);
+            case DIVIDE -> HexadecimalCalculator.divide(firstDecimalNumber, secondDecimalNumber);
+            case MODULUS -> HexadecimalCalculator.modulus(firstDecimalNumber, secondDecimalNumber);
+        };
+    }
+
+
+    /**
+     * Apply the operation to two values of an arithmetic mode: with the long methods of
+     * HexadecimalCalculator for CHECKED_64, or with FixedWidthArithmetic for the
+     * fixed-width modes
+     *
+     * @param firstDecimalNumber the first value (the dividend for DIVIDE and MODULUS)
+     * @param secondDecimalNumber the second value (the divisor for DIVIDE and MODULUS)
+     * @param arithmeticMode CHECKED_64 or a fixed-width mode
+     *
+     * @throws ArithmeticException if the result does not fit in a checked mode, or the
+     *                             divisor is zero
+     * @throws IllegalArgumentException if the mode is ARBITRARY_PRECISION, whose values
+     *                                  are not longs (see HexBigInteger)
+     *
+     * @return the result of the operation, a value of the mode
+     * */
+    public long apply(long firstDecimalNumber, long secondDecimalNumber, ArithmeticMode arithmeticMode){
+
+        if (arithmeticMode == ArithmeticMode.CHECKED_64){
+            return apply(firstDecimalNumber, secondDecimalNumber);
+        }
+
+        if (!arithmeticMode.isFixedWidth()){
+            throw new IllegalArgumentException("The values of " + arithmeticMode.getDisplayName() +
+                                               " mode are not longs");
+        }
+
+        return switch (this) {
+            case ADD -> FixedWidthArithmetic.add(firstDecimalNumber, secondDecimalNumber, arithmeticMode);
+            case SUBTRACT -> FixedWidthArithmetic.subtract(firstDecimalNumber, secondDecimalNumber, arithmeticMode);
+            case MULTIPLY -> FixedWidthArithmetic.multiply(firstDecimalNumber, secondDecimalNumber, arithmeticMode);
+            case DIVIDE -> FixedWidthArithmetic.divide(firstDecimalNumber, secondDecimalNumber, arithmeticMode);
+            case MODULUS -> FixedWidthArithmetic.modulus(firstDecimalNumber, secondDecimalNumber, arithmeticMode);
+        };
+    }
+
+
+    /**
+     * Apply the operation to two numbers without throwing an exception, with the same rules
+     * as the "try" methods of HexadecimalCalculator
+     *
+     * @param firstDecimalNumber the first value (the dividend for DIVIDE and MODULUS)
+     * @param secondDecimalNumber the second value (the divisor for DIVIDE and MODULUS)
+     * @param result the holder the result and status are written into
+     *
+     * @return CalculationStatus.OK, OVERFLOW or DIVIDE_BY_ZERO (also written into the result)
+     * */
+    public CalculationStatus tryApply(long firstDecimalNumber, long secondDecimalNumber, CalculationResult result){
+
+        return switch (this) {
+            case ADD -> HexadecimalCalculator.tryAdd(firstDecimalNumber, secondDecimalNumber, result);
+            case SUBTRACT -> HexadecimalCalculator.trySubtract(firstDecimalNumber, secondDecimalNumber, result);
+            case MULTIPLY -> HexadecimalCalculator.tryMultiply(firstDecimalNumber, secondDecimalNumber, result);
+            case DIVIDE -> HexadecimalCalculator.tryDivide(firstDecimalNumber, secondDecimalNumber, result);
+            case MODULUS -> HexadecimalCalculator.tryModulus(firstDecimalNumber, secondDecimalNumber, result);
+        };
+    }
+
+
+    /**
+     * Returns the operation with a symbol, or null if no operation has the symbol
+     *
+     * @param symbol the symbol (character or ASCII byte), e.g. '+'
+     * */
+    public static HexadecimalOperation fromSymbol(int symbol){
+
+        return symbol >= 0 && symbol < OPERATIONS_BY_SYMBOL.length ? OPERATIONS_BY_SYMBOL[symbol] : null;
+    }
+
+
+    /**
+     * Returns the operation with an opcode, or null if no operation has the opcode
+     *
+     * @param opcode the opcode, as an unsigned (0-255) or signed (-128-127) byte
+     * */
+    public static HexadecimalOperation fromOpcode(int opcode){
+
+        return OPERATIONS_BY_OPCODE[opcode & 0xFF];
+    }
+}
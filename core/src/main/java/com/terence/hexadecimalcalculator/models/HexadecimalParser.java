@@ -0,0 +1,435 @@
+package com.terence.hexadecimalcalculator.models;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+
+/**
+ * @author Terence Lee
+ *
+ * A parser for signed hexadecimal numbers (e.g. "1A3F", "-ff", "+7FFFFFFFFFFFFFFF")
+ * within the range of a long, i.e. -8000000000000000 to 7FFFFFFFFFFFFFFF.
+ *
+ * The sign, the digits and the range are checked in a single pass: every character is
+ * looked up in a nibble table, and invalid characters/overflow are accumulated with bitwise
+ * operations instead of being checked with a branch per character. Invalid input is
+ * reported either as a status (the "try" methods, which never throw) or as a
+ * NumberFormatException (the "parse" methods, which match Long.parseLong(s, 16) for
+ * ASCII input)
+ * E.g.
+ * <pre>
+      long value = HexadecimalParser.parse("-1A3F"); // -6719
+
+      CalculationResult result = new CalculationResult();
+      HexadecimalParser.tryParse("12G4", result); // CalculationStatus.INVALID_DIGIT
+ * </pre>
+ * */
+public final class HexadecimalParser {
+
+    private static final byte INVALID_NIBBLE = -1;
+
+    //the value of every character 0-255 as a hexadecimal digit, or INVALID_NIBBLE
+    private static final byte[] NIBBLE_VALUES = createNibbleValues();
+
+    //the digits of a magnitude that would be shifted out by the next digit
+    private static final long OVERFLOWING_NIBBLE_MASK = 0xF000000000000000L;
+
+
+    /**
+     * The constructor is made private as all methods of this class are static, and
+     * therefore the constructor is not required
+     * */
+    private HexadecimalParser() {
+
+    }
+
+
+    /**
+     * Parse a hexadecimal number
+     *
+     * @param hexadecimalNumber the hexadecimal number to be parsed
+     *
+     * @throws NumberFormatException if the argument does not represent a valid hexadecimal number
+     *
+     * @return the value of the hexadecimal number
+     * */
+    public static long parse(CharSequence hexadecimalNumber){
+
+        if (hexadecimalNumber == null){
+            throw new NumberFormatException("Cannot parse null string");
+        }
+
+        return parse(hexadecimalNumber, 0, hexadecimalNumber.length());
+    }
+
+
+    /**
+     * Parse a hexadecimal number held in a slice of a CharSequence
+     *
+     * @param hexadecimalNumber the sequence containing the hexadecimal number
+     * @param beginIndex the index of the first character of the hexadecimal number, inclusive
+     * @param endIndex the index after the last character of the hexadecimal number, exclusive
+     *
+     * @throws NumberFormatException if the slice does not represent a valid hexadecimal number
+     * @throws IndexOutOfBoundsException if the slice is outside the sequence
+     *
+     * @return the value of the hexadecimal number
+     * */
+    public static long parse(CharSequence hexadecimalNumber, int beginIndex, int endIndex){
+
+        Objects.checkFromToIndex(beginIndex, endIndex, hexadecimalNumber.length());
+
+        boolean isNegative = beginIndex < endIndex && hexadecimalNumber.charAt(beginIndex) == '-';
+        int digitsBeginIndex = beginIndex < endIndex ?
+                beginIndex + signLength(hexadecimalNumber.charAt(beginIndex)) : beginIndex;
+
+        CalculationResult result = new CalculationResult();
+
+        if (accumulateValue(hexadecimalNumber, digitsBeginIndex, endIndex, isNegative, result) != CalculationStatus.OK){
+            throw createNumberFormatException(
+                    hexadecimalNumber.subSequence(beginIndex, endIndex).toString());
+        }
+
+        return result.getValue();
+    }
+
+
+    /**
+     * Parse a hexadecimal number held in a slice of a char array
+     *
+     * @param hexadecimalDigits the array containing the hexadecimal number
+     * @param offset the index of the first character of the hexadecimal number
+     * @param length the number of characters of the hexadecimal number
+     *
+     * @throws NumberFormatException if the slice does not represent a valid hexadecimal number
+     * @throws IndexOutOfBoundsException if the slice is outside the array
+     *
+     * @return the value of the hexadecimal number
+     * */
+    public static long parse(char[] hexadecimalDigits, int offset, int length){
+
+        Objects.checkFromIndexSize(offset, length, hexadecimalDigits.length);
+
+        boolean isNegative = length > 0 && hexadecimalDigits[offset] == '-';
+        int digitsOffset = length > 0 ? offset + signLength(hexadecimalDigits[offset]) : offset;
+
+        CalculationResult result = new CalculationResult();
+
+        if (accumulateValue(hexadecimalDigits, digitsOffset, offset + length, isNegative, result) != CalculationStatus.OK){
+            throw createNumberFormatException(new String(hexadecimalDigits, offset, length));
+        }
+
+        return result.getValue();
+    }
+
+
+    /**
+     * Parse a hexadecimal number held in a slice of a byte array (ASCII/UTF-8 text, e.g.
+     * read straight from a file or a socket)
+     *
+     * @param hexadecimalDigits the array containing the hexadecimal number
+     * @param offset the index of the first byte of the hexadecimal number
+     * @param length the number of bytes of the hexadecimal number
+     *
+     * @throws NumberFormatException if the slice does not represent a valid hexadecimal number
+     * @throws IndexOutOfBoundsException if the slice is outside the array
+     *
+     * @return the value of the hexadecimal number
+     * */
+    public static long parse(byte[] hexadecimalDigits, int offset, int length){
+
+        Objects.checkFromIndexSize(offset, length, hexadecimalDigits.length);
+
+        boolean isNegative = length > 0 && hexadecimalDigits[offset] == '-';
+        int digitsOffset = length > 0 ? offset + signLength(hexadecimalDigits[offset]) : offset;
+
+        CalculationResult result = new CalculationResult();
+
+        if (accumulateValue(hexadecimalDigits, digitsOffset, offset + length, isNegative, result) != CalculationStatus.OK){
+            throw createNumberFormatException(
+                    new String(hexadecimalDigits, offset, length, StandardCharsets.ISO_8859_1));
+        }
+
+        return result.getValue();
+    }
+
+
+    /**
+     * Parse a hexadecimal number without throwing an exception
+     *
+     * @param hexadecimalNumber the hexadecimal number to be parsed
+     * @param result the holder the value and status are written into
+     *
+     * @return the status of the parse (also written into the result)
+     * */
+    public static CalculationStatus tryParse(CharSequence hexadecimalNumber, CalculationResult result){
+
+        if (hexadecimalNumber == null){
+            return result.setFailure(CalculationStatus.INVALID_DIGIT);
+        }
+
+        return tryParse(hexadecimalNumber, 0, hexadecimalNumber.length(), result);
+    }
+
+
+    /**
+     * Parse a hexadecimal number held in a slice of a CharSequence without throwing
+     * an exception for invalid input
+     *
+     * @param hexadecimalNumber the sequence containing the hexadecimal number
+     * @param beginIndex the index of the first character of the hexadecimal number, inclusive
+     * @param endIndex the index after the last character of the hexadecimal number, exclusive
+     * @param result the holder the value and status are written into
+     *
+     * @throws IndexOutOfBoundsException if the slice is outside the sequence
+     *
+     * @return the status of the parse (also written into the result)
+     * */
+    public static CalculationStatus tryParse(CharSequence hexadecimalNumber, int beginIndex,
+                                             int endIndex, CalculationResult result){
+
+        Objects.checkFromToIndex(beginIndex, endIndex, hexadecimalNumber.length());
+
+        boolean isNegative = beginIndex < endIndex && hexadecimalNumber.charAt(beginIndex) == '-';
+        int digitsBeginIndex = beginIndex < endIndex ?
+                beginIndex + signLength(hexadecimalNumber.charAt(beginIndex)) : beginIndex;
+
+        return accumulateValue(hexadecimalNumber, digitsBeginIndex, endIndex, isNegative, result);
+    }
+
+
+    /**
+     * Parse a hexadecimal number held in a slice of a char array without throwing
+     * an exception for invalid input
+     *
+     * @param hexadecimalDigits the array containing the hexadecimal number
+     * @param offset the index of the first character of the hexadecimal number
+     * @param length the number of characters of the hexadecimal number
+     * @param result the holder the value and status are written into
+     *
+     * @throws IndexOutOfBoundsException if the slice is outside the array
+     *
+     * @return the status of the parse (also written into the result)
+     * */
+    public static CalculationStatus tryParse(char[] hexadecimalDigits, int offset, int length,
+                                             CalculationResult result){
+
+        Objects.checkFromIndexSize(offset, length, hexadecimalDigits.length);
+
+        boolean isNegative = length > 0 && hexadecimalDigits[offset] == '-';
+        int digitsOffset = length > 0 ? offset + signLength(hexadecimalDigits[offset]) : offset;
+
+        return accumulateValue(hexadecimalDigits, digitsOffset, offset + length, isNegative, result);
+    }
+
+
+    /**
+     * Parse a hexadecimal number held in a slice of a byte array without throwing
+     * an exception for invalid input
+     *
+     * @param hexadecimalDigits the array containing the hexadecimal number
+     * @param offset the index of the first byte of the hexadecimal number
+     * @param length the number of bytes of the hexadecimal number
+     * @param result the holder the value and status are written into
+     *
+     * @throws IndexOutOfBoundsException if the slice is outside the array
+     *
+     * @return the status of the parse (also written into the result)
+     * */
+    public static CalculationStatus tryParse(byte[] hexadecimalDigits, int offset, int length,
+                                             CalculationResult result){
+
+        Objects.checkFromIndexSize(offset, length, hexadecimalDigits.length);
+
+        boolean isNegative = length > 0 && hexadecimalDigits[offset] == '-';
+        int digitsOffset = length > 0 ? offset + signLength(hexadecimalDigits[offset]) : offset;
+
+        return accumulateValue(hexadecimalDigits, digitsOffset, offset + length, isNegative, result);
+    }
+
+
+    /**
+     * Returns true if the argument is a valid hexadecimal number within the range of a long
+     *
+     * @param hexadecimalNumber the hexadecimal number to be validated
+     * */
+    public static boolean isValid(CharSequence hexadecimalNumber){
+
+        if (hexadecimalNumber == null){
+            return false;
+        }
+
+        int length = hexadecimalNumber.length();
+
+        boolean isNegative = length > 0 && hexadecimalNumber.charAt(0) == '-';
+        int digitsBeginIndex = length > 0 ? signLength(hexadecimalNumber.charAt(0)) : 0;
+
+        return accumulateValue(hexadecimalNumber, digitsBeginIndex, length, isNegative,
+                               new CalculationResult()) == CalculationStatus.OK;
+    }
+
+
+    /**
+     * Returns the value of a character as a hexadecimal digit, or a negative number if it is
+     * not a hexadecimal digit. Characters above 0xFF are turned into a negative number
+     * without a branch, by or-ing in the sign of (0xFF - character)
+     *
+     * @param character the character (or the unsigned value of a byte)
+     * */
+    static int nibbleValueOf(int character){
+
+        return NIBBLE_VALUES[character & 0xFF] | ((0xFF - character) >> 31);
+    }
+
+
+    /**
+     * Accumulate the digits of a CharSequence slice (excluding the sign) into a value
+     *
+     * @param isNegative true if the digits follow a "-"
+     * @param result the holder the value and status are written into
+     *
+     * @return the status (also written into the result)
+     * */
+    private static CalculationStatus accumulateValue(CharSequence hexadecimalDigits,
+                                                     int fromIndex, int toIndex, boolean isNegative,
+                                                     CalculationResult result){
+
+        long magnitude = 0;
+        long overflowingNibbles = 0;
+        int nibbles = fromIndex < toIndex ? 0 : INVALID_NIBBLE;
+
+        for (int index = fromIndex; index < toIndex; index++){
+            int nibble = nibbleValueOf(hexadecimalDigits.charAt(index));
+
+            nibbles |= nibble;
+            overflowingNibbles |= magnitude & OVERFLOWING_NIBBLE_MASK;
+            magnitude = (magnitude << 4) | (nibble & 0xF);
+        }
+
+        return storeValue(magnitude, nibbles, overflowingNibbles, isNegative, result);
+    }
+
+
+    /**
+     * Accumulate the digits of a char array slice (excluding the sign) into a value
+     *
+     * @param isNegative true if the digits follow a "-"
+     * @param result the holder the value and status are written into
+     *
+     * @return the status (also written into the result)
+     * */
+    private static CalculationStatus accumulateValue(char[] hexadecimalDigits, int fromIndex, int toIndex,
+                                                     boolean isNegative, CalculationResult result){
+
+        long magnitude = 0;
+        long overflowingNibbles = 0;
+        int nibbles = fromIndex < toIndex ? 0 : INVALID_NIBBLE;
+
+        for (int index = fromIndex; index < toIndex; index++){
+            int nibble = nibbleValueOf(hexadecimalDigits[index]);
+
+            nibbles |= nibble;
+            overflowingNibbles |= magnitude & OVERFLOWING_NIBBLE_MASK;
+            magnitude = (magnitude << 4) | (nibble & 0xF);
+        }
+
+        return storeValue(magnitude, nibbles, overflowingNibbles, isNegative, result);
+    }
+
+
+    /**
+     * Accumulate the digits of a byte array slice (excluding the sign) into a value
+     *
+     * @param isNegative true if the digits follow a "-"
+     * @param result the holder the value and status are written into
+     *
+     * @return the status (also written into the result)
+     * */
+    private static CalculationStatus accumulateValue(byte[] hexadecimalDigits, int fromIndex, int toIndex,
+                                                     boolean isNegative, CalculationResult result){
+
+        long magnitude = 0;
+        long overflowingNibbles = 0;
+        int nibbles = fromIndex < toIndex ? 0 : INVALID_NIBBLE;
+
+        for (int index = fromIndex; index < toIndex; index++){
+            int nibble = NIBBLE_VALUES[hexadecimalDigits[index] & 0xFF];
+
+            nibbles |= nibble;
+            overflowingNibbles |= magnitude & OVERFLOWING_NIBBLE_MASK;
+            magnitude = (magnitude << 4) | (nibble & 0xF);
+        }
+
+        return storeValue(magnitude, nibbles, overflowingNibbles, isNegative, result);
+    }
+
+
+    /**
+     * Write the value, or the status of the failure, of a digit loop into a result holder. The
+     * status is decided from the flags of the loop, never from the magnitude alone, as every
+     * 64-bit pattern (e.g. FFFFFFFFFFFFFFFF) is a magnitude some input can produce. A positive
+     * number can be up to 7FFFFFFFFFFFFFFF, a negative one up to 8000000000000000
+     *
+     * @param magnitude the accumulated magnitude, as an unsigned long
+     * @param nibbles all the nibbles or-ed together (negative if any digit was invalid)
+     * @param overflowingNibbles the digits shifted out of the magnitude or-ed together
+     * @param isNegative true if the digits follow a "-"
+     * @param result the holder the value and status are written into
+     *
+     * @return the status (also written into the result)
+     * */
+    private static CalculationStatus storeValue(long magnitude, int nibbles, long overflowingNibbles,
+                                                boolean isNegative, CalculationResult result){
+
+        if (nibbles < 0){
+            return result.setFailure(CalculationStatus.INVALID_DIGIT);
+        }
+
+        if (overflowingNibbles != 0 || (magnitude < 0 && !(isNegative && magnitude == Long.MIN_VALUE))){
+            return result.setFailure(CalculationStatus.OUT_OF_RANGE);
+        }
+
+        return result.setValue(applySign(magnitude, isNegative));
+    }
+
+
+    /**
+     * Returns the signed value of a (valid) magnitude. The magnitude 8000000000000000
+     * negates to itself, i.e. Long.MIN_VALUE
+     * */
+    private static long applySign(long magnitude, boolean isNegative){
+
+        return isNegative ? -magnitude : magnitude;
+    }
+
+
+    /**
+     * Returns 1 if the first character is a sign ("+" or "-"), otherwise 0
+     * */
+    private static int signLength(int firstCharacter){
+
+        return firstCharacter == '-' || firstCharacter == '+' ? 1 : 0;
+    }
+
+
+    private static NumberFormatException createNumberFormatException(String hexadecimalNumber){
+
+        return new NumberFormatException("For input string: \"" + hexadecimalNumber +
+                                         "\" under radix 16");
+    }
+
+
+    private static byte[] createNibbleValues(){
+
+        byte[] nibbleValues = new byte[256];
+        Arrays.fill(nibbleValues, INVALID_NIBBLE);
+
+        for (int digit = 0; digit < 16; digit++){
+            nibbleValues[Character.forDigit(digit, 16)] = (byte) digit;
+            nibbleValues[Character.toUpperCase(Character.forDigit(digit, 16))] = (byte) digit;
+        }
+
+        return nibbleValues;
+    }
+}
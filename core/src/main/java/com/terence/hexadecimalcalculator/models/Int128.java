@@ -0,0 +1,412 @@
+package com.terence.hexadecimalcalculator.models;
+
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter.LetterCase;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+
+/**
+ * @author Terence Lee
+ *
+ * A mutable signed 128-bit two's complement integer made of two longs, for results that
+ * overflow a long only slightly (e.g. the product of two longs, which always fits).
+ *
+ * The operations work in place and never allocate, so a caller can reuse one instance for
+ * many calculations. They report an overflow of the 128-bit range by returning false,
+ * instead of throwing, so the caller can fall back to HexBigInteger
+ * E.g.
+ * <pre>
+      Int128 product = new Int128().setProduct(0x7FFFFFFFFFFFFFFFL, 0x10); // never overflows
+
+      System.out.println(product); // 7fffffffffffffff0
+
+      boolean exact = product.multiply(product); // false, the square needs more than 128 bits
+ * </pre>
+ * */
+public final class Int128 {
+
+    //max number of characters (including the "-" sign) of a formatted Int128
+    public static final int MAX_LENGTH = 33;
+
+    private long high;
+
+    private long low;
+
+
+    /**
+     * Creates an Int128 with a value of 0
+     * */
+    public Int128() {
+
+    }
+
+
+    /**
+     * Creates an Int128 with the value of a long
+     * */
+    public Int128(long decimalNumber) {
+        set(decimalNumber);
+    }
+
+
+    /**
+     * Returns the upper 64 bits of the two's complement value
+     * */
+    public long getHigh() {
+        return high;
+    }
+
+
+    /**
+     * Returns the lower 64 bits of the two's complement value
+     * */
+    public long getLow() {
+        return low;
+    }
+
+
+    /**
+     * Returns true if the value is within the range of a long, i.e. {@link #getLow()} is
+     * the whole value
+     * */
+    public boolean fitsInLong() {
+        return high == (low >> 63);
+    }
+
+
+    /**
+     * Returns -1, 0 or 1 as the value is negative, zero or positive
+     * */
+    public int signum() {
+        return high < 0 ? -1 : ((high | low) == 0 ? 0 : 1);
+    }
+
+
+    /**
+     * Set the value to a long
+     *
+     * @return this Int128, for chaining
+     * */
+    public Int128 set(long decimalNumber){
+
+        this.high = decimalNumber >> 63;
+        this.low = decimalNumber;
+
+        return this;
+    }
+
+
+    /**
+     * Set the value from its two's complement halves
+     *
+     * @return this Int128, for chaining
+     * */
+    public Int128 set(long high, long low){
+
+        this.high = high;
+        this.low = low;
+
+        return this;
+    }
+
+
+    /**
+     * Set the value to the exact sum of two longs, which always fits in 128 bits
+     *
+     * @return this Int128, for chaining
+     * */
+    public Int128 setSum(long firstDecimalNumber, long secondDecimalNumber){
+
+        long sumLow = firstDecimalNumber + secondDecimalNumber;
+
+        high = (firstDecimalNumber >> 63) + (secondDecimalNumber >> 63) +
+               carryOfSum(firstDecimalNumber, secondDecimalNumber, sumLow);
+        low = sumLow;
+
+        return this;
+    }
+
+
+    /**
+     * Set the value to the exact difference of two longs, which always fits in 128 bits
+     *
+     * @return this Int128, for chaining
+     * */
+    public Int128 setDifference(long firstDecimalNumber, long secondDecimalNumber){
+
+        long differenceLow = firstDecimalNumber - secondDecimalNumber;
+
+        high = (firstDecimalNumber >> 63) - (secondDecimalNumber >> 63) -
+               borrowOfDifference(firstDecimalNumber, secondDecimalNumber, differenceLow);
+        low = differenceLow;
+
+        return this;
+    }
+
+
+    /**
+     * Set the value to the exact product of two longs, which always fits in 128 bits
+     *
+     * @return this Int128, for chaining
+     * */
+    public Int128 setProduct(long firstDecimalNumber, long secondDecimalNumber){
+
+        high = Math.multiplyHigh(firstDecimalNumber, secondDecimalNumber);
+        low = firstDecimalNumber * secondDecimalNumber;
+
+        return this;
+    }
+
+
+    /**
+     * Add another Int128 to this one
+     *
+     * @return true if the sum fits in 128 bits. Otherwise false, and this Int128 holds
+     *          the sum wrapped around to 128 bits
+     * */
+    public boolean add(Int128 other){
+
+        long sumLow = low + other.low;
+        long sumHigh = high + other.high + carryOfSum(low, other.low, sumLow);
+
+        boolean overflows = ((high ^ sumHigh) & (other.high ^ sumHigh)) < 0;
+
+        high = sumHigh;
+        low = sumLow;
+
+        return !overflows;
+    }
+
+
+    /**
+     * Subtract another Int128 from this one
+     *
+     * @return true if the difference fits in 128 bits. Otherwise false, and this Int128
+     *          holds the difference wrapped around to 128 bits
+     * */
+    public boolean subtract(Int128 other){
+
+        long differenceLow = low - other.low;
+        long differenceHigh = high - other.high - borrowOfDifference(low, other.low, differenceLow);
+
+        boolean overflows = ((high ^ other.high) & (high ^ differenceHigh)) < 0;
+
+        high = differenceHigh;
+        low = differenceLow;
+
+        return !overflows;
+    }
+
+
+    /**
+     * Multiply this Int128 by another one
+     *
+     * @return true if the product fits in 128 bits. Otherwise false, and the value of this
+     *          Int128 is unspecified
+     * */
+    public boolean multiply(Int128 other){
+
+        boolean negative = (high ^ other.high) < 0;
+
+        //the magnitudes as unsigned 128-bit numbers (2^127, the magnitude of the minimum, fits)
+        long firstMagnitudeLow = high < 0 ? -low : low;
+        long firstMagnitudeHigh = high < 0 ? negateHigh(high, low) : high;
+        long secondMagnitudeLow = other.high < 0 ? -other.low : other.low;
+        long secondMagnitudeHigh = other.high < 0 ? negateHigh(other.high, other.low) : other.high;
+
+        if (firstMagnitudeHigh != 0 && secondMagnitudeHigh != 0){
+            return false;
+        }
+
+        //make the first magnitude the one that fits in 64 bits
+        if (firstMagnitudeHigh != 0){
+            long swappedLow = firstMagnitudeLow;
+
+            firstMagnitudeLow = secondMagnitudeLow;
+            secondMagnitudeLow = swappedLow;
+            secondMagnitudeHigh = firstMagnitudeHigh;
+        }
+
+        long productLow = firstMagnitudeLow * secondMagnitudeLow;
+        long lowProductHigh = Math.unsignedMultiplyHigh(firstMagnitudeLow, secondMagnitudeLow);
+        long crossProductHigh = Math.unsignedMultiplyHigh(firstMagnitudeLow, secondMagnitudeHigh);
+        long productHigh = lowProductHigh + firstMagnitudeLow * secondMagnitudeHigh;
+
+        boolean overflows = crossProductHigh != 0 || Long.compareUnsigned(productHigh, lowProductHigh) < 0;
+
+        //the magnitude can be at most 2^127 - 1, or 2^127 if the product is negative
+        overflows |= productHigh < 0 && !(negative && productHigh == Long.MIN_VALUE && productLow == 0);
+
+        high = negative ? negateHigh(productHigh, productLow) : productHigh;
+        low = negative ? -productLow : productLow;
+
+        return !overflows;
+    }
+
+
+    /**
+     * Parse a hexadecimal number of at most 128 bits into an Int128, without throwing
+     *
+     * @param hexadecimalNumber the hexadecimal number to be parsed
+     * @param result the Int128 the value is written into, if the status is OK
+     *
+     * @return CalculationStatus.OK, INVALID_DIGIT if the number is not a valid hexadecimal
+     *          number, or OUT_OF_RANGE if it does not fit in a signed 128-bit number
+     * */
+    public static CalculationStatus tryParse(CharSequence hexadecimalNumber, Int128 result){
+
+        if (hexadecimalNumber == null){
+            return CalculationStatus.INVALID_DIGIT;
+        }
+
+        int length = hexadecimalNumber.length();
+        int firstDigitIndex = length > 0 && (hexadecimalNumber.charAt(0) == '-' ||
+                                             hexadecimalNumber.charAt(0) == '+') ? 1 : 0;
+        boolean negative = firstDigitIndex == 1 && hexadecimalNumber.charAt(0) == '-';
+
+        long magnitudeHigh = 0;
+        long magnitudeLow = 0;
+        long overflowingNibbles = 0;
+        int nibbles = firstDigitIndex == length ? -1 : 0;
+
+        for (int index = firstDigitIndex; index < length; index++){
+            int nibble = HexadecimalParser.nibbleValueOf(hexadecimalNumber.charAt(index));
+
+            nibbles |= nibble;
+            overflowingNibbles |= magnitudeHigh & 0xF000000000000000L;
+
+            magnitudeHigh = (magnitudeHigh << 4) | (magnitudeLow >>> 60);
+            magnitudeLow = (magnitudeLow << 4) | (nibble & 0xF);
+        }
+
+        if (nibbles < 0){
+            return CalculationStatus.INVALID_DIGIT;
+        }
+
+        if (overflowingNibbles != 0 ||
+            (magnitudeHigh < 0 && !(negative && magnitudeHigh == Long.MIN_VALUE && magnitudeLow == 0))){
+
+            return CalculationStatus.OUT_OF_RANGE;
+        }
+
+        if (negative){
+            result.set(negateHigh(magnitudeHigh, magnitudeLow), -magnitudeLow);
+        }
+        else {
+            result.set(magnitudeHigh, magnitudeLow);
+        }
+
+        return CalculationStatus.OK;
+    }
+
+
+    /**
+     * Format the value as a hexadecimal number (ASCII bytes) into a caller-supplied byte array
+     *
+     * @param letterCase the case of the digits A-F
+     * @param destination the array the hexadecimal number is written into. At most
+     *                    {@link #MAX_LENGTH} bytes are written
+     * @param offset the index in the destination where the first byte is written
+     *
+     * @throws IndexOutOfBoundsException if the destination is too small for the result
+     *
+     * @return the index after the last byte written
+     * */
+    public int format(LetterCase letterCase, byte[] destination, int offset){
+
+        boolean negative = high < 0;
+        long magnitudeHigh = negative ? negateHigh(high, low) : high;
+        long magnitudeLow = negative ? -low : low;
+
+        int numberOfSignificantBits = magnitudeHigh != 0 ?
+                2 * Long.SIZE - Long.numberOfLeadingZeros(magnitudeHigh) :
+                Long.SIZE - Long.numberOfLeadingZeros(magnitudeLow);
+
+        int numberOfDigits = Math.max(1, (numberOfSignificantBits + 3) >>> 2);
+        int endIndex = offset + (negative ? numberOfDigits + 1 : numberOfDigits);
+
+        Objects.checkFromToIndex(offset, endIndex, destination.length);
+
+        for (int index = endIndex - 1; index >= endIndex - numberOfDigits; index--){
+            destination[index] = letterCase.digitOf((int) magnitudeLow & 0xF);
+
+            magnitudeLow = (magnitudeLow >>> 4) | (magnitudeHigh << 60);
+            magnitudeHigh >>>= 4;
+        }
+
+        if (negative){
+            destination[offset] = '-';
+        }
+
+        return endIndex;
+    }
+
+
+    /**
+     * Returns the value as a hexadecimal number, e.g. "-1a3f"
+     *
+     * @param letterCase the case of the digits A-F
+     * */
+    public String toHexadecimalString(LetterCase letterCase){
+
+        byte[] hexadecimalBytes = new byte[MAX_LENGTH];
+        int length = format(letterCase, hexadecimalBytes, 0);
+
+        return new String(hexadecimalBytes, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+
+    /**
+     * Returns the value as a HexBigInteger
+     * */
+    public HexBigInteger toHexBigInteger(){
+        return HexBigInteger.valueOf(high, low);
+    }
+
+
+    /**
+     * Returns the value as a hexadecimal number with the digits A-F in lower case,
+     * like the results of HexadecimalCalculator
+     * */
+    @Override
+    public String toString() {
+        return toHexadecimalString(LetterCase.LOWER);
+    }
+
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Int128 otherNumber && high == otherNumber.high && low == otherNumber.low;
+    }
+
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(high) * 31 + Long.hashCode(low);
+    }
+
+
+    /**
+     * Returns the carry (0 or 1) out of the unsigned sum of two longs, given the sum
+     * */
+    private static long carryOfSum(long firstValue, long secondValue, long sum){
+        return ((firstValue & secondValue) | ((firstValue | secondValue) & ~sum)) >>> 63;
+    }
+
+
+    /**
+     * Returns the borrow (0 or 1) out of the unsigned difference of two longs, given the difference
+     * */
+    private static long borrowOfDifference(long firstValue, long secondValue, long difference){
+        return ((~firstValue & secondValue) | (~(firstValue ^ secondValue) & difference)) >>> 63;
+    }
+
+
+    /**
+     * Returns the upper half of the negation of a 128-bit number
+     * */
+    private static long negateHigh(long high, long low){
+        return low == 0 ? -high : ~high;
+    }
+}
@@ -0,0 +1,183 @@
+package com.terence.hexadecimalcalculator.models;
+
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter.LetterCase;
+
+
+/**
+ * @author Terence Lee
+ *
+ * The calculations of ArithmeticMode.ARBITRARY_PRECISION. Each one starts with the
+ * narrowest number type the operands fit in, and is only redone with a wider type when the
+ * result overflows: long, then Int128, then HexBigInteger. Most calculations therefore stay
+ * on primitive longs, and those that overflow a long only slightly do not allocate limb arrays.
+ *
+ * The operands are parsed into the CalculationResults and Int128s of a per-thread Scratch,
+ * reused by every calculation of the thread, so up to 128 bits a calculation allocates nothing
+ * but the text of its result
+ * */
+final class PromotingArithmetic {
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+
+    /**
+     * The mutable operands of the calculations of one thread
+     * */
+    private static final class Scratch {
+
+        private final CalculationResult firstOperand = new CalculationResult();
+
+        private final CalculationResult secondOperand = new CalculationResult();
+
+        private final Int128 firstNumber = new Int128();
+
+        private final Int128 secondNumber = new Int128();
+    }
+
+
+    /**
+     * The constructor is made private as all methods of this class are static, and
+     * therefore the constructor is not required
+     * */
+    private PromotingArithmetic() {
+
+    }
+
+
+    static String add(String firstHexadecimalNumber, String secondHexadecimalNumber){
+
+        Scratch scratch = SCRATCH.get();
+
+        if (parseBothAsLongs(firstHexadecimalNumber, secondHexadecimalNumber, scratch)){
+            long firstDecimalNumber = scratch.firstOperand.getValue();
+            long secondDecimalNumber = scratch.secondOperand.getValue();
+            long decimalResult = firstDecimalNumber + secondDecimalNumber;
+
+            if (((firstDecimalNumber ^ decimalResult) & (secondDecimalNumber ^ decimalResult)) >= 0){
+                return HexadecimalFormatter.format(decimalResult, LetterCase.LOWER);
+            }
+
+            return scratch.firstNumber.setSum(firstDecimalNumber, secondDecimalNumber).toString();
+        }
+
+        if (parseBothAsInt128s(firstHexadecimalNumber, secondHexadecimalNumber, scratch) &&
+            scratch.firstNumber.add(scratch.secondNumber)){
+
+            return scratch.firstNumber.toString();
+        }
+
+        return HexBigInteger.parse(firstHexadecimalNumber)
+                .add(HexBigInteger.parse(secondHexadecimalNumber)).toString();
+    }
+
+
+    static String subtract(String firstHexadecimalNumber, String secondHexadecimalNumber){
+
+        Scratch scratch = SCRATCH.get();
+
+        if (parseBothAsLongs(firstHexadecimalNumber, secondHexadecimalNumber, scratch)){
+            long firstDecimalNumber = scratch.firstOperand.getValue();
+            long secondDecimalNumber = scratch.secondOperand.getValue();
+            long decimalResult = firstDecimalNumber - secondDecimalNumber;
+
+            if (((firstDecimalNumber ^ secondDecimalNumber) & (firstDecimalNumber ^ decimalResult)) >= 0){
+                return HexadecimalFormatter.format(decimalResult, LetterCase.LOWER);
+            }
+
+            return scratch.firstNumber.setDifference(firstDecimalNumber, secondDecimalNumber).toString();
+        }
+
+        if (parseBothAsInt128s(firstHexadecimalNumber, secondHexadecimalNumber, scratch) &&
+            scratch.firstNumber.subtract(scratch.secondNumber)){
+
+            return scratch.firstNumber.toString();
+        }
+
+        return HexBigInteger.parse(firstHexadecimalNumber)
+                .subtract(HexBigInteger.parse(secondHexadecimalNumber)).toString();
+    }
+
+
+    static String multiply(String firstHexadecimalNumber, String secondHexadecimalNumber){
+
+        Scratch scratch = SCRATCH.get();
+
+        if (parseBothAsLongs(firstHexadecimalNumber, secondHexadecimalNumber, scratch)){
+            //the product of two longs always fits in 128 bits
+            Int128 product = scratch.firstNumber.setProduct(scratch.firstOperand.getValue(),
+                                                            scratch.secondOperand.getValue());
+
+            return product.fitsInLong() ? HexadecimalFormatter.format(product.getLow(), LetterCase.LOWER) :
+                                          product.toString();
+        }
+
+        if (parseBothAsInt128s(firstHexadecimalNumber, secondHexadecimalNumber, scratch) &&
+            scratch.firstNumber.multiply(scratch.secondNumber)){
+
+            return scratch.firstNumber.toString();
+        }
+
+        return HexBigInteger.parse(firstHexadecimalNumber)
+                .multiply(HexBigInteger.parse(secondHexadecimalNumber)).toString();
+    }
+
+
+    static String divide(String firstHexadecimalNumber, String secondHexadecimalNumber){
+
+        Scratch scratch = SCRATCH.get();
+
+        //-8000000000000000 / -1 is the only quotient of two longs that overflows a long
+        if (parseBothAsLongs(firstHexadecimalNumber, secondHexadecimalNumber, scratch) &&
+            !(scratch.firstOperand.getValue() == Long.MIN_VALUE && scratch.secondOperand.getValue() == -1)){
+
+            return HexadecimalFormatter.format(scratch.firstOperand.getValue() / scratch.secondOperand.getValue(),
+                                               LetterCase.LOWER);
+        }
+
+        return HexBigInteger.parse(firstHexadecimalNumber)
+                .divide(HexBigInteger.parse(secondHexadecimalNumber)).toString();
+    }
+
+
+    static String modulus(String firstHexadecimalNumber, String secondHexadecimalNumber){
+
+        Scratch scratch = SCRATCH.get();
+
+        //the remainder of two longs never overflows (-8000000000000000 % -1 is 0)
+        if (parseBothAsLongs(firstHexadecimalNumber, secondHexadecimalNumber, scratch)){
+
+            return HexadecimalFormatter.format(scratch.firstOperand.getValue() % scratch.secondOperand.getValue(),
+                                               LetterCase.LOWER);
+        }
+
+        return HexBigInteger.parse(firstHexadecimalNumber)
+                .remainder(HexBigInteger.parse(secondHexadecimalNumber)).toString();
+    }
+
+
+    /**
+     * Parse both operands as longs, into the CalculationResults of the scratch
+     *
+     * @return true if both are valid and fit in a long
+     * */
+    private static boolean parseBothAsLongs(String firstHexadecimalNumber, String secondHexadecimalNumber,
+                                            Scratch scratch){
+
+        return HexadecimalParser.tryParse(firstHexadecimalNumber, scratch.firstOperand) == CalculationStatus.OK &&
+               HexadecimalParser.tryParse(secondHexadecimalNumber, scratch.secondOperand) == CalculationStatus.OK;
+    }
+
+
+    /**
+     * Parse both operands as Int128s, into the Int128s of the scratch, once they do not both
+     * fit in a long
+     *
+     * @return true if both are valid and fit in 128 bits
+     * */
+    private static boolean parseBothAsInt128s(String firstHexadecimalNumber, String secondHexadecimalNumber,
+                                              Scratch scratch){
+
+        return Int128.tryParse(firstHexadecimalNumber, scratch.firstNumber) == CalculationStatus.OK &&
+               Int128.tryParse(secondHexadecimalNumber, scratch.secondNumber) == CalculationStatus.OK;
+    }
+}
@@ -0,0 +1,118 @@
+package com.terence.hexadecimalcalculator.models;
+
+
+/**
+ * @author Terence Lee
+ *
+ * The scalar loops of HexadecimalBatchCalculator, used for the operations and CPUs the
+ * Vector API cannot speed up, and for the tail of a batch that does not fill a whole vector.
+ *
+ * Overflow is detected with the same sign-bit tests Math.addExact/subtractExact use, so
+ * add and subtract have no branches. Each error is or-ed into bit (index % 64) of word
+ * (index / 64) of the error bitmap, and its result is set to 0
+ * */
+final class ScalarBatchArithmetic {
+
+
+    /**
+     * The constructor is made private as all methods of this class are static, and
+     * therefore the constructor is not required
+     * */
+    private ScalarBatchArithmetic() {
+
+    }
+
+
+    static void add(long[] firstDecimalNumbers, long[] secondDecimalNumbers, long[] decimalResults,
+                    long[] errorBitmap, int fromIndex, int toIndex){
+
+        for (int index = fromIndex; index < toIndex; index++){
+            long firstDecimalNumber = firstDecimalNumbers[index];
+            long secondDecimalNumber = secondDecimalNumbers[index];
+            long sum = firstDecimalNumber + secondDecimalNumber;
+
+            //negative (all ones after the shift) if both operands have the opposite sign of the sum
+            long overflow = ((firstDecimalNumber ^ sum) & (secondDecimalNumber ^ sum)) >> 63;
+
+            decimalResults[index] = sum & ~overflow;
+            errorBitmap[index >>> 6] |= (overflow & 1L) << index;
+        }
+    }
+
+
+    static void subtract(long[] firstDecimalNumbers, long[] secondDecimalNumbers, long[] decimalResults,
+                         long[] errorBitmap, int fromIndex, int toIndex){
+
+        for (int index = fromIndex; index < toIndex; index++){
+            long firstDecimalNumber = firstDecimalNumbers[index];
+            long secondDecimalNumber = secondDecimalNumbers[index];
+            long difference = firstDecimalNumber - secondDecimalNumber;
+
+            //negative if the operands have different signs, and the sign of the difference
+            //differs from the first operand
+            long overflow = ((firstDecimalNumber ^ secondDecimalNumber) &
+                             (firstDecimalNumber ^ difference)) >> 63;
+
+            decimalResults[index] = difference & ~overflow;
+            errorBitmap[index >>> 6] |= (overflow & 1L) << index;
+        }
+    }
+
+
+    static void multiply(long[] firstDecimalNumbers, long[] secondDecimalNumbers, long[] decimalResults,
+                         long[] errorBitmap, int fromIndex, int toIndex){
+
+        for (int index = fromIndex; index < toIndex; index++){
+            multiplyElement(firstDecimalNumbers, secondDecimalNumbers, decimalResults,
+                            errorBitmap, index);
+        }
+    }
+
+
+    /**
+     * Multiply a single element. The product fits in a long if the high 64 bits of the
+     * 128-bit product are just the sign extension of the low 64 bits
+     * */
+    static void multiplyElement(long[] firstDecimalNumbers, long[] secondDecimalNumbers,
+                                long[] decimalResults, long[] errorBitmap, int index){
+
+        long firstDecimalNumber = firstDecimalNumbers[index];
+        long secondDecimalNumber = secondDecimalNumbers[index];
+        long product = firstDecimalNumber * secondDecimalNumber;
+
+        boolean overflow = Math.multiplyHigh(firstDecimalNumber, secondDecimalNumber) != (product >> 63);
+
+        decimalResults[index] = overflow ? 0 : product;
+        errorBitmap[index >>> 6] |= (overflow ? 1L : 0L) << index;
+    }
+
+
+    static void divide(long[] firstDecimalNumbers, long[] secondDecimalNumbers, long[] decimalResults,
+                       long[] errorBitmap, int fromIndex, int toIndex){
+
+        for (int index = fromIndex; index < toIndex; index++){
+            long firstDecimalNumber = firstDecimalNumbers[index];
+            long secondDecimalNumber = secondDecimalNumbers[index];
+
+            boolean error = secondDecimalNumber == 0 ||
+                            (firstDecimalNumber == Long.MIN_VALUE && secondDecimalNumber == -1);
+
+            decimalResults[index] = error ? 0 : firstDecimalNumber / secondDecimalNumber;
+            errorBitmap[index >>> 6] |= (error ? 1L : 0L) << index;
+        }
+    }
+
+
+    static void modulus(long[] firstDecimalNumbers, long[] secondDecimalNumbers, long[] decimalResults,
+                        long[] errorBitmap, int fromIndex, int toIndex){
+
+        for (int index = fromIndex; index < toIndex; index++){
+            long secondDecimalNumber = secondDecimalNumbers[index];
+
+            boolean error = secondDecimalNumber == 0;
+
+            decimalResults[index] = error ? 0 : firstDecimalNumbers[index] % secondDecimalNumber;
+            errorBitmap[index >>> 6] |= (error ? 1L : 0L) << index;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.terence.hexadecimalcalculator.models;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+
+/**
+ * @author Terence Lee
+ *
+ * The SIMD loops of HexadecimalBatchCalculator, built on the Vector API. This class is only
+ * loaded if the jdk.incubator.vector module is available.
+ *
+ * Each method processes as many whole vectors as fit in the batch, and returns the index the
+ * scalar loop should continue from. The overflow of each lane is worked out with vector
+ * operations, and the resulting lane mask is or-ed into the error bitmap in one go (a vector
+ * has at most 8 lanes and always starts at a multiple of its length, so it never straddles two
+ * words of the bitmap)
+ * */
+final class VectorizedBatchArithmetic {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    //added to a value before checking that its top 32 bits are 0, i.e. that it is an int
+    private static final long INT_RANGE_OFFSET = 0x80000000L;
+
+
+    /**
+     * The constructor is made private as all methods of this class are static, and
+     * therefore the constructor is not required
+     * */
+    private VectorizedBatchArithmetic() {
+
+    }
+
+
+    static int add(long[] firstDecimalNumbers, long[] secondDecimalNumbers, long[] decimalResults,
+                   long[] errorBitmap, int numberOfOperands){
+
+        int vectorizedEndIndex = SPECIES.loopBound(numberOfOperands);
+
+        for (int index = 0; index < vectorizedEndIndex; index += SPECIES.length()){
+            LongVector firstVector = LongVector.fromArray(SPECIES, firstDecimalNumbers, index);
+            LongVector secondVector = LongVector.fromArray(SPECIES, secondDecimalNumbers, index);
+            LongVector sumVector = firstVector.add(secondVector);
+
+            //both operands have the opposite sign of the sum
+            VectorMask<Long> overflowMask = firstVector.lanewise(VectorOperators.XOR, sumVector)
+                    .and(secondVector.lanewise(VectorOperators.XOR, sumVector))
+                    .compare(VectorOperators.LT, 0);
+
+            sumVector.blend(0, overflowMask).intoArray(decimalResults, index);
+            errorBitmap[index >>> 6] |= overflowMask.toLong() << index;
+        }
+
+        return vectorizedEndIndex;
+    }
+
+
+    static int subtract(long[] firstDecimalNumbers, long[] secondDecimalNumbers, long[] decimalResults,
+                        long[] errorBitmap, int numberOfOperands){
+
+        int vectorizedEndIndex = SPECIES.loopBound(numberOfOperands);
+
+        for (int index = 0; index < vectorizedEndIndex; index += SPECIES.length()){
+            LongVector firstVector = LongVector.fromArray(SPECIES, firstDecimalNumbers, index);
+            LongVector secondVector = LongVector.fromArray(SPECIES, secondDecimalNumbers, index);
+            LongVector differenceVector = firstVector.sub(secondVector);
+
+            //the operands have different signs, and the difference has a different sign
+            //from the first operand
+            VectorMask<Long> overflowMask = firstVector.lanewise(VectorOperators.XOR, secondVector)
+                    .and(firstVector.lanewise(VectorOperators.XOR, differenceVector))
+                    .compare(VectorOperators.LT, 0);
+
+            differenceVector.blend(0, overflowMask).intoArray(decimalResults, index);
+            errorBitmap[index >>> 6] |= overflowMask.toLong() << index;
+        }
+
+        return vectorizedEndIndex;
+    }
+
+
+    /**
+     * Multiply whole vectors. There is no SIMD instruction for the high half of a 64-bit
+     * product, so a lane is only known not to overflow if both operands fit in an int. The
+     * (rare, for typical operands) lanes with a wider operand are checked with the scalar
+     * Math.multiplyHigh test instead
+     * */
+    static int multiply(long[] firstDecimalNumbers, long[] secondDecimalNumbers, long[] decimalResults,
+                        long[] errorBitmap, int numberOfOperands){
+
+        int vectorizedEndIndex = SPECIES.loopBound(numberOfOperands);
+
+        for (int index = 0; index < vectorizedEndIndex; index += SPECIES.length()){
+            LongVector firstVector = LongVector.fromArray(SPECIES, firstDecimalNumbers, index);
+            LongVector secondVector = LongVector.fromArray(SPECIES, secondDecimalNumbers, index);
+
+            firstVector.mul(secondVector).intoArray(decimalResults, index);
+
+            VectorMask<Long> wideOperandMask = firstVector.add(INT_RANGE_OFFSET)
+                    .or(secondVector.add(INT_RANGE_OFFSET))
+                    .lanewise(VectorOperators.LSHR, Integer.SIZE)
+                    .compare(VectorOperators.NE, 0);
+
+            if (wideOperandMask.anyTrue()){
+                for (long lanes = wideOperandMask.toLong(); lanes != 0; lanes &= lanes - 1){
+                    ScalarBatchArithmetic.multiplyElement(firstDecimalNumbers, secondDecimalNumbers,
+                            decimalResults, errorBitmap, index + Long.numberOfTrailingZeros(lanes));
+                }
+            }
+        }
+
+        return vectorizedEndIndex;
+    }
+}
@@ -0,0 +1,10 @@
+module com.terence.hexadecimalcalculator.core {
+    requires static jdk.incubator.vector;
+    requires java.management;
+    requires jdk.jfr;
+
+
+    exports com.terence.hexadecimalcalculator.history;
+    exports com.terence.hexadecimalcalculator.metrics;
+    exports com.terence.hexadecimalcalculator.models;
+}
@@ -0,0 +1,226 @@
+package com.terence.hexadecimalcalculator.history;
+
+
+import com.terence.hexadecimalcalculator.models.ArithmeticMode;
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter.LetterCase;
+import com.terence.hexadecimalcalculator.models.HexadecimalOperation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import  org.junit.jupiter.api.Assertions;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Contains the unit tests for the various public methods of the CalculationHistory and
+ * CalculationRecord classes
+ * */
+class CalculationHistoryTest {
+
+    @TempDir
+    Path temporaryDirectory;
+
+
+    @Test
+    void append_thenGet_sameCalculation() throws IOException {
+
+        CalculationHistory history = CalculationHistory.open(temporaryDirectory.resolve("history.bin"), 16);
+
+        Assertions.assertEquals(0, history.nextSequence());
+        Assertions.assertNull(history.get(0));
+
+        long before = System.currentTimeMillis();
+
+        Assertions.assertEquals(0, history.append(HexadecimalOperation.ADD, ArithmeticMode.CHECKED_64,
+                                                  0x1A3F, -0xFF, 0x1940));
+        Assertions.assertEquals(1, history.append(HexadecimalOperation.DIVIDE, ArithmeticMode.WRAPPING_UNSIGNED_8,
+                                                  0x64, 0x7, 0xE, 0x2));
+
+        CalculationRecord addition = history.get(0);
+        CalculationRecord division = history.get(1);
+
+        Assertions.assertEquals(2, history.nextSequence());
+        Assertions.assertEquals(0, addition.sequence());
+        Assertions.assertTrue(addition.timestampMillis() >= before);
+        Assertions.assertEquals(HexadecimalOperation.ADD, addition.operation());
+        Assertions.assertEquals(ArithmeticMode.CHECKED_64, addition.arithmeticMode());
+        Assertions.assertEquals("1A3F + -FF = 1940", addition.toText(LetterCase.UPPER));
+
+        Assertions.assertEquals(ArithmeticMode.WRAPPING_UNSIGNED_8, division.arithmeticMode());
+        Assertions.assertEquals("64 / 7 = e remainder 2", division.toText(LetterCase.LOWER));
+    }
+
+
+    @Test
+    void open_existingFile_calculationsRecoveredAndCapacityKept() throws IOException {
+
+        Path file = temporaryDirectory.resolve("history.bin");
+
+        CalculationHistory history = CalculationHistory.open(file, 8);
+
+        for (ArithmeticMode arithmeticMode : ArithmeticMode.values()){
+            history.append(HexadecimalOperation.MULTIPLY, arithmeticMode, 2, 3, 6);
+        }
+
+        history.close();
+
+        CalculationHistory reopenedHistory = CalculationHistory.open(file, 1000);
+
+        Assertions.assertEquals(8, reopenedHistory.getCapacity());
+        Assertions.assertEquals(CalculationHistory.fileSize(8), Files.size(file));
+        Assertions.assertEquals(ArithmeticMode.values().length, reopenedHistory.nextSequence());
+
+        List<CalculationRecord> calculationRecords = new ArrayList<>();
+
+        Assertions.assertEquals(ArithmeticMode.values().length,
+                reopenedHistory.replay(reopenedHistory.firstSequence(), calculationRecords::add));
+
+        //only the last 8 modes are still in the ring, every one recovered with its mode
+        Assertions.assertEquals(8, calculationRecords.size());
+
+        for (CalculationRecord calculationRecord : calculationRecords){
+            Assertions.assertEquals(ArithmeticMode.values()[(int) calculationRecord.sequence()],
+                                    calculationRecord.arithmeticMode());
+        }
+    }
+
+
+    @Test
+    void append_moreThanCapacity_oldestOverwritten() throws IOException {
+
+        CalculationHistory history = CalculationHistory.open(temporaryDirectory.resolve("history.bin"), 4);
+
+        for (long number = 0; number < 6; number++){
+            history.append(HexadecimalOperation.ADD, ArithmeticMode.CHECKED_64, number, 1, number + 1);
+        }
+
+        Assertions.assertEquals(2, history.firstSequence());
+        Assertions.assertNull(history.get(1));
+        Assertions.assertEquals(2, history.get(2).firstDecimalNumber());
+        Assertions.assertEquals(5, history.get(5).firstDecimalNumber());
+        Assertions.assertNull(history.get(6));
+
+        List<CalculationRecord> calculationRecords = new ArrayList<>();
+
+        Assertions.assertEquals(6, history.replay(0, calculationRecords::add));
+        Assertions.assertEquals(4, calculationRecords.size());
+        Assertions.assertEquals(2, calculationRecords.get(0).sequence());
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"1A, 2", "1a3, 2", "347E, 2", "-F, 1", "-, 1", "10, 1", "FF, 3", "0, 3", "7F, -1", ", 3"})
+    void findHexadecimalPrefix_prefix_newestCalculationWithANumberStartingWithIt(String prefix,
+                                                                             long expectedSequence)
+            throws IOException {
+
+        CalculationHistory history = CalculationHistory.open(temporaryDirectory.resolve("history.bin"), 16);
+
+        history.append(HexadecimalOperation.SUBTRACT, ArithmeticMode.CHECKED_64, 0xFFFF, 0xFFFF, 0);
+        history.append(HexadecimalOperation.ADD, ArithmeticMode.CHECKED_64, -0xF1, 0x10, -0xE1);
+        history.append(HexadecimalOperation.MULTIPLY, ArithmeticMode.CHECKED_64, 0x1A3F, 0x2, 0x347E);
+
+        //-1 of an unsigned mode is written FF..., not -1
+        history.append(HexadecimalOperation.ADD, ArithmeticMode.CHECKED_UNSIGNED_64, -1, 0, -1);
+
+        Assertions.assertEquals(expectedSequence,
+                history.findHexadecimalPrefix(prefix == null ? "" : prefix, history.nextSequence()));
+    }
+
+
+    @Test
+    void findHexadecimalPrefix_beforeLastMatch_olderMatchesThenNone() throws IOException {
+
+        CalculationHistory history = CalculationHistory.open(temporaryDirectory.resolve("history.bin"), 16);
+
+        history.append(HexadecimalOperation.ADD, ArithmeticMode.CHECKED_64, 0xAB, 1, 0xAC);
+        history.append(HexadecimalOperation.ADD, ArithmeticMode.CHECKED_64, 1, 1, 2);
+        history.append(HexadecimalOperation.ADD, ArithmeticMode.CHECKED_64, 0xA, 0xA0, 0xAA);
+
+        Assertions.assertEquals(2, history.findHexadecimalPrefix("a", 3));
+        Assertions.assertEquals(0, history.findHexadecimalPrefix("a", 2));
+        Assertions.assertEquals(-1, history.findHexadecimalPrefix("a", 0));
+        Assertions.assertEquals(-1, history.findHexadecimalPrefix("12345678901234567", 3));
+
+        Assertions.assertThrows(NumberFormatException.class, () -> history.findHexadecimalPrefix("1G", 3));
+    }
+
+
+    @Test
+    void findValue_value_newestCalculationWithIt() throws IOException {
+
+        CalculationHistory history = CalculationHistory.open(temporaryDirectory.resolve("history.bin"), 16);
+
+        history.append(HexadecimalOperation.ADD, ArithmeticMode.CHECKED_64, 5, 7, 12);
+        history.append(HexadecimalOperation.MULTIPLY, ArithmeticMode.CHECKED_64, 3, 4, 12);
+        history.append(HexadecimalOperation.SUBTRACT, ArithmeticMode.CHECKED_64, 8, 1, 7);
+
+        Assertions.assertEquals(1, history.findValue(12, history.nextSequence()));
+        Assertions.assertEquals(0, history.findValue(12, 1));
+        Assertions.assertEquals(2, history.findValue(7, history.nextSequence()));
+        Assertions.assertEquals(-1, history.findValue(100, history.nextSequence()));
+    }
+
+
+    @Test
+    void append_concurrentThreads_everyCalculationOnceWithItsOwnSequence() throws Exception {
+
+        CalculationHistory history = CalculationHistory.open(temporaryDirectory.resolve("history.bin"), 8192);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int thread = 0; thread < 4; thread++){
+
+            long firstNumber = thread;
+
+            futures.add(executor.submit(() -> {
+                for (long secondNumber = 0; secondNumber < 1000; secondNumber++){
+                    history.append(HexadecimalOperation.ADD, ArithmeticMode.CHECKED_64, firstNumber,
+                                   secondNumber, firstNumber + secondNumber);
+                }
+            }));
+        }
+
+        for (Future<?> future : futures){
+            future.get();
+        }
+
+        executor.shutdown();
+
+        Set<Long> calculations = new HashSet<>();
+
+        history.replay(0, calculationRecord -> {
+            Assertions.assertEquals(calculationRecord.firstDecimalNumber() + calculationRecord.secondDecimalNumber(),
+                                    calculationRecord.result());
+            calculations.add(calculationRecord.firstDecimalNumber() * 1000 + calculationRecord.secondDecimalNumber());
+        });
+
+        Assertions.assertEquals(4000, history.nextSequence());
+        Assertions.assertEquals(4000, calculations.size());
+    }
+
+
+    @Test
+    void open_notAHistoryFile_IOException() throws IOException {
+
+        Path file = Files.writeString(temporaryDirectory.resolve("history.bin"), "1 + 1\n");
+
+        Assertions.assertThrows(IOException.class, () -> CalculationHistory.open(file));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> CalculationHistory.open(temporaryDirectory.resolve("empty.bin"), 0));
+    }
+}
@@ -0,0 +1,86 @@
+package com.terence.hexadecimalcalculator.metrics;
+
+
+import com.terence.hexadecimalcalculator.models.ArithmeticMode;
+import com.terence.hexadecimalcalculator.models.CalculationResult;
+import com.terence.hexadecimalcalculator.models.CalculationStatus;
+import com.terence.hexadecimalcalculator.models.HexadecimalCalculator;
+import com.terence.hexadecimalcalculator.models.HexadecimalOperation;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import  org.junit.jupiter.api.Assertions;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Contains the unit tests for the CalculationEvent class, recorded through the calculator
+ * */
+class CalculationEventTest {
+
+    private static final String EVENT_NAME = "com.terence.hexadecimalcalculator.Calculation";
+
+
+    @Test
+    void commit_calculationsWithZeroThreshold_oneEventPerCalculation() throws IOException {
+
+        Path recordingPath = Files.createTempFile("calculations", ".jfr");
+
+        try (Recording recording = new Recording()){
+            recording.enable(EVENT_NAME).withThreshold(Duration.ZERO);
+            recording.start();
+
+            HexadecimalCalculator.add("1A3F", "-FF");
+            HexadecimalCalculator.multiply("FF", "1", ArithmeticMode.WRAPPING_UNSIGNED_8);
+
+            Assertions.assertThrows(ArithmeticException.class,
+
+                    ()->HexadecimalCalculator.divide("1A3F", "0")
+            );
+
+            HexadecimalCalculator.tryCalculate(HexadecimalOperation.SUBTRACT, "12G4", "1", new CalculationResult());
+
+            recording.stop();
+            recording.dump(recordingPath);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(recordingPath).stream()
+                    .filter(event -> event.getEventType().getName().equals(EVENT_NAME))
+                    .toList();
+
+            Assertions.assertEquals(4, events.size());
+
+            Assertions.assertEquals("ADD", events.get(0).getString("operation"));
+            Assertions.assertEquals("CHECKED_64", events.get(0).getString("arithmeticMode"));
+            Assertions.assertEquals(4, events.get(0).getInt("firstOperandLength"));
+            Assertions.assertEquals(3, events.get(0).getInt("secondOperandLength"));
+            Assertions.assertEquals("SUCCESS", events.get(0).getString("outcome"));
+
+            Assertions.assertEquals("WRAPPING_UNSIGNED_8", events.get(1).getString("arithmeticMode"));
+            Assertions.assertEquals("DIVIDE_BY_ZERO", events.get(2).getString("outcome"));
+            Assertions.assertEquals("SUBTRACT", events.get(3).getString("operation"));
+            Assertions.assertEquals("INVALID_NUMBER", events.get(3).getString("outcome"));
+        }
+        finally {
+            Files.deleteIfExists(recordingPath);
+        }
+    }
+
+
+    @Test
+    void start_noRecordingEnablesTheEvent_noEventCreated() {
+
+        Assertions.assertNull(CalculationEvent.start(HexadecimalOperation.ADD, ArithmeticMode.CHECKED_64));
+
+        //a calculation without an event still returns its status
+        Assertions.assertEquals(CalculationStatus.OK,
+                HexadecimalCalculator.tryCalculate(HexadecimalOperation.ADD, "1", "2", new CalculationResult()));
+    }
+}
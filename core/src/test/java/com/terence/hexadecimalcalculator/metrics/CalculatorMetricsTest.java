@@ -0,0 +1,150 @@
+package com.terence.hexadecimalcalculator.metrics;
+
+
+import com.terence.hexadecimalcalculator.models.HexadecimalOperation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import  org.junit.jupiter.api.Assertions;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Contains the unit tests for the various public methods of the CalculatorMetrics,
+ * OperationMetrics and LatencyHistogram classes
+ * */
+class CalculatorMetricsTest {
+
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 31, 32, 33, 63, 64, 1000, 123_456_789, 1L << 40, Long.MAX_VALUE})
+    void bucketIndexOf_anyValue_bucketHoldsValueWithin1Of32(long value) {
+
+        int bucketIndex = LatencyHistogram.bucketIndexOf(value);
+        long highestValue = LatencyHistogram.highestValueOf(bucketIndex);
+
+        Assertions.assertTrue(highestValue >= value);
+        Assertions.assertTrue(highestValue - value <= value / 32);
+
+        if (bucketIndex > 0){
+            Assertions.assertTrue(LatencyHistogram.highestValueOf(bucketIndex - 1) < value);
+        }
+    }
+
+
+    @Test
+    void snapshot_recordedLatencies_countMaxAndPercentiles() {
+
+        LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+        for (long nanos = 1; nanos <= 1000; nanos++){
+            latencyHistogram.record(nanos);
+        }
+
+        LatencySnapshot latencySnapshot = latencyHistogram.snapshot();
+
+        Assertions.assertEquals(1000, latencySnapshot.count());
+        Assertions.assertEquals(1000, latencySnapshot.maxNanos());
+        Assertions.assertEquals(500.5, latencySnapshot.meanNanos());
+
+        //every percentile is the highest value of its bucket, at most 1/32 over the exact value
+        Assertions.assertTrue(latencySnapshot.p50Nanos() >= 500 && latencySnapshot.p50Nanos() <= 500 + 500 / 32);
+        Assertions.assertTrue(latencySnapshot.p99Nanos() >= 990 && latencySnapshot.p99Nanos() <= 1000);
+        Assertions.assertEquals(1000, latencySnapshot.p999Nanos());
+
+        latencyHistogram.reset();
+
+        Assertions.assertEquals(new LatencySnapshot(0, 0, 0, 0, 0, 0, 0), latencyHistogram.snapshot());
+    }
+
+
+    @Test
+    void snapshot_recordedCalculations_countsByOperationAndOutcome() {
+
+        OperationMetrics operationMetrics = new OperationMetrics();
+
+        operationMetrics.record(HexadecimalOperation.ADD, OperationOutcome.SUCCESS, 100);
+        operationMetrics.record(HexadecimalOperation.ADD, OperationOutcome.SUCCESS, 200);
+        operationMetrics.record(HexadecimalOperation.ADD, OperationOutcome.OVERFLOW, 300);
+        operationMetrics.record(HexadecimalOperation.DIVIDE, OperationOutcome.DIVIDE_BY_ZERO, 400);
+
+        MetricsSnapshot metricsSnapshot = operationMetrics.snapshot();
+        OperationSnapshot addSnapshot = metricsSnapshot.get(HexadecimalOperation.ADD);
+
+        Assertions.assertEquals(3, addSnapshot.callCount());
+        Assertions.assertEquals(1, addSnapshot.failureCount());
+        Assertions.assertEquals(1.0 / 3, addSnapshot.errorRate());
+        Assertions.assertEquals(300, addSnapshot.latency().maxNanos());
+        Assertions.assertEquals(1, metricsSnapshot.get(HexadecimalOperation.DIVIDE)
+                                                  .count(OperationOutcome.DIVIDE_BY_ZERO));
+        Assertions.assertEquals(0, metricsSnapshot.get(HexadecimalOperation.MODULUS).callCount());
+
+        Assertions.assertTrue(metricsSnapshot.toText().contains(
+                "calculations_total{operation=\"add\",outcome=\"overflow\"} 1\n"));
+
+        operationMetrics.reset();
+
+        Assertions.assertEquals(0, operationMetrics.snapshot().get(HexadecimalOperation.ADD).callCount());
+    }
+
+
+    @Test
+    void registerMBean_calledTwice_attributesReadableOverJmx() throws Exception {
+
+        CalculatorMetrics.registerMBean();
+        CalculatorMetrics.registerMBean();
+
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = new ObjectName(CalculatorMetrics.OBJECT_NAME);
+
+        Assertions.assertEquals(CalculatorMetrics.ENABLED, mBeanServer.getAttribute(objectName, "Enabled"));
+
+        //an MXBean map is served as TabularData, with one row per operation
+        Object callCounts = mBeanServer.getAttribute(objectName, "CallCounts");
+
+        Assertions.assertEquals(HexadecimalOperation.values().length,
+                                ((TabularData) callCounts).size());
+
+        Map<String, Long> localCallCounts = JMX.newMXBeanProxy(mBeanServer, objectName,
+                CalculatorMetricsMXBean.class).getCallCounts();
+
+        Assertions.assertTrue(localCallCounts.containsKey("ADD"));
+    }
+
+
+    @Test
+    void startReporting_shortPeriod_reporterReceivesSnapshots() throws InterruptedException {
+
+        BlockingQueue<MetricsSnapshot> snapshots = new LinkedBlockingQueue<>();
+
+        ScheduledFuture<?> reporting = CalculatorMetrics.startReporting(snapshots::add, Duration.ofMillis(10));
+
+        try {
+            MetricsSnapshot firstSnapshot = snapshots.poll(10, TimeUnit.SECONDS);
+            MetricsSnapshot secondSnapshot = snapshots.poll(10, TimeUnit.SECONDS);
+
+            Assertions.assertNotNull(firstSnapshot);
+            Assertions.assertNotNull(secondSnapshot);
+            Assertions.assertEquals(HexadecimalOperation.values().length, firstSnapshot.operations().size());
+            Assertions.assertFalse(reporting.isCancelled());
+        }
+        finally {
+            reporting.cancel(false);
+        }
+
+        Assertions.assertTrue(reporting.isCancelled());
+    }
+}
@@ -0,0 +1,284 @@
+package com.terence.hexadecimalcalculator.models;
+
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+import  org.junit.jupiter.api.Assertions;
+
+import java.util.Random;
+import java.util.function.IntToLongFunction;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Contains the unit tests for the various public methods of the BitwiseArithmetic and
+ * BitwiseOperation classes
+ * */
+class BitwiseArithmeticTest {
+
+
+    @ParameterizedTest
+    @CsvSource({"WRAPPING_UNSIGNED_8,0F,F5,F0,5,FF,FA,4,4,0,F",
+            "CHECKED_8,-1,1,0,1,-1,-2,8,0,0,-1", "WRAPPING_8,-80,7F,7F,0,-1,-1,1,0,7,-80",
+            "CHECKED_UNSIGNED_16,1234,FF00,EDCB,1200,FF34,ED34,5,3,2,3412",
+            "WRAPPING_16,-8000,1,7FFF,0,-7FFF,-7FFF,1,0,F,80",
+            "CHECKED_32,12345678,0,-12345679,0,12345678,12345678,D,3,3,78563412",
+            "WRAPPING_UNSIGNED_32,80000000,FFFFFFFF,7FFFFFFF,80000000,FFFFFFFF,7FFFFFFF,1,0,1F,80",
+            "CHECKED_64,0,0,-1,0,0,0,0,40,40,0",
+            "CHECKED_UNSIGNED_64,FFFFFFFFFFFFFFFF,1,0,1,FFFFFFFFFFFFFFFF,FFFFFFFFFFFFFFFE,40,0,0,FFFFFFFFFFFFFFFF",
+            "WRAPPING_64,1122334455667788,FF,-1122334455667789,88,11223344556677FF,1122334455667777,1A,3,3,-778899AABBCCDDEF"})
+    void bitwiseAndBitCountOperations_validParams_correctResult(ArithmeticMode arithmeticMode, String value,
+                                                                String otherValue, String expectedNot,
+                                                                String expectedAnd, String expectedOr,
+                                                                String expectedXor, String expectedBitCount,
+                                                                String expectedLeadingZeros,
+                                                                String expectedTrailingZeros,
+                                                                String expectedReverseBytes) {
+
+        long decimalNumber = parse(value);
+        long otherDecimalNumber = parse(otherValue);
+
+        Assertions.assertEquals(parse(expectedNot), BitwiseArithmetic.not(decimalNumber, arithmeticMode));
+        Assertions.assertEquals(parse(expectedAnd), BitwiseArithmetic.and(decimalNumber, otherDecimalNumber, arithmeticMode));
+        Assertions.assertEquals(parse(expectedOr), BitwiseArithmetic.or(decimalNumber, otherDecimalNumber, arithmeticMode));
+        Assertions.assertEquals(parse(expectedXor), BitwiseArithmetic.xor(decimalNumber, otherDecimalNumber, arithmeticMode));
+        Assertions.assertEquals(parse(expectedBitCount), BitwiseArithmetic.bitCount(decimalNumber, arithmeticMode));
+        Assertions.assertEquals(parse(expectedLeadingZeros),
+                                BitwiseArithmetic.numberOfLeadingZeros(decimalNumber, arithmeticMode));
+        Assertions.assertEquals(parse(expectedTrailingZeros),
+                                BitwiseArithmetic.numberOfTrailingZeros(decimalNumber, arithmeticMode));
+        Assertions.assertEquals(parse(expectedReverseBytes), BitwiseArithmetic.reverseBytes(decimalNumber, arithmeticMode));
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"WRAPPING_UNSIGNED_8,81,1,2,40,C0,3,C0", "CHECKED_8,-7F,1,2,40,-40,3,-40",
+            "WRAPPING_UNSIGNED_8,81,8,0,0,FF,81,81", "WRAPPING_UNSIGNED_8,81,B,0,0,FF,C,30",
+            "CHECKED_UNSIGNED_16,8001,4,10,800,F800,18,1800", "WRAPPING_16,7001,0,7001,7001,7001,7001,7001",
+            "CHECKED_32,-80000000,1F,0,1,-1,40000000,1", "WRAPPING_UNSIGNED_32,1,20,0,0,0,1,1",
+            "CHECKED_64,-8000000000000000,3F,0,1,-1,4000000000000000,1",
+            "WRAPPING_UNSIGNED_64,8000000000000001,7FFFFFFF,0,0,FFFFFFFFFFFFFFFF,C000000000000000,3"})
+    void shiftAndRotateOperations_validParams_correctResult(ArithmeticMode arithmeticMode, String value,
+                                                            String distance, String expectedShiftLeft,
+                                                            String expectedShiftRightLogical,
+                                                            String expectedShiftRightArithmetic,
+                                                            String expectedRotateLeft, String expectedRotateRight) {
+
+        long decimalNumber = parse(value);
+        int shiftDistance = (int) parse(distance);
+
+        Assertions.assertEquals(parse(expectedShiftLeft),
+                                BitwiseArithmetic.shiftLeft(decimalNumber, shiftDistance, arithmeticMode));
+        Assertions.assertEquals(parse(expectedShiftRightLogical),
+                                BitwiseArithmetic.shiftRightLogical(decimalNumber, shiftDistance, arithmeticMode));
+        Assertions.assertEquals(parse(expectedShiftRightArithmetic),
+                                BitwiseArithmetic.shiftRightArithmetic(decimalNumber, shiftDistance, arithmeticMode));
+        Assertions.assertEquals(parse(expectedRotateLeft),
+                                BitwiseArithmetic.rotateLeft(decimalNumber, shiftDistance, arithmeticMode));
+        Assertions.assertEquals(parse(expectedRotateRight),
+                                BitwiseArithmetic.rotateRight(decimalNumber, shiftDistance, arithmeticMode));
+
+        //rotating by minus the distance is rotating the other way
+        Assertions.assertEquals(parse(expectedRotateLeft),
+                                BitwiseArithmetic.rotateRight(decimalNumber, -shiftDistance, arithmeticMode));
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"CHECKED_UNSIGNED_16,1A3F,8,4,A,B,1B3F,F00", "CHECKED_UNSIGNED_8,0,4,3,0,5,50,70",
+            "CHECKED_8,-80,7,1,-1,0,0,-80", "CHECKED_8,7F,4,4,7,F,-1,-10",
+            "WRAPPING_UNSIGNED_8,80,7,1,1,0,0,80", "CHECKED_32,-1,0,20,-1,1234,1234,-1",
+            "CHECKED_64,-1,3C,4,-1,0,0FFFFFFFFFFFFFFF,-1000000000000000",
+            "WRAPPING_UNSIGNED_64,0,0,40,0,-1,FFFFFFFFFFFFFFFF,FFFFFFFFFFFFFFFF"})
+    void bitFieldOperations_validParams_correctResult(ArithmeticMode arithmeticMode, String value, String offset,
+                                                      String length, String expectedField, String newField,
+                                                      String expectedInsertResult, String mask) {
+
+        long decimalNumber = parse(value);
+        int bitOffset = (int) parse(offset);
+        int bitLength = (int) parse(length);
+
+        Assertions.assertEquals(parse(expectedField),
+                                BitwiseArithmetic.extractBits(decimalNumber, bitOffset, bitLength, arithmeticMode));
+        Assertions.assertEquals(parse(expectedInsertResult),
+                                BitwiseArithmetic.insertBits(decimalNumber, parse(newField), bitOffset, bitLength,
+                                                             arithmeticMode));
+
+        //the mask forms give the same results for the mask of the field
+        Assertions.assertEquals(parse(expectedField),
+                                BitwiseArithmetic.extractField(decimalNumber, parse(mask), arithmeticMode));
+        Assertions.assertEquals(parse(expectedInsertResult),
+                                BitwiseArithmetic.insertField(decimalNumber, parse(newField), parse(mask), arithmeticMode));
+    }
+
+
+    @Test
+    void extractField_zeroOrScatteredMask_maskedBitsShiftedDown() {
+
+        Assertions.assertEquals(0, BitwiseArithmetic.extractField(0xFF, 0, ArithmeticMode.CHECKED_UNSIGNED_8));
+        Assertions.assertEquals(0b101, BitwiseArithmetic.extractField(0b1111_0000, 0b1010_0000,
+                                                                      ArithmeticMode.CHECKED_UNSIGNED_8));
+    }
+
+
+    @Test
+    void operations_invalidParams_IllegalArgumentException() {
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> BitwiseArithmetic.and(1, 1, ArithmeticMode.ARBITRARY_PRECISION));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> BitwiseArithmetic.bitCount(1, ArithmeticMode.ARBITRARY_PRECISION));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> BitwiseArithmetic.shiftLeft(1, -1, ArithmeticMode.CHECKED_64));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> BitwiseArithmetic.shiftRightArithmetic(new long[1], -1, new long[1], ArithmeticMode.WRAPPING_8));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> BitwiseArithmetic.extractBits(1, 5, 4, ArithmeticMode.CHECKED_8));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> BitwiseArithmetic.extractBits(1, 0, 0, ArithmeticMode.CHECKED_8));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> BitwiseArithmetic.insertBits(1, 1, -1, 2, ArithmeticMode.CHECKED_64));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> BitwiseArithmetic.insertBits(1, 1, 1, Integer.MAX_VALUE, ArithmeticMode.CHECKED_64));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+                () -> BitwiseArithmetic.xor(new long[4], new long[3], new long[4], ArithmeticMode.CHECKED_64));
+    }
+
+
+    @ParameterizedTest
+    @EnumSource(value = ArithmeticMode.class, names = "ARBITRARY_PRECISION", mode = EnumSource.Mode.EXCLUDE)
+    void batchOperations_randomValues_sameResultsAsScalarOperations(ArithmeticMode arithmeticMode) {
+
+        Random random = new Random(arithmeticMode.ordinal());
+        int width = arithmeticMode.getWidth();
+
+        //an odd length, so the JIT's vectorized loops also have a tail
+        long[] decimalNumbers = new long[1001];
+        long[] otherDecimalNumbers = new long[1001];
+        long[] decimalResults = new long[1001];
+
+        for (int index = 0; index < decimalNumbers.length; index++){
+
+            //the field of the whole width is the random bits as a value of the mode
+            decimalNumbers[index] = BitwiseArithmetic.extractBits(random.nextLong(), 0, width, arithmeticMode);
+            otherDecimalNumbers[index] = BitwiseArithmetic.extractBits(random.nextLong(), 0, width, arithmeticMode);
+        }
+
+        BitwiseArithmetic.and(decimalNumbers, otherDecimalNumbers, decimalResults, arithmeticMode);
+        assertBatch(decimalResults, index -> BitwiseArithmetic.and(decimalNumbers[index], otherDecimalNumbers[index],
+                                                                   arithmeticMode));
+
+        BitwiseArithmetic.or(decimalNumbers, otherDecimalNumbers, decimalResults, arithmeticMode);
+        assertBatch(decimalResults, index -> BitwiseArithmetic.or(decimalNumbers[index], otherDecimalNumbers[index],
+                                                                  arithmeticMode));
+
+        BitwiseArithmetic.xor(decimalNumbers, otherDecimalNumbers, decimalResults, arithmeticMode);
+        assertBatch(decimalResults, index -> BitwiseArithmetic.xor(decimalNumbers[index], otherDecimalNumbers[index],
+                                                                   arithmeticMode));
+
+        BitwiseArithmetic.not(decimalNumbers, decimalResults, arithmeticMode);
+        assertBatch(decimalResults, index -> BitwiseArithmetic.not(decimalNumbers[index], arithmeticMode));
+
+        long totalBitCount = BitwiseArithmetic.bitCount(decimalNumbers, decimalResults, arithmeticMode);
+        long expectedTotalBitCount = 0;
+
+        for (long decimalNumber : decimalNumbers){
+            expectedTotalBitCount += BitwiseArithmetic.bitCount(decimalNumber, arithmeticMode);
+        }
+
+        Assertions.assertEquals(expectedTotalBitCount, totalBitCount);
+        assertBatch(decimalResults, index -> BitwiseArithmetic.bitCount(decimalNumbers[index], arithmeticMode));
+
+        BitwiseArithmetic.numberOfLeadingZeros(decimalNumbers, decimalResults, arithmeticMode);
+        assertBatch(decimalResults, index -> BitwiseArithmetic.numberOfLeadingZeros(decimalNumbers[index], arithmeticMode));
+
+        BitwiseArithmetic.numberOfTrailingZeros(decimalNumbers, decimalResults, arithmeticMode);
+        assertBatch(decimalResults, index -> BitwiseArithmetic.numberOfTrailingZeros(decimalNumbers[index], arithmeticMode));
+
+        BitwiseArithmetic.reverseBytes(decimalNumbers, decimalResults, arithmeticMode);
+        assertBatch(decimalResults, index -> BitwiseArithmetic.reverseBytes(decimalNumbers[index], arithmeticMode));
+
+        for (int distance : new int[] {0, 1, width / 2, width - 1, width, 100}){
+
+            BitwiseArithmetic.shiftLeft(decimalNumbers, distance, decimalResults, arithmeticMode);
+            assertBatch(decimalResults, index -> BitwiseArithmetic.shiftLeft(decimalNumbers[index], distance,
+                                                                             arithmeticMode));
+
+            BitwiseArithmetic.shiftRightLogical(decimalNumbers, distance, decimalResults, arithmeticMode);
+            assertBatch(decimalResults, index -> BitwiseArithmetic.shiftRightLogical(decimalNumbers[index], distance,
+                                                                                     arithmeticMode));
+
+            BitwiseArithmetic.shiftRightArithmetic(decimalNumbers, distance, decimalResults, arithmeticMode);
+            assertBatch(decimalResults, index -> BitwiseArithmetic.shiftRightArithmetic(decimalNumbers[index], distance,
+                                                                                        arithmeticMode));
+
+            BitwiseArithmetic.rotateLeft(decimalNumbers, distance, decimalResults, arithmeticMode);
+            assertBatch(decimalResults, index -> BitwiseArithmetic.rotateLeft(decimalNumbers[index], distance,
+                                                                              arithmeticMode));
+
+            BitwiseArithmetic.rotateRight(decimalNumbers, -distance, decimalResults, arithmeticMode);
+            assertBatch(decimalResults, index -> BitwiseArithmetic.rotateRight(decimalNumbers[index], -distance,
+                                                                               arithmeticMode));
+        }
+
+        //a field in the middle and a field at the top of the width
+        for (int offset : new int[] {width / 4, width / 2}){
+
+            int length = width - offset - (offset == width / 4 ? 1 : 0);
+
+            BitwiseArithmetic.extractBits(decimalNumbers, offset, length, decimalResults, arithmeticMode);
+            assertBatch(decimalResults, index -> BitwiseArithmetic.extractBits(decimalNumbers[index], offset, length,
+                                                                               arithmeticMode));
+
+            BitwiseArithmetic.insertBits(decimalNumbers, otherDecimalNumbers, offset, length, decimalResults,
+                                         arithmeticMode);
+            assertBatch(decimalResults, index -> BitwiseArithmetic.insertBits(decimalNumbers[index],
+                                                                              otherDecimalNumbers[index], offset,
+                                                                              length, arithmeticMode));
+        }
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"SHIFT_LEFT,WRAPPING_UNSIGNED_8,81,1,2", "SHIFT_RIGHT_LOGICAL,CHECKED_UNSIGNED_64,-1,-1,0",
+            "SHIFT_RIGHT_ARITHMETIC,CHECKED_64,-2,FFFFFFFFFF,-1", "ROTATE_LEFT,WRAPPING_8,1,-1,-80",
+            "ROTATE_RIGHT,CHECKED_UNSIGNED_16,1,11,8000", "AND,CHECKED_64,FF0,F0F,F00",
+            "NOT,CHECKED_UNSIGNED_8,F0,1234,F", "BIT_COUNT,CHECKED_32,-1,0,20",
+            "EXTRACT_FIELD,CHECKED_UNSIGNED_16,1A3F,F00,A"})
+    void apply_validParams_correctResult(BitwiseOperation operation, ArithmeticMode arithmeticMode, String value,
+                                         String otherValue, String expectedResult) {
+
+        Assertions.assertEquals(parse(expectedResult), operation.apply(parse(value), parse(otherValue), arithmeticMode));
+    }
+
+
+    @Test
+    void apply_negativeShiftDistanceOfSignedMode_IllegalArgumentException() {
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> BitwiseOperation.SHIFT_LEFT.apply(1, -1, ArithmeticMode.CHECKED_8));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> BitwiseOperation.SHIFT_RIGHT_LOGICAL.apply(1, Long.MIN_VALUE, ArithmeticMode.CHECKED_64));
+    }
+
+
+    private static void assertBatch(long[] decimalResults, IntToLongFunction expectedResult){
+
+        for (int index = 0; index < decimalResults.length; index++){
+            Assertions.assertEquals(expectedResult.applyAsLong(index), decimalResults[index], "index " + index);
+        }
+    }
+
+
+    /**
+     * Returns the long of a hexadecimal number of a test, e.g. -80 or FFFFFFFFFFFFFFFF
+     * */
+    private static long parse(String hexadecimalNumber){
+
+        return hexadecimalNumber.startsWith("-") ? Long.parseLong(hexadecimalNumber, 16) :
+               Long.parseUnsignedLong(hexadecimalNumber, 16);
+    }
+}
@@ -0,0 +1,135 @@
+package com.terence.hexadecimalcalculator.models;
+
+
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter.LetterCase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+import  org.junit.jupiter.api.Assertions;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Contains the unit tests for the various public methods of the FixedWidthArithmetic
+ * class
+ * */
+class FixedWidthArithmeticTest {
+
+
+    @ParameterizedTest
+    @CsvSource({"WRAPPING_8,7F,1,-80,7e,7f,7f,0", "WRAPPING_UNSIGNED_8,FF,1,0,fe,ff,ff,0",
+            "WRAPPING_UNSIGNED_16,0,1,1,ffff,0,0,0", "WRAPPING_16,-8000,-1,7fff,-7fff,-8000,-8000,0",
+            "WRAPPING_32,7FFFFFFF,2,-7fffffff,7ffffffd,-2,3fffffff,1",
+            "WRAPPING_UNSIGNED_32,FFFFFFFF,FFFFFFFF,fffffffe,0,1,1,0",
+            "WRAPPING_64,7FFFFFFFFFFFFFFF,1,-8000000000000000,7ffffffffffffffe,7fffffffffffffff,7fffffffffffffff,0",
+            "WRAPPING_UNSIGNED_64,FFFFFFFFFFFFFFFF,2,1,fffffffffffffffd,fffffffffffffffe,7fffffffffffffff,1",
+            "CHECKED_8,-40,2,-3e,-42,-80,-20,0",
+            "CHECKED_UNSIGNED_64,FFFFFFFFFFFFFFFE,1,ffffffffffffffff,fffffffffffffffd,fffffffffffffffe,fffffffffffffffe,0"})
+    void allOperations_validParams_correctResult(ArithmeticMode arithmeticMode, String firstHexadecimalNumber,
+                                                 String secondHexadecimalNumber, String expectedAddResult,
+                                                 String expectedSubtractResult, String expectedMultiplyResult,
+                                                 String expectedDivideResult, String expectedModulusResult) {
+
+        Assertions.assertEquals(expectedAddResult, HexadecimalCalculator.add(firstHexadecimalNumber,
+                secondHexadecimalNumber, arithmeticMode));
+        Assertions.assertEquals(expectedSubtractResult, HexadecimalCalculator.subtract(firstHexadecimalNumber,
+                secondHexadecimalNumber, arithmeticMode));
+        Assertions.assertEquals(expectedMultiplyResult, HexadecimalCalculator.multiply(firstHexadecimalNumber,
+                secondHexadecimalNumber, arithmeticMode));
+        Assertions.assertEquals(expectedDivideResult, HexadecimalCalculator.divide(firstHexadecimalNumber,
+                secondHexadecimalNumber, arithmeticMode));
+        Assertions.assertEquals(expectedModulusResult, HexadecimalCalculator.modulus(firstHexadecimalNumber,
+                secondHexadecimalNumber, arithmeticMode));
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"CHECKED_8,7F,1,add", "CHECKED_8,-80,1,subtract", "CHECKED_8,-80,-1,divide",
+            "CHECKED_16,100,100,multiply", "CHECKED_32,-80000000,-1,divide", "CHECKED_UNSIGNED_8,0,1,subtract",
+            "CHECKED_UNSIGNED_32,10000,10000,multiply", "CHECKED_UNSIGNED_64,FFFFFFFFFFFFFFFF,1,add",
+            "CHECKED_UNSIGNED_64,100000000,100000000,multiply", "WRAPPING_8,1,0,divide",
+            "WRAPPING_UNSIGNED_64,1,0,modulus"})
+    void checkedModes_overflowOrDivisionByZero_ArithmeticException(ArithmeticMode arithmeticMode,
+                                                                  String firstHexadecimalNumber,
+                                                                  String secondHexadecimalNumber,
+                                                                  String operation) {
+
+        Assertions.assertThrows(ArithmeticException.class,
+
+                ()->{
+                    switch (operation) {
+                        case "add" -> HexadecimalCalculator.add(firstHexadecimalNumber,
+                                secondHexadecimalNumber, arithmeticMode);
+                        case "subtract" -> HexadecimalCalculator.subtract(firstHexadecimalNumber,
+                                secondHexadecimalNumber, arithmeticMode);
+                        case "multiply" -> HexadecimalCalculator.multiply(firstHexadecimalNumber,
+                                secondHexadecimalNumber, arithmeticMode);
+                        case "divide" -> HexadecimalCalculator.divide(firstHexadecimalNumber,
+                                secondHexadecimalNumber, arithmeticMode);
+                        default -> HexadecimalCalculator.modulus(firstHexadecimalNumber,
+                                secondHexadecimalNumber, arithmeticMode);
+                    }
+                }
+        );
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"WRAPPING_8,80", "WRAPPING_8,-81", "WRAPPING_UNSIGNED_8,100", "WRAPPING_UNSIGNED_8,-1",
+            "CHECKED_16,8000", "CHECKED_UNSIGNED_32,100000000", "WRAPPING_64,8000000000000000",
+            "WRAPPING_UNSIGNED_64,10000000000000000", "WRAPPING_UNSIGNED_64,-1", "CHECKED_32,12G4"})
+    void parse_outOfRangeOrInvalid_NumberFormatException(ArithmeticMode arithmeticMode, String hexadecimalNumber) {
+
+        Assertions.assertFalse(FixedWidthArithmetic.isValid(hexadecimalNumber, arithmeticMode));
+
+        Assertions.assertThrows(NumberFormatException.class,
+
+                ()->FixedWidthArithmetic.parse(hexadecimalNumber, arithmeticMode)
+        );
+    }
+
+
+    @ParameterizedTest
+    @EnumSource(value = ArithmeticMode.class, names = {"CHECKED_64", "ARBITRARY_PRECISION"},
+                mode = EnumSource.Mode.EXCLUDE)
+    void minValueMaxValue_allFixedWidthModes_inRangeAndWrapAround(ArithmeticMode arithmeticMode) {
+
+        long minValue = FixedWidthArithmetic.minValue(arithmeticMode);
+        long maxValue = FixedWidthArithmetic.maxValue(arithmeticMode);
+
+        Assertions.assertTrue(FixedWidthArithmetic.isInRange(minValue, arithmeticMode));
+        Assertions.assertTrue(FixedWidthArithmetic.isInRange(maxValue, arithmeticMode));
+
+        if (arithmeticMode.getWidth() < Long.SIZE){
+            Assertions.assertFalse(FixedWidthArithmetic.isInRange(minValue - 1, arithmeticMode));
+            Assertions.assertFalse(FixedWidthArithmetic.isInRange(maxValue + 1, arithmeticMode));
+        }
+
+        Assertions.assertEquals(minValue, FixedWidthArithmetic.parse(
+                FixedWidthArithmetic.format(minValue, arithmeticMode, LetterCase.LOWER), arithmeticMode));
+        Assertions.assertEquals(maxValue, FixedWidthArithmetic.parse(
+                FixedWidthArithmetic.format(maxValue, arithmeticMode, LetterCase.LOWER), arithmeticMode));
+
+        if (arithmeticMode.isWrapping()){
+            Assertions.assertEquals(minValue, FixedWidthArithmetic.add(maxValue, 1, arithmeticMode));
+            Assertions.assertEquals(maxValue, FixedWidthArithmetic.subtract(minValue, 1, arithmeticMode));
+        }
+        else {
+            Assertions.assertThrows(ArithmeticException.class,
+
+                    ()->FixedWidthArithmetic.add(maxValue, 1, arithmeticMode)
+            );
+        }
+    }
+
+
+    @Test
+    void toDecimalString_unsignedMode_unsignedValue() {
+
+        Assertions.assertEquals("18446744073709551615",
+                FixedWidthArithmetic.toDecimalString(-1, ArithmeticMode.WRAPPING_UNSIGNED_64));
+        Assertions.assertEquals("-1", FixedWidthArithmetic.toDecimalString(-1, ArithmeticMode.WRAPPING_64));
+    }
+}
@@ -0,0 +1,96 @@
+package com.terence.hexadecimalcalculator.models;
+
+
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter.LetterCase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import  org.junit.jupiter.api.Assertions;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Contains the unit tests for the various public methods of the HexAccumulator
+ * class
+ * */
+class HexAccumulatorTest {
+
+
+    @ParameterizedTest
+    @CsvSource({"CHECKED_64,1A3F,-FF,-2,FF,-b2", "WRAPPING_UNSIGNED_16,FFF0,20,3,FFFF,30",
+            "WRAPPING_8,7F,1,-1,7F,-1", "CHECKED_UNSIGNED_64,FFFFFFFFFFFFFFF0,F,1,10,f"})
+    void chainedOperations_validParams_sameAsHexValue(ArithmeticMode arithmeticMode, String startHexadecimalNumber,
+                                                      String addedHexadecimalNumber,
+                                                      String multiplierHexadecimalNumber,
+                                                      String divisorHexadecimalNumber,
+                                                      String expectedHexadecimalResult) {
+
+        HexValue startValue = HexValue.parse(startHexadecimalNumber, arithmeticMode);
+        HexValue addedValue = HexValue.parse(addedHexadecimalNumber, arithmeticMode);
+        HexValue multiplier = HexValue.parse(multiplierHexadecimalNumber, arithmeticMode);
+        HexValue divisor = HexValue.parse(divisorHexadecimalNumber, arithmeticMode);
+
+        HexAccumulator accumulator = new HexAccumulator(arithmeticMode)
+                .set(startValue).add(addedValue).multiply(multiplier).modulus(divisor);
+
+        Assertions.assertEquals(expectedHexadecimalResult, accumulator.toString());
+        Assertions.assertEquals(startValue.add(addedValue).multiply(multiplier).modulus(divisor),
+                                accumulator.toHexValue());
+
+        HexAccumulator longAccumulator = new HexAccumulator(arithmeticMode)
+                .set(startValue.getValue()).add(addedValue.getValue())
+                .multiply(multiplier.getValue()).modulus(divisor.getValue());
+
+        Assertions.assertEquals(accumulator.getValue(), longAccumulator.getValue());
+    }
+
+
+    @Test
+    void failedOperation_overflow_valueUnchanged() {
+
+        HexAccumulator accumulator = new HexAccumulator().set(Long.MAX_VALUE);
+
+        Assertions.assertThrows(ArithmeticException.class, ()->accumulator.add(1));
+        Assertions.assertThrows(ArithmeticException.class, ()->accumulator.divide(0));
+
+        Assertions.assertEquals(Long.MAX_VALUE, accumulator.getValue());
+    }
+
+
+    @Test
+    void reset_reusedRegister_startsFromZero() {
+
+        HexAccumulator accumulator = new HexAccumulator(ArithmeticMode.CHECKED_16);
+
+        Assertions.assertEquals(0x30, accumulator.set(0x10).multiply(3).getValue());
+        Assertions.assertEquals(0x5, accumulator.reset().add(5).getValue());
+    }
+
+
+    @Test
+    void appendHexadecimal_signedAndUnsignedModes_appendedToBuilder() {
+
+        StringBuilder destination = new StringBuilder("= ");
+
+        new HexAccumulator().set(-0x1A3F).appendHexadecimal(destination, LetterCase.UPPER);
+        new HexAccumulator(ArithmeticMode.WRAPPING_UNSIGNED_64).set(-1).appendHexadecimal(destination.append(' '),
+                                                                                          LetterCase.LOWER);
+
+        Assertions.assertEquals("= -1A3F ffffffffffffffff", destination.toString());
+    }
+
+
+    @Test
+    void set_notAValueOfTheMode_IllegalArgumentException() {
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                ()->new HexAccumulator(ArithmeticMode.CHECKED_UNSIGNED_8).set(256));
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                ()->new HexAccumulator(ArithmeticMode.CHECKED_8).add(HexValue.of(1)));
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                ()->new HexAccumulator(ArithmeticMode.ARBITRARY_PRECISION));
+    }
+}
@@ -0,0 +1,124 @@
+package com.terence.hexadecimalcalculator.models;
+
+
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter.LetterCase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import  org.junit.jupiter.api.Assertions;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Contains the unit tests for the various public methods of the HexBigInteger
+ * class
+ * */
+class HexBigIntegerTest {
+
+
+    @ParameterizedTest
+    @CsvSource({"0,0", "-0,0", "+1A3F,1a3f", "-1A3F,-1a3f", "00000000000000000000ff,ff",
+            "FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFF,ffffffffffffffffffffffffffffffff",
+            "-10000000000000000000000000000000000000000,-10000000000000000000000000000000000000000"})
+    void parse_validParams_correctResult(String hexadecimalNumber, String expectedHexadecimalResult) {
+
+        HexBigInteger number = HexBigInteger.parse(hexadecimalNumber);
+
+        Assertions.assertEquals(expectedHexadecimalResult, number.toString());
+        Assertions.assertEquals(expectedHexadecimalResult.toUpperCase(),
+                                number.toHexadecimalString(LetterCase.UPPER));
+        Assertions.assertEquals(new BigInteger(hexadecimalNumber, 16), number.toBigInteger());
+        Assertions.assertTrue(HexBigInteger.isValid(hexadecimalNumber));
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"1.5", "Hello", "-", "+", "--1", "+-1", "12 4", "0x1F", "''", "FFFFFFFFFFFFFFFFFFFFFG"})
+    void parse_invalidParams_NumberFormatException(String hexadecimalNumber) {
+
+        Assertions.assertThrows(NumberFormatException.class,
+
+                ()->HexBigInteger.parse(hexadecimalNumber)
+        );
+
+        Assertions.assertFalse(HexBigInteger.isValid(hexadecimalNumber));
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"0,true", "7FFFFFFFFFFFFFFF,true", "-8000000000000000,true",
+            "8000000000000000,false", "-8000000000000001,false", "-1,true"})
+    void longValueExact_allRanges_sameAsLong(String hexadecimalNumber, boolean expectedFitsInLong) {
+
+        HexBigInteger number = HexBigInteger.parse(hexadecimalNumber);
+
+        Assertions.assertEquals(expectedFitsInLong, number.fitsInLong());
+
+        if (expectedFitsInLong){
+            long decimalNumber = Long.parseLong(hexadecimalNumber, 16);
+
+            Assertions.assertEquals(decimalNumber, number.longValueExact());
+            Assertions.assertEquals(number, HexBigInteger.valueOf(decimalNumber));
+        }
+        else {
+            Assertions.assertThrows(ArithmeticException.class, number::longValueExact);
+        }
+    }
+
+
+    @Test
+    void arithmetic_randomOperandsOfAllSizes_sameAsBigInteger() {
+
+        Random random = new Random(42);
+
+        //up to 8192 bits, so both schoolbook and Karatsuba multiplication are used
+        for (int iteration = 0; iteration < 2000; iteration++){
+            BigInteger firstNumber = randomBigInteger(random, 1 + random.nextInt(8192));
+            BigInteger secondNumber = randomBigInteger(random, 1 + random.nextInt(iteration % 2 == 0 ? 96 : 8192));
+
+            HexBigInteger firstHexNumber = HexBigInteger.parse(firstNumber.toString(16));
+            HexBigInteger secondHexNumber = HexBigInteger.parse(secondNumber.toString(16));
+
+            Assertions.assertEquals(firstNumber.add(secondNumber), firstHexNumber.add(secondHexNumber).toBigInteger());
+            Assertions.assertEquals(firstNumber.subtract(secondNumber),
+                                    firstHexNumber.subtract(secondHexNumber).toBigInteger());
+            Assertions.assertEquals(firstNumber.multiply(secondNumber),
+                                    firstHexNumber.multiply(secondHexNumber).toBigInteger());
+            Assertions.assertEquals(Integer.signum(firstNumber.compareTo(secondNumber)),
+                                    Integer.signum(firstHexNumber.compareTo(secondHexNumber)));
+
+            if (secondNumber.signum() != 0){
+                Assertions.assertEquals(firstNumber.divide(secondNumber),
+                                        firstHexNumber.divide(secondHexNumber).toBigInteger());
+                Assertions.assertEquals(firstNumber.remainder(secondNumber),
+                                        firstHexNumber.remainder(secondHexNumber).toBigInteger());
+            }
+        }
+    }
+
+
+    @Test
+    void divide_divisorZero_ArithmeticException() {
+
+        Assertions.assertThrows(ArithmeticException.class,
+
+                ()->HexBigInteger.parse("123456789ABCDEF0123").divide(HexBigInteger.ZERO)
+        );
+    }
+
+
+    private static BigInteger randomBigInteger(Random random, int maxBitLength){
+
+        //a mix of random bits and runs of all-ones limbs, which exercise the carries and
+        //the rare add-back step of the division
+        BigInteger number = random.nextInt(4) == 0 ?
+                BigInteger.ONE.shiftLeft(maxBitLength).subtract(BigInteger.ONE) :
+                new BigInteger(maxBitLength, random);
+
+        return random.nextBoolean() ? number.negate() : number;
+    }
+}
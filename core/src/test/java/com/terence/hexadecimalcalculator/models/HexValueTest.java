@@ -0,0 +1,150 @@
+package com.terence.hexadecimalcalculator.models;
+
+
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter.LetterCase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import  org.junit.jupiter.api.Assertions;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Contains the unit tests for the various public methods of the HexValue
+ * class
+ * */
+class HexValueTest {
+
+
+    @ParameterizedTest
+    @CsvSource({"CHECKED_64,-1A3F,-1a3f,-6719", "CHECKED_64,7FFFFFFFFFFFFFFF,7fffffffffffffff,9223372036854775807",
+            "WRAPPING_8,-80,-80,-128", "CHECKED_UNSIGNED_8,FF,ff,255",
+            "WRAPPING_UNSIGNED_64,FFFFFFFFFFFFFFFF,ffffffffffffffff,18446744073709551615"})
+    void parse_validParams_correctTexts(ArithmeticMode arithmeticMode, String hexadecimalNumber,
+                                        String expectedHexadecimalString, String expectedDecimalString) {
+
+        HexValue hexValue = HexValue.parse(hexadecimalNumber, arithmeticMode);
+
+        Assertions.assertEquals(expectedHexadecimalString, hexValue.toString());
+        Assertions.assertEquals(expectedHexadecimalString.toUpperCase(),
+                                hexValue.toHexadecimalString(LetterCase.UPPER));
+        Assertions.assertEquals(expectedDecimalString, hexValue.toDecimalString());
+        Assertions.assertEquals(arithmeticMode, hexValue.getArithmeticMode());
+
+        //the texts are worked out once, then kept
+        Assertions.assertSame(hexValue.toString(), hexValue.toString());
+        Assertions.assertSame(hexValue.toDecimalString(), hexValue.toDecimalString());
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"CHECKED_64,8000000000000000", "CHECKED_64,1G", "WRAPPING_8,80", "CHECKED_UNSIGNED_8,-1",
+            "CHECKED_UNSIGNED_16,10000"})
+    void parse_invalidParams_NumberFormatException(ArithmeticMode arithmeticMode, String hexadecimalNumber) {
+
+        Assertions.assertThrows(NumberFormatException.class,
+
+                ()->HexValue.parse(hexadecimalNumber, arithmeticMode)
+        );
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"WRAPPING_8,128", "WRAPPING_8,-129", "CHECKED_UNSIGNED_32,-1", "CHECKED_UNSIGNED_32,4294967296",
+            "ARBITRARY_PRECISION,0"})
+    void of_notAValueOfTheMode_IllegalArgumentException(ArithmeticMode arithmeticMode, long decimalNumber) {
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+
+                ()->HexValue.of(decimalNumber, arithmeticMode)
+        );
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"CHECKED_64,1A3F,-FF,1940,1b3e,-1a24c1,-1a,59",
+            "WRAPPING_UNSIGNED_8,F0,20,10,d0,0,7,10",
+            "WRAPPING_16,7FFF,2,-7fff,7ffd,-2,3fff,1",
+            "CHECKED_UNSIGNED_64,FFFFFFFFFFFFFFFE,1,ffffffffffffffff,fffffffffffffffd,fffffffffffffffe,fffffffffffffffe,0"})
+    void allOperations_validParams_sameAsHexadecimalCalculator(ArithmeticMode arithmeticMode,
+                                                               String firstHexadecimalNumber,
+                                                               String secondHexadecimalNumber,
+                                                               String expectedAddResult,
+                                                               String expectedSubtractResult,
+                                                               String expectedMultiplyResult,
+                                                               String expectedDivideResult,
+                                                               String expectedModulusResult) {
+
+        HexValue firstValue = HexValue.parse(firstHexadecimalNumber, arithmeticMode);
+        HexValue secondValue = HexValue.parse(secondHexadecimalNumber, arithmeticMode);
+
+        Assertions.assertEquals(expectedAddResult, firstValue.add(secondValue).toString());
+        Assertions.assertEquals(expectedSubtractResult, firstValue.subtract(secondValue).toString());
+        Assertions.assertEquals(expectedMultiplyResult, firstValue.multiply(secondValue).toString());
+        Assertions.assertEquals(expectedDivideResult, firstValue.divide(secondValue).toString());
+        Assertions.assertEquals(expectedModulusResult, firstValue.modulus(secondValue).toString());
+
+        Assertions.assertEquals(expectedAddResult, HexadecimalCalculator.add(firstHexadecimalNumber,
+                secondHexadecimalNumber, arithmeticMode));
+    }
+
+
+    @Test
+    void chainedOperations_noTextInBetween_correctResult() {
+
+        HexValue result = HexValue.parse("1A3F").add(HexValue.of(0x10))
+                                                .multiply(HexValue.parse("-2"))
+                                                .modulus(HexValue.parse("FF"));
+
+        Assertions.assertEquals(HexValue.of(-0xD2), result);
+        Assertions.assertEquals("-D2", result.toHexadecimalString(LetterCase.UPPER));
+        Assertions.assertEquals("-210", result.toDecimalString());
+    }
+
+
+    @Test
+    void operations_overflowOrDivisionByZero_ArithmeticException() {
+
+        Assertions.assertThrows(ArithmeticException.class,
+                ()->HexValue.parse("7FFFFFFFFFFFFFFF").add(HexValue.of(1)));
+
+        Assertions.assertThrows(ArithmeticException.class,
+                ()->HexValue.parse("7F", ArithmeticMode.CHECKED_8).add(HexValue.of(1, ArithmeticMode.CHECKED_8)));
+
+        Assertions.assertThrows(ArithmeticException.class,
+                ()->HexValue.of(1).divide(HexValue.ZERO));
+    }
+
+
+    @Test
+    void operations_valuesOfDifferentModes_IllegalArgumentException() {
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                ()->HexValue.of(1).add(HexValue.of(1, ArithmeticMode.WRAPPING_64)));
+    }
+
+
+    @Test
+    void compareTo_unsignedMode_comparedAsUnsigned() {
+
+        Assertions.assertTrue(HexValue.of(-1, ArithmeticMode.WRAPPING_UNSIGNED_64)
+                                      .compareTo(HexValue.of(1, ArithmeticMode.WRAPPING_UNSIGNED_64)) > 0);
+        Assertions.assertTrue(HexValue.of(-1).compareTo(HexValue.of(1)) < 0);
+
+        Assertions.assertNotEquals(HexValue.of(1), HexValue.of(1, ArithmeticMode.WRAPPING_64));
+        Assertions.assertEquals(HexValue.of(1, ArithmeticMode.WRAPPING_64).hashCode(),
+                                HexValue.parse("1", ArithmeticMode.WRAPPING_64).hashCode());
+    }
+
+
+    @Test
+    void compareTo_valuesOfDifferentModes_IllegalArgumentException() {
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                ()->HexValue.of(1).compareTo(HexValue.of(1, ArithmeticMode.WRAPPING_64)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                ()->HexValue.of(-1, ArithmeticMode.WRAPPING_64)
+                            .compareTo(HexValue.of(-1, ArithmeticMode.WRAPPING_UNSIGNED_64)));
+    }
+}
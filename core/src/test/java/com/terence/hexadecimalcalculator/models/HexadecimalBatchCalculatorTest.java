@@ -0,0 +1,125 @@
+package com.terence.hexadecimalcalculator.models;
+
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import  org.junit.jupiter.api.Assertions;
+
+import java.util.Random;
+import java.util.function.LongBinaryOperator;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Contains the unit tests for the various public methods of the HexadecimalBatchCalculator
+ * class. Every batch result is checked against the corresponding (throwing) long operation
+ * of HexadecimalCalculator
+ * */
+class HexadecimalBatchCalculatorTest {
+
+    private static final long[] EDGE_VALUES = {0, 1, -1, 2, -2, Integer.MAX_VALUE, Integer.MIN_VALUE,
+            0x80000000L, -0x80000001L, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE - 1,
+            Long.MIN_VALUE + 1, 0xFFFFFFFFL, 0x100000000L};
+
+
+    @Test
+    void vectorApi_addedBySurefire_isVectorized() {
+
+        Assertions.assertTrue(HexadecimalBatchCalculator.isVectorized());
+    }
+
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 64, 65, 1000})
+    void allOperations_randomAndEdgeOperands_matchHexadecimalCalculator(int numberOfOperands) {
+
+        long[] firstDecimalNumbers = createOperands(numberOfOperands, 1);
+        long[] secondDecimalNumbers = createOperands(numberOfOperands, 2);
+
+        assertBatchMatches(firstDecimalNumbers, secondDecimalNumbers,
+                HexadecimalBatchCalculator::add, HexadecimalCalculator::add);
+
+        assertBatchMatches(firstDecimalNumbers, secondDecimalNumbers,
+                HexadecimalBatchCalculator::subtract, HexadecimalCalculator::subtract);
+
+        assertBatchMatches(firstDecimalNumbers, secondDecimalNumbers,
+                HexadecimalBatchCalculator::multiply, HexadecimalCalculator::multiply);
+
+        assertBatchMatches(firstDecimalNumbers, secondDecimalNumbers,
+                HexadecimalBatchCalculator::divide, HexadecimalCalculator::divide);
+
+        assertBatchMatches(firstDecimalNumbers, secondDecimalNumbers,
+                HexadecimalBatchCalculator::modulus, HexadecimalCalculator::modulus);
+    }
+
+
+    @Test
+    void add_resultArrayTooShort_IndexOutOfBoundsException() {
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+
+                ()->HexadecimalBatchCalculator.add(new long[5], new long[5], new long[4], new long[1])
+        );
+    }
+
+
+    private interface BatchOperation {
+        int apply(long[] firstDecimalNumbers, long[] secondDecimalNumbers,
+                  long[] decimalResults, long[] errorBitmap);
+    }
+
+
+    private static void assertBatchMatches(long[] firstDecimalNumbers, long[] secondDecimalNumbers,
+                                           BatchOperation batchOperation,
+                                           LongBinaryOperator expectedOperation) {
+
+        int numberOfOperands = firstDecimalNumbers.length;
+        long[] decimalResults = new long[numberOfOperands];
+
+        //filled with ones, to check that the bitmap is cleared
+        long[] errorBitmap = new long[HexadecimalBatchCalculator.errorBitmapLength(numberOfOperands)];
+        java.util.Arrays.fill(errorBitmap, -1L);
+
+        int numberOfErrors = batchOperation.apply(firstDecimalNumbers, secondDecimalNumbers,
+                                                  decimalResults, errorBitmap);
+        int expectedNumberOfErrors = 0;
+
+        for (int index = 0; index < numberOfOperands; index++){
+            try {
+                long expectedDecimalResult = expectedOperation.applyAsLong(firstDecimalNumbers[index],
+                                                                           secondDecimalNumbers[index]);
+
+                Assertions.assertFalse(HexadecimalBatchCalculator.isError(errorBitmap, index));
+                Assertions.assertEquals(expectedDecimalResult, decimalResults[index]);
+            }
+            catch (ArithmeticException e){
+                expectedNumberOfErrors++;
+
+                Assertions.assertTrue(HexadecimalBatchCalculator.isError(errorBitmap, index));
+                Assertions.assertEquals(0, decimalResults[index]);
+            }
+        }
+
+        Assertions.assertEquals(expectedNumberOfErrors, numberOfErrors);
+    }
+
+
+    private static long[] createOperands(int numberOfOperands, long seed) {
+
+        Random random = new Random(seed);
+        long[] operands = new long[numberOfOperands];
+
+        for (int index = 0; index < numberOfOperands; index++){
+            operands[index] = switch (random.nextInt(4)) {
+                case 0 -> EDGE_VALUES[random.nextInt(EDGE_VALUES.length)];
+                case 1 -> random.nextLong();
+                case 2 -> random.nextInt();
+                default -> random.nextLong() >> random.nextInt(64);
+            };
+        }
+
+        return operands;
+    }
+}
@@ -0,0 +1,185 @@
+package com.terence.hexadecimalcalculator.models;
+
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import  org.junit.jupiter.api.Assertions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Contains the unit tests for the various public methods of the HexadecimalCalculatorCache
+ * class
+ * */
+class HexadecimalCalculatorCacheTest {
+
+
+    @ParameterizedTest
+    @CsvSource({"1A3F,-FF,1940,1b3e,-1a24c1,-1a,59", "7FFFFFFFFFFFFFFF,1,error,7ffffffffffffffe,7fffffffffffffff,7fffffffffffffff,0"})
+    void allOperations_validParams_sameResultsAsCalculator(String firstHexadecimalNumber,
+                                                           String secondHexadecimalNumber,
+                                                           String expectedAddResult, String expectedSubtractResult,
+                                                           String expectedMultiplyResult, String expectedDivideResult,
+                                                           String expectedModulusResult) {
+
+        HexadecimalCalculatorCache cache = new HexadecimalCalculatorCache(10, 10);
+
+        for (int repetition = 0; repetition < 2; repetition++){
+            if (expectedAddResult.equals("error")){
+                Assertions.assertThrows(ArithmeticException.class,
+                        () -> cache.add(firstHexadecimalNumber, secondHexadecimalNumber));
+            }
+            else {
+                Assertions.assertEquals(expectedAddResult, cache.add(firstHexadecimalNumber, secondHexadecimalNumber));
+            }
+
+            Assertions.assertEquals(expectedSubtractResult, cache.subtract(firstHexadecimalNumber,
+                                                                           secondHexadecimalNumber));
+            Assertions.assertEquals(expectedMultiplyResult, cache.multiply(firstHexadecimalNumber,
+                                                                           secondHexadecimalNumber));
+            Assertions.assertEquals(expectedDivideResult, cache.divide(firstHexadecimalNumber,
+                                                                       secondHexadecimalNumber));
+            Assertions.assertEquals(expectedModulusResult, cache.modulus(firstHexadecimalNumber,
+                                                                         secondHexadecimalNumber));
+        }
+    }
+
+
+    @Test
+    void add_repeatedOperands_hitsCounted() {
+
+        HexadecimalCalculatorCache cache = new HexadecimalCalculatorCache(10, 10);
+
+        cache.add("1A3F", "-FF");
+        cache.add("1A3F", "-FF");
+        cache.add("1A3F", "-FF");
+        cache.subtract("1A3F", "-FF");
+
+        Assertions.assertEquals(new HexadecimalCalculatorCache.Statistics(2, 2, 0, 2), cache.getResultStatistics());
+        Assertions.assertEquals(0.5, cache.getResultStatistics().hitRate());
+    }
+
+
+    @Test
+    void calculate_moreOperandsThanMaxSize_leastRecentlyUsedEvicted() {
+
+        HexadecimalCalculatorCache cache = new HexadecimalCalculatorCache(1, 3);
+
+        cache.add("1", "1");
+        cache.add("2", "2");
+        cache.add("3", "3");
+        cache.add("1", "1"); //hit, so "2 + 2" is now the least recently used
+        cache.add("4", "4");
+        cache.add("1", "1"); //hit
+        cache.add("2", "2"); //miss, evicted
+
+        Assertions.assertEquals(new HexadecimalCalculatorCache.Statistics(2, 5, 2, 3), cache.getResultStatistics());
+    }
+
+
+    @Test
+    void calculate_invalidOperand_exceptionNotCached() {
+
+        HexadecimalCalculatorCache cache = new HexadecimalCalculatorCache(10, 10);
+
+        Assertions.assertThrows(NumberFormatException.class, () -> cache.add("G", "1"));
+        Assertions.assertThrows(NumberFormatException.class, () -> cache.add("G", "1"));
+        Assertions.assertThrows(ArithmeticException.class,
+                () -> cache.calculate(HexadecimalOperation.DIVIDE, "1", "0", ArithmeticMode.WRAPPING_8));
+
+        Assertions.assertEquals(new HexadecimalCalculatorCache.Statistics(0, 3, 0, 0), cache.getResultStatistics());
+    }
+
+
+    @Test
+    void calculate_sameOperandsDifferentModes_cachedSeparately() {
+
+        HexadecimalCalculatorCache cache = new HexadecimalCalculatorCache(10, 10);
+
+        Assertions.assertEquals("-80", cache.calculate(HexadecimalOperation.ADD, "7F", "1", ArithmeticMode.WRAPPING_8));
+        Assertions.assertEquals("80", cache.calculate(HexadecimalOperation.ADD, "7F", "1", ArithmeticMode.CHECKED_64));
+        Assertions.assertEquals("80", cache.add("7F", "1"));
+    }
+
+
+    @Test
+    void compile_repeatedExpression_sameCompiledExpression() {
+
+        HexadecimalCalculatorCache cache = new HexadecimalCalculatorCache(10, 10);
+
+        HexadecimalExpression expression = cache.compile("(1F + -3A) * FF % 7");
+
+        Assertions.assertSame(expression, cache.compile("(1F + -3A) * FF % 7"));
+        Assertions.assertNotSame(expression, cache.compile("(1F + -3A) * FF % 7", ArithmeticMode.WRAPPING_64));
+        Assertions.assertEquals(-4, expression.evaluate());
+        Assertions.assertEquals(new HexadecimalCalculatorCache.Statistics(1, 2, 0, 2),
+                                cache.getExpressionStatistics());
+    }
+
+
+    @Test
+    void clear_cachedResults_removedButCountsKept() {
+
+        HexadecimalCalculatorCache cache = new HexadecimalCalculatorCache(10, 10);
+
+        cache.add("1", "1");
+        cache.compile("1 + 1");
+        cache.clear();
+        cache.add("1", "1");
+
+        Assertions.assertEquals(new HexadecimalCalculatorCache.Statistics(0, 2, 0, 1), cache.getResultStatistics());
+        Assertions.assertEquals(0, cache.getExpressionStatistics().size());
+    }
+
+
+    @Test
+    void constructor_maxSizeLessThanOne_IllegalArgumentException() {
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new HexadecimalCalculatorCache(0, 10));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new HexadecimalCalculatorCache(10, -1));
+    }
+
+
+    @Test
+    void calculate_manyThreads_correctResultsAndCounts() throws Exception {
+
+        HexadecimalCalculatorCache cache = new HexadecimalCalculatorCache(10, 5000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+
+            for (int thread = 0; thread < 8; thread++){
+                futures.add(executor.submit(() -> {
+                    for (int operand = 0; operand < 20000; operand++){
+                        String hexadecimalNumber = Integer.toHexString(operand % 2000);
+
+                        Assertions.assertEquals(Long.toHexString(2L * (operand % 2000)),
+                                                cache.add(hexadecimalNumber, hexadecimalNumber));
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures){
+                future.get();
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+
+        HexadecimalCalculatorCache.Statistics statistics = cache.getResultStatistics();
+
+        Assertions.assertEquals(8 * 20000, statistics.hitCount() + statistics.missCount());
+        Assertions.assertEquals(2000, statistics.size());
+        Assertions.assertEquals(0, statistics.evictionCount());
+    }
+}
@@ -0,0 +1,510 @@
+package com.terence.hexadecimalcalculator.models;
+
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import  org.junit.jupiter.api.Assertions;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Contains the unit tests for the various public methods of the HexadecimalCalculator
+ * clas
+ * */
+class HexadecimalCalculatorTest {
+
+
+    @ParameterizedTest
+    @CsvSource({"1234,abcd,be01",  "45a,67b,ad5", "-12,-13c,-14e",
+                "12,-13c,-12a", "-12,13c,12a"})
+    void add_validParams_correctResult(String firstHexadecimalNumber, String secondHexadecimalNumber,
+                                     String expectedHexadecimalResult) {
+
+        String actualHexadecimalResult = HexadecimalCalculator.add(firstHexadecimalNumber,
+                                                    secondHexadecimalNumber);
+
+        Assertions.assertEquals(expectedHexadecimalResult, actualHexadecimalResult);
+
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"8000000000000000,1", "-8000000000000001,1",
+            "1,8000000000000000", "1,-8000000000000001",
+            "123,1.5", "1.5,123", "Hello,1", "1,Hello"})
+    void add_invalidParams_overlyLargeOrInvalidNumber_NumberFormatException(String firstHexadecimalNumber, String secondHexadecimalNumber) {
+
+        Assertions.assertThrows(NumberFormatException.class,
+
+                ()->HexadecimalCalculator.add(firstHexadecimalNumber,
+                        secondHexadecimalNumber)
+        );
+
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"7FFFFFFFFFFFFFFF,1", "-8000000000000000,-1"})
+    void add_invalidParams_overlyLargeResult_ArithmeticException(String firstHexadecimalNumber, String secondHexadecimalNumber) {
+
+        Assertions.assertThrows(ArithmeticException.class,
+
+                ()->HexadecimalCalculator.add(firstHexadecimalNumber,
+                        secondHexadecimalNumber)
+        );
+
+    }
+
+
+
+
+    @ParameterizedTest
+    @CsvSource({"abcd,1234,9999",  "123,45,de", "-12,-13c,12a",
+            "12,-13c,14e", "-12,13c,-14e"})
+    void subtract_validParams_correctResult(String firstHexadecimalNumber,
+                                            String secondHexadecimalNumber,
+                                            String expectedHexadecimalResult) {
+
+        String actualHexadecimalResult =
+                HexadecimalCalculator.subtract(firstHexadecimalNumber,
+                                                secondHexadecimalNumber);
+
+        Assertions.assertEquals(expectedHexadecimalResult, actualHexadecimalResult);
+    }
+
+
+
+    @ParameterizedTest
+    @CsvSource({"8000000000000000,1", "-8000000000000001,1",
+            "1,8000000000000000", "1,-8000000000000001",
+            "123,1.5", "1.5,123", "Hello,1", "1,Hello"})
+    void subtract_invalidParams_overlyLargeOrInvalidNumber_NumberFormatException(
+            String firstHexadecimalNumber, String secondHexadecimalNumber) {
+
+        Assertions.assertThrows(NumberFormatException.class,
+
+                ()->HexadecimalCalculator.subtract(firstHexadecimalNumber,
+                        secondHexadecimalNumber)
+        );
+
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"-2,7FFFFFFFFFFFFFFF", "-7FFFFFFFFFFFFFFF,2",
+            "1,-8000000000000000", "-8000000000000000,1"})
+    void subtract_invalidParams_overlyLargeResult_ArithmeticException(
+            String firstHexadecimalNumber, String secondHexadecimalNumber) {
+
+        Assertions.assertThrows(ArithmeticException.class,
+
+                ()->HexadecimalCalculator.subtract(firstHexadecimalNumber,
+                        secondHexadecimalNumber)
+        );
+
+    }
+
+
+
+
+    @ParameterizedTest
+    @CsvSource({"abcd,1234,c374fa4",  "12,ef,10ce", "-12,-13c,1638",
+            "12,-13c,-1638", "-12,13c,-1638"})
+    void multiply_validParams_correctResult(String firstHexadecimalNumber,
+                                            String secondHexadecimalNumber,
+                                            String expectedHexadecimalResult) {
+
+        String actualHexadecimalResult =
+                HexadecimalCalculator.multiply(firstHexadecimalNumber,
+                        secondHexadecimalNumber);
+
+        Assertions.assertEquals(expectedHexadecimalResult, actualHexadecimalResult);
+    }
+
+
+
+    @ParameterizedTest
+    @CsvSource({"8000000000000000,1", "-8000000000000001,1",
+            "1,8000000000000000", "1,-8000000000000001",
+            "123,1.5", "1.5,123","Hello,1", "1,Hello"})
+    void multiply_invalidParams_overlyLargeOrInvalidNumber_NumberFormatException(String firstHexadecimalNumber, String secondHexadecimalNumber) {
+
+        Assertions.assertThrows(NumberFormatException.class,
+
+                ()->HexadecimalCalculator.multiply(firstHexadecimalNumber,
+                        secondHexadecimalNumber)
+        );
+
+    }
+
+
+
+    @ParameterizedTest
+    @CsvSource({"-2,7FFFFFFFFFFFFFFF", "-7FFFFFFFFFFFFFFF,2",
+            "3,-8000000000000000", "-8000000000000000,3"})
+    void multiply_invalidParams_overlyLargeResult_ArithmeticException(String firstHexadecimalNumber, String secondHexadecimalNumber) {
+
+        Assertions.assertThrows(ArithmeticException.class,
+
+                ()->HexadecimalCalculator.multiply(firstHexadecimalNumber,
+                        secondHexadecimalNumber)
+        );
+
+    }
+
+
+
+    @ParameterizedTest
+    @CsvSource({"abcd,1234,9",  "4567,ef,4a", "-1234,-13,f5",
+            "1234,-13,-f5", "-1234,13,-f5"})
+    void divide_validParams_correctResult(String firstHexadecimalNumber,
+                                          String secondHexadecimalNumber,
+                                        String expectedHexadecimalResult) {
+
+        String actualHexadecimalResult =
+                HexadecimalCalculator.divide(firstHexadecimalNumber,
+                        secondHexadecimalNumber);
+
+        Assertions.assertEquals(expectedHexadecimalResult, actualHexadecimalResult);
+    }
+
+
+
+
+    @ParameterizedTest
+    @CsvSource({"8000000000000000,1", "-8000000000000001,1",
+            "-8000000000000001,0",
+            "1,8000000000000000", "1,-8000000000000001",
+            "123,1.5", "1.5,123", "Hello,1", "1,Hello"})
+    void divide_invalidParams_overlyLargeOrInvalidNumber_NumberFormatException(String firstHexadecimalNumber, String secondHexadecimalNumber) {
+
+        Assertions.assertThrows(NumberFormatException.class,
+
+                ()->HexadecimalCalculator.divide(firstHexadecimalNumber,
+                        secondHexadecimalNumber)
+        );
+
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"abcd,1234,7f9",  "4567,ef,51", "-1234,-13,-5",
+            "1234,-13,5", "-1234,13,-5"})
+    void modulus_validParams_correctResult(String firstHexadecimalNumber,
+                                           String secondHexadecimalNumber,
+                                            String expectedHexadecimalResult) {
+
+        String actualHexadecimalResult =
+                HexadecimalCalculator.modulus(firstHexadecimalNumber,
+                        secondHexadecimalNumber);
+
+        Assertions.assertEquals(expectedHexadecimalResult, actualHexadecimalResult);
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"8000000000000000,1", "-8000000000000001,1",
+            "1,8000000000000000", "1,-8000000000000001",
+            "123,1.5", "1.5,123", "Hello,1", "1,Hello"})
+    void modulus_invalidParams_overlyLargeOrInvalidNumber_NumberFormatException(String firstHexadecimalNumber, String secondHexadecimalNumber) {
+
+        Assertions.assertThrows(NumberFormatException.class,
+
+                ()->HexadecimalCalculator.modulus(firstHexadecimalNumber,
+                        secondHexadecimalNumber)
+        );
+
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"abcd,43981",  "1234,4660", "-345,-837",
+            "-af2,-2802"})
+    void convertHexadecimalToDecimal_validParam_correctResult(
+                                    String hexadecimalNumber,
+                                     long expectedDecimalResult) {
+
+        long actualDecimalResult =
+                HexadecimalCalculator.convertHexadecimalToDecimal(hexadecimalNumber);
+
+        Assertions.assertEquals(expectedDecimalResult, actualDecimalResult);
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"8000000000000000", "-8000000000000001",
+            "1.5", "Hello"})
+    void convertHexadecimalToDecimal_invalidParams_overlyLargeOrInvalidNumber_NumberFormatException(
+            String hexadecimalNumber) {
+
+        Assertions.assertThrows(NumberFormatException.class,
+
+                ()->HexadecimalCalculator.convertHexadecimalToDecimal(hexadecimalNumber)
+        );
+
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"4660,43981,48641", "-18,-316,-334", "9223372036854775806,1,9223372036854775807"})
+    void add_validLongParams_correctResult(long firstDecimalNumber, long secondDecimalNumber,
+                                           long expectedDecimalResult) {
+
+        long actualDecimalResult = HexadecimalCalculator.add(firstDecimalNumber, secondDecimalNumber);
+
+        Assertions.assertEquals(expectedDecimalResult, actualDecimalResult);
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"9223372036854775807,1", "-9223372036854775808,-1"})
+    void add_invalidLongParams_overlyLargeResult_ArithmeticException(long firstDecimalNumber,
+                                                                     long secondDecimalNumber) {
+
+        Assertions.assertThrows(ArithmeticException.class,
+
+                ()->HexadecimalCalculator.add(firstDecimalNumber, secondDecimalNumber)
+        );
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"1", "0"})
+    void modulus_invalidLongParams_zeroDivisor_ArithmeticException(long firstDecimalNumber) {
+
+        Assertions.assertThrows(ArithmeticException.class,
+
+                ()->HexadecimalCalculator.modulus(firstDecimalNumber, 0)
+        );
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"abcd,43981",  "+1234,4660", "-345,-837", "7FFFFFFFFFFFFFFF,9223372036854775807",
+            "-8000000000000000,-9223372036854775808", "00000000000000000001,1"})
+    void convertHexadecimalToDecimal_validSlices_correctResult(String hexadecimalNumber,
+                                                               long expectedDecimalResult) {
+
+        String paddedHexadecimalNumber = "  " + hexadecimalNumber + " ";
+        int length = hexadecimalNumber.length();
+
+        Assertions.assertEquals(expectedDecimalResult,
+                HexadecimalCalculator.convertHexadecimalToDecimal(
+                        new StringBuilder(paddedHexadecimalNumber), 2, 2 + length));
+
+        Assertions.assertEquals(expectedDecimalResult,
+                HexadecimalCalculator.convertHexadecimalToDecimal(
+                        paddedHexadecimalNumber.toCharArray(), 2, length));
+
+        Assertions.assertEquals(expectedDecimalResult,
+                HexadecimalCalculator.convertHexadecimalToDecimal(
+                        paddedHexadecimalNumber.getBytes(), 2, length));
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"8000000000000000", "-8000000000000001", "1.5", "Hello", "-", "+", "''"})
+    void convertHexadecimalToDecimal_invalidSlices_NumberFormatException(String hexadecimalNumber) {
+
+        Assertions.assertThrows(NumberFormatException.class,
+
+                ()->HexadecimalCalculator.convertHexadecimalToDecimal(
+                        hexadecimalNumber.toCharArray(), 0, hexadecimalNumber.length())
+        );
+
+        Assertions.assertThrows(NumberFormatException.class,
+
+                ()->HexadecimalCalculator.convertHexadecimalToDecimal(
+                        hexadecimalNumber.getBytes(), 0, hexadecimalNumber.length())
+        );
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"43981,abcd", "0,0", "-837,-345", "9223372036854775807,7fffffffffffffff",
+            "-9223372036854775808,-8000000000000000"})
+    void convertDecimalToHexadecimal_callerSuppliedBuffers_correctResult(long decimalNumber,
+                                                                       String expectedHexadecimalResult) {
+
+        char[] characters = new char[HexadecimalCalculator.MAX_HEXADECIMAL_NUMBER_LENGTH + 1];
+        int characterEndIndex = HexadecimalCalculator.convertDecimalToHexadecimal(decimalNumber,
+                                                                    characters, 1);
+
+        byte[] bytes = new byte[HexadecimalCalculator.MAX_HEXADECIMAL_NUMBER_LENGTH];
+        int byteEndIndex = HexadecimalCalculator.convertDecimalToHexadecimal(decimalNumber, bytes, 0);
+
+        StringBuilder stringBuilder = HexadecimalCalculator.convertDecimalToHexadecimal(decimalNumber,
+                                                                    new StringBuilder());
+
+        Assertions.assertEquals(expectedHexadecimalResult,
+                new String(characters, 1, characterEndIndex - 1));
+        Assertions.assertEquals(expectedHexadecimalResult, new String(bytes, 0, byteEndIndex));
+        Assertions.assertEquals(expectedHexadecimalResult, stringBuilder.toString());
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"7FFFFFFFFFFFFFFF,1,8000000000000000,7ffffffffffffffe,7fffffffffffffff",
+            "FFFFFFFFFFFFFFFFFFFF,-10,ffffffffffffffffffef,10000000000000000000f,-ffffffffffffffffffff0",
+            "-8000000000000000,-1,-8000000000000001,-7fffffffffffffff,8000000000000000"})
+    void addSubtractMultiply_arbitraryPrecisionMode_noOverflow(String firstHexadecimalNumber,
+                                                             String secondHexadecimalNumber,
+                                                             String expectedAddResult,
+                                                             String expectedSubtractResult,
+                                                             String expectedMultiplyResult) {
+
+        ArithmeticMode arithmeticMode = ArithmeticMode.ARBITRARY_PRECISION;
+
+        Assertions.assertEquals(expectedAddResult, HexadecimalCalculator.add(firstHexadecimalNumber,
+                secondHexadecimalNumber, arithmeticMode));
+        Assertions.assertEquals(expectedSubtractResult, HexadecimalCalculator.subtract(firstHexadecimalNumber,
+                secondHexadecimalNumber, arithmeticMode));
+        Assertions.assertEquals(expectedMultiplyResult, HexadecimalCalculator.multiply(firstHexadecimalNumber,
+                secondHexadecimalNumber, arithmeticMode));
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"10000000000000000000000000000000F,-10,-10000000000000000000000000000000,f",
+            "-8000000000000000,-1,8000000000000000,0", "-2F,7,-6,-5"})
+    void divideModulus_arbitraryPrecisionMode_truncatedResult(String firstHexadecimalNumber,
+                                                            String secondHexadecimalNumber,
+                                                            String expectedQuotientResult,
+                                                            String expectedRemainderResult) {
+
+        ArithmeticMode arithmeticMode = ArithmeticMode.ARBITRARY_PRECISION;
+
+        Assertions.assertEquals(expectedQuotientResult, HexadecimalCalculator.divide(firstHexadecimalNumber,
+                secondHexadecimalNumber, arithmeticMode));
+        Assertions.assertEquals(expectedRemainderResult, HexadecimalCalculator.modulus(firstHexadecimalNumber,
+                secondHexadecimalNumber, arithmeticMode));
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"7FFFFFFFFFFFFFFF,1", "-7FFFFFFFFFFFFFFF,1"})
+    void subtractMultiply_checked64Mode_sameAsWithoutMode(String firstHexadecimalNumber, String secondHexadecimalNumber) {
+
+        Assertions.assertEquals(HexadecimalCalculator.subtract(firstHexadecimalNumber, secondHexadecimalNumber),
+                HexadecimalCalculator.subtract(firstHexadecimalNumber, secondHexadecimalNumber,
+                                               ArithmeticMode.CHECKED_64));
+
+        Assertions.assertThrows(ArithmeticException.class,
+
+                ()->HexadecimalCalculator.multiply(firstHexadecimalNumber, "2", ArithmeticMode.CHECKED_64)
+        );
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"FFFFFFFFFFFFFFFF,FFFFFFFFFFFFFFFF,1fffffffffffffffe,0,fffffffffffffffe0000000000000001",
+            "7FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFF,1,80000000000000000000000000000000,7ffffffffffffffffffffffffffffffe,7fffffffffffffffffffffffffffffff",
+            "-80000000000000000000000000000000,-1,-80000000000000000000000000000001,-7fffffffffffffffffffffffffffffff,80000000000000000000000000000000",
+            "-8000000000000000,7FFFFFFFFFFFFFFF,-1,-ffffffffffffffff,-3fffffffffffffff8000000000000000"})
+    void addSubtractMultiply_arbitraryPrecisionModeAcrossWidths_promotedResult(String firstHexadecimalNumber,
+                                                                             String secondHexadecimalNumber,
+                                                                             String expectedAddResult,
+                                                                             String expectedSubtractResult,
+                                                                             String expectedMultiplyResult) {
+
+        ArithmeticMode arithmeticMode = ArithmeticMode.ARBITRARY_PRECISION;
+
+        Assertions.assertEquals(expectedAddResult, HexadecimalCalculator.add(firstHexadecimalNumber,
+                secondHexadecimalNumber, arithmeticMode));
+        Assertions.assertEquals(expectedSubtractResult, HexadecimalCalculator.subtract(firstHexadecimalNumber,
+                secondHexadecimalNumber, arithmeticMode));
+        Assertions.assertEquals(expectedMultiplyResult, HexadecimalCalculator.multiply(firstHexadecimalNumber,
+                secondHexadecimalNumber, arithmeticMode));
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"ADD,1A3F,-FF,OK,1940", "SUBTRACT,-8000000000000000,1,OVERFLOW,0",
+            "ADD,7FFFFFFFFFFFFFFF,1,OVERFLOW,0", "SUBTRACT,7FFFFFFFFFFFFFFF,-1,OVERFLOW,0",
+            "MULTIPLY,100000000,80000000,OVERFLOW,0", "MULTIPLY,-100000000,80000000,OK,-8000000000000000",
+            "DIVIDE,-8000000000000000,-1,OVERFLOW,0", "DIVIDE,1A3F,0,DIVIDE_BY_ZERO,0",
+            "MODULUS,1A3F,0,DIVIDE_BY_ZERO,0", "MODULUS,-8000000000000000,-1,OK,0", "MODULUS,-2F,7,OK,-5",
+            "ADD,12G4,1,INVALID_DIGIT,0", "ADD,1,,INVALID_DIGIT,0", "DIVIDE,1,10000000000000000,OUT_OF_RANGE,0"})
+    void tryCalculate_anyParams_statusInsteadOfException(HexadecimalOperation operation,
+                                                         String firstHexadecimalNumber,
+                                                         String secondHexadecimalNumber,
+                                                         CalculationStatus expectedStatus,
+                                                         String expectedResult) {
+
+        CalculationResult result = new CalculationResult();
+
+        Assertions.assertEquals(expectedStatus, HexadecimalCalculator.tryCalculate(operation,
+                firstHexadecimalNumber, secondHexadecimalNumber, result));
+        Assertions.assertEquals(expectedStatus, result.getStatus());
+        Assertions.assertEquals(HexadecimalParser.parse(expectedResult), result.getValue());
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"7FFFFFFFFFFFFFFF,1", "-8000000000000000,-1", "-8000000000000000,0", "0,0", "123456789,-ABCDEF",
+            "FFFFFFFF,100000001", "-1,-8000000000000000", "3,-5"})
+    void tryApply_allOperations_sameOutcomeAsThrowingMethods(String firstHexadecimalNumber,
+                                                             String secondHexadecimalNumber) {
+
+        long firstDecimalNumber = HexadecimalParser.parse(firstHexadecimalNumber);
+        long secondDecimalNumber = HexadecimalParser.parse(secondHexadecimalNumber);
+
+        CalculationResult result = new CalculationResult();
+
+        for (HexadecimalOperation operation : HexadecimalOperation.values()){
+            CalculationStatus status = operation.tryApply(firstDecimalNumber, secondDecimalNumber, result);
+
+            try {
+                long expectedResult = operation.apply(firstDecimalNumber, secondDecimalNumber);
+
+                Assertions.assertEquals(CalculationStatus.OK, status);
+                Assertions.assertEquals(expectedResult, result.getValue());
+            }
+            catch (ArithmeticException e){
+                boolean isDivision = operation == HexadecimalOperation.DIVIDE ||
+                                     operation == HexadecimalOperation.MODULUS;
+
+                Assertions.assertEquals(isDivision && secondDecimalNumber == 0 ?
+                        CalculationStatus.DIVIDE_BY_ZERO : CalculationStatus.OVERFLOW, status);
+            }
+        }
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"ADD,7FFFFFFFFFFFFFFF,1,CHECKED_64,OVERFLOW", "DIVIDE,1A3F,0,CHECKED_64,DIVIDE_BY_ZERO",
+            "MODULUS,1A3F,-0,CHECKED_64,DIVIDE_BY_ZERO", "DIVIDE,-8000000000000000,-1,CHECKED_64,OVERFLOW",
+            "MULTIPLY,12G4,1,CHECKED_64,INVALID_DIGIT", "SUBTRACT,-8000000000000001,1,CHECKED_64,INVALID_DIGIT",
+            "DIVIDE,-80,-1,CHECKED_8,OVERFLOW", "MODULUS,7F,0,CHECKED_8,DIVIDE_BY_ZERO",
+            "DIVIDE,FF,0,WRAPPING_UNSIGNED_8,DIVIDE_BY_ZERO", "ADD,FF,1,CHECKED_UNSIGNED_8,OVERFLOW",
+            "DIVIDE,123456789ABCDEF0123,0,ARBITRARY_PRECISION,DIVIDE_BY_ZERO",
+            "MODULUS,1A3F,0,ARBITRARY_PRECISION,DIVIDE_BY_ZERO"})
+    void failureStatusOf_exceptionOfCalculator_statusOfCalculation(HexadecimalOperation operation,
+                                                                   String firstHexadecimalNumber,
+                                                                   String secondHexadecimalNumber,
+                                                                   ArithmeticMode arithmeticMode,
+                                                                   CalculationStatus expectedStatus) {
+
+        RuntimeException exception = Assertions.assertThrows(RuntimeException.class,
+
+                ()->{
+                    switch (operation) {
+                        case ADD -> HexadecimalCalculator.add(firstHexadecimalNumber, secondHexadecimalNumber,
+                                                              arithmeticMode);
+                        case SUBTRACT -> HexadecimalCalculator.subtract(firstHexadecimalNumber,
+                                secondHexadecimalNumber, arithmeticMode);
+                        case MULTIPLY -> HexadecimalCalculator.multiply(firstHexadecimalNumber,
+                                secondHexadecimalNumber, arithmeticMode);
+                        case DIVIDE -> HexadecimalCalculator.divide(firstHexadecimalNumber,
+                                secondHexadecimalNumber, arithmeticMode);
+                        case MODULUS -> HexadecimalCalculator.modulus(firstHexadecimalNumber,
+                                secondHexadecimalNumber, arithmeticMode);
+                    }
+                }
+        );
+
+        Assertions.assertEquals(expectedStatus,
+                HexadecimalCalculator.failureStatusOf(operation, exception, secondHexadecimalNumber));
+    }
+}
@@ -0,0 +1,162 @@
+package com.terence.hexadecimalcalculator.models;
+
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import  org.junit.jupiter.api.Assertions;
+
+import java.util.List;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Contains the unit tests for the various public methods of the HexadecimalExpression
+ * class
+ * */
+class HexadecimalExpressionTest {
+
+
+    @ParameterizedTest
+    @CsvSource({"1 + 2 * 3,7", "(1 + 2) * 3,9", "(1F + -3A) * FF % 7,-4", "-8000000000000000,-8000000000000000",
+            "--5,5", "10 - 4 - 2,A", "100 / 10 / 2,8", " - ( 2 ) * 3 ,-6", "1a3f*10,1A3F0",
+            "7FFFFFFFFFFFFFFF - 7FFFFFFFFFFFFFFF + -8000000000000000,-8000000000000000", "+3 % -2,1"})
+    void evaluate_validExpression_correctResult(String expression, String expectedResult) {
+
+        Assertions.assertEquals(HexadecimalParser.parse(expectedResult),
+                                HexadecimalExpression.compile(expression).evaluate());
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"''", "1 +", "(1 + 2", "1 + 2)", "1 2", "$", "1 & 2", "G", "1 + * 2", "()"})
+    void compile_invalidExpression_IllegalArgumentException(String expression) {
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> HexadecimalExpression.compile(expression));
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"8000000000000000", "1 + 10000000000000000"})
+    void compile_numberOutOfRange_NumberFormatException(String expression) {
+
+        Assertions.assertThrows(NumberFormatException.class, () -> HexadecimalExpression.compile(expression));
+    }
+
+
+    @Test
+    void compile_deeplyNestedExpression_IllegalArgumentException() {
+
+        String expression = "(".repeat(ExpressionParser.MAX_NESTING_DEPTH + 1) + "1" +
+                            ")".repeat(ExpressionParser.MAX_NESTING_DEPTH + 1);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> HexadecimalExpression.compile(expression));
+    }
+
+
+    @Test
+    void compile_arbitraryPrecisionMode_IllegalArgumentException() {
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> HexadecimalExpression.compile("1 + 1", ArithmeticMode.ARBITRARY_PRECISION));
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"7FFFFFFFFFFFFFFF + 1", "-8000000000000000 - 1", "100000000 * 100000000", "1 / 0",
+            "1 % (1 - 1)", "-(-8000000000000000)", "-8000000000000000 / -1"})
+    void evaluate_overflowOrDivisionByZero_ArithmeticException(String expression) {
+
+        HexadecimalExpression compiledExpression = HexadecimalExpression.compile(expression);
+
+        Assertions.assertThrows(ArithmeticException.class, compiledExpression::evaluate);
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"($x + 1) * 10,FF,0,1000", "$a * $b + $a,3,4,F", "$a / $b,-10,3,-5", "$b % 3 - $a,B,1,1",
+            "$a * 2 + $a * 2,7,0,1C"})
+    void evaluate_variables_correctResult(String expression, String firstVariableValue,
+                                          String secondVariableValue, String expectedResult) {
+
+        HexadecimalExpression compiledExpression = HexadecimalExpression.compile(expression);
+        long[] variableValues = new long[compiledExpression.getVariableCount()];
+
+        variableValues[0] = HexadecimalParser.parse(firstVariableValue);
+
+        if (variableValues.length > 1){
+            variableValues[1] = HexadecimalParser.parse(secondVariableValue);
+        }
+
+        Assertions.assertEquals(HexadecimalParser.parse(expectedResult), compiledExpression.evaluate(variableValues));
+    }
+
+
+    @Test
+    void evaluate_variableOverflows_ArithmeticException() {
+
+        HexadecimalExpression compiledExpression = HexadecimalExpression.compile("$x * 2");
+
+        Assertions.assertEquals(0x7FFFFFFFFFFFFFFEL, compiledExpression.evaluate(new long[] {0x3FFFFFFFFFFFFFFFL}));
+        Assertions.assertThrows(ArithmeticException.class,
+                () -> compiledExpression.evaluate(new long[] {0x4000000000000000L}));
+    }
+
+
+    @Test
+    void getVariableNames_repeatedVariables_namesInOrderOfFirstAppearance() {
+
+        HexadecimalExpression compiledExpression = HexadecimalExpression.compile("$b * $a_1 + $b - $C");
+
+        Assertions.assertEquals(List.of("b", "a_1", "C"), compiledExpression.getVariableNames());
+        Assertions.assertEquals(1, compiledExpression.variableIndexOf("a_1"));
+        Assertions.assertEquals(-1, compiledExpression.variableIndexOf("x"));
+    }
+
+
+    @Test
+    void evaluate_missingVariableValues_exception() {
+
+        HexadecimalExpression compiledExpression = HexadecimalExpression.compile("$a + $b");
+
+        Assertions.assertThrows(IllegalStateException.class, compiledExpression::evaluate);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> compiledExpression.evaluate(new long[] {1}));
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"WRAPPING_8,7F + 1,-80", "WRAPPING_UNSIGNED_16,0 - 1,FFFF", "WRAPPING_UNSIGNED_8,-1 * 2,FE",
+            "CHECKED_16,-8000 + 7FFF,-1", "CHECKED_UNSIGNED_64,FFFFFFFFFFFFFFFF / 3,5555555555555555",
+            "WRAPPING_64,7FFFFFFFFFFFFFFF * 2,-2"})
+    void evaluate_fixedWidthMode_correctResult(ArithmeticMode arithmeticMode, String expression,
+                                               String expectedResult) {
+
+        Assertions.assertEquals(FixedWidthArithmetic.parse(expectedResult, arithmeticMode),
+                                HexadecimalExpression.compile(expression, arithmeticMode).evaluate());
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"CHECKED_8,7F + 1", "CHECKED_UNSIGNED_8,0 - 1", "CHECKED_32,-80000000 / -1", "WRAPPING_16,1 % 0"})
+    void evaluate_fixedWidthModeOverflowOrDivisionByZero_ArithmeticException(ArithmeticMode arithmeticMode,
+                                                                            String expression) {
+
+        HexadecimalExpression compiledExpression = HexadecimalExpression.compile(expression, arithmeticMode);
+
+        Assertions.assertThrows(ArithmeticException.class, compiledExpression::evaluate);
+    }
+
+
+    @Test
+    void getSyntaxTree_expression_treeAsParsed() {
+
+        ExpressionNode expectedSyntaxTree = new ExpressionNode.BinaryOperation(HexadecimalOperation.MULTIPLY,
+                new ExpressionNode.BinaryOperation(HexadecimalOperation.ADD, new ExpressionNode.Literal(0x1F),
+                        new ExpressionNode.Negation(new ExpressionNode.Variable("x", 0))),
+                new ExpressionNode.Literal(0xFF));
+
+        Assertions.assertEquals(expectedSyntaxTree, HexadecimalExpression.compile("(1F + -$x) * FF").getSyntaxTree());
+    }
+}
@@ -0,0 +1,75 @@
+package com.terence.hexadecimalcalculator.models;
+
+
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter.LetterCase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import  org.junit.jupiter.api.Assertions;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Contains the unit tests for the various public methods of the HexadecimalFormatter
+ * class
+ * */
+class HexadecimalFormatterTest {
+
+
+    @ParameterizedTest
+    @CsvSource({"43981,abcd,ABCD", "0,0,0", "-837,-345,-345", "-1,-1,-1", "15,f,F",
+            "9223372036854775807,7fffffffffffffff,7FFFFFFFFFFFFFFF",
+            "-9223372036854775808,-8000000000000000,-8000000000000000"})
+    void format_allDestinations_correctResult(long decimalNumber, String expectedLowerCaseResult,
+                                              String expectedUpperCaseResult) {
+
+        Assertions.assertEquals(expectedLowerCaseResult,
+                HexadecimalFormatter.format(decimalNumber, LetterCase.LOWER));
+        Assertions.assertEquals(expectedUpperCaseResult,
+                HexadecimalFormatter.format(decimalNumber, LetterCase.UPPER));
+
+        Assertions.assertEquals(expectedUpperCaseResult.length(),
+                HexadecimalFormatter.formattedLength(decimalNumber));
+
+        char[] characters = new char[HexadecimalFormatter.MAX_LENGTH + 2];
+        int characterEndIndex = HexadecimalFormatter.format(decimalNumber, LetterCase.UPPER,
+                                                            characters, 2);
+        Assertions.assertEquals(expectedUpperCaseResult,
+                new String(characters, 2, characterEndIndex - 2));
+
+        byte[] bytes = new byte[HexadecimalFormatter.MAX_LENGTH];
+        int byteEndIndex = HexadecimalFormatter.format(decimalNumber, LetterCase.UPPER, bytes, 0);
+        Assertions.assertEquals(expectedUpperCaseResult,
+                new String(bytes, 0, byteEndIndex, StandardCharsets.US_ASCII));
+
+        StringBuilder stringBuilder = new StringBuilder("=");
+        HexadecimalFormatter.format(decimalNumber, LetterCase.UPPER, stringBuilder);
+        Assertions.assertEquals("=" + expectedUpperCaseResult, stringBuilder.toString());
+
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(HexadecimalFormatter.MAX_LENGTH + 1);
+        byteBuffer.put((byte) '=');
+        HexadecimalFormatter.format(decimalNumber, LetterCase.UPPER, byteBuffer).flip();
+        Assertions.assertEquals("=" + expectedUpperCaseResult,
+                StandardCharsets.US_ASCII.decode(byteBuffer).toString());
+    }
+
+
+    @Test
+    void format_destinationTooSmall_exception() {
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+
+                ()->HexadecimalFormatter.format(0xABCDEL, LetterCase.LOWER, new char[5], 1)
+        );
+
+        Assertions.assertThrows(BufferOverflowException.class,
+
+                ()->HexadecimalFormatter.format(-0xABCDL, LetterCase.LOWER, ByteBuffer.allocate(4))
+        );
+    }
+}
@@ -0,0 +1,85 @@
+package com.terence.hexadecimalcalculator.models;
+
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import  org.junit.jupiter.api.Assertions;
+
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Contains the unit tests for the various public methods of the HexadecimalParser
+ * class
+ * */
+class HexadecimalParserTest {
+
+
+    @ParameterizedTest
+    @CsvSource({"abcd,43981",  "ABCD,43981", "+1234,4660", "-345,-837", "0,0", "-0,0",
+            "7FFFFFFFFFFFFFFF,9223372036854775807", "-8000000000000000,-9223372036854775808",
+            "000000000000000000007fffffffffffffff,9223372036854775807"})
+    void parse_validParams_correctResult(String hexadecimalNumber, long expectedDecimalResult) {
+
+        Assertions.assertEquals(expectedDecimalResult, HexadecimalParser.parse(hexadecimalNumber));
+
+        Assertions.assertEquals(Long.parseLong(hexadecimalNumber, 16),
+                                HexadecimalParser.parse(hexadecimalNumber));
+
+        Assertions.assertTrue(HexadecimalParser.isValid(hexadecimalNumber));
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"8000000000000000", "-8000000000000001", "FFFFFFFFFFFFFFFF",
+            "10000000000000000", "1.5", "Hello", "-", "+", "--1", "+-1", "12 4", "0x1F", "''"})
+    void parse_invalidParams_overlyLargeOrInvalidNumber_NumberFormatException(String hexadecimalNumber) {
+
+        Assertions.assertThrows(NumberFormatException.class,
+
+                ()->HexadecimalParser.parse(hexadecimalNumber)
+        );
+
+        Assertions.assertFalse(HexadecimalParser.isValid(hexadecimalNumber));
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"1A3F,OK", "-8000000000000000,OK", "12G4,INVALID_DIGIT", "'',INVALID_DIGIT",
+            "-,INVALID_DIGIT", "1.5,INVALID_DIGIT", "8000000000000000,OUT_OF_RANGE",
+            "-8000000000000001,OUT_OF_RANGE", "123456789ABCDEF01,OUT_OF_RANGE",
+            "123456789ABCDEF0G,INVALID_DIGIT", "FFFFFFFFFFFFFFFF,OUT_OF_RANGE", "-FFFFFFFFFFFFFFFF,OUT_OF_RANGE",
+            "FFFFFFFFFFFFFFFE,OUT_OF_RANGE", "-FFFFFFFFFFFFFFFE,OUT_OF_RANGE"})
+    void tryParse_allSliceTypes_correctStatus(String hexadecimalNumber,
+                                              CalculationStatus expectedStatus) {
+
+        String paddedHexadecimalNumber = "[" + hexadecimalNumber + "]";
+        int length = hexadecimalNumber.length();
+
+        CalculationResult result = new CalculationResult();
+
+        Assertions.assertEquals(expectedStatus,
+                HexadecimalParser.tryParse(paddedHexadecimalNumber, 1, 1 + length, result));
+        Assertions.assertEquals(expectedStatus, result.getStatus());
+
+        Assertions.assertEquals(expectedStatus,
+                HexadecimalParser.tryParse(paddedHexadecimalNumber.toCharArray(), 1, length, result));
+
+        Assertions.assertEquals(expectedStatus,
+                HexadecimalParser.tryParse(paddedHexadecimalNumber.getBytes(StandardCharsets.US_ASCII),
+                                           1, length, result));
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"١", "Ａ", "Ł"})
+    void tryParse_nonAsciiDigits_invalidDigit(String hexadecimalNumber) {
+
+        CalculationResult result = new CalculationResult();
+
+        Assertions.assertEquals(CalculationStatus.INVALID_DIGIT,
+                HexadecimalParser.tryParse(hexadecimalNumber, result));
+    }
+}
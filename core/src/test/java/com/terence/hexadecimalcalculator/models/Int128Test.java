@@ -0,0 +1,150 @@
+package com.terence.hexadecimalcalculator.models;
+
+
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter.LetterCase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import  org.junit.jupiter.api.Assertions;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Contains the unit tests for the various public methods of the Int128
+ * class
+ * */
+class Int128Test {
+
+    private static final BigInteger MIN_VALUE = BigInteger.ONE.shiftLeft(127).negate();
+
+    private static final BigInteger MAX_VALUE = BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE);
+
+
+    @ParameterizedTest
+    @CsvSource({"0,OK", "-0,OK", "+1A3F,OK", "7FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFF,OK",
+            "-80000000000000000000000000000000,OK", "0000000000000000000000000000000000001,OK",
+            "80000000000000000000000000000000,OUT_OF_RANGE", "-80000000000000000000000000000001,OUT_OF_RANGE",
+            "100000000000000000000000000000000,OUT_OF_RANGE", "12G4,INVALID_DIGIT", "-,INVALID_DIGIT",
+            "'',INVALID_DIGIT"})
+    void tryParse_allRanges_correctStatusAndValue(String hexadecimalNumber, CalculationStatus expectedStatus) {
+
+        Int128 number = new Int128();
+
+        Assertions.assertEquals(expectedStatus, Int128.tryParse(hexadecimalNumber, number));
+
+        if (expectedStatus == CalculationStatus.OK){
+            BigInteger expectedValue = new BigInteger(hexadecimalNumber, 16);
+
+            Assertions.assertEquals(expectedValue.toString(16), number.toString());
+            Assertions.assertEquals(expectedValue.toString(16).toUpperCase(),
+                                    number.toHexadecimalString(LetterCase.UPPER));
+            Assertions.assertEquals(expectedValue, number.toHexBigInteger().toBigInteger());
+        }
+    }
+
+
+    @Test
+    void setSumDifferenceProduct_extremeLongs_exactResult() {
+
+        long[] decimalNumbers = {0, 1, -1, Long.MAX_VALUE, Long.MIN_VALUE, 0x123456789ABCDEFL, -0xFEDCBAL};
+        Int128 result = new Int128();
+
+        for (long firstDecimalNumber : decimalNumbers){
+            for (long secondDecimalNumber : decimalNumbers){
+                BigInteger firstNumber = BigInteger.valueOf(firstDecimalNumber);
+                BigInteger secondNumber = BigInteger.valueOf(secondDecimalNumber);
+
+                Assertions.assertEquals(firstNumber.add(secondNumber), toBigInteger(
+                        HexadecimalCalculator.add(firstDecimalNumber, secondDecimalNumber, result)));
+                Assertions.assertEquals(firstNumber.subtract(secondNumber), toBigInteger(
+                        HexadecimalCalculator.subtract(firstDecimalNumber, secondDecimalNumber, result)));
+                Assertions.assertEquals(firstNumber.multiply(secondNumber), toBigInteger(
+                        HexadecimalCalculator.multiply(firstDecimalNumber, secondDecimalNumber, result)));
+            }
+        }
+    }
+
+
+    @Test
+    void addSubtractMultiply_randomOperands_sameAsBigIntegerOrOverflow() {
+
+        Random random = new Random(7);
+
+        for (int iteration = 0; iteration < 20000; iteration++){
+            BigInteger firstNumber = randomInt128(random);
+            BigInteger secondNumber = randomInt128(random);
+
+            assertExactOrOverflow(firstNumber.add(secondNumber),
+                    toInt128(firstNumber), number -> number.add(toInt128(secondNumber)));
+            assertExactOrOverflow(firstNumber.subtract(secondNumber),
+                    toInt128(firstNumber), number -> number.subtract(toInt128(secondNumber)));
+            assertExactOrOverflow(firstNumber.multiply(secondNumber),
+                    toInt128(firstNumber), number -> number.multiply(toInt128(secondNumber)));
+        }
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"-80000000000000000000000000000000,1,true", "-40000000000000000000000000000000,2,true",
+            "40000000000000000000000000000000,2,false", "-80000000000000000000000000000000,-1,false"})
+    void multiply_edgeOfRange_correctOverflow(String firstHexadecimalNumber, String secondHexadecimalNumber,
+                                              boolean expectedExact) {
+
+        Int128 firstNumber = new Int128();
+        Int128 secondNumber = new Int128();
+
+        Int128.tryParse(firstHexadecimalNumber, firstNumber);
+        Int128.tryParse(secondHexadecimalNumber, secondNumber);
+
+        Assertions.assertEquals(expectedExact, firstNumber.multiply(secondNumber));
+    }
+
+
+    private interface Int128Operation {
+
+        boolean apply(Int128 number);
+    }
+
+
+    private static void assertExactOrOverflow(BigInteger expectedResult, Int128 number, Int128Operation operation){
+
+        boolean expectedExact = expectedResult.compareTo(MIN_VALUE) >= 0 && expectedResult.compareTo(MAX_VALUE) <= 0;
+
+        Assertions.assertEquals(expectedExact, operation.apply(number));
+
+        if (expectedExact){
+            Assertions.assertEquals(expectedResult, toBigInteger(number));
+        }
+    }
+
+
+    private static BigInteger randomInt128(Random random){
+
+        //mostly small or 64-bit sized numbers, whose results are near the edges of the range
+        int bitLength = switch (random.nextInt(4)){
+            case 0 -> 127;
+            case 1 -> 64;
+            case 2 -> 63 + random.nextInt(2);
+            default -> random.nextInt(128);
+        };
+
+        BigInteger number = new BigInteger(bitLength, random);
+
+        return random.nextBoolean() ? number.negate().subtract(BigInteger.valueOf(random.nextInt(2))) : number;
+    }
+
+
+    private static Int128 toInt128(BigInteger number){
+        return new Int128().set(number.shiftRight(64).longValue(), number.longValue());
+    }
+
+
+    private static BigInteger toBigInteger(Int128 number){
+        return BigInteger.valueOf(number.getHigh()).shiftLeft(64)
+                         .add(BigInteger.valueOf(number.getLow()).and(BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE)));
+    }
+}
@@ -0,0 +1,69 @@
+package com.terence.hexadecimalcalculator;
+
+import com.terence.hexadecimalcalculator.cli.HexadecimalCalculatorCli;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+
+public class Main extends Application {
+    @Override
+    public void start(Stage stage) throws IOException {
+        FXMLLoader fxmlLoader = new FXMLLoader(
+                Main.class.getResource("hexadecimal-calculator-view.fxml"));
+        Scene scene = new Scene(fxmlLoader.load());
+
+        stage.setTitle("Hexadecimal Calculator By Terence Lee");
+        stage.setScene(scene);
+
+        if (Boolean.getBoolean("hexadecimalcalculator.exitAfterFirstFrame")){
+            exitAfterFirstFrame(scene);
+        }
+
+        stage.show();
+    }
+
+
+    /**
+     * Print "first frame" and exit once the first frame of the window is laid out, so a
+     * startup benchmark (or the training run of a class-data sharing archive) can time and
+     * end the JavaFX bootstrap
+     * */
+    private static void exitAfterFirstFrame(Scene scene){
+
+        scene.addPostLayoutPulseListener(new Runnable() {
+
+            private boolean firstFrame = true;
+
+            @Override
+            public void run() {
+
+                if (firstFrame){
+                    firstFrame = false;
+
+                    System.out.println("first frame");
+                    Platform.exit();
+                }
+            }
+        });
+    }
+
+    /**
+     * Start the JavaFX app, or with --headless, evaluate lines from the standard input
+     * without starting JavaFX (see HexadecimalCalculatorCli for the other options)
+     * */
+    public static void main(String[] args) throws IOException {
+
+        if (Arrays.asList(args).contains("--headless")){
+            HexadecimalCalculatorCli.main(args);
+            return;
+        }
+
+        launch();
+    }
+}
\ No newline at end of file
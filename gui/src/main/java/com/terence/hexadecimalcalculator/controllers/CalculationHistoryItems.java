@@ -0,0 +1,101 @@
+package com.terence.hexadecimalcalculator.controllers;
+
+
+import com.terence.hexadecimalcalculator.history.CalculationHistory;
+import com.terence.hexadecimalcalculator.history.CalculationRecord;
+import javafx.collections.ObservableListBase;
+
+import java.util.Collections;
+
+
+/**
+ * @author Terence Lee
+ *
+ * The items of the history ListView: the calculations of a CalculationHistory, oldest
+ * first, read from the mapped file only when their cell is shown. A ListView only creates
+ * the cells it can display, so the window can scroll through millions of calculations
+ * without holding them in memory.
+ *
+ * The range of sequences is a snapshot, moved forward by refresh() on the JavaFX
+ * application thread, so the size does not change under the ListView. An item that has been
+ * overwritten since (or was cut off by a crash) is null
+ * */
+final class CalculationHistoryItems extends ObservableListBase<CalculationRecord> {
+
+    private final CalculationHistory history;
+
+    private long firstSequence;
+
+    private long nextSequence;
+
+
+    CalculationHistoryItems(CalculationHistory history){
+
+        this.history = history;
+
+        nextSequence = history.nextSequence();
+        firstSequence = Math.max(0, nextSequence - history.getCapacity());
+    }
+
+
+    @Override
+    public CalculationRecord get(int index) {
+
+        if (index < 0 || index >= size()){
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        return history.get(firstSequence + index);
+    }
+
+
+    @Override
+    public int size() {
+        return (int) (nextSequence - firstSequence);
+    }
+
+
+    /**
+     * Returns the index of the calculation of a sequence, or -1 if it is not in the snapshot
+     * */
+    int indexOf(long sequence){
+
+        return sequence >= firstSequence && sequence < nextSequence ? (int) (sequence - firstSequence) : -1;
+    }
+
+
+    /**
+     * Move the snapshot forward to the calculations appended since (by this window or by
+     * another process sharing the file), telling the ListView which calculations were
+     * overwritten at the start and which were added at the end
+     * */
+    void refresh(){
+
+        long newNextSequence = history.nextSequence();
+
+        if (newNextSequence == nextSequence){
+            return;
+        }
+
+        long newFirstSequence = Math.max(0, newNextSequence - history.getCapacity());
+
+        beginChange();
+
+        //the whole snapshot may have been overwritten
+        int numberOfRemovedItems = (int) Math.min(newFirstSequence - firstSequence, size());
+
+        if (numberOfRemovedItems > 0){
+            nextRemove(0, Collections.<CalculationRecord>nCopies(numberOfRemovedItems, null));
+        }
+
+        firstSequence = newFirstSequence;
+
+        int numberOfKeptItems = (int) Math.max(0, nextSequence - newFirstSequence);
+
+        nextSequence = newNextSequence;
+
+        nextAdd(numberOfKeptItems, size());
+
+        endChange();
+    }
+}
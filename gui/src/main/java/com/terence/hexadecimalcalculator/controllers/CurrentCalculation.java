@@ -0,0 +1,69 @@
+package com.terence.hexadecimalcalculator.controllers;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Keeps track of the one calculation of the window whose result is still wanted. A new
+ * calculation replaces the previous one, whose result is then out of date: the previous
+ * one may still finish (e.g. after it was cancelled, or between finishing and being
+ * displayed), but finish() tells the controller to discard its result.
+ *
+ * Only used on the JavaFX application thread, so it is not synchronized
+ *
+ * @param <T> the type of the calculations, e.g. HexadecimalCalculationTask
+ * */
+final class CurrentCalculation<T> {
+
+    //the calculation whose result is wanted, or null
+    private T calculation;
+
+
+    /**
+     * Make a calculation the current one, superseding the previous one (which the caller
+     * cancels, see cancel())
+     * */
+    void start(T calculation){
+        this.calculation = calculation;
+    }
+
+
+    /**
+     * Returns true if a calculation is the current one, i.e. its result is still wanted
+     * */
+    boolean isCurrent(T calculation){
+        return calculation != null && calculation == this.calculation;
+    }
+
+
+    /**
+     * End a calculation that has finished, if it is the current one
+     *
+     * @return true if its result is to be displayed, false if it was superseded or
+     *         cancelled, and its result is to be discarded
+     * */
+    boolean finish(T calculation){
+
+        if (!isCurrent(calculation)){
+            return false;
+        }
+
+        this.calculation = null;
+
+        return true;
+    }
+
+
+    /**
+     * Forget the current calculation, so that its result is discarded when it finishes
+     *
+     * @return the calculation, for the caller to cancel it, or null if there was none
+     * */
+    T cancel(){
+
+        T cancelledCalculation = calculation;
+        calculation = null;
+
+        return cancelledCalculation;
+    }
+}
@@ -0,0 +1,103 @@
+package com.terence.hexadecimalcalculator.controllers;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+
+/**
+ * @author Terence Lee
+ *
+ * The JDK Flight Recorder event of one calculation of the window (a click of the calculate
+ * button, or a recalculation while typing), with the time taken by each step: parsing and
+ * validating the inputs, calculating the result and writing it in hexadecimal and decimal
+ * (on the calculation thread), and putting the results on screen (which includes waiting
+ * for the JavaFX application thread). Cancelled calculations are not committed
+ * */
+@Name("com.terence.hexadecimalcalculator.DisplayResult")
+@Label("Display Calculation Result")
+@Description("One calculation of the calculator window")
+@Category({"Hexadecimal Calculator", "User Interface"})
+@StackTrace(false)
+@Threshold("0 ms")
+final class DisplayResultEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Arithmetic Mode")
+    String arithmeticMode;
+
+    @Label("Live")
+    @Description("true if started by typing, false if started by the calculate button")
+    boolean live;
+
+    @Label("Succeeded")
+    @Description("false if the inputs were invalid or the calculation failed")
+    boolean succeeded;
+
+    @Label("Validation")
+    @Timespan(Timespan.NANOSECONDS)
+    long validationDuration;
+
+    @Label("Calculation")
+    @Timespan(Timespan.NANOSECONDS)
+    long calculationDuration;
+
+    @Label("Decimal Conversion")
+    @Timespan(Timespan.NANOSECONDS)
+    long decimalConversionDuration;
+
+    @Label("UI Update")
+    @Timespan(Timespan.NANOSECONDS)
+    long uiUpdateDuration;
+
+    //when the current step started
+    private transient long stepStartTime;
+
+
+    void start(){
+
+        begin();
+        stepStartTime = System.nanoTime();
+    }
+
+
+    void endValidation(){
+        validationDuration = endStep();
+    }
+
+
+    void endCalculation(){
+        calculationDuration = endStep();
+    }
+
+
+    void endDecimalConversion(){
+        decimalConversionDuration = endStep();
+    }
+
+
+    void endUiUpdate(){
+        uiUpdateDuration = endStep();
+    }
+
+
+    /**
+     * Returns the time since the current step started, and start the next step
+     * */
+    private long endStep(){
+
+        long now = System.nanoTime();
+        long duration = now - stepStartTime;
+
+        stepStartTime = now;
+
+        return duration;
+    }
+}
@@ -0,0 +1,442 @@
+package com.terence.hexadecimalcalculator.controllers;
+
+
+import com.terence.hexadecimalcalculator.history.CalculationHistory;
+import com.terence.hexadecimalcalculator.models.ArithmeticMode;
+import com.terence.hexadecimalcalculator.models.BitwiseOperation;
+import com.terence.hexadecimalcalculator.models.HexBigInteger;
+import com.terence.hexadecimalcalculator.models.HexValue;
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter.LetterCase;
+import com.terence.hexadecimalcalculator.models.HexadecimalOperation;
+
+import java.util.function.BooleanSupplier;
+
+
+/**
+ * @author Terence Lee
+ *
+ * The work behind one calculation of the window, run by a HexadecimalCalculationTask on a
+ * background thread instead of the JavaFX application thread: parsing and validating the
+ * two numbers, calculating the result and writing it in hexadecimal and in decimal. It
+ * does not use JavaFX, so it can be run (and tested) on any thread.
+ *
+ * The inputs are copied from the views when the calculation is created, as the views may
+ * only be read on the JavaFX application thread, and everything to be displayed is returned
+ * by calculate() (a DisplayedResult), so the controller puts all of it on screen at once. A
+ * cancelled calculation stops at the next step, and returns no result to be displayed.
+ *
+ * A number is parsed only if the controller has no HexadecimalOperand of it yet, and the
+ * result is calculated with the values of the operands (HexValues, or HexBigIntegers in
+ * ARBITRARY_PRECISION) and written out from its value, so no text is ever parsed twice.
+ *
+ * The math operations after DIVISION_OPERATION are the BitwiseOperations, in the order they
+ * are declared. A unary one (e.g. NOT) ignores the second number
+ * */
+final class HexadecimalCalculation {
+
+    static final int ADD_OPERATION = 0;
+
+    static final int SUBTRACT_OPERATION = 1;
+
+    static final int MULTIPLY_OPERATION = 2;
+
+    static final int DIVISION_OPERATION = 3;
+
+    static final int FIRST_BITWISE_OPERATION = 4;
+
+    private final String firstHexadecimalNumber;
+
+    private final String secondHexadecimalNumber;
+
+    private final int mathOperationIndex;
+
+    //the selected bitwise operation, or null for an arithmetic operation
+    private final BitwiseOperation bitwiseOperation;
+
+    private final ArithmeticMode arithmeticMode;
+
+    private final DisplayResultEvent displayResultEvent = new DisplayResultEvent();
+
+    private HexadecimalOperand firstOperand;
+
+    private HexadecimalOperand secondOperand;
+
+    //the result (the quotient of a division) and the remainder of a division, in
+    //CHECKED_64 and the fixed-width modes
+    private HexValue result;
+
+    private HexValue remainder;
+
+    //the same in ARBITRARY_PRECISION
+    private HexBigInteger arbitraryPrecisionResult;
+
+    private HexBigInteger arbitraryPrecisionRemainder;
+
+
+    /**
+     * The texts to be displayed for one calculation: either an error message for an alert
+     * dialog, or the hexadecimal result and the three decimal numbers
+     * */
+    record DisplayedResult(String errorMessage,
+                           String hexadecimalResult,
+                           String firstDecimalNumber,
+                           String secondDecimalNumber,
+                           String decimalResult) {
+
+        static DisplayedResult failed(String errorMessage){
+            return new DisplayedResult(errorMessage, null, null, null, null);
+        }
+
+        boolean succeeded(){
+            return errorMessage == null;
+        }
+    }
+
+
+    /**
+     * @param firstHexadecimalNumber the text of the first number, as entered
+     * @param firstOperand the first number already parsed from that text, or null
+     * @param secondHexadecimalNumber the text of the second number, as entered
+     * @param secondOperand the second number already parsed from that text, or null
+     * @param mathOperationIndex the index of the selected math operation, e.g. DIVISION_OPERATION
+     * @param arithmeticMode the selected arithmetic mode
+     * */
+    HexadecimalCalculation(String firstHexadecimalNumber,
+                           HexadecimalOperand firstOperand,
+                           String secondHexadecimalNumber,
+                           HexadecimalOperand secondOperand,
+                           int mathOperationIndex,
+                           ArithmeticMode arithmeticMode){
+
+        this.firstHexadecimalNumber = firstHexadecimalNumber;
+        this.firstOperand = firstOperand;
+        this.secondHexadecimalNumber = secondHexadecimalNumber;
+        this.secondOperand = secondOperand;
+        this.mathOperationIndex = mathOperationIndex;
+        this.arithmeticMode = arithmeticMode;
+
+        bitwiseOperation = toBitwiseOperation(mathOperationIndex);
+    }
+
+
+    /**
+     * Returns the bitwise operation of a math operation index, or null if the index is of
+     * an arithmetic operation (e.g. ADD_OPERATION)
+     * */
+    static BitwiseOperation toBitwiseOperation(int mathOperationIndex){
+
+        return mathOperationIndex >= FIRST_BITWISE_OPERATION ?
+               BitwiseOperation.values()[mathOperationIndex - FIRST_BITWISE_OPERATION] : null;
+    }
+
+
+    ArithmeticMode getArithmeticMode(){
+        return arithmeticMode;
+    }
+
+
+    /**
+     * Returns the parsed first number, for the controller to keep once the calculation has
+     * been displayed
+     * */
+    HexadecimalOperand getFirstOperand(){
+        return firstOperand;
+    }
+
+
+    /**
+     * Returns the parsed second number, for the controller to keep once the calculation has
+     * been displayed
+     * */
+    HexadecimalOperand getSecondOperand(){
+        return secondOperand;
+    }
+
+
+    /**
+     * Returns the Flight Recorder event of this calculation, with the steps of calculate()
+     * timed. The controller times the UI update and commits it
+     * */
+    DisplayResultEvent getDisplayResultEvent(){
+        return displayResultEvent;
+    }
+
+
+    /**
+     * Append the calculation to a history, once it has succeeded with a result. In
+     * ARBITRARY_PRECISION, a calculation is only appended if its numbers fit in a long. The
+     * history only records arithmetic operations, so a bitwise one is not appended
+     *
+     * @return the sequence of the calculation in the history, or -1 if it was not appended
+     * */
+    long appendTo(CalculationHistory history){
+
+        if (bitwiseOperation != null){
+            return -1;
+        }
+
+        HexadecimalOperation operation = switch (mathOperationIndex) {
+            case ADD_OPERATION -> HexadecimalOperation.ADD;
+            case SUBTRACT_OPERATION -> HexadecimalOperation.SUBTRACT;
+            case MULTIPLY_OPERATION -> HexadecimalOperation.MULTIPLY;
+            default -> HexadecimalOperation.DIVIDE;
+        };
+
+        if (arithmeticMode != ArithmeticMode.ARBITRARY_PRECISION){
+            return history.append(operation, arithmeticMode, firstOperand.getValue().getValue(),
+                                  secondOperand.getValue().getValue(), result.getValue(),
+                                  remainder != null ? remainder.getValue() : 0);
+        }
+
+        HexBigInteger firstNumber = firstOperand.getArbitraryPrecisionValue();
+        HexBigInteger secondNumber = secondOperand.getArbitraryPrecisionValue();
+
+        if (!firstNumber.fitsInLong() || !secondNumber.fitsInLong() || !arbitraryPrecisionResult.fitsInLong() ||
+            (arbitraryPrecisionRemainder != null && !arbitraryPrecisionRemainder.fitsInLong())){
+
+            return -1;
+        }
+
+        return history.append(operation, arithmeticMode, firstNumber.longValueExact(),
+                              secondNumber.longValueExact(), arbitraryPrecisionResult.longValueExact(),
+                              arbitraryPrecisionRemainder != null ? arbitraryPrecisionRemainder.longValueExact() : 0);
+    }
+
+
+    /**
+     * Parse, calculate and write out the result, checking for a cancellation between the steps
+     *
+     * @param cancellationRequested returns true once the calculation is no longer wanted,
+     *                              e.g. Task.isCancelled() of the task running it
+     *
+     * @return the texts to be displayed, or null if the calculation was cancelled
+     * */
+    DisplayedResult calculate(BooleanSupplier cancellationRequested) {
+
+        displayResultEvent.start();
+
+        if (firstOperand == null){
+            firstOperand = HexadecimalOperand.parse(firstHexadecimalNumber, "first number", arithmeticMode);
+        }
+
+        if (secondOperand == null){
+            secondOperand = HexadecimalOperand.parse(secondHexadecimalNumber, "second number", arithmeticMode);
+        }
+
+        String errorMessage = firstOperand.getErrorMessage() +
+                              (isUnaryOperation() ? "" : secondOperand.getErrorMessage()) +
+                              validateSecondNumberIsNotZeroWhenDivision() +
+                              validateArithmeticModeHasWidthWhenBitwise();
+
+        displayResultEvent.endValidation();
+
+        if (!errorMessage.equals("")){
+            return DisplayedResult.failed(errorMessage);
+        }
+
+        if (cancellationRequested.getAsBoolean()){
+            return null;
+        }
+
+        try{
+            calculateResult();
+        }
+        catch (ArithmeticException e){
+            displayResultEvent.endCalculation();
+
+            return DisplayedResult.failed("The result of the calculation is too large");
+        }
+        catch (IllegalArgumentException e){
+            displayResultEvent.endCalculation();
+
+            //e.g. a negative shift distance
+            return DisplayedResult.failed(e.getMessage());
+        }
+
+        displayResultEvent.endCalculation();
+
+        if (cancellationRequested.getAsBoolean()){
+            return null;
+        }
+
+        DisplayedResult displayedResult = writeResult();
+
+        displayResultEvent.endDecimalConversion();
+
+        return displayedResult;
+    }
+
+
+    /**
+     * Validate that the second number is not zero in a division operation
+     *
+     * @return errorMessage if the second number is zero and the math operation to be carried
+     *                      out is division, return an error message stating that the second
+     *                      number cannot be zero. Otherwise, return an empty string
+     * */
+    private String validateSecondNumberIsNotZeroWhenDivision()
+    {
+        String errorMessage = "";
+
+        if (mathOperationIndex == DIVISION_OPERATION && secondOperand.isZero())
+        {
+            errorMessage = "The second number cannot be zero in a division operation";
+        }
+
+        return errorMessage;
+    }
+
+
+    /**
+     * Validate that the arithmetic mode has a width in a bitwise operation
+     *
+     * @return errorMessage if the math operation to be carried out is bitwise and the mode is
+     *                      ARBITRARY_PRECISION, return an error message stating that a width
+     *                      is needed. Otherwise, return an empty string
+     * */
+    private String validateArithmeticModeHasWidthWhenBitwise()
+    {
+        String errorMessage = "";
+
+        if (bitwiseOperation != null && arithmeticMode == ArithmeticMode.ARBITRARY_PRECISION)
+        {
+            errorMessage = "The bitwise operations need an 8, 16, 32 or 64-bit arithmetic mode";
+        }
+
+        return errorMessage;
+    }
+
+
+    private boolean isUnaryOperation(){
+        return bitwiseOperation != null && bitwiseOperation.isUnary();
+    }
+
+
+    /**
+     * Calculate the result of the selected math operation with the number type of the
+     * selected arithmetic mode
+     *
+     * @throws ArithmeticException if the result does not fit in a checked mode
+     * @throws IllegalArgumentException if the distance of a shift is negative
+     * */
+    private void calculateResult(){
+
+        if (bitwiseOperation != null){
+            calculateBitwiseResult();
+        }
+        else if (arithmeticMode == ArithmeticMode.ARBITRARY_PRECISION){
+            calculateArbitraryPrecisionResult();
+        }
+        else {
+            calculateHexValueResult();
+        }
+    }
+
+
+    /**
+     * Calculate the result with the HexValues of CHECKED_64 or a fixed-width mode (e.g.
+     * 8-bit unsigned wrapping)
+     *
+     * @throws ArithmeticException if the result does not fit in a checked mode
+     * */
+    private void calculateHexValueResult(){
+
+        HexValue firstValue = firstOperand.getValue();
+        HexValue secondValue = secondOperand.getValue();
+
+        switch (mathOperationIndex) {
+
+            case ADD_OPERATION -> result = firstValue.add(secondValue);
+
+            case SUBTRACT_OPERATION -> result = firstValue.subtract(secondValue);
+
+            case MULTIPLY_OPERATION -> result = firstValue.multiply(secondValue);
+
+            default -> {
+                result = firstValue.divide(secondValue);
+
+                //the division succeeded, so the divisor is not zero and the modulus cannot fail
+                remainder = firstValue.modulus(secondValue);
+            }
+        }
+    }
+
+
+    /**
+     * Calculate the result of the selected bitwise operation on the bits of the values of
+     * a fixed-width mode (or CHECKED_64)
+     *
+     * @throws IllegalArgumentException if the distance of a shift is negative
+     * */
+    private void calculateBitwiseResult(){
+
+        long firstDecimalNumber = firstOperand.getValue().getValue();
+        long secondDecimalNumber = isUnaryOperation() ? 0 : secondOperand.getValue().getValue();
+
+        result = HexValue.of(bitwiseOperation.apply(firstDecimalNumber, secondDecimalNumber, arithmeticMode),
+                             arithmeticMode);
+    }
+
+
+    /**
+     * Calculate the result with HexBigIntegers, i.e. without a limit on the number of digits
+     * */
+    private void calculateArbitraryPrecisionResult(){
+
+        HexBigInteger firstNumber = firstOperand.getArbitraryPrecisionValue();
+        HexBigInteger secondNumber = secondOperand.getArbitraryPrecisionValue();
+
+        switch (mathOperationIndex) {
+
+            case ADD_OPERATION -> arbitraryPrecisionResult = firstNumber.add(secondNumber);
+
+            case SUBTRACT_OPERATION -> arbitraryPrecisionResult = firstNumber.subtract(secondNumber);
+
+            case MULTIPLY_OPERATION -> arbitraryPrecisionResult = firstNumber.multiply(secondNumber);
+
+            default -> {
+                HexBigInteger[] quotientAndRemainder = firstNumber.divideAndRemainder(secondNumber);
+
+                arbitraryPrecisionResult = quotientAndRemainder[0];
+                arbitraryPrecisionRemainder = quotientAndRemainder[1];
+            }
+        }
+    }
+
+
+    /**
+     * Write the result (and the remainder of a division) in hexadecimal and in decimal,
+     * from its value
+     *
+     * @return the texts to be displayed
+     * */
+    private DisplayedResult writeResult(){
+
+        String hexadecimalResult;
+        String decimalResult;
+
+        if (arithmeticMode == ArithmeticMode.ARBITRARY_PRECISION){
+            hexadecimalResult = arbitraryPrecisionResult.toHexadecimalString(LetterCase.UPPER);
+            decimalResult = arbitraryPrecisionResult.toBigInteger().toString();
+        }
+        else {
+            hexadecimalResult = result.toHexadecimalString(LetterCase.UPPER);
+            decimalResult = result.toDecimalString();
+        }
+
+        if (mathOperationIndex == DIVISION_OPERATION){
+
+            if (arithmeticMode == ArithmeticMode.ARBITRARY_PRECISION){
+                hexadecimalResult += " Remainder " + arbitraryPrecisionRemainder.toHexadecimalString(LetterCase.UPPER);
+                decimalResult += " Remainder " + arbitraryPrecisionRemainder.toBigInteger().toString();
+            }
+            else {
+                hexadecimalResult += " Remainder " + remainder.toHexadecimalString(LetterCase.UPPER);
+                decimalResult += " Remainder " + remainder.toDecimalString();
+            }
+        }
+
+        return new DisplayedResult(null, hexadecimalResult, firstOperand.getDecimalNumber(),
+                                   isUnaryOperation() ? "" : secondOperand.getDecimalNumber(), decimalResult);
+    }
+}
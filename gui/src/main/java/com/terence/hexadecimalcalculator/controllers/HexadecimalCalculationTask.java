@@ -0,0 +1,41 @@
+package com.terence.hexadecimalcalculator.controllers;
+
+
+import javafx.concurrent.Task;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Runs a HexadecimalCalculation on a background thread, for the controller to be told on
+ * the JavaFX application thread when it has succeeded or failed. The calculation checks
+ * isCancelled() between its steps, so a cancelled task stops early, and its value is null
+ * */
+final class HexadecimalCalculationTask extends Task<HexadecimalCalculation.DisplayedResult> {
+
+    private final HexadecimalCalculation calculation;
+
+
+    /**
+     * @param calculation the calculation to be run
+     * */
+    HexadecimalCalculationTask(HexadecimalCalculation calculation){
+        this.calculation = calculation;
+    }
+
+
+    HexadecimalCalculation getCalculation(){
+        return calculation;
+    }
+
+
+    /**
+     * Run the calculation
+     *
+     * @return the texts to be displayed, or null if the task was cancelled
+     * */
+    @Override
+    protected HexadecimalCalculation.DisplayedResult call() {
+        return calculation.calculate(this::isCancelled);
+    }
+}
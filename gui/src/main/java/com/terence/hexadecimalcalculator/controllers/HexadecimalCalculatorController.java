@@ -0,0 +1,555 @@
+package com.terence.hexadecimalcalculator.controllers;
+
+
+import com.terence.hexadecimalcalculator.history.CalculationHistory;
+import com.terence.hexadecimalcalculator.history.CalculationRecord;
+import com.terence.hexadecimalcalculator.models.ArithmeticMode;
+import com.terence.hexadecimalcalculator.models.BitwiseOperation;
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter.LetterCase;
+import javafx.animation.PauseTransition;
+import javafx.fxml.FXML;
+import javafx.scene.control.*;
+import javafx.scene.input.MouseButton;
+import javafx.scene.layout.Region;
+import javafx.util.Duration;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+
+/**
+ * @author Terence Lee
+ *
+ * A controller class for the hexadecimal-calculator-view.fxml file. The calculations run
+ * in a HexadecimalCalculationTask on a calculation thread, so a long one (e.g. of large
+ * arbitrary precision numbers) does not freeze the window. Only the result of the
+ * CurrentCalculation is displayed, so a calculation superseded by newer inputs is discarded.
+ *
+ * The results are recalculated as the user types: every change of a number, the math
+ * operation or the mode restarts a RECALCULATION_DELAY timer, so a burst of keystrokes
+ * leads to one calculation. The numbers parsed by the last calculation are kept until
+ * their text field changes, so only the number being edited is parsed again.
+ *
+ * Every calculation of the calculate button is appended to the CalculationHistory file
+ * shared with the headless mode, and shown in a virtualized list: a double click on a
+ * calculation puts its numbers, operation and mode back into the window, and the search
+ * field finds the calculations with a number starting with a hexadecimal prefix
+ * */
+public class HexadecimalCalculatorController {
+
+    //how long the inputs have to stay unchanged before the results are recalculated
+    private static final Duration RECALCULATION_DELAY = Duration.millis(150);
+
+    //how long a calculation runs before the progress indicator is shown
+    private static final Duration PROGRESS_INDICATOR_DELAY = Duration.millis(200);
+
+    //the time of a calculation in the history list
+    private static final DateTimeFormatter HISTORY_TIME_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+
+    //the calculation threads, daemons so they do not keep the JVM alive after the window is closed
+    private static final ExecutorService CALCULATION_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+
+        Thread thread = new Thread(runnable, "hexadecimal-calculation");
+        thread.setDaemon(true);
+
+        return thread;
+    });
+
+    @FXML
+    private TextField userInputFirstHexadecimalNumberTextField;
+
+    @FXML
+    private TextField userInputSecondHexadecimalNumberTextField;
+
+    @FXML
+    private TextField hexadecimalResultReadOnlyTextField;
+
+    @FXML
+    private TextField firstDecimalNumberReadOnlyTextField;
+
+    @FXML
+    private TextField secondDecimalNumberReadOnlyTextField;
+
+    @FXML
+    private TextField decimalResultReadyOnlyTextField;
+
+    @FXML
+    private Button calculateResultButton;
+
+    @FXML
+    private Label mathOperationLabel;
+
+    @FXML
+    private ComboBox<String> mathOperationComboBox;
+
+    @FXML
+    private ComboBox<String> arithmeticModeComboBox;
+
+    @FXML
+    private ProgressIndicator calculationProgressIndicator;
+
+    @FXML
+    private TextField historySearchTextField;
+
+    @FXML
+    private ListView<CalculationRecord> historyListView;
+
+    //the history of the calculations, or null if its file could not be opened
+    private CalculationHistory history;
+
+    private CalculationHistoryItems historyItems;
+
+    //the prefix searched last and the sequence of the calculation it found, to find an older one next
+    private String lastHistoryPrefix;
+
+    private long lastFoundSequence;
+
+    //the calculation running, whose result is to be displayed
+    private final CurrentCalculation<HexadecimalCalculationTask> currentCalculation = new CurrentCalculation<>();
+
+    //the numbers parsed by the last calculation, or null after their text field or the mode changed
+    private HexadecimalOperand firstOperand;
+
+    private HexadecimalOperand secondOperand;
+
+    private final PauseTransition recalculationDelay = new PauseTransition(RECALCULATION_DELAY);
+
+    private final PauseTransition progressIndicatorDelay = new PauseTransition(PROGRESS_INDICATOR_DELAY);
+
+
+    /**
+     * Initialize all the views in the app, and calculate the results of the numbers they
+     * start with
+     * */
+    public void initialize(){
+        initializeMathOperationComboBox();
+
+        initializeArithmeticModeComboBox();
+
+        initializeFirstAndSecondHexadecimalNumberTextFields();
+
+        initializeCalculateResultButton();
+
+        initializeHistory();
+
+        recalculationDelay.setOnFinished(actionEvent -> calculateAndDisplayResult(false));
+
+        progressIndicatorDelay.setOnFinished(actionEvent -> calculationProgressIndicator.setVisible(true));
+
+        calculateAndDisplayResult(false);
+    }
+
+
+    /**
+     * Initialize both the firstHexadecimalNumberTextField and secondHexadecimalTextField
+     * such that if the user changes the value of the hexadecimal, its parsed number is
+     * dropped and the results are recalculated
+     * */
+    private void initializeFirstAndSecondHexadecimalNumberTextFields(){
+
+        userInputFirstHexadecimalNumberTextField.textProperty().addListener(
+                (observable, oldValue, newValue)->{
+            if (!oldValue.equals(newValue)){
+                firstOperand = null;
+                scheduleRecalculation();
+            }
+        });
+
+
+        userInputSecondHexadecimalNumberTextField.textProperty().addListener(
+                (observable, oldValue, newValue)->{
+            if (!oldValue.equals(newValue)){
+                secondOperand = null;
+                scheduleRecalculation();
+            }
+        });
+    }
+
+
+    /**
+     * Initialize the math operation combobox with the arithmetic operations, followed by the
+     * symbols of the BitwiseOperations in the order they are declared
+     *
+     * Also initialize the combobox such that if the value change, the results are
+     * recalculated
+     * */
+    private void initializeMathOperationComboBox(){
+        mathOperationComboBox.getItems().add("+");
+        mathOperationComboBox.getItems().add("-");
+        mathOperationComboBox.getItems().add("×");
+        mathOperationComboBox.getItems().add("÷");
+
+        for (BitwiseOperation bitwiseOperation : BitwiseOperation.values()){
+            mathOperationComboBox.getItems().add(bitwiseOperation.getSymbol());
+        }
+
+        mathOperationComboBox.getSelectionModel().select(0);
+        mathOperationComboBox.getStyleClass().add("math-operation-combo-box");
+
+        mathOperationComboBox.valueProperty().addListener((options, oldValue, newValue)->{
+            if (!oldValue.equals(newValue)){
+                updateMathOperationLabel();
+                scheduleRecalculation();
+            }
+        });
+    }
+
+
+    /**
+     * Initialize the arithmetic mode combobox with the display names of the ArithmeticModes,
+     * in the order they are declared (so the selected index is the ordinal of the mode)
+     *
+     * Also initialize the combobox such that if the value change, both numbers are
+     * parsed again (with the number type of the new mode) and the results are recalculated
+     * */
+    private void initializeArithmeticModeComboBox(){
+
+        for (ArithmeticMode arithmeticMode : ArithmeticMode.values()){
+            arithmeticModeComboBox.getItems().add(arithmeticMode.getDisplayName());
+        }
+
+        arithmeticModeComboBox.getSelectionModel().select(ArithmeticMode.CHECKED_64.ordinal());
+
+        arithmeticModeComboBox.valueProperty().addListener((options, oldValue, newValue)->{
+            if (!oldValue.equals(newValue)){
+                firstOperand = null;
+                secondOperand = null;
+                scheduleRecalculation();
+            }
+        });
+    }
+
+
+    /**
+     * Returns the arithmetic mode selected in the arithmetic mode combobox
+     * */
+    private ArithmeticMode getSelectedArithmeticMode(){
+
+        return ArithmeticMode.values()[arithmeticModeComboBox.getSelectionModel().getSelectedIndex()];
+    }
+
+
+    /**
+     * Update the math operation label for the decimal equivalent conversion
+     * section based on the selected math operation from the math operation combobox
+     *
+     * The second number is disabled while the operation is a unary bitwise one (e.g. NOT),
+     * as it is ignored
+     * */
+    private void updateMathOperationLabel(){
+
+        String currentMathOperation =
+                mathOperationComboBox.getSelectionModel().getSelectedItem();
+
+        mathOperationLabel.setText(currentMathOperation);
+
+        BitwiseOperation bitwiseOperation = HexadecimalCalculation.toBitwiseOperation(
+                mathOperationComboBox.getSelectionModel().getSelectedIndex());
+
+        userInputSecondHexadecimalNumberTextField.setDisable(bitwiseOperation != null && bitwiseOperation.isUnary());
+    }
+
+    /**
+     * Initialize the calculate result button
+     * */
+    private void initializeCalculateResultButton(){
+
+        this.calculateResultButton.setOnAction(actionEvent -> calculateAndDisplayResult(true));
+    }
+
+
+    /**
+     * Open the history file and show its calculations in the history list, the newest at
+     * the bottom. If the file cannot be opened, the calculator works without a history
+     * */
+    private void initializeHistory(){
+
+        try{
+            history = CalculationHistory.open(CalculationHistory.defaultFile());
+        }
+        catch (IOException e){
+            historyListView.setPlaceholder(new Label("The history could not be opened: " + e.getMessage()));
+            historySearchTextField.setDisable(true);
+            return;
+        }
+
+        historyItems = new CalculationHistoryItems(history);
+
+        historyListView.setItems(historyItems);
+        historyListView.setPlaceholder(new Label("No calculations yet"));
+        historyListView.setCellFactory(listView -> new ListCell<>() {
+
+            @Override
+            protected void updateItem(CalculationRecord calculationRecord, boolean empty) {
+
+                super.updateItem(calculationRecord, empty);
+
+                if (empty || calculationRecord == null){
+                    setText(null);
+                    return;
+                }
+
+                setText(HISTORY_TIME_FORMATTER.format(Instant.ofEpochMilli(calculationRecord.timestampMillis())) +
+                        "   " + calculationRecord.toText(LetterCase.UPPER) +
+                        "   (" + calculationRecord.arithmeticMode().getDisplayName() + ")");
+            }
+        });
+
+        historyListView.setOnMouseClicked(mouseEvent -> {
+
+            CalculationRecord calculationRecord = historyListView.getSelectionModel().getSelectedItem();
+
+            if (mouseEvent.getButton() == MouseButton.PRIMARY && mouseEvent.getClickCount() == 2 &&
+                calculationRecord != null){
+
+                replayCalculation(calculationRecord);
+            }
+        });
+
+        historySearchTextField.setOnAction(actionEvent -> findInHistory());
+
+        if (!historyItems.isEmpty()){
+            historyListView.scrollTo(historyItems.size() - 1);
+        }
+    }
+
+
+    /**
+     * Put the numbers, operation and mode of a calculation of the history back into the
+     * window, which recalculates it. A MODULUS (from the headless mode) is shown as a
+     * division, whose remainder is its result
+     * */
+    private void replayCalculation(CalculationRecord calculationRecord){
+
+        arithmeticModeComboBox.getSelectionModel().select(calculationRecord.arithmeticMode().ordinal());
+
+        mathOperationComboBox.getSelectionModel().select(switch (calculationRecord.operation()) {
+            case ADD -> HexadecimalCalculation.ADD_OPERATION;
+            case SUBTRACT -> HexadecimalCalculation.SUBTRACT_OPERATION;
+            case MULTIPLY -> HexadecimalCalculation.MULTIPLY_OPERATION;
+            default -> HexadecimalCalculation.DIVISION_OPERATION;
+        });
+
+        userInputFirstHexadecimalNumberTextField.setText(
+                calculationRecord.toHexadecimalString(calculationRecord.firstDecimalNumber(), LetterCase.UPPER));
+        userInputSecondHexadecimalNumberTextField.setText(
+                calculationRecord.toHexadecimalString(calculationRecord.secondDecimalNumber(), LetterCase.UPPER));
+    }
+
+
+    /**
+     * Select the newest calculation of the history with a number starting with the prefix
+     * in the search field. Searching the same prefix again selects the next older one, and
+     * starts over from the newest after the oldest
+     * */
+    private void findInHistory(){
+
+        String hexadecimalPrefix = historySearchTextField.getText().trim();
+
+        historyItems.refresh();
+
+        long beforeSequence = hexadecimalPrefix.equals(lastHistoryPrefix) ? lastFoundSequence : history.nextSequence();
+        long foundSequence;
+
+        try{
+            foundSequence = history.findHexadecimalPrefix(hexadecimalPrefix, beforeSequence);
+
+            if (foundSequence < 0 && beforeSequence != history.nextSequence()){
+                foundSequence = history.findHexadecimalPrefix(hexadecimalPrefix, history.nextSequence());
+            }
+        }
+        catch (NumberFormatException e){
+            foundSequence = -1;
+        }
+
+        lastHistoryPrefix = hexadecimalPrefix;
+        lastFoundSequence = foundSequence;
+
+        int index = historyItems.indexOf(foundSequence);
+
+        if (index < 0){
+            historyListView.getSelectionModel().clearSelection();
+            return;
+        }
+
+        historyListView.getSelectionModel().select(index);
+        historyListView.scrollTo(index);
+    }
+
+
+    /**
+     * Cancel the calculation still running, as its inputs have changed, and recalculate
+     * once the inputs stay unchanged for RECALCULATION_DELAY
+     * */
+    private void scheduleRecalculation(){
+
+        cancelCalculation();
+        recalculationDelay.playFromStart();
+    }
+
+
+
+    /**
+     * Calculate the results of the hexadecimal calculation, and their equivalent values in
+     * decimal, on a calculation thread. A calculation still running is cancelled, as its
+     * result would be out of date. If the calculation takes longer than
+     * PROGRESS_INDICATOR_DELAY, the progress indicator is shown until it ends
+     *
+     * @param displayErrors true to display an alert dialog if the inputs are invalid (for the
+     *                      calculate button), false to only clear the results (while typing)
+     * */
+    private void calculateAndDisplayResult(boolean displayErrors) {
+
+        recalculationDelay.stop();
+        cancelCalculation();
+
+        String firstHexadecimalNumber = userInputFirstHexadecimalNumberTextField.getText();
+        String secondHexadecimalNumber = userInputSecondHexadecimalNumberTextField.getText();
+        ArithmeticMode arithmeticMode = getSelectedArithmeticMode();
+
+        HexadecimalCalculationTask calculationTask = new HexadecimalCalculationTask(new HexadecimalCalculation(
+                firstHexadecimalNumber,
+                firstOperand != null && firstOperand.isParsedFrom(firstHexadecimalNumber, arithmeticMode) ?
+                        firstOperand : null,
+                secondHexadecimalNumber,
+                secondOperand != null && secondOperand.isParsedFrom(secondHexadecimalNumber, arithmeticMode) ?
+                        secondOperand : null,
+                mathOperationComboBox.getSelectionModel().getSelectedIndex(),
+                arithmeticMode));
+
+        String mathOperation = mathOperationComboBox.getSelectionModel().getSelectedItem();
+
+        calculationTask.setOnSucceeded(workerStateEvent ->
+                displayResult(calculationTask, mathOperation, displayErrors));
+
+        calculationTask.setOnFailed(workerStateEvent -> {
+            if (currentCalculation.finish(calculationTask)){
+                hideProgressIndicator();
+                displayErrorMessageInAlertDialog("The calculation failed: " +
+                                                 calculationTask.getException().getMessage());
+            }
+        });
+
+        currentCalculation.start(calculationTask);
+        progressIndicatorDelay.playFromStart();
+
+        CALCULATION_EXECUTOR.execute(calculationTask);
+    }
+
+
+    /**
+     * Display the results of a calculation that has succeeded, all in the same pulse, or
+     * clear them if the inputs were invalid or the calculation failed. The UI update is
+     * timed in the DisplayResultEvent of the calculation for the JDK Flight Recorder
+     *
+     * @param calculationTask the calculation that has succeeded
+     * @param mathOperation the math operation of the calculation, e.g. "+"
+     * @param displayErrors true to also display why the calculation failed in an alert dialog
+     * */
+    private void displayResult(HexadecimalCalculationTask calculationTask, String mathOperation,
+                               boolean displayErrors){
+
+        //the calculation was superseded after it had finished, but before this ran
+        if (!currentCalculation.finish(calculationTask)){
+            return;
+        }
+
+        hideProgressIndicator();
+
+        HexadecimalCalculation calculation = calculationTask.getCalculation();
+
+        firstOperand = calculation.getFirstOperand();
+        secondOperand = calculation.getSecondOperand();
+
+        HexadecimalCalculation.DisplayedResult displayedResult = calculationTask.getValue();
+        DisplayResultEvent displayResultEvent = calculation.getDisplayResultEvent();
+
+        if (displayedResult.succeeded()){
+
+            this.hexadecimalResultReadOnlyTextField.setText(displayedResult.hexadecimalResult());
+            this.firstDecimalNumberReadOnlyTextField.setText(displayedResult.firstDecimalNumber());
+            this.secondDecimalNumberReadOnlyTextField.setText(displayedResult.secondDecimalNumber());
+            this.decimalResultReadyOnlyTextField.setText(displayedResult.decimalResult());
+
+            displayResultEvent.endUiUpdate();
+            displayResultEvent.succeeded = true;
+
+            //only the calculations of the calculate button, not every one while typing
+            if (displayErrors && history != null && calculation.appendTo(history) >= 0){
+                historyItems.refresh();
+                historyListView.scrollTo(historyItems.size() - 1);
+            }
+        }
+        else {
+            clearAllReadOnlyTextFields();
+
+            if (displayErrors){
+                displayErrorMessageInAlertDialog(displayedResult.errorMessage());
+            }
+        }
+
+        if (displayResultEvent.shouldCommit()){
+            displayResultEvent.live = !displayErrors;
+            displayResultEvent.operation = mathOperation;
+            displayResultEvent.arithmeticMode = calculation.getArithmeticMode().name();
+            displayResultEvent.commit();
+        }
+    }
+
+
+    /**
+     * Cancel the calculation still running, if any, so its results are never displayed
+     * */
+    private void cancelCalculation(){
+
+        HexadecimalCalculationTask calculationTask = currentCalculation.cancel();
+
+        if (calculationTask != null){
+            calculationTask.cancel();
+            hideProgressIndicator();
+        }
+    }
+
+
+    /**
+     * Hide the progress indicator, once the current calculation has ended
+     * */
+    private void hideProgressIndicator(){
+
+        progressIndicatorDelay.stop();
+        calculationProgressIndicator.setVisible(false);
+    }
+
+
+    /**
+     * Display an error message in a pop-up alert dialog
+     *
+     * @param errorMessage the error message to be displayed
+     * */
+    private void displayErrorMessageInAlertDialog(String errorMessage){
+
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setContentText(errorMessage);
+        alert.getDialogPane().setMinHeight(Region.USE_PREF_SIZE);
+        alert.show();
+    }
+
+
+    /**
+     * Clear out all the text on the read-only text-fields containing results from the calculations/
+     * decimal-equivalent converted values
+     * */
+    private void clearAllReadOnlyTextFields() {
+
+        this.hexadecimalResultReadOnlyTextField.setText("");
+
+        this.firstDecimalNumberReadOnlyTextField.setText("");
+        this.secondDecimalNumberReadOnlyTextField.setText("");
+        this.decimalResultReadyOnlyTextField.setText("");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,193 @@
+package com.terence.hexadecimalcalculator.controllers;
+
+
+import com.terence.hexadecimalcalculator.models.ArithmeticMode;
+import com.terence.hexadecimalcalculator.models.CalculationResult;
+import com.terence.hexadecimalcalculator.models.CalculationStatus;
+import com.terence.hexadecimalcalculator.models.FixedWidthArithmetic;
+import com.terence.hexadecimalcalculator.models.HexBigInteger;
+import com.terence.hexadecimalcalculator.models.HexValue;
+import com.terence.hexadecimalcalculator.models.HexadecimalFormatter.LetterCase;
+import com.terence.hexadecimalcalculator.models.HexadecimalParser;
+
+
+/**
+ * @author Terence Lee
+ *
+ * One of the two numbers entered in the window, parsed once with the number type of an
+ * arithmetic mode: a HexValue for CHECKED_64 and the fixed-width modes, a HexBigInteger
+ * for ARBITRARY_PRECISION. Its decimal text is also worked out once, and an invalid number
+ * keeps the error message to be displayed instead of a value.
+ *
+ * The controller keeps the operand of each text field until that field (or the mode)
+ * changes, so a recalculation after an edit of one number does not parse and convert the
+ * other one again. Operands are immutable, so they can be created on a calculation thread
+ * and used on the JavaFX application thread
+ * */
+final class HexadecimalOperand {
+
+    private final String hexadecimalNumber;
+
+    private final ArithmeticMode arithmeticMode;
+
+    //an empty string if the number is valid
+    private final String errorMessage;
+
+    private final HexValue value;
+
+    private final HexBigInteger arbitraryPrecisionValue;
+
+    //the decimal text of an ARBITRARY_PRECISION value (a HexValue keeps its own)
+    private final String arbitraryPrecisionDecimalNumber;
+
+
+    private HexadecimalOperand(String hexadecimalNumber, ArithmeticMode arithmeticMode, String errorMessage,
+                               HexValue value, HexBigInteger arbitraryPrecisionValue,
+                               String arbitraryPrecisionDecimalNumber){
+
+        this.hexadecimalNumber = hexadecimalNumber;
+        this.arithmeticMode = arithmeticMode;
+        this.errorMessage = errorMessage;
+        this.value = value;
+        this.arbitraryPrecisionValue = arbitraryPrecisionValue;
+        this.arbitraryPrecisionDecimalNumber = arbitraryPrecisionDecimalNumber;
+    }
+
+
+    /**
+     * Parse a hexadecimal number entered by the user
+     *
+     * @param hexadecimalNumber the text of the number, as entered (it is trimmed)
+     * @param inputName the name of the number (e.g. "first number"), to be included in the
+     *                  error message if it is invalid
+     * @param arithmeticMode the selected arithmetic mode, which decides the number type and
+     *                       the allowed range
+     * */
+    static HexadecimalOperand parse(String hexadecimalNumber, String inputName, ArithmeticMode arithmeticMode){
+
+        String trimmedHexadecimalNumber = hexadecimalNumber.trim();
+
+        if (arithmeticMode == ArithmeticMode.CHECKED_64){
+
+            CalculationResult parseResult = new CalculationResult();
+
+            if (HexadecimalParser.tryParse(trimmedHexadecimalNumber, parseResult) != CalculationStatus.OK){
+                return invalid(trimmedHexadecimalNumber, arithmeticMode,
+                        "The " + inputName + " need to contain 0-9 and A-F only, and \n" +
+                        "cannot be more than 7FFFFFFFFFFFFFFF.\n\n");
+            }
+
+            return new HexadecimalOperand(trimmedHexadecimalNumber, arithmeticMode, "",
+                                          HexValue.of(parseResult.getValue()), null, null);
+        }
+
+        if (arithmeticMode.isFixedWidth()){
+
+            HexValue fixedWidthValue;
+
+            try{
+                fixedWidthValue = HexValue.parse(trimmedHexadecimalNumber, arithmeticMode);
+            }
+            catch (NumberFormatException e){
+                return invalid(trimmedHexadecimalNumber, arithmeticMode,
+                        "The " + inputName + " need to contain 0-9 and A-F only, and \n" +
+                        "be from " + FixedWidthArithmetic.format(FixedWidthArithmetic.minValue(arithmeticMode),
+                                                                  arithmeticMode, LetterCase.UPPER) +
+                        " to " + FixedWidthArithmetic.format(FixedWidthArithmetic.maxValue(arithmeticMode),
+                                                             arithmeticMode, LetterCase.UPPER) +
+                        " in " + arithmeticMode.getDisplayName() + " mode.\n\n");
+            }
+
+            return new HexadecimalOperand(trimmedHexadecimalNumber, arithmeticMode, "", fixedWidthValue, null, null);
+        }
+
+        HexBigInteger arbitraryPrecisionValue;
+
+        try{
+            arbitraryPrecisionValue = HexBigInteger.parse(trimmedHexadecimalNumber);
+        }
+        catch (NumberFormatException e){
+            return invalid(trimmedHexadecimalNumber, arithmeticMode,
+                    "The " + inputName + " need to contain 0-9 and A-F only.\n\n");
+        }
+
+        return new HexadecimalOperand(trimmedHexadecimalNumber, arithmeticMode, "", null, arbitraryPrecisionValue,
+                                      arbitraryPrecisionValue.toBigInteger().toString());
+    }
+
+
+    private static HexadecimalOperand invalid(String hexadecimalNumber, ArithmeticMode arithmeticMode,
+                                              String errorMessage){
+
+        return new HexadecimalOperand(hexadecimalNumber, arithmeticMode, errorMessage, null, null, null);
+    }
+
+
+    /**
+     * Check if this operand is the parsed form of a text in a mode, i.e. if it can be used
+     * instead of parsing the text again
+     *
+     * @param hexadecimalNumber the text of the number, as entered
+     * @param arithmeticMode the selected arithmetic mode
+     * */
+    boolean isParsedFrom(String hexadecimalNumber, ArithmeticMode arithmeticMode){
+
+        return this.arithmeticMode == arithmeticMode && this.hexadecimalNumber.equals(hexadecimalNumber.trim());
+    }
+
+
+    boolean isValid(){
+        return errorMessage.isEmpty();
+    }
+
+
+    /**
+     * Check if the number is valid and zero, e.g. "0" or "-00"
+     * */
+    boolean isZero(){
+
+        if (!isValid()){
+            return false;
+        }
+
+        return value != null ? value.getValue() == 0 : arbitraryPrecisionValue.signum() == 0;
+    }
+
+
+    /**
+     * Returns the error message to be displayed if the number is invalid, or an empty string
+     * */
+    String getErrorMessage(){
+        return errorMessage;
+    }
+
+
+    /**
+     * Returns the value for CHECKED_64 and the fixed-width modes, or null in ARBITRARY_PRECISION
+     * */
+    HexValue getValue(){
+        return value;
+    }
+
+
+    /**
+     * Returns the value for ARBITRARY_PRECISION, or null in the other modes
+     * */
+    HexBigInteger getArbitraryPrecisionValue(){
+        return arbitraryPrecisionValue;
+    }
+
+
+    /**
+     * Returns the decimal equivalent to be displayed, e.g. "-6719", or null if the number is
+     * invalid
+     * */
+    String getDecimalNumber(){
+
+        if (value != null){
+            return value.toDecimalString();
+        }
+
+        return arbitraryPrecisionDecimalNumber;
+    }
+}
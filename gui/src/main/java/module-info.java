@@ -1,10 +1,12 @@
 module com.terence.translateapp {
     requires javafx.controls;
     requires javafx.fxml;
+    requires jdk.jfr;
+    requires com.terence.hexadecimalcalculator.cli;
 
 
     opens com.terence.hexadecimalcalculator to javafx.fxml;
     exports com.terence.hexadecimalcalculator;
     exports com.terence.hexadecimalcalculator.controllers;
     opens com.terence.hexadecimalcalculator.controllers to javafx.fxml;
-}
\ No newline at end of file
+}
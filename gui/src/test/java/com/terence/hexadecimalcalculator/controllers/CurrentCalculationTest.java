@@ -0,0 +1,101 @@
+package com.terence.hexadecimalcalculator.controllers;
+
+
+import com.terence.hexadecimalcalculator.models.ArithmeticMode;
+import org.junit.jupiter.api.Test;
+import  org.junit.jupiter.api.Assertions;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Contains the unit tests for the various methods of the CurrentCalculation class, with
+ * calculations run the way the controller runs them while the user types
+ * */
+class CurrentCalculationTest {
+
+    private final CurrentCalculation<HexadecimalCalculation> currentCalculation = new CurrentCalculation<>();
+
+
+    @Test
+    void finish_currentCalculation_resultDisplayed() {
+
+        HexadecimalCalculation calculation = newAddition("1A3F");
+
+        currentCalculation.start(calculation);
+
+        Assertions.assertEquals("1940", calculation.calculate(() -> false).hexadecimalResult());
+        Assertions.assertTrue(currentCalculation.finish(calculation));
+
+        //a result is displayed only once
+        Assertions.assertFalse(currentCalculation.finish(calculation));
+    }
+
+
+    @Test
+    void finish_newerInputAfterCalculating_outdatedResultDiscarded() {
+
+        HexadecimalCalculation outdatedCalculation = newAddition("1A3");
+        currentCalculation.start(outdatedCalculation);
+
+        //the outdated calculation finishes, but the user types another digit before it is displayed
+        HexadecimalCalculation.DisplayedResult outdatedResult = outdatedCalculation.calculate(() -> false);
+
+        HexadecimalCalculation newerCalculation = newAddition("1A3F");
+        currentCalculation.start(newerCalculation);
+
+        Assertions.assertEquals("A4", outdatedResult.hexadecimalResult());
+        Assertions.assertFalse(currentCalculation.finish(outdatedCalculation));
+
+        Assertions.assertEquals("1940", newerCalculation.calculate(() -> false).hexadecimalResult());
+        Assertions.assertTrue(currentCalculation.finish(newerCalculation));
+    }
+
+
+    @Test
+    void finish_newerInputFinishedFirst_outdatedResultDiscarded() {
+
+        HexadecimalCalculation outdatedCalculation = newAddition("1A3");
+        currentCalculation.start(outdatedCalculation);
+
+        HexadecimalCalculation newerCalculation = newAddition("1A3F");
+        currentCalculation.start(newerCalculation);
+
+        newerCalculation.calculate(() -> false);
+        Assertions.assertTrue(currentCalculation.finish(newerCalculation));
+
+        //the outdated calculation finishes last, and must not overwrite the newer result
+        outdatedCalculation.calculate(() -> false);
+        Assertions.assertFalse(currentCalculation.finish(outdatedCalculation));
+    }
+
+
+    @Test
+    void cancel_runningCalculation_resultNotPublished() {
+
+        HexadecimalCalculation calculation = newAddition("1A3F");
+        currentCalculation.start(calculation);
+
+        Assertions.assertSame(calculation, currentCalculation.cancel());
+        Assertions.assertFalse(currentCalculation.isCurrent(calculation));
+
+        //the calculation sees the cancellation at its next step, and has no result to publish
+        Assertions.assertNull(calculation.calculate(() -> !currentCalculation.isCurrent(calculation)));
+        Assertions.assertFalse(currentCalculation.finish(calculation));
+    }
+
+
+    @Test
+    void cancel_noCalculation_null() {
+
+        Assertions.assertNull(currentCalculation.cancel());
+        Assertions.assertFalse(currentCalculation.finish(null));
+    }
+
+
+    private static HexadecimalCalculation newAddition(String firstHexadecimalNumber){
+
+        return new HexadecimalCalculation(firstHexadecimalNumber, null, "-FF", null,
+                HexadecimalCalculation.ADD_OPERATION, ArithmeticMode.CHECKED_64);
+    }
+}
@@ -0,0 +1,94 @@
+package com.terence.hexadecimalcalculator.controllers;
+
+
+import com.terence.hexadecimalcalculator.models.ArithmeticMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import  org.junit.jupiter.api.Assertions;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * @author Terence Lee
+ *
+ * Contains the unit tests for the various methods of the HexadecimalCalculation class
+ * */
+class HexadecimalCalculationTest {
+
+    @ParameterizedTest
+    @CsvSource({"1A3F,-FF,0,CHECKED_64,1940,6719,-255,6464",
+            "64,7,3,CHECKED_64,E Remainder 2,100,7,14 Remainder 2",
+            "FF,1,0,WRAPPING_UNSIGNED_8,0,255,1,0",
+            "FFFFFFFFFFFFFFFF,2,2,ARBITRARY_PRECISION,1FFFFFFFFFFFFFFFE,18446744073709551615,2,36893488147419103230"})
+    void calculate_validParams_displayedResult(String firstHexadecimalNumber, String secondHexadecimalNumber,
+                                               int mathOperationIndex, ArithmeticMode arithmeticMode,
+                                               String hexadecimalResult, String firstDecimalNumber,
+                                               String secondDecimalNumber, String decimalResult) {
+
+        HexadecimalCalculation calculation = new HexadecimalCalculation(firstHexadecimalNumber, null,
+                secondHexadecimalNumber, null, mathOperationIndex, arithmeticMode);
+
+        HexadecimalCalculation.DisplayedResult displayedResult = calculation.calculate(() -> false);
+
+        Assertions.assertTrue(displayedResult.succeeded());
+        Assertions.assertEquals(hexadecimalResult, displayedResult.hexadecimalResult());
+        Assertions.assertEquals(firstDecimalNumber, displayedResult.firstDecimalNumber());
+        Assertions.assertEquals(secondDecimalNumber, displayedResult.secondDecimalNumber());
+        Assertions.assertEquals(decimalResult, displayedResult.decimalResult());
+    }
+
+
+    @ParameterizedTest
+    @CsvSource({"12G4,1,0", "1,0,3", "7FFFFFFFFFFFFFFF,1,0"})
+    void calculate_invalidParams_errorMessage(String firstHexadecimalNumber, String secondHexadecimalNumber,
+                                              int mathOperationIndex) {
+
+        HexadecimalCalculation calculation = new HexadecimalCalculation(firstHexadecimalNumber, null,
+                secondHexadecimalNumber, null, mathOperationIndex, ArithmeticMode.CHECKED_64);
+
+        HexadecimalCalculation.DisplayedResult displayedResult = calculation.calculate(() -> false);
+
+        Assertions.assertFalse(displayedResult.succeeded());
+        Assertions.assertNull(displayedResult.hexadecimalResult());
+    }
+
+
+    @Test
+    void calculate_cancelledBeforeCalculating_noResult() {
+
+        HexadecimalCalculation calculation = new HexadecimalCalculation("1A3F", null, "-FF", null,
+                HexadecimalCalculation.ADD_OPERATION, ArithmeticMode.CHECKED_64);
+
+        Assertions.assertNull(calculation.calculate(() -> true));
+    }
+
+
+    @Test
+    void calculate_cancelledWhileCalculating_noResult() {
+
+        HexadecimalCalculation calculation = new HexadecimalCalculation("1A3F", null, "-FF", null,
+                HexadecimalCalculation.MULTIPLY_OPERATION, ArithmeticMode.CHECKED_64);
+
+        //not cancelled at the first check, before the calculation, but at the second, after it
+        AtomicInteger numberOfChecks = new AtomicInteger();
+
+        Assertions.assertNull(calculation.calculate(() -> numberOfChecks.incrementAndGet() > 1));
+        Assertions.assertEquals(2, numberOfChecks.get());
+    }
+
+
+    @Test
+    void calculate_parsedOperands_operandsKept() {
+
+        HexadecimalOperand firstOperand = HexadecimalOperand.parse("1A3F", "first number", ArithmeticMode.CHECKED_64);
+
+        HexadecimalCalculation calculation = new HexadecimalCalculation("1A3F", firstOperand, "-FF", null,
+                HexadecimalCalculation.SUBTRACT_OPERATION, ArithmeticMode.CHECKED_64);
+
+        Assertions.assertEquals("1B3E", calculation.calculate(() -> false).hexadecimalResult());
+        Assertions.assertSame(firstOperand, calculation.getFirstOperand());
+        Assertions.assertTrue(calculation.getSecondOperand().isParsedFrom("-FF", ArithmeticMode.CHECKED_64));
+    }
+}
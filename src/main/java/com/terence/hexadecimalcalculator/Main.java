@@ -1,26 +0,0 @@
-package com.terence.hexadecimalcalculator;
-
-import javafx.application.Application;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Scene;
-import javafx.stage.Stage;
-
-import java.io.IOException;
-
-
-public class Main extends Application {
-    @Override
-    public void start(Stage stage) throws IOException {
-        FXMLLoader fxmlLoader = new FXMLLoader(
-                Main.class.getResource("hexadecimal-calculator-view.fxml"));
-        Scene scene = new Scene(fxmlLoader.load());
-
-        stage.setTitle("Hexadecimal Calculator By Terence Lee");
-        stage.setScene(scene);
-        stage.show();
-    }
-
-    public static void main(String[] args) {
-        launch();
-    }
-}
\ No newline at end of file